@@ -0,0 +1,103 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure.agent;
+
+import org.openjdk.jmh.annotations.*;
+import org.platfish.ensure.Ensure;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of the agent while loading classes: {@link #excluded()}, {@link #noRule()} and
+ * {@link #noEnsureReference()} are the paths taken by most classes and must stay in the nanosecond range, only
+ * {@link #rewrite()} parses the class.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransformBenchmark {
+
+    private EnsureTransformer transformer;
+    private ClassLoader loader;
+    private byte[] withEnsure;
+    private byte[] withoutEnsure;
+
+    /**
+     * Class with call sites to be rewritten.
+     */
+    public static class Calls {
+
+        public static String check(String value, int count) {
+            Ensure.ensureTrue(count > 0, "count must be positive but was %s", count);
+            return Ensure.ensureNotEmpty(value, "value must not be empty");
+        }
+    }
+
+    /**
+     * Class without any reference to Ensure.
+     */
+    public static class NoCalls {
+
+        public static int add(int a, int b) {
+            return a + b;
+        }
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("com.example", "remove");
+        transformer = new EnsureTransformer(Rules.parse(properties), new EnsureAgentStats());
+        loader = getClass().getClassLoader();
+        withEnsure = bytes(Calls.class);
+        withoutEnsure = bytes(NoCalls.class);
+    }
+
+    private static byte[] bytes(Class<?> type) throws IOException {
+        try (InputStream in = type.getResourceAsStream("/" + type.getName().replace('.', '/') + ".class")) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            for (int read = in.read(buffer); read >= 0; read = in.read(buffer)) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    @Benchmark
+    public byte[] excluded() {
+        return transformer.transform(loader, "java/util/Calls", null, null, withEnsure);
+    }
+
+    @Benchmark
+    public byte[] noRule() {
+        return transformer.transform(loader, "org/example/Calls", null, null, withEnsure);
+    }
+
+    @Benchmark
+    public byte[] noEnsureReference() {
+        return transformer.transform(loader, "com/example/NoCalls", null, null, withoutEnsure);
+    }
+
+    @Benchmark
+    public byte[] rewrite() {
+        return transformer.transform(loader, "com/example/Calls", null, null, withEnsure);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure.agent;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Runtime support of the rewritten call sites. The methods are public, because they are called by the rewritten
+ * classes, but they aren't meant to be used directly.</p>
+ * <p>The class is loaded by the system class loader together with the agent, so rewritten classes of class loaders
+ * which don't delegate to the system class loader can't be loaded.</p>
+ */
+public final class AgentSupport {
+
+    private static final List<String> SITES = new CopyOnWriteArrayList<>();
+    private static final List<LongAdder> COUNTERS = new CopyOnWriteArrayList<>();
+
+    private AgentSupport() {
+    }
+
+    /**
+     * Returns whether the current invocation of a sampled call site is evaluated.
+     *
+     * @param mask One less than the sampling rate, which is a power of two.
+     */
+    public static boolean sample(int mask) {
+        return (ThreadLocalRandom.current().nextInt() & mask) == 0;
+    }
+
+    /**
+     * Counts an invocation of a counted call site.
+     *
+     * @param site Identifier of the call site returned by {@link #register(String)}.
+     */
+    public static void count(int site) {
+        COUNTERS.get(site).increment();
+    }
+
+    /**
+     * Registers a counted call site and returns its identifier.
+     */
+    static synchronized int register(String site) {
+        COUNTERS.add(new LongAdder());
+        SITES.add(site);
+        return COUNTERS.size() - 1;
+    }
+
+    /**
+     * Returns the call sites with the most invocations, formatted as {@code "<count> <site>"}.
+     */
+    static String[] topCountedSites(int count) {
+        List<Map.Entry<String, Long>> sites = new ArrayList<>();
+        for (int i = 0; i < SITES.size(); i++) {
+            sites.add(new AbstractMap.SimpleImmutableEntry<>(SITES.get(i), COUNTERS.get(i).sum()));
+        }
+        sites.sort((a, b) -> Long.compare(b.getValue(), a.getValue()));
+        String[] top = new String[Math.max(0, Math.min(count, sites.size()))];
+        for (int i = 0; i < top.length; i++) {
+            top[i] = sites.get(i).getValue() + " " + sites.get(i).getKey();
+        }
+        return top;
+    }
+}
@@ -0,0 +1,569 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure.agent;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.FieldInsnNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.InvokeDynamicInsnNode;
+import org.objectweb.asm.tree.JumpInsnNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.LineNumberNode;
+import org.objectweb.asm.tree.LookupSwitchInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.MultiANewArrayInsnNode;
+import org.objectweb.asm.tree.TableSwitchInsnNode;
+import org.objectweb.asm.tree.TryCatchBlockNode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>Rewrites the {@code INVOKESTATIC org/platfish/ensure/Ensure.ensure*} call sites of a class according to a
+ * {@link RewriteRule}.</p>
+ * <p>Removed and sampled checks must not evaluate their arguments, so the code computing them is located by walking
+ * back from the call: the code of an argument is the shortest block before the call, which is only entered at its
+ * start and pushes the words of the argument without consuming anything. Argument code storing local variables or
+ * fields, or containing switches or exception handlers, isn't rewritten. Checks returning one of their arguments
+ * keep the code computing that argument.</p>
+ */
+final class CallSiteRewriter {
+
+    static final String ENSURE = "org/platfish/ensure/Ensure";
+
+    private static final String SUPPORT = "org/platfish/ensure/agent/AgentSupport";
+
+    /**
+     * Index of the argument returned by the non-void checks. Checks returning something else, like
+     * {@code ensureOptional}, can't be removed and are left unchanged.
+     */
+    private static final Map<String, Integer> RETURNED_ARGUMENT = new HashMap<>();
+
+    static {
+        for (String name : new String[]{"ensureNotNull", "ensureNotEmpty", "ensureEmpty", "ensureExists",
+                "ensureNotExists", "ensureDirectory", "ensureAll", "ensureAllNotNull", "ensureAllInRange",
+                "ensureIndex", "ensureFromToIndex", "ensureFromIndexSize", "ensureRemaining", "ensureDirect",
+                "ensureAligned", "ensureOrder", "ensureNotReadOnly", "ensureEach", "ensureSorted", "ensureContainsKey",
+                "ensureNotContainsKey", "ensureKeys", "ensureNoDuplicates", "ensureStrictlyIncreasing"}) {
+            RETURNED_ARGUMENT.put(name, 0);
+        }
+        for (String name : new String[]{"ensureEquals", "ensureEqualsInt", "ensureEqualsLong", "ensureEqualsDouble",
+                "ensureNotEquals", "ensureNotEqualsInt", "ensureNotEqualsLong", "ensureNotEqualsDouble",
+                "ensureInstanceOf", "ensureInstanceOfAny"}) {
+            RETURNED_ARGUMENT.put(name, 1);
+        }
+    }
+
+    private final ClassLoader loader;
+    private final RewriteRule rule;
+    private int rewrittenCallSites;
+
+    CallSiteRewriter(ClassLoader loader, RewriteRule rule) {
+        this.loader = loader;
+        this.rule = rule;
+    }
+
+    /**
+     * Returns the number of call sites rewritten by {@link #rewrite(byte[])}.
+     */
+    int getRewrittenCallSites() {
+        return rewrittenCallSites;
+    }
+
+    /**
+     * Returns the rewritten class or null, if no call site was rewritten.
+     */
+    byte[] rewrite(byte[] bytes) {
+        ClassNode node = new ClassNode();
+        new ClassReader(bytes).accept(node, 0);
+        if (rule.action != RewriteRule.Action.COUNT && (node.version & 0xFFFF) < Opcodes.V1_6) {
+            // frames can't be computed for classes which may contain subroutines
+            return null;
+        }
+        for (MethodNode method : node.methods) {
+            rewrite(node, method);
+        }
+        if (rewrittenCallSites == 0) {
+            return null;
+        }
+        // counting keeps the existing frames valid, removed and sampled code changes the stack at branch targets
+        ClassWriter writer = new HierarchyClassWriter(
+                rule.action == RewriteRule.Action.COUNT ? ClassWriter.COMPUTE_MAXS : ClassWriter.COMPUTE_FRAMES, loader);
+        node.accept(writer);
+        return writer.toByteArray();
+    }
+
+    private void rewrite(ClassNode owner, MethodNode method) {
+        int rewritten = rewrittenCallSites;
+        rewriteCalls(owner, method);
+        if (rule.action == RewriteRule.Action.REMOVE && rewrittenCallSites > rewritten) {
+            removeEmptyTryCatchBlocks(method);
+        }
+    }
+
+    private void rewriteCalls(ClassNode owner, MethodNode method) {
+        Map<LabelNode, List<AbstractInsnNode>> jumps = null;
+        for (AbstractInsnNode insn : method.instructions.toArray()) {
+            if (insn.getOpcode() != Opcodes.INVOKESTATIC || !ENSURE.equals(((MethodInsnNode) insn).owner)) {
+                continue;
+            }
+            MethodInsnNode call = (MethodInsnNode) insn;
+            if (!call.name.startsWith("ensure")) {
+                continue;
+            }
+            if (rule.action == RewriteRule.Action.COUNT) {
+                count(owner, method, call);
+                continue;
+            }
+            int returned = returnedArgument(call);
+            if (returned == NOT_REWRITABLE) {
+                continue;
+            }
+            if (jumps == null) {
+                jumps = jumps(method);
+            }
+            AbstractInsnNode[] starts = argumentStarts(call, jumps);
+            if (starts == null) {
+                continue;
+            }
+            if (rule.action == RewriteRule.Action.REMOVE) {
+                remove(method.instructions, call, starts, returned);
+            } else {
+                sample(method.instructions, call, starts, returned);
+            }
+            rewrittenCallSites++;
+        }
+    }
+
+    private static final int VOID = -1;
+    private static final int NOT_REWRITABLE = -2;
+
+    /**
+     * Returns the index of the argument returned by the check, {@link #VOID} or {@link #NOT_REWRITABLE}.
+     */
+    private static int returnedArgument(MethodInsnNode call) {
+        Type returnType = Type.getReturnType(call.desc);
+        if (returnType.getSort() == Type.VOID) {
+            return VOID;
+        }
+        Integer index = RETURNED_ARGUMENT.get(call.name);
+        Type[] argumentTypes = Type.getArgumentTypes(call.desc);
+        if (index == null || index >= argumentTypes.length || !argumentTypes[index].equals(returnType)) {
+            return NOT_REWRITABLE;
+        }
+        return index;
+    }
+
+    private void count(ClassNode owner, MethodNode method, MethodInsnNode call) {
+        int site = AgentSupport.register(site(owner, method, call));
+        InsnList count = new InsnList();
+        count.add(new LdcInsnNode(site));
+        count.add(new MethodInsnNode(Opcodes.INVOKESTATIC, SUPPORT, "count", "(I)V", false));
+        method.instructions.insertBefore(call, count);
+        rewrittenCallSites++;
+    }
+
+    private static String site(ClassNode owner, MethodNode method, MethodInsnNode call) {
+        int line = -1;
+        for (AbstractInsnNode insn = call; insn != null && line < 0; insn = insn.getPrevious()) {
+            if (insn instanceof LineNumberNode) {
+                line = ((LineNumberNode) insn).line;
+            }
+        }
+        return owner.name.replace('/', '.') + "." + method.name
+                + "(" + (owner.sourceFile == null ? "Unknown Source" : owner.sourceFile)
+                + (line < 0 ? "" : ":" + line) + ") " + call.name;
+    }
+
+    /**
+     * Removes the call and the code computing its arguments, apart from the returned one.
+     */
+    private static void remove(InsnList instructions, MethodInsnNode call, AbstractInsnNode[] starts, int returned) {
+        AbstractInsnNode keepFrom = returned >= 0 ? starts[returned] : null;
+        AbstractInsnNode keepTo = returned >= 0 && returned + 1 < starts.length ? starts[returned + 1] : call;
+        boolean keep = false;
+        AbstractInsnNode insn = starts[0];
+        while (true) {
+            if (insn == keepFrom) {
+                keep = true;
+            }
+            if (insn == keepTo) {
+                keep = false;
+            }
+            AbstractInsnNode next = insn.getNext();
+            // labels and line numbers stay, they may be referenced by the debug information
+            if (!keep && (insn.getOpcode() >= 0 || insn.getType() == AbstractInsnNode.FRAME)) {
+                instructions.remove(insn);
+            }
+            if (insn == call) {
+                return;
+            }
+            insn = next;
+        }
+    }
+
+    /**
+     * Removes the try-catch blocks which don't cover any instruction after removing the calls in them, an empty
+     * range is rejected by the class file verification. Their handlers become unreachable and are replaced by the
+     * class writer.
+     */
+    private static void removeEmptyTryCatchBlocks(MethodNode method) {
+        method.tryCatchBlocks.removeIf(block -> {
+            for (AbstractInsnNode insn = block.start; insn != block.end; insn = insn.getNext()) {
+                if (insn.getOpcode() >= 0) {
+                    return false;
+                }
+            }
+            return true;
+        });
+    }
+
+    /**
+     * Guards the call and the code computing its arguments by {@link AgentSupport#sample(int)}. If the invocation
+     * isn't sampled, only the returned argument is computed.
+     */
+    private void sample(InsnList instructions, MethodInsnNode call, AbstractInsnNode[] starts, int returned) {
+        LabelNode skip = new LabelNode();
+        LabelNode end = new LabelNode();
+
+        InsnList guard = new InsnList();
+        guard.add(new LdcInsnNode(rule.mask));
+        guard.add(new MethodInsnNode(Opcodes.INVOKESTATIC, SUPPORT, "sample", "(I)Z", false));
+        guard.add(new JumpInsnNode(Opcodes.IFEQ, skip));
+        instructions.insertBefore(starts[0], guard);
+
+        InsnList unsampled = new InsnList();
+        unsampled.add(new JumpInsnNode(Opcodes.GOTO, end));
+        unsampled.add(skip);
+        if (returned >= 0) {
+            AbstractInsnNode to = returned + 1 < starts.length ? starts[returned + 1] : call;
+            Map<LabelNode, LabelNode> labels = new HashMap<>();
+            for (AbstractInsnNode insn = starts[returned]; insn != to; insn = insn.getNext()) {
+                if (insn instanceof LabelNode) {
+                    labels.put((LabelNode) insn, new LabelNode());
+                }
+            }
+            for (AbstractInsnNode insn = starts[returned]; insn != to; insn = insn.getNext()) {
+                // frames are computed, line numbers stay with the original code
+                if (insn.getType() != AbstractInsnNode.FRAME && insn.getType() != AbstractInsnNode.LINE) {
+                    unsampled.add(insn.clone(labels));
+                }
+            }
+        }
+        unsampled.add(end);
+        instructions.insert(call, unsampled);
+    }
+
+    /**
+     * Maximum number of instructions searched for the start of the arguments.
+     */
+    private static final int MAX_ARGUMENT_INSTRUCTIONS = 1000;
+
+    /**
+     * Returns the first instruction of the code computing each argument of the call, or null if the code can't be
+     * rewritten.
+     */
+    private static AbstractInsnNode[] argumentStarts(MethodInsnNode call, Map<LabelNode, List<AbstractInsnNode>> jumps) {
+        Type[] arguments = Type.getArgumentTypes(call.desc);
+        AbstractInsnNode[] starts = new AbstractInsnNode[arguments.length];
+        // stack size in words of the arguments from the current one to the last
+        int size = 0;
+        AbstractInsnNode insn = call;
+        int searched = 0;
+        for (int i = arguments.length - 1; i >= 0; i--) {
+            size += arguments[i].getSize();
+            // the code of an argument is the shortest closed block before the call, which pushes its words
+            do {
+                insn = insn.getPrevious();
+                if (insn == null || ++searched > MAX_ARGUMENT_INSTRUCTIONS) {
+                    return null;
+                }
+            } while (insn.getOpcode() < 0 || !pushes(insn, call, size, jumps));
+            starts[i] = insn;
+        }
+        return starts;
+    }
+
+    /**
+     * Returns whether the code from start to the call leaves exactly the given number of words on the stack without
+     * consuming values pushed before start. The code must not be entered by jumps from outside and must not leave
+     * except through the call.
+     */
+    private static boolean pushes(AbstractInsnNode start, MethodInsnNode call, int size,
+                                  Map<LabelNode, List<AbstractInsnNode>> jumps) {
+        Set<AbstractInsnNode> block = new HashSet<>();
+        for (AbstractInsnNode insn = start; insn != call; insn = insn.getNext()) {
+            block.add(insn);
+        }
+        for (AbstractInsnNode insn : block) {
+            if (insn instanceof LabelNode && jumps.containsKey(insn)) {
+                for (AbstractInsnNode source : jumps.get(insn)) {
+                    if (source == null || !block.contains(source)) {
+                        return false;
+                    }
+                }
+            }
+        }
+        Map<AbstractInsnNode, Integer> depths = new HashMap<>();
+        List<AbstractInsnNode> pending = new ArrayList<>();
+        depths.put(start, 0);
+        pending.add(start);
+        while (!pending.isEmpty()) {
+            AbstractInsnNode insn = pending.remove(pending.size() - 1);
+            int depth = depths.get(insn);
+            if (insn == call) {
+                if (depth != size) {
+                    return false;
+                }
+                continue;
+            }
+            List<AbstractInsnNode> successors = new ArrayList<>(2);
+            if (insn.getOpcode() >= 0) {
+                int effect = stackEffect(insn);
+                if (effect == UNSUPPORTED) {
+                    return false;
+                }
+                depth += effect;
+                if (depth < 0) {
+                    return false;
+                }
+                if (insn instanceof JumpInsnNode) {
+                    successors.add(((JumpInsnNode) insn).label);
+                }
+            }
+            if (insn.getOpcode() != Opcodes.GOTO) {
+                successors.add(insn.getNext());
+            }
+            for (AbstractInsnNode successor : successors) {
+                if (successor != call && !block.contains(successor)) {
+                    return false;
+                }
+                Integer known = depths.put(successor, depth);
+                if (known == null) {
+                    pending.add(successor);
+                } else if (known != depth) {
+                    return false;
+                }
+            }
+        }
+        return depths.containsKey(call);
+    }
+
+    private static final int UNSUPPORTED = Integer.MIN_VALUE;
+
+    /**
+     * Returns the change of the stack size in words by the instruction, or {@link #UNSUPPORTED} for instructions which
+     * aren't rewritten: stores, which may be read by the following code, switches, returns and subroutines.
+     */
+    private static int stackEffect(AbstractInsnNode insn) {
+        int opcode = insn.getOpcode();
+        switch (insn.getType()) {
+            case AbstractInsnNode.INSN:
+                return INSN_EFFECTS[opcode];
+            case AbstractInsnNode.INT_INSN:
+                return opcode == Opcodes.NEWARRAY ? 0 : 1;
+            case AbstractInsnNode.VAR_INSN:
+                if (opcode == Opcodes.LLOAD || opcode == Opcodes.DLOAD) {
+                    return 2;
+                }
+                return opcode >= Opcodes.ILOAD && opcode <= Opcodes.ALOAD ? 1 : UNSUPPORTED;
+            case AbstractInsnNode.TYPE_INSN:
+                return opcode == Opcodes.NEW ? 1 : 0;
+            case AbstractInsnNode.FIELD_INSN: {
+                int size = Type.getType(((FieldInsnNode) insn).desc).getSize();
+                if (opcode == Opcodes.GETSTATIC) {
+                    return size;
+                }
+                return opcode == Opcodes.GETFIELD ? size - 1 : UNSUPPORTED;
+            }
+            case AbstractInsnNode.METHOD_INSN: {
+                int sizes = Type.getArgumentsAndReturnSizes(((MethodInsnNode) insn).desc);
+                // the argument sizes include the receiver
+                int effect = (sizes & 0x03) - (sizes >> 2);
+                return opcode == Opcodes.INVOKESTATIC ? effect + 1 : effect;
+            }
+            case AbstractInsnNode.INVOKE_DYNAMIC_INSN: {
+                int sizes = Type.getArgumentsAndReturnSizes(((InvokeDynamicInsnNode) insn).desc);
+                return (sizes & 0x03) - (sizes >> 2) + 1;
+            }
+            case AbstractInsnNode.JUMP_INSN:
+                if (opcode == Opcodes.GOTO) {
+                    return 0;
+                } else if (opcode == Opcodes.JSR) {
+                    return UNSUPPORTED;
+                }
+                return opcode >= Opcodes.IF_ICMPEQ && opcode <= Opcodes.IF_ACMPNE ? -2 : -1;
+            case AbstractInsnNode.LDC_INSN: {
+                Object constant = ((LdcInsnNode) insn).cst;
+                return constant instanceof Long || constant instanceof Double ? 2 : 1;
+            }
+            case AbstractInsnNode.MULTIANEWARRAY_INSN:
+                return 1 - ((MultiANewArrayInsnNode) insn).dims;
+            default:
+                return UNSUPPORTED;
+        }
+    }
+
+    /**
+     * Stack effects in words of the instructions without operands, indexed by opcode.
+     */
+    private static final int[] INSN_EFFECTS = new int[256];
+
+    static {
+        Arrays.fill(INSN_EFFECTS, UNSUPPORTED);
+        INSN_EFFECTS[Opcodes.NOP] = 0;
+        INSN_EFFECTS[Opcodes.ACONST_NULL] = 1;
+        for (int opcode = Opcodes.ICONST_M1; opcode <= Opcodes.ICONST_5; opcode++) {
+            INSN_EFFECTS[opcode] = 1;
+        }
+        INSN_EFFECTS[Opcodes.LCONST_0] = INSN_EFFECTS[Opcodes.LCONST_1] = 2;
+        INSN_EFFECTS[Opcodes.FCONST_0] = INSN_EFFECTS[Opcodes.FCONST_1] = INSN_EFFECTS[Opcodes.FCONST_2] = 1;
+        INSN_EFFECTS[Opcodes.DCONST_0] = INSN_EFFECTS[Opcodes.DCONST_1] = 2;
+        for (int opcode = Opcodes.IALOAD; opcode <= Opcodes.SALOAD; opcode++) {
+            INSN_EFFECTS[opcode] = opcode == Opcodes.LALOAD || opcode == Opcodes.DALOAD ? 0 : -1;
+        }
+        for (int opcode = Opcodes.IASTORE; opcode <= Opcodes.SASTORE; opcode++) {
+            INSN_EFFECTS[opcode] = opcode == Opcodes.LASTORE || opcode == Opcodes.DASTORE ? -4 : -3;
+        }
+        INSN_EFFECTS[Opcodes.POP] = -1;
+        INSN_EFFECTS[Opcodes.POP2] = -2;
+        INSN_EFFECTS[Opcodes.DUP] = INSN_EFFECTS[Opcodes.DUP_X1] = INSN_EFFECTS[Opcodes.DUP_X2] = 1;
+        INSN_EFFECTS[Opcodes.DUP2] = INSN_EFFECTS[Opcodes.DUP2_X1] = INSN_EFFECTS[Opcodes.DUP2_X2] = 2;
+        INSN_EFFECTS[Opcodes.SWAP] = 0;
+        // IADD, LADD, FADD, DADD, ISUB, ... the long and double variants have odd offsets
+        for (int opcode = Opcodes.IADD; opcode <= Opcodes.DREM; opcode++) {
+            INSN_EFFECTS[opcode] = (opcode - Opcodes.IADD) % 2 == 0 ? -1 : -2;
+        }
+        for (int opcode = Opcodes.INEG; opcode <= Opcodes.DNEG; opcode++) {
+            INSN_EFFECTS[opcode] = 0;
+        }
+        // shifts of longs take an int shift distance
+        for (int opcode = Opcodes.ISHL; opcode <= Opcodes.LUSHR; opcode++) {
+            INSN_EFFECTS[opcode] = -1;
+        }
+        INSN_EFFECTS[Opcodes.IAND] = INSN_EFFECTS[Opcodes.IOR] = INSN_EFFECTS[Opcodes.IXOR] = -1;
+        INSN_EFFECTS[Opcodes.LAND] = INSN_EFFECTS[Opcodes.LOR] = INSN_EFFECTS[Opcodes.LXOR] = -2;
+        INSN_EFFECTS[Opcodes.I2L] = INSN_EFFECTS[Opcodes.I2D] = INSN_EFFECTS[Opcodes.F2L] = INSN_EFFECTS[Opcodes.F2D] = 1;
+        INSN_EFFECTS[Opcodes.L2I] = INSN_EFFECTS[Opcodes.L2F] = INSN_EFFECTS[Opcodes.D2I] = INSN_EFFECTS[Opcodes.D2F] = -1;
+        INSN_EFFECTS[Opcodes.I2F] = INSN_EFFECTS[Opcodes.L2D] = INSN_EFFECTS[Opcodes.F2I] = INSN_EFFECTS[Opcodes.D2L] = 0;
+        INSN_EFFECTS[Opcodes.I2B] = INSN_EFFECTS[Opcodes.I2C] = INSN_EFFECTS[Opcodes.I2S] = 0;
+        INSN_EFFECTS[Opcodes.LCMP] = INSN_EFFECTS[Opcodes.DCMPL] = INSN_EFFECTS[Opcodes.DCMPG] = -3;
+        INSN_EFFECTS[Opcodes.FCMPL] = INSN_EFFECTS[Opcodes.FCMPG] = -1;
+        INSN_EFFECTS[Opcodes.ARRAYLENGTH] = 0;
+    }
+
+    /**
+     * Returns the sources of the jumps to each label. Labels delimiting exception handlers have a null source, so
+     * they are never part of rewritten code.
+     */
+    private static Map<LabelNode, List<AbstractInsnNode>> jumps(MethodNode method) {
+        Map<LabelNode, List<AbstractInsnNode>> jumps = new HashMap<>();
+        for (AbstractInsnNode insn = method.instructions.getFirst(); insn != null; insn = insn.getNext()) {
+            if (insn instanceof JumpInsnNode) {
+                jumps.computeIfAbsent(((JumpInsnNode) insn).label, l -> new ArrayList<>()).add(insn);
+            } else if (insn instanceof TableSwitchInsnNode) {
+                TableSwitchInsnNode tableSwitch = (TableSwitchInsnNode) insn;
+                jumps.computeIfAbsent(tableSwitch.dflt, l -> new ArrayList<>()).add(insn);
+                for (LabelNode label : tableSwitch.labels) {
+                    jumps.computeIfAbsent(label, l -> new ArrayList<>()).add(insn);
+                }
+            } else if (insn instanceof LookupSwitchInsnNode) {
+                LookupSwitchInsnNode lookupSwitch = (LookupSwitchInsnNode) insn;
+                jumps.computeIfAbsent(lookupSwitch.dflt, l -> new ArrayList<>()).add(insn);
+                for (LabelNode label : lookupSwitch.labels) {
+                    jumps.computeIfAbsent(label, l -> new ArrayList<>()).add(insn);
+                }
+            }
+        }
+        for (TryCatchBlockNode block : method.tryCatchBlocks) {
+            for (LabelNode label : new LabelNode[]{block.start, block.end, block.handler}) {
+                jumps.computeIfAbsent(label, l -> new ArrayList<>()).add(null);
+            }
+        }
+        return jumps;
+    }
+
+    /**
+     * Computes frames without loading classes, the class hierarchy is read from the class files of the class
+     * loader instead.
+     */
+    private static final class HierarchyClassWriter extends ClassWriter {
+
+        private final ClassLoader loader;
+
+        HierarchyClassWriter(int flags, ClassLoader loader) {
+            super(flags);
+            this.loader = loader;
+        }
+
+        @Override
+        protected String getCommonSuperClass(String type1, String type2) {
+            List<String> superClasses = superClasses(type1);
+            if (superClasses == null) {
+                return "java/lang/Object";
+            }
+            for (String type = type2; type != null; type = superClass(type)) {
+                if (superClasses.contains(type)) {
+                    return type;
+                }
+            }
+            return "java/lang/Object";
+        }
+
+        /**
+         * Returns the type and its super classes, or null if one of them is an interface or can't be read.
+         */
+        private List<String> superClasses(String type) {
+            List<String> superClasses = new ArrayList<>();
+            for (String current = type; current != null; current = superClass(current)) {
+                superClasses.add(current);
+            }
+            return superClasses.get(superClasses.size() - 1).equals("java/lang/Object") ? superClasses : null;
+        }
+
+        /**
+         * Returns the super class of the type, null for interfaces, {@code java/lang/Object} and unreadable types.
+         */
+        private String superClass(String type) {
+            if (type.equals("java/lang/Object")) {
+                return null;
+            }
+            try (InputStream in = loader.getResourceAsStream(type + ".class")) {
+                if (in == null) {
+                    return null;
+                }
+                ClassReader reader = new ClassReader(in);
+                return (reader.getAccess() & Opcodes.ACC_INTERFACE) != 0 ? null : reader.getSuperName();
+            } catch (IOException e) {
+                return null;
+            }
+        }
+    }
+}
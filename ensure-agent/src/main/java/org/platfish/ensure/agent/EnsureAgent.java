@@ -0,0 +1,47 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure.agent;
+
+import java.io.IOException;
+import java.lang.instrument.Instrumentation;
+import java.nio.file.Paths;
+
+/**
+ * <p>Java agent rewriting the {@code Ensure} call sites while classes are loaded, so checks can be removed or
+ * downgraded without recompiling. It is started with the path of the rules file:</p>
+ * <pre>
+ * java -javaagent:ensure-agent.jar=ensure-rules.properties ...
+ * </pre>
+ * <p>The rules choose per package or class whether the checks are removed, sampled or counted, see {@link Rules}.
+ * Removed and sampled checks don't evaluate their arguments. The statistics of the agent are published as MBean
+ * {@value EnsureAgentStats#OBJECT_NAME}.</p>
+ */
+public final class EnsureAgent {
+
+    private EnsureAgent() {
+    }
+
+    public static void premain(String agentArgs, Instrumentation instrumentation) throws IOException {
+        if (agentArgs == null || agentArgs.trim().isEmpty()) {
+            throw new IllegalArgumentException("Path of the rules file must be given, e.g. "
+                    + "-javaagent:ensure-agent.jar=ensure-rules.properties");
+        }
+        Rules rules = Rules.load(Paths.get(agentArgs.trim()));
+        if (!rules.isEmpty()) {
+            instrumentation.addTransformer(new EnsureTransformer(rules, new EnsureAgentStats().register()));
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure.agent;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Statistics of the agent, published as platform MBean {@value #OBJECT_NAME}. Besides the invocations of the
+ * counted call sites it reports the time spent in transforming classes, so the startup overhead of the agent can
+ * be monitored.</p>
+ */
+public final class EnsureAgentStats implements EnsureAgentStatsMBean {
+
+    /**
+     * Object name of the registered MBean.
+     */
+    public static final String OBJECT_NAME = "org.platfish.ensure:type=EnsureAgent";
+
+    private final LongAdder loadedClasses = new LongAdder();
+    private final LongAdder parsedClasses = new LongAdder();
+    private final LongAdder rewrittenClasses = new LongAdder();
+    private final LongAdder rewrittenCallSites = new LongAdder();
+    private final LongAdder failedClasses = new LongAdder();
+    private final LongAdder transformNanos = new LongAdder();
+    private volatile String lastFailure;
+
+    EnsureAgentStats() {
+    }
+
+    EnsureAgentStats register() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+        } catch (JMException e) {
+            // e.g. already registered by another agent instance, the agent works without statistics
+        }
+        return this;
+    }
+
+    void loaded(long nanos) {
+        loadedClasses.increment();
+        transformNanos.add(nanos);
+    }
+
+    void parsed() {
+        parsedClasses.increment();
+    }
+
+    void rewritten(int callSites) {
+        rewrittenClasses.increment();
+        rewrittenCallSites.add(callSites);
+    }
+
+    void failed(String className, RuntimeException e) {
+        failedClasses.increment();
+        lastFailure = className.replace('/', '.') + ": " + e;
+    }
+
+    @Override
+    public long getLoadedClasses() {
+        return loadedClasses.sum();
+    }
+
+    @Override
+    public long getParsedClasses() {
+        return parsedClasses.sum();
+    }
+
+    @Override
+    public long getRewrittenClasses() {
+        return rewrittenClasses.sum();
+    }
+
+    @Override
+    public long getRewrittenCallSites() {
+        return rewrittenCallSites.sum();
+    }
+
+    @Override
+    public long getFailedClasses() {
+        return failedClasses.sum();
+    }
+
+    @Override
+    public String getLastFailure() {
+        return lastFailure;
+    }
+
+    @Override
+    public long getTransformMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(transformNanos.sum());
+    }
+
+    @Override
+    public String[] topCountedSites(int count) {
+        return AgentSupport.topCountedSites(count);
+    }
+}
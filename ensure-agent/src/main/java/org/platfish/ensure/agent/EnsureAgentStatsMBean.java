@@ -0,0 +1,66 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure.agent;
+
+/**
+ * <p>Management interface of {@link EnsureAgentStats}, registered as {@value EnsureAgentStats#OBJECT_NAME}.</p>
+ */
+public interface EnsureAgentStatsMBean {
+
+    /**
+     * Returns the number of classes passed to the transformer.
+     */
+    long getLoadedClasses();
+
+    /**
+     * Returns the number of classes with a rule which reference {@code Ensure} and were parsed.
+     */
+    long getParsedClasses();
+
+    /**
+     * Returns the number of rewritten classes.
+     */
+    long getRewrittenClasses();
+
+    /**
+     * Returns the number of rewritten call sites.
+     */
+    long getRewrittenCallSites();
+
+    /**
+     * Returns the number of classes which couldn't be rewritten and were loaded unchanged, e.g. because of an
+     * unsupported class file version.
+     */
+    long getFailedClasses();
+
+    /**
+     * Returns the name of the last class which couldn't be rewritten and the cause, or null if there is none.
+     */
+    String getLastFailure();
+
+    /**
+     * Returns the total time spent in the transformer in milliseconds, i.e. the overhead of the agent while
+     * loading classes.
+     */
+    long getTransformMillis();
+
+    /**
+     * Returns the counted call sites with the most invocations, formatted as {@code "<count> <site>"}.
+     *
+     * @param count The maximum number of sites to return.
+     */
+    String[] topCountedSites(int count);
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure.agent;
+
+import java.lang.instrument.ClassFileTransformer;
+import java.nio.charset.StandardCharsets;
+import java.security.ProtectionDomain;
+
+/**
+ * <p>Rewrites the {@code Ensure} call sites of the loaded classes according to the {@link Rules}.</p>
+ * <p>To keep the startup time flat, classes are rejected as cheap as possible: classes of the JDK and of ensure
+ * itself by their name, classes without a rule by a few map lookups, and classes not referencing {@code Ensure} by
+ * a scan of their bytes. Only the remaining classes are parsed.</p>
+ */
+final class EnsureTransformer implements ClassFileTransformer {
+
+    private static final byte[] ENSURE = CallSiteRewriter.ENSURE.getBytes(StandardCharsets.UTF_8);
+
+    private static final String ENSURE_PACKAGE = "org/platfish/ensure/";
+
+    private final Rules rules;
+    private final EnsureAgentStats stats;
+
+    EnsureTransformer(Rules rules, EnsureAgentStats stats) {
+        this.rules = rules;
+        this.stats = stats;
+    }
+
+    @Override
+    public byte[] transform(ClassLoader loader, String className, Class<?> classBeingRedefined,
+                            ProtectionDomain protectionDomain, byte[] classfileBuffer) {
+        if (loader == null || className == null || classBeingRedefined != null || isExcluded(className)) {
+            return null;
+        }
+        long start = System.nanoTime();
+        try {
+            RewriteRule rule = rules.ruleFor(className);
+            if (rule.action == RewriteRule.Action.CHECK || !contains(classfileBuffer, ENSURE)) {
+                return null;
+            }
+            stats.parsed();
+            CallSiteRewriter rewriter = new CallSiteRewriter(loader, rule);
+            byte[] rewritten = rewriter.rewrite(classfileBuffer);
+            if (rewritten != null) {
+                stats.rewritten(rewriter.getRewrittenCallSites());
+            }
+            return rewritten;
+        } catch (RuntimeException e) {
+            // e.g. an unsupported class file version, the class is loaded unchanged
+            stats.failed(className, e);
+            return null;
+        } finally {
+            stats.loaded(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Returns whether the class belongs to the JDK, to ensure itself or to the agent.
+     */
+    private static boolean isExcluded(String className) {
+        if (className.startsWith(ENSURE_PACKAGE)) {
+            return className.indexOf('/', ENSURE_PACKAGE.length()) < 0
+                    || className.startsWith("agent/", ENSURE_PACKAGE.length());
+        }
+        return className.startsWith("java/")
+                || className.startsWith("javax/")
+                || className.startsWith("jdk/")
+                || className.startsWith("sun/")
+                || className.startsWith("com/sun/");
+    }
+
+    static boolean contains(byte[] bytes, byte[] pattern) {
+        byte first = pattern[0];
+        int last = bytes.length - pattern.length;
+        outer:
+        for (int i = 0; i <= last; i++) {
+            if (bytes[i] != first) {
+                continue;
+            }
+            for (int j = 1; j < pattern.length; j++) {
+                if (bytes[i + j] != pattern[j]) {
+                    continue outer;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure.agent;
+
+import java.util.Locale;
+
+/**
+ * Action applied to the {@code Ensure} call sites of a class.
+ */
+final class RewriteRule {
+
+    enum Action {
+        /**
+         * The call sites are left unchanged.
+         */
+        CHECK,
+        /**
+         * The checks and their arguments are removed. Side effects of the arguments are removed as well, e.g.
+         * {@code ensureTrue(set.add(x))} doesn't add to the set anymore.
+         */
+        REMOVE,
+        /**
+         * The checks and their arguments are only evaluated for a sample of the invocations, including the side
+         * effects of the arguments.
+         */
+        SAMPLE,
+        /**
+         * The checks are evaluated and counted per call site.
+         */
+        COUNT
+    }
+
+    static final RewriteRule CHECK = new RewriteRule(Action.CHECK, 0);
+
+    final Action action;
+
+    /**
+     * Mask for the random number deciding whether an invocation is sampled, one less than the sampling rate
+     * rounded up to the next power of two.
+     */
+    final int mask;
+
+    private RewriteRule(Action action, int mask) {
+        this.action = action;
+        this.mask = mask;
+    }
+
+    /**
+     * Parses a rule like {@code remove}, {@code count} or {@code sample 64}.
+     *
+     * @throws IllegalArgumentException If the rule is invalid.
+     */
+    static RewriteRule parse(String value) {
+        String[] parts = value.trim().split("\\s+");
+        Action action;
+        try {
+            action = Action.valueOf(parts[0].toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown action in rule \"" + value + "\", expected check, remove, count or sample <rate>");
+        }
+        if (action == Action.SAMPLE) {
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Rule \"" + value + "\" needs a sampling rate, e.g. sample 64");
+            }
+            int rate;
+            try {
+                rate = Integer.parseInt(parts[1]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid sampling rate in rule \"" + value + "\"");
+            }
+            if (rate < 1 || rate > 1 << 30) {
+                throw new IllegalArgumentException("Sampling rate in rule \"" + value + "\" must be between 1 and 2^30");
+            }
+            int powerOfTwo = Integer.highestOneBit(rate) == rate ? rate : Integer.highestOneBit(rate) << 1;
+            return new RewriteRule(action, powerOfTwo - 1);
+        }
+        if (parts.length != 1) {
+            throw new IllegalArgumentException("Rule \"" + value + "\" doesn't take arguments");
+        }
+        return action == Action.CHECK ? CHECK : new RewriteRule(action, 0);
+    }
+
+    @Override
+    public String toString() {
+        return action == Action.SAMPLE ? "sample " + (mask + 1) : action.name().toLowerCase(Locale.ROOT);
+    }
+}
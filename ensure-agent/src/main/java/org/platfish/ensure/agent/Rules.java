@@ -0,0 +1,91 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure.agent;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * <p>Rules choosing the {@link RewriteRule} for the classes, read from a properties file. The keys are package or
+ * class names, the values the actions:</p>
+ * <pre>
+ * com.example = count
+ * com.example.hot = remove
+ * com.example.hot.Parser = sample 64
+ * </pre>
+ * <p>A package rule also applies to the subpackages and a class rule to the nested classes, the most specific
+ * rule wins. Classes without a rule are
+ * left unchanged.</p>
+ */
+final class Rules {
+
+    /**
+     * Rules by internal class or package name, e.g. {@code com/example/hot}.
+     */
+    private final Map<String, RewriteRule> rules;
+
+    private Rules(Map<String, RewriteRule> rules) {
+        this.rules = rules;
+    }
+
+    static Rules load(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        }
+        return parse(properties);
+    }
+
+    /**
+     * @throws IllegalArgumentException If a rule is invalid.
+     */
+    static Rules parse(Properties properties) {
+        Map<String, RewriteRule> rules = new HashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            rules.put(name.trim().replace('.', '/'), RewriteRule.parse(properties.getProperty(name)));
+        }
+        return new Rules(rules);
+    }
+
+    boolean isEmpty() {
+        return rules.isEmpty();
+    }
+
+    /**
+     * Returns the rule for the given class, {@link RewriteRule#CHECK} if there is none.
+     *
+     * @param className Internal name of the class, e.g. {@code com/example/hot/Parser}.
+     */
+    RewriteRule ruleFor(String className) {
+        String name = className;
+        while (true) {
+            RewriteRule rule = rules.get(name);
+            if (rule != null) {
+                return rule;
+            }
+            int index = Math.max(name.lastIndexOf('/'), name.lastIndexOf('$'));
+            if (index < 0) {
+                return RewriteRule.CHECK;
+            }
+            name = name.substring(0, index);
+        }
+    }
+}
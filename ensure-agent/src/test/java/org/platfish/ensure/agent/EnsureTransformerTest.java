@@ -0,0 +1,205 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure.agent;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.platfish.ensure.EnsureFailedException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Properties;
+
+/**
+ * Tests the {@link EnsureTransformer} class by rewriting and running {@link org.platfish.ensure.fixture.EnsureCalls}.
+ */
+public class EnsureTransformerTest extends Assert {
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    private static final String FIXTURE = "org.platfish.ensure.fixture.EnsureCalls";
+
+    private EnsureAgentStats stats;
+
+    @Before
+    public void setUp() {
+        stats = new EnsureAgentStats();
+    }
+
+    @Test
+    public void remove() throws Throwable {
+        Class<?> calls = load("org.platfish.ensure.fixture = remove");
+        invoke(calls, "ensureTrue", false);
+        assertNull(invoke(calls, "ensureNotNull", (Object) null));
+        assertEquals(5, invoke(calls, "ensureInstanceOf", 5));
+        assertEquals(3L, invoke(calls, "ensureEqualsLong", 1L, 2L));
+        assertEquals(0, invoke(calls, "ensureNotEmpty", Collections.emptyList()));
+        assertEquals("a", invoke(calls, "ensureNested", "a"));
+        assertEquals(1, invoke(calls, "ensureWithBranch", false));
+        assertEquals(1, invoke(calls, "ensureInTry", false));
+        assertEquals(0, calls.getField("messages").get(null));
+        assertEquals(1, stats.getRewrittenClasses());
+        assertEquals(9, stats.getRewrittenCallSites());
+    }
+
+    @Test
+    public void removeKeepsArgumentsWithStores() throws Throwable {
+        Class<?> calls = load("org.platfish.ensure.fixture.EnsureCalls = remove");
+        assertEquals(1, invoke(calls, "ensureWithStore", 1));
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("message");
+        invoke(calls, "ensureWithStore", -1);
+    }
+
+    @Test
+    public void sample() throws Throwable {
+        Class<?> calls = load("org.platfish.ensure = sample 1073741824");
+        for (int i = 0; i < 100; i++) {
+            invoke(calls, "ensureTrue", false);
+            assertNull(invoke(calls, "ensureNotNull", (Object) null));
+            assertEquals(5, invoke(calls, "ensureInstanceOf", 5));
+            assertEquals(3L, invoke(calls, "ensureEqualsLong", 1L, 2L));
+            assertEquals(0, invoke(calls, "ensureNotEmpty", Collections.emptyList()));
+            assertEquals("a", invoke(calls, "ensureNested", "a"));
+            assertEquals(1, invoke(calls, "ensureWithBranch", false));
+            assertEquals(1, invoke(calls, "ensureInTry", true));
+        }
+        assertEquals(0, calls.getField("messages").get(null));
+    }
+
+    @Test
+    public void sampleAll() throws Throwable {
+        Class<?> calls = load("org.platfish.ensure = sample 1");
+        assertEquals(2, invoke(calls, "ensureNotEmpty", Arrays.asList(1, 2)));
+        assertEquals(1, calls.getField("messages").get(null));
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("values must not be empty: message");
+        invoke(calls, "ensureNotEmpty", Collections.emptyList());
+    }
+
+    @Test
+    public void count() throws Throwable {
+        Class<?> calls = load("org.platfish.ensure.fixture = count");
+        invoke(calls, "ensureTrue", true);
+        invoke(calls, "ensureTrue", true);
+        String[] top = stats.topCountedSites(1);
+        assertEquals(1, top.length);
+        assertTrue(top[0], top[0].startsWith("2 " + FIXTURE + ".ensureTrue(EnsureCalls.java:"));
+        assertTrue(top[0], top[0].endsWith(") ensureTrue"));
+
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("condition failed: message");
+        invoke(calls, "ensureTrue", false);
+    }
+
+    @Test
+    public void noRule() throws Throwable {
+        Properties properties = new Properties();
+        properties.setProperty("com.example", "remove");
+        EnsureTransformer transformer = new EnsureTransformer(Rules.parse(properties), stats);
+        assertNull(transformer.transform(getClass().getClassLoader(), FIXTURE.replace('.', '/'), null, null, bytes()));
+        assertEquals(1, stats.getLoadedClasses());
+        assertEquals(0, stats.getParsedClasses());
+    }
+
+    @Test
+    public void failed() {
+        Properties properties = new Properties();
+        properties.setProperty("com.example", "remove");
+        EnsureTransformer transformer = new EnsureTransformer(Rules.parse(properties), stats);
+        byte[] invalid = "org/platfish/ensure/Ensure".getBytes(StandardCharsets.UTF_8);
+        assertNull(transformer.transform(getClass().getClassLoader(), "com/example/Invalid", null, null, invalid));
+        assertEquals(1, stats.getParsedClasses());
+        assertEquals(1, stats.getFailedClasses());
+        assertTrue(stats.getLastFailure(), stats.getLastFailure().startsWith("com.example.Invalid: "));
+    }
+
+    @Test
+    public void currentClassFileVersion() throws IOException {
+        // the class files of the running JDK, which may be newer than the fixture
+        byte[] bytes = read(Object.class.getResourceAsStream("Object.class"));
+        assertNull(new CallSiteRewriter(getClass().getClassLoader(), RewriteRule.parse("remove")).rewrite(bytes));
+    }
+
+    @Test
+    public void excluded() throws Throwable {
+        Properties properties = new Properties();
+        properties.setProperty("org", "remove");
+        EnsureTransformer transformer = new EnsureTransformer(Rules.parse(properties), stats);
+        assertNull(transformer.transform(getClass().getClassLoader(), "org/platfish/ensure/Sampler", null, null, bytes()));
+        assertNull(transformer.transform(getClass().getClassLoader(), "org/platfish/ensure/agent/AgentSupport", null, null, bytes()));
+        assertEquals(0, stats.getLoadedClasses());
+    }
+
+    private Class<?> load(String rule) throws IOException, ClassNotFoundException {
+        Properties properties = new Properties();
+        properties.load(new java.io.StringReader(rule));
+        EnsureTransformer transformer = new EnsureTransformer(Rules.parse(properties), stats);
+        ClassLoader parent = getClass().getClassLoader();
+        byte[] rewritten = transformer.transform(parent, FIXTURE.replace('.', '/'), null, null, bytes());
+        assertNotNull(rewritten);
+        return new ClassLoader(parent) {
+            @Override
+            protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+                if (name.equals(FIXTURE)) {
+                    synchronized (getClassLoadingLock(name)) {
+                        Class<?> loaded = findLoadedClass(name);
+                        return loaded != null ? loaded : defineClass(name, rewritten, 0, rewritten.length);
+                    }
+                }
+                return super.loadClass(name, resolve);
+            }
+        }.loadClass(FIXTURE);
+    }
+
+    private static byte[] bytes() throws IOException {
+        return read(EnsureTransformerTest.class.getResourceAsStream("/" + FIXTURE.replace('.', '/') + ".class"));
+    }
+
+    private static byte[] read(InputStream stream) throws IOException {
+        try (InputStream in = stream) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            for (int read = in.read(buffer); read >= 0; read = in.read(buffer)) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    private static Object invoke(Class<?> calls, String name, Object... args) throws Throwable {
+        for (Method method : calls.getMethods()) {
+            if (method.getName().equals(name)) {
+                try {
+                    return method.invoke(null, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }
+        }
+        throw new NoSuchMethodException(name);
+    }
+}
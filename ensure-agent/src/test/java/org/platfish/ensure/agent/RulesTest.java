@@ -0,0 +1,69 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure.agent;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.Properties;
+
+/**
+ * Tests the {@link Rules} class.
+ */
+public class RulesTest extends Assert {
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Test
+    public void mostSpecificRule() {
+        Properties properties = new Properties();
+        properties.setProperty("com.example", "count");
+        properties.setProperty("com.example.hot", "remove");
+        properties.setProperty("com.example.hot.Parser", "sample 100");
+        properties.setProperty("com.example.hot.Checked", "check");
+        Rules rules = Rules.parse(properties);
+
+        assertEquals("count", rules.ruleFor("com/example/Foo").toString());
+        assertEquals("count", rules.ruleFor("com/example/sub/Foo").toString());
+        assertEquals("remove", rules.ruleFor("com/example/hot/Foo").toString());
+        assertEquals("sample 128", rules.ruleFor("com/example/hot/Parser").toString());
+        assertEquals("sample 128", rules.ruleFor("com/example/hot/Parser$Inner").toString());
+        assertSame(RewriteRule.CHECK, rules.ruleFor("com/example/hot/Checked"));
+        assertSame(RewriteRule.CHECK, rules.ruleFor("com/other/Foo"));
+        assertSame(RewriteRule.CHECK, rules.ruleFor("Foo"));
+    }
+
+    @Test
+    public void unknownAction() {
+        Properties properties = new Properties();
+        properties.setProperty("com.example", "delete");
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Unknown action in rule \"delete\"");
+        Rules.parse(properties);
+    }
+
+    @Test
+    public void invalidRate() {
+        Properties properties = new Properties();
+        properties.setProperty("com.example", "sample 0");
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("must be between 1 and 2^30");
+        Rules.parse(properties);
+    }
+}
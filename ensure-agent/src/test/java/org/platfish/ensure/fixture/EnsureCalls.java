@@ -0,0 +1,78 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure.fixture;
+
+import org.platfish.ensure.Ensure;
+
+import java.util.List;
+
+/**
+ * Calls of {@link Ensure} rewritten by the tests of the agent.
+ */
+public class EnsureCalls {
+
+    public static int messages;
+
+    private static String message() {
+        messages++;
+        return "message";
+    }
+
+    public static void ensureTrue(boolean condition) {
+        Ensure.ensureTrue(condition, "condition failed: %s", message());
+    }
+
+    public static String ensureNotNull(String value) {
+        return Ensure.ensureNotNull(value, "value must not be null: %s", message());
+    }
+
+    public static Number ensureInstanceOf(Object value) {
+        return Ensure.ensureInstanceOf(Number.class, value, "%s %s", message(), value);
+    }
+
+    public static long ensureEqualsLong(long expected, long value) {
+        return Ensure.ensureEqualsLong(expected, value, "%s", message()) + 1;
+    }
+
+    public static int ensureNotEmpty(List<Integer> values) {
+        return Ensure.ensureNotEmpty(values, "values must not be empty: %s", message()).size();
+    }
+
+    public static String ensureNested(String value) {
+        Ensure.ensureTrue(Ensure.ensureNotNull(value, "%s", message()).length() > 1, "%s", message());
+        return value;
+    }
+
+    public static int ensureWithBranch(boolean condition) {
+        Ensure.ensureTrue(condition, condition ? "a" : message());
+        return 1;
+    }
+
+    public static int ensureWithStore(int value) {
+        int copy;
+        Ensure.ensureTrue((copy = value) >= 0, "%s", message());
+        return copy;
+    }
+
+    public static int ensureInTry(boolean condition) {
+        try {
+            Ensure.ensureTrue(condition, "%s", message());
+        } catch (RuntimeException e) {
+            return 2;
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure.flow;
+
+import org.platfish.ensure.EnsureFailedException;
+
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+
+/**
+ * <p>{@link Flow.Processor} applying a check to each item, see {@link EnsureFlow}. Items are passed on in the
+ * thread which signalled them, without a queue and without allocating.</p>
+ * <p>The processor has a single subscriber. The demand of the subscriber is passed upstream unchanged, only
+ * a dropped item is replaced by requesting one more item. Cancelling the subscription cancels the upstream
+ * subscription. A completion or error signalled before the subscriber has subscribed is passed on when it
+ * subscribes.</p>
+ *
+ * @param <T> The type of the items.
+ */
+public final class CheckingProcessor<T> implements Flow.Processor<T, T>, Flow.Subscription {
+
+    private static final Flow.Subscription CANCELLED = new Flow.Subscription() {
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    };
+
+    private final Consumer<? super T> check;
+    private final boolean dropping;
+
+    private volatile Flow.Subscription upstream;
+    private volatile Flow.Subscriber<? super T> downstream;
+
+    /**
+     * Only accessed by the serialized upstream signals.
+     */
+    private boolean done;
+
+    /**
+     * Whether the subscriber has received its subscription, guarded by {@code this}.
+     */
+    private boolean ready;
+
+    /**
+     * Whether upstream has terminated with {@link #error}, or completed if it is null, guarded by {@code this}.
+     */
+    private boolean terminated;
+    private Throwable error;
+    private boolean terminationSignalled;
+
+    /**
+     * Only written by the serialized {@code onNext} signals.
+     */
+    private volatile long violations;
+
+    CheckingProcessor(Consumer<? super T> check, boolean dropping) {
+        this.check = check;
+        this.dropping = dropping;
+    }
+
+    /**
+     * Returns the number of items which have failed the check so far.
+     */
+    public long getViolations() {
+        return violations;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("subscriber must not be null");
+        }
+        boolean subscribed;
+        synchronized (this) {
+            subscribed = downstream != null;
+            if (!subscribed) {
+                downstream = subscriber;
+                if (upstream == null) {
+                    return;
+                }
+            }
+        }
+        if (subscribed) {
+            subscriber.onSubscribe(CANCELLED);
+            subscriber.onError(new IllegalStateException("Processor supports only one subscriber"));
+        } else {
+            subscriber.onSubscribe(this);
+            ready();
+        }
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        Flow.Subscriber<? super T> subscriber;
+        synchronized (this) {
+            if (upstream != null) {
+                subscription.cancel();
+                return;
+            }
+            upstream = subscription;
+            subscriber = downstream;
+        }
+        if (subscriber != null) {
+            subscriber.onSubscribe(this);
+            ready();
+        }
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (done) {
+            return;
+        }
+        try {
+            check.accept(item);
+        } catch (EnsureFailedException e) {
+            violations++;
+            if (dropping) {
+                upstream.request(1);
+            } else {
+                fail(e);
+            }
+            return;
+        } catch (RuntimeException e) {
+            fail(e);
+            return;
+        }
+        downstream.onNext(item);
+    }
+
+    private void fail(RuntimeException e) {
+        done = true;
+        upstream.cancel();
+        terminate(e);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        if (!done) {
+            done = true;
+            terminate(throwable);
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        if (!done) {
+            done = true;
+            terminate(null);
+        }
+    }
+
+    private void ready() {
+        synchronized (this) {
+            ready = true;
+        }
+        signalTermination();
+    }
+
+    private void terminate(Throwable throwable) {
+        synchronized (this) {
+            terminated = true;
+            error = throwable;
+        }
+        signalTermination();
+    }
+
+    /**
+     * Signals the termination once upstream has terminated and the subscriber has received its subscription,
+     * which may happen in either order.
+     */
+    private void signalTermination() {
+        Flow.Subscriber<? super T> subscriber;
+        Throwable throwable;
+        synchronized (this) {
+            if (!terminated || !ready || terminationSignalled) {
+                return;
+            }
+            terminationSignalled = true;
+            subscriber = downstream;
+            throwable = error;
+        }
+        if (throwable == null) {
+            subscriber.onComplete();
+        } else {
+            subscriber.onError(throwable);
+        }
+    }
+
+    @Override
+    public void request(long n) {
+        upstream.request(n);
+    }
+
+    @Override
+    public void cancel() {
+        upstream.cancel();
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure.flow;
+
+import org.platfish.ensure.Ensure;
+import org.platfish.ensure.EnsureFailedException;
+
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+
+/**
+ * <p>Creates {@link Flow.Processor}s applying {@link Ensure} checks to the items of a reactive stream, e.g.</p>
+ * <pre>
+ * CheckingProcessor&lt;Order&gt; checked = EnsureFlow.failing(order -&gt; Ensure.ensureNotNull(order.getId(), "Order without id"));
+ * publisher.subscribe(checked);
+ * checked.subscribe(subscriber);
+ * </pre>
+ * <p>An item violates the check if it throws an {@link EnsureFailedException}. Any other exception of the
+ * check fails the stream in every mode.</p>
+ */
+public final class EnsureFlow {
+
+    private EnsureFlow() {
+    }
+
+    /**
+     * Returns a processor which fails the stream on the first item violating the check. The upstream
+     * subscription is cancelled and the {@link EnsureFailedException} is passed to
+     * {@link Flow.Subscriber#onError(Throwable)} of the subscriber.
+     *
+     * @param check The check applied to each item, e.g. one or more calls of {@link Ensure} methods.
+     * @param <T>   The type of the items.
+     */
+    public static <T> CheckingProcessor<T> failing(Consumer<? super T> check) {
+        Ensure.ensureNotNull(check, "check must not be null");
+        return new CheckingProcessor<>(check, false);
+    }
+
+    /**
+     * Returns a processor which drops the items violating the check and counts them, see
+     * {@link CheckingProcessor#getViolations()}. One more item is requested from upstream for each dropped item,
+     * so the demand of the subscriber is still met.
+     *
+     * @param check The check applied to each item, e.g. one or more calls of {@link Ensure} methods.
+     * @param <T>   The type of the items.
+     */
+    public static <T> CheckingProcessor<T> dropping(Consumer<? super T> check) {
+        Ensure.ensureNotNull(check, "check must not be null");
+        return new CheckingProcessor<>(check, true);
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure.flow;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.platfish.ensure.Ensure;
+import org.platfish.ensure.EnsureFailedException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+
+/**
+ * Tests the processors created by {@link EnsureFlow} against a hand driven upstream subscription.
+ */
+public class CheckingProcessorTest extends Assert {
+
+    private static final class Upstream implements Flow.Subscription {
+
+        long requested;
+        boolean cancelled;
+
+        @Override
+        public void request(long n) {
+            requested += n;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+
+    private static class Downstream implements Flow.Subscriber<Integer> {
+
+        final List<Integer> items = new ArrayList<>();
+        Flow.Subscription subscription;
+        Throwable error;
+        boolean completed;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Integer item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+
+    private static void positive(Integer value) {
+        Ensure.ensureTrue(value > 0, "Item must be positive but was %s", value);
+    }
+
+    @Test
+    public void failing() {
+        CheckingProcessor<Integer> processor = EnsureFlow.failing(CheckingProcessorTest::positive);
+        Upstream upstream = new Upstream();
+        Downstream downstream = new Downstream();
+        processor.subscribe(downstream);
+        assertNull(downstream.subscription);
+        processor.onSubscribe(upstream);
+        assertSame(processor, downstream.subscription);
+
+        downstream.subscription.request(3);
+        assertEquals(3, upstream.requested);
+        processor.onNext(1);
+        processor.onNext(-2);
+        processor.onNext(3);
+        processor.onComplete();
+
+        assertEquals(Arrays.asList(1), downstream.items);
+        assertTrue(downstream.error instanceof EnsureFailedException);
+        assertEquals("Item must be positive but was -2", downstream.error.getMessage());
+        assertFalse(downstream.completed);
+        assertTrue(upstream.cancelled);
+        assertEquals(1, processor.getViolations());
+    }
+
+    @Test
+    public void dropping() {
+        CheckingProcessor<Integer> processor = EnsureFlow.dropping(CheckingProcessorTest::positive);
+        Upstream upstream = new Upstream();
+        Downstream downstream = new Downstream();
+        processor.onSubscribe(upstream);
+        processor.subscribe(downstream);
+        assertSame(processor, downstream.subscription);
+
+        downstream.subscription.request(2);
+        processor.onNext(-1);
+        processor.onNext(1);
+        processor.onNext(0);
+        processor.onNext(2);
+        processor.onComplete();
+
+        assertEquals(Arrays.asList(1, 2), downstream.items);
+        assertEquals(4, upstream.requested);
+        assertNull(downstream.error);
+        assertTrue(downstream.completed);
+        assertFalse(upstream.cancelled);
+        assertEquals(2, processor.getViolations());
+    }
+
+    @Test
+    public void otherExceptionsFail() {
+        CheckingProcessor<Integer> processor = EnsureFlow.dropping(value -> {
+            throw new IllegalStateException("broken check");
+        });
+        Upstream upstream = new Upstream();
+        Downstream downstream = new Downstream();
+        processor.onSubscribe(upstream);
+        processor.subscribe(downstream);
+        processor.onNext(1);
+
+        assertTrue(downstream.error instanceof IllegalStateException);
+        assertTrue(upstream.cancelled);
+        assertEquals(0, processor.getViolations());
+    }
+
+    @Test
+    public void cancel() {
+        CheckingProcessor<Integer> processor = EnsureFlow.failing(CheckingProcessorTest::positive);
+        Upstream upstream = new Upstream();
+        Downstream downstream = new Downstream();
+        processor.onSubscribe(upstream);
+        processor.subscribe(downstream);
+        downstream.subscription.cancel();
+        assertTrue(upstream.cancelled);
+
+        Upstream second = new Upstream();
+        processor.onSubscribe(second);
+        assertTrue(second.cancelled);
+    }
+
+    @Test
+    public void completeBeforeSubscriber() {
+        CheckingProcessor<Integer> processor = EnsureFlow.failing(CheckingProcessorTest::positive);
+        processor.onSubscribe(new Upstream());
+        processor.onComplete();
+        Downstream downstream = new Downstream();
+        processor.subscribe(downstream);
+        assertSame(processor, downstream.subscription);
+        assertTrue(downstream.completed);
+    }
+
+    @Test
+    public void errorBeforeSubscriber() {
+        CheckingProcessor<Integer> processor = EnsureFlow.failing(CheckingProcessorTest::positive);
+        Flow.Publisher<Integer> publisher = subscriber -> {
+            subscriber.onSubscribe(new Upstream());
+            subscriber.onError(new IllegalStateException("upstream failed"));
+        };
+        publisher.subscribe(processor);
+        Downstream downstream = new Downstream();
+        processor.subscribe(downstream);
+        assertNotNull(downstream.subscription);
+        assertEquals("upstream failed", downstream.error.getMessage());
+        assertFalse(downstream.completed);
+    }
+
+    @Test
+    public void singleSubscriber() {
+        CheckingProcessor<Integer> processor = EnsureFlow.failing(CheckingProcessorTest::positive);
+        processor.subscribe(new Downstream());
+        Downstream second = new Downstream();
+        processor.subscribe(second);
+        assertNotNull(second.subscription);
+        assertTrue(second.error instanceof IllegalStateException);
+    }
+
+    @Test
+    public void publisher() {
+        CheckingProcessor<Integer> processor = EnsureFlow.dropping(CheckingProcessorTest::positive);
+        Downstream downstream = new Downstream() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                super.onSubscribe(subscription);
+                subscription.request(Long.MAX_VALUE);
+            }
+        };
+        try (SubmissionPublisher<Integer> publisher = new SubmissionPublisher<>(Runnable::run, 16)) {
+            publisher.subscribe(processor);
+            processor.subscribe(downstream);
+            for (int i = -5; i <= 5; i++) {
+                publisher.submit(i);
+            }
+        }
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5), downstream.items);
+        assertTrue(downstream.completed);
+        assertEquals(6, processor.getViolations());
+    }
+}
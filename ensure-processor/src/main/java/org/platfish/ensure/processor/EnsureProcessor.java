@@ -0,0 +1,416 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure.processor;
+
+import org.platfish.ensure.EnsureNotEmpty;
+import org.platfish.ensure.EnsureNotNull;
+import org.platfish.ensure.EnsureRange;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.TypeParameterElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates validator classes for the fields and parameters annotated by {@link EnsureNotNull},
+ * {@link EnsureNotEmpty} and {@link EnsureRange}. The generated code calls {@code Ensure} directly, so validation
+ * needs neither reflection nor proxies at runtime. See {@link EnsureRange} for the generated methods.
+ */
+@SupportedAnnotationTypes({
+        "org.platfish.ensure.EnsureNotNull",
+        "org.platfish.ensure.EnsureNotEmpty",
+        "org.platfish.ensure.EnsureRange"
+})
+public class EnsureProcessor extends AbstractProcessor {
+
+    /**
+     * Simple name of {@code Ensure}, which is imported. A qualified name would be shadowed by parameters and
+     * variables named like its first package, e.g. {@code org}.
+     */
+    private static final String ENSURE = "Ensure";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Map<TypeElement, Set<VariableElement>> fields = new LinkedHashMap<>();
+        Map<TypeElement, Set<ExecutableElement>> executables = new LinkedHashMap<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.FIELD) {
+                    TypeElement type = (TypeElement) element.getEnclosingElement();
+                    fields.computeIfAbsent(type, t -> new LinkedHashSet<>()).add((VariableElement) element);
+                    executables.computeIfAbsent(type, t -> new LinkedHashSet<>());
+                } else if (element.getKind() == ElementKind.PARAMETER) {
+                    ExecutableElement executable = (ExecutableElement) element.getEnclosingElement();
+                    TypeElement type = (TypeElement) executable.getEnclosingElement();
+                    executables.computeIfAbsent(type, t -> new LinkedHashSet<>()).add(executable);
+                }
+            }
+        }
+        for (Map.Entry<TypeElement, Set<ExecutableElement>> entry : executables.entrySet()) {
+            TypeElement type = entry.getKey();
+            Set<VariableElement> typeFields = fields.get(type);
+            generate(type, typeFields == null ? new LinkedHashSet<>() : typeFields, entry.getValue());
+        }
+        return true;
+    }
+
+    private void generate(TypeElement type, Set<VariableElement> fields, Set<ExecutableElement> executables) {
+        if (type.getNestingKind() == NestingKind.LOCAL || type.getNestingKind() == NestingKind.ANONYMOUS) {
+            error(type, "Checks of local and anonymous classes are not supported");
+            return;
+        }
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(type);
+        String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+        String validatorName = validatorName(type);
+
+        StringBuilder code = new StringBuilder();
+        code.append("// Generated by ").append(EnsureProcessor.class.getName()).append(", do not edit\n");
+        if (!packageName.isEmpty()) {
+            code.append("package ").append(packageName).append(";\n\n");
+        }
+        code.append("import org.platfish.ensure.Ensure;\n\n");
+        code.append("/**\n * Validates the annotated fields and parameters of {@link ")
+                .append(type.getQualifiedName()).append("}.\n */\n");
+        code.append("public final class ").append(validatorName).append(" {\n\n");
+        code.append("    private ").append(validatorName).append("() {\n    }\n");
+
+        boolean valid = true;
+        if (!fields.isEmpty()) {
+            valid &= appendFieldValidator(code, type, fields);
+        }
+        for (ExecutableElement executable : executables) {
+            valid &= appendParameterValidator(code, type, executable);
+        }
+        code.append("}\n");
+        if (!valid) {
+            return;
+        }
+
+        String qualifiedName = packageName.isEmpty() ? validatorName : packageName + "." + validatorName;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+            writer.write(code.toString());
+        } catch (IOException e) {
+            error(type, "Validator " + qualifiedName + " can't be written: " + e);
+        }
+    }
+
+    private boolean appendFieldValidator(StringBuilder code, TypeElement type, Set<VariableElement> fields) {
+        Set<String> names = new LinkedHashSet<>();
+        for (VariableElement field : fields) {
+            names.add(field.getSimpleName().toString());
+        }
+        String parameter = "value";
+        while (names.contains(parameter)) {
+            parameter = "_" + parameter;
+        }
+        String typeName = typeName(type);
+
+        code.append("\n    /**\n     * Validates the annotated fields of the given value.\n     *\n")
+                .append("     * @return The validated value.\n     */\n");
+        code.append("    public static ").append(typeParameters(type.getTypeParameters()))
+                .append(typeName).append(" validate(").append(typeName).append(" ").append(parameter).append(") {\n");
+        // the message names the validated value, even if the parameter has been renamed
+        code.append("        ").append(ENSURE).append(".ensureNotNull(").append(parameter)
+                .append(", \"value must not be null\");\n");
+        Set<String> variables = new HashSet<>();
+        variables.add(parameter);
+        boolean valid = true;
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (!fields.contains(field)) {
+                continue;
+            }
+            if (field.getModifiers().contains(Modifier.STATIC)) {
+                error(field, "Checks of static fields are not supported");
+                valid = false;
+                continue;
+            }
+            String access = access(type, field, parameter);
+            if (access == null) {
+                valid = false;
+                continue;
+            }
+            String name = field.getSimpleName().toString();
+            if (field.getAnnotation(EnsureRange.class) != null) {
+                // the range needs the value several times, read it only once into a variable which doesn't
+                // shadow the packages of the following qualified type names
+                String variable = "_" + name;
+                while (!variables.add(variable)) {
+                    variable = "_" + variable;
+                }
+                code.append("        ").append(field.asType()).append(" ").append(variable).append(" = ")
+                        .append(access).append(";\n");
+                access = variable;
+            }
+            valid &= appendChecks(code, field, access, name);
+        }
+        code.append("        return ").append(parameter).append(";\n    }\n");
+        return valid;
+    }
+
+    private boolean appendParameterValidator(StringBuilder code, TypeElement type, ExecutableElement executable) {
+        String name = executable.getKind() == ElementKind.CONSTRUCTOR
+                ? type.getSimpleName().toString()
+                : executable.getSimpleName().toString();
+        String methodName = "validate" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+
+        code.append("\n    /**\n     * Validates the annotated parameters of {@link ")
+                .append(type.getQualifiedName()).append("#")
+                .append(executable.getKind() == ElementKind.CONSTRUCTOR ? type.getSimpleName() : name)
+                .append("}.\n     */\n");
+        List<TypeParameterElement> typeParameters = new ArrayList<>(executable.getTypeParameters());
+        if (executable.getKind() == ElementKind.CONSTRUCTOR || !executable.getModifiers().contains(Modifier.STATIC)) {
+            typeParameters.addAll(0, type.getTypeParameters());
+        }
+        code.append("    public static ").append(typeParameters(typeParameters))
+                .append("void ").append(methodName).append("(");
+        List<? extends VariableElement> parameters = executable.getParameters();
+        for (int i = 0; i < parameters.size(); i++) {
+            if (i > 0) {
+                code.append(", ");
+            }
+            code.append(parameters.get(i).asType()).append(" ").append(parameters.get(i).getSimpleName());
+        }
+        code.append(") {\n");
+        boolean valid = true;
+        for (VariableElement parameter : parameters) {
+            String parameterName = parameter.getSimpleName().toString();
+            valid &= appendChecks(code, parameter, parameterName, parameterName);
+        }
+        code.append("    }\n");
+        return valid;
+    }
+
+    private boolean appendChecks(StringBuilder code, VariableElement element, String access, String name) {
+        TypeMirror type = element.asType();
+        boolean valid = true;
+        if (element.getAnnotation(EnsureNotNull.class) != null) {
+            if (type.getKind().isPrimitive()) {
+                error(element, "@EnsureNotNull can't be used for primitive types");
+                valid = false;
+            } else {
+                code.append("        ").append(ENSURE).append(".ensureNotNull(").append(access)
+                        .append(", \"").append(name).append(" must not be null\");\n");
+            }
+        }
+        if (element.getAnnotation(EnsureNotEmpty.class) != null) {
+            if (!canBeEmpty(type)) {
+                error(element, "@EnsureNotEmpty can only be used for strings, collections, maps and arrays");
+                valid = false;
+            } else {
+                code.append("        ").append(ENSURE).append(".ensureNotEmpty(").append(access)
+                        .append(", \"").append(name).append(" must not be empty\");\n");
+            }
+        }
+        EnsureRange range = element.getAnnotation(EnsureRange.class);
+        if (range != null) {
+            if (!isNumeric(type)) {
+                error(element, "@EnsureRange can only be used for numeric types");
+                valid = false;
+            } else if (range.min() > range.max()) {
+                error(element, "@EnsureRange min must not be greater than max");
+                valid = false;
+            } else {
+                String min = range.min() + "L";
+                String max = range.max() + "L";
+                // comparisons with the default bounds are left out
+                String condition;
+                if (isFloatingPoint(type)) {
+                    // negated, so NaN is never in range
+                    if (range.min() == Long.MIN_VALUE) {
+                        condition = "!(" + access + " <= " + max + ")";
+                    } else if (range.max() == Long.MAX_VALUE) {
+                        condition = "!(" + access + " >= " + min + ")";
+                    } else {
+                        condition = "!(" + access + " >= " + min + " && " + access + " <= " + max + ")";
+                    }
+                } else if (range.min() == Long.MIN_VALUE) {
+                    condition = access + " > " + max;
+                } else if (range.max() == Long.MAX_VALUE) {
+                    condition = access + " < " + min;
+                } else {
+                    condition = access + " < " + min + " || " + access + " > " + max;
+                }
+                if (!type.getKind().isPrimitive()) {
+                    condition = access + " != null && (" + condition + ")";
+                }
+                code.append("        if (").append(condition).append(") {\n");
+                code.append("            ").append(ENSURE).append(".fail(\"").append(name)
+                        .append(" must be between %s and %s but was %s\", ").append(min).append(", ").append(max)
+                        .append(", ").append(access).append(");\n");
+                code.append("        }\n");
+            }
+        }
+        return valid;
+    }
+
+    private String access(TypeElement type, VariableElement field, String parameter) {
+        String name = field.getSimpleName().toString();
+        if (!field.getModifiers().contains(Modifier.PRIVATE)) {
+            return parameter + "." + name;
+        }
+        String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        Types types = processingEnv.getTypeUtils();
+        for (String accessor : new String[]{"get" + capitalized, "is" + capitalized, name}) {
+            for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+                if (method.getSimpleName().contentEquals(accessor)
+                        && method.getParameters().isEmpty()
+                        && !method.getModifiers().contains(Modifier.PRIVATE)
+                        && !method.getModifiers().contains(Modifier.STATIC)
+                        && types.isSameType(method.getReturnType(), field.asType())) {
+                    return parameter + "." + accessor + "()";
+                }
+            }
+        }
+        error(field, "Private field " + name + " needs an accessor get" + capitalized + "(), is" + capitalized
+                + "() or " + name + "()");
+        return null;
+    }
+
+    private boolean canBeEmpty(TypeMirror type) {
+        if (type.getKind() == TypeKind.ARRAY) {
+            return true;
+        }
+        Types types = processingEnv.getTypeUtils();
+        for (String name : new String[]{"java.lang.String", "java.util.Collection", "java.util.Map"}) {
+            TypeElement element = processingEnv.getElementUtils().getTypeElement(name);
+            if (types.isAssignable(types.erasure(type), types.erasure(element.asType()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isNumeric(TypeMirror type) {
+        TypeMirror primitive = unboxed(type);
+        if (primitive == null) {
+            return false;
+        }
+        switch (primitive.getKind()) {
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+            case FLOAT:
+            case DOUBLE:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private boolean isFloatingPoint(TypeMirror type) {
+        TypeMirror primitive = unboxed(type);
+        return primitive != null
+                && (primitive.getKind() == TypeKind.FLOAT || primitive.getKind() == TypeKind.DOUBLE);
+    }
+
+    /**
+     * Returns the primitive type of the given type, or null if it is neither primitive nor a boxed primitive.
+     */
+    private TypeMirror unboxed(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return type;
+        }
+        try {
+            return processingEnv.getTypeUtils().unboxedType(type);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String validatorName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        Element enclosing = type.getEnclosingElement();
+        while (enclosing instanceof TypeElement) {
+            name.insert(0, '_').insert(0, enclosing.getSimpleName());
+            enclosing = enclosing.getEnclosingElement();
+        }
+        return name.append("Validator").toString();
+    }
+
+    private static String typeName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getQualifiedName());
+        List<? extends TypeParameterElement> typeParameters = type.getTypeParameters();
+        if (!typeParameters.isEmpty()) {
+            name.append('<');
+            for (int i = 0; i < typeParameters.size(); i++) {
+                if (i > 0) {
+                    name.append(", ");
+                }
+                name.append(typeParameters.get(i).getSimpleName());
+            }
+            name.append('>');
+        }
+        return name.toString();
+    }
+
+    private static String typeParameters(List<? extends TypeParameterElement> typeParameters) {
+        if (typeParameters.isEmpty()) {
+            return "";
+        }
+        StringBuilder code = new StringBuilder("<");
+        for (int i = 0; i < typeParameters.size(); i++) {
+            TypeParameterElement typeParameter = typeParameters.get(i);
+            if (i > 0) {
+                code.append(", ");
+            }
+            code.append(typeParameter.getSimpleName());
+            List<? extends TypeMirror> bounds = typeParameter.getBounds();
+            if (!bounds.isEmpty() && !(bounds.size() == 1 && bounds.get(0).toString().equals("java.lang.Object"))) {
+                code.append(" extends ");
+                for (int j = 0; j < bounds.size(); j++) {
+                    if (j > 0) {
+                        code.append(" & ");
+                    }
+                    code.append(bounds.get(j));
+                }
+            }
+        }
+        return code.append("> ").toString();
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure.processor;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+import org.platfish.ensure.EnsureFailedException;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Tests the {@link EnsureProcessor} class by compiling annotated sources and running the generated validators.
+ */
+public class EnsureProcessorTest extends Assert {
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static final String PERSON = "package test;\n"
+            + "import org.platfish.ensure.*;\n"
+            + "import java.util.List;\n"
+            + "public class Person {\n"
+            + "    @EnsureNotEmpty private final String name;\n"
+            + "    @EnsureRange(min = 0, max = 150) final int age;\n"
+            + "    @EnsureNotNull @EnsureRange(min = 1) private final Long id;\n"
+            + "    public Person(@EnsureNotEmpty String name, @EnsureRange(min = 0, max = 150) int age, Long id) {\n"
+            + "        this.name = name; this.age = age; this.id = id;\n"
+            + "    }\n"
+            + "    public String getName() { return name; }\n"
+            + "    public Long id() { return id; }\n"
+            + "    public static <T> void names(@EnsureNotEmpty List<T> names, @EnsureNotNull T first) { }\n"
+            + "    public static class Builder {\n"
+            + "        @EnsureNotNull String name;\n"
+            + "    }\n"
+            + "}\n";
+
+    @Test
+    public void fieldValidator() throws Throwable {
+        ClassLoader loader = compile(PERSON);
+        Class<?> person = loader.loadClass("test.Person");
+        Object valid = person.getConstructor(String.class, int.class, Long.class).newInstance("Marc", 42, 1L);
+        Method validate = loader.loadClass("test.PersonValidator").getMethod("validate", person);
+        assertSame(valid, validate.invoke(null, valid));
+
+        Object invalid = person.getConstructor(String.class, int.class, Long.class).newInstance("Marc", 200, 1L);
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("age must be between 0 and 150 but was 200");
+        invoke(validate, invalid);
+    }
+
+    @Test
+    public void nullFieldValidator() throws Throwable {
+        ClassLoader loader = compile(PERSON);
+        Class<?> person = loader.loadClass("test.Person");
+        Object invalid = person.getConstructor(String.class, int.class, Long.class).newInstance("Marc", 42, null);
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("id must not be null");
+        invoke(loader.loadClass("test.PersonValidator").getMethod("validate", person), invalid);
+    }
+
+    @Test
+    public void constructorValidator() throws Throwable {
+        ClassLoader loader = compile(PERSON);
+        Method validate = loader.loadClass("test.PersonValidator")
+                .getMethod("validatePerson", String.class, int.class, Long.class);
+        validate.invoke(null, "Marc", 42, null);
+
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("name must not be empty");
+        invoke(validate, "", 42, null);
+    }
+
+    @Test
+    public void genericMethodValidator() throws Throwable {
+        ClassLoader loader = compile(PERSON);
+        Method validate = loader.loadClass("test.PersonValidator").getMethod("validateNames", List.class, Object.class);
+        validate.invoke(null, Arrays.asList(1, 2), 1);
+
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("names must not be empty");
+        invoke(validate, Collections.emptyList(), 1);
+    }
+
+    @Test
+    public void nestedClassValidator() throws Throwable {
+        ClassLoader loader = compile(PERSON);
+        Class<?> builder = loader.loadClass("test.Person$Builder");
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("name must not be null");
+        invoke(loader.loadClass("test.Person_BuilderValidator").getMethod("validate", builder),
+                builder.getConstructor().newInstance());
+    }
+
+    @Test
+    public void shadowingNames() throws Throwable {
+        String source = "package test;\n"
+                + "import org.platfish.ensure.*;\n"
+                + "public class Shadowing {\n"
+                + "    @EnsureNotNull String org;\n"
+                + "    @EnsureRange(min = 0) Integer java;\n"
+                + "    @EnsureRange(min = 0) Long other;\n"
+                + "    public static void check(@EnsureNotNull String org, @EnsureRange(min = 1) int java) { }\n"
+                + "}\n";
+        ClassLoader loader = compile(source);
+        Class<?> shadowing = loader.loadClass("test.Shadowing");
+        Class<?> validator = loader.loadClass("test.ShadowingValidator");
+        validator.getMethod("validateCheck", String.class, int.class).invoke(null, "org", 1);
+
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("org must not be null");
+        invoke(validator.getMethod("validate", shadowing), shadowing.getConstructor().newInstance());
+    }
+
+    @Test
+    public void fieldNamedValue() throws Throwable {
+        String source = "package test;\n"
+                + "import org.platfish.ensure.*;\n"
+                + "public class Amount {\n"
+                + "    @EnsureRange(min = 0, max = 100) int value;\n"
+                + "    @EnsureRange(min = 0) long _value;\n"
+                + "}\n";
+        ClassLoader loader = compile(source);
+        Class<?> amount = loader.loadClass("test.Amount");
+        Method validate = loader.loadClass("test.AmountValidator").getMethod("validate", amount);
+        Object valid = amount.getConstructor().newInstance();
+        validate.invoke(null, valid);
+        Field value = amount.getDeclaredField("value");
+        value.setAccessible(true);
+        value.setInt(valid, 101);
+
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("value must be between 0 and 100 but was 101");
+        invoke(validate, valid);
+    }
+
+    @Test
+    public void nullValue() throws Throwable {
+        String source = "package test;\n"
+                + "import org.platfish.ensure.*;\n"
+                + "public class Amount {\n"
+                + "    @EnsureRange(min = 0) int value;\n"
+                + "}\n";
+        ClassLoader loader = compile(source);
+        Class<?> amount = loader.loadClass("test.Amount");
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("value must not be null");
+        invoke(loader.loadClass("test.AmountValidator").getMethod("validate", amount), (Object) null);
+    }
+
+    @Test
+    public void floatingPointRange() throws Throwable {
+        String source = "package test;\n"
+                + "import org.platfish.ensure.*;\n"
+                + "public class Ratio {\n"
+                + "    public static void check(@EnsureRange(min = 0, max = 1) double ratio,\n"
+                + "            @EnsureRange(min = 0) Float weight) { }\n"
+                + "}\n";
+        ClassLoader loader = compile(source);
+        Method validate = loader.loadClass("test.RatioValidator").getMethod("validateCheck", double.class, Float.class);
+        validate.invoke(null, 0.5, 1f);
+        validate.invoke(null, 1.0, null);
+        try {
+            invoke(validate, 0.5, Float.NaN);
+            fail("NaN must not be in range");
+        } catch (EnsureFailedException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("weight must be between"));
+        }
+
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("ratio must be between 0 and 1 but was NaN");
+        invoke(validate, Double.NaN, 1f);
+    }
+
+    @Test
+    public void invalidAnnotations() throws Exception {
+        String source = "package test;\n"
+                + "import org.platfish.ensure.*;\n"
+                + "public class Invalid {\n"
+                + "    @EnsureNotNull int count;\n"
+                + "    @EnsureNotEmpty Integer number;\n"
+                + "    @EnsureRange(min = 0) String text;\n"
+                + "    @EnsureNotNull private String hidden;\n"
+                + "}\n";
+        List<Diagnostic<? extends JavaFileObject>> errors = compileWithErrors(source);
+        assertEquals(errors.toString(), 4, errors.size());
+        assertTrue(errors.get(0).getMessage(null).contains("@EnsureNotNull can't be used for primitive types"));
+    }
+
+    private static void invoke(Method method, Object... args) throws Throwable {
+        try {
+            method.invoke(null, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private ClassLoader compile(String source) throws Exception {
+        File output = folder.newFolder();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        assertTrue(diagnostics.getDiagnostics().toString(), task(source, output, diagnostics).call());
+        return new URLClassLoader(new URL[]{output.toURI().toURL()}, getClass().getClassLoader());
+    }
+
+    private List<Diagnostic<? extends JavaFileObject>> compileWithErrors(String source) throws Exception {
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        assertFalse(task(source, folder.newFolder(), diagnostics).call());
+        return diagnostics.getDiagnostics();
+    }
+
+    private static JavaCompiler.CompilationTask task(String source, File output,
+                                                     DiagnosticCollector<JavaFileObject> diagnostics) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        String name = source.substring(source.indexOf("public class ") + 13, source.indexOf(" {"));
+        JavaFileObject file = new SimpleJavaFileObject(URI.create("string:///test/" + name + ".java"),
+                JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+        List<String> options = Arrays.asList("-d", output.getPath(), "-classpath", System.getProperty("java.class.path"));
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics, options, null,
+                Collections.singletonList(file));
+        task.setProcessors(Collections.singletonList(new EnsureProcessor()));
+        return task;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the bulk element checks against hand written loops. Sizes above the parallel threshold are scanned in
+ * the common fork join pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BulkCheckBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    private Object[] objects;
+    private List<Object> list;
+    private int[] ints;
+    private long[] sortedLongs;
+
+    @Setup
+    public void setup() {
+        objects = new Object[size];
+        Arrays.fill(objects, "value");
+        list = new ArrayList<>(Arrays.asList(objects));
+        ints = new int[size];
+        for (int i = 0; i < size; i++) {
+            ints[i] = i % 1000;
+        }
+        sortedLongs = new long[size];
+        for (int i = 0; i < size; i++) {
+            sortedLongs[i] = i * 3L;
+        }
+    }
+
+    @Benchmark
+    public Object[] ensureAllNotNullArray() {
+        return Ensure.ensureAllNotNull(objects);
+    }
+
+    @Benchmark
+    public Object[] baselineAllNotNullArray() {
+        for (int i = 0; i < objects.length; i++) {
+            if (objects[i] == null) {
+                throw new EnsureFailedException("Element at index " + i + " must not be null");
+            }
+        }
+        return objects;
+    }
+
+    @Benchmark
+    public List<Object> ensureAllList() {
+        return Ensure.ensureAll(list, value -> value != null);
+    }
+
+    @Benchmark
+    public int[] ensureAllInRange() {
+        return Ensure.ensureAllInRange(ints, 0, 999);
+    }
+
+    @Benchmark
+    public int[] baselineAllInRange() {
+        for (int i = 0; i < ints.length; i++) {
+            if (ints[i] < 0 || ints[i] > 999) {
+                throw new EnsureFailedException("Element " + ints[i] + " at index " + i + " out of range");
+            }
+        }
+        return ints;
+    }
+
+    @Benchmark
+    public long[] ensureStrictlyIncreasing() {
+        return Ensure.ensureStrictlyIncreasing(sortedLongs);
+    }
+
+    @Benchmark
+    public long[] baselineStrictlyIncreasing() {
+        for (int i = 1; i < sortedLongs.length; i++) {
+            if (sortedLongs[i - 1] >= sortedLongs[i]) {
+                throw new EnsureFailedException("Element " + sortedLongs[i] + " at index " + i + " out of order");
+            }
+        }
+        return sortedLongs;
+    }
+}
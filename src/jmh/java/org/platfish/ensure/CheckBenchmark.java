@@ -0,0 +1,72 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares validating records with {@link Check} against catching the {@link EnsureFailedException} of the
+ * corresponding {@link Ensure} checks, with the given percentage of invalid records.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CheckBenchmark {
+
+    private static final int RECORDS = 1000;
+
+    @Param({"0", "10", "100"})
+    private int invalidPercent;
+
+    private List<List<String>> records;
+
+    @Setup
+    public void setup() {
+        records = new ArrayList<>(RECORDS);
+        for (int i = 0; i < RECORDS; i++) {
+            records.add(i % 100 < invalidPercent ? Collections.emptyList() : Collections.singletonList("value"));
+        }
+    }
+
+    @Benchmark
+    public int check() {
+        int rejected = 0;
+        for (List<String> record : records) {
+            if (Check.notEmpty(record).isViolated()) {
+                rejected++;
+            }
+        }
+        return rejected;
+    }
+
+    @Benchmark
+    public int ensure() {
+        int rejected = 0;
+        for (List<String> record : records) {
+            try {
+                Ensure.ensureNotEmpty(record);
+            } catch (EnsureFailedException e) {
+                rejected++;
+            }
+        }
+        return rejected;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shows that checks guarded by a disabled {@link CheckLevel} cost nothing: {@link #disabledParanoidCheck()}
+ * has to perform like {@link #baseline()}, whereas {@link #enabledParanoidCheck()} pays for the full scan.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CheckLevelBenchmark {
+
+    private static final boolean PARANOID = Ensure.isEnabled(CheckLevel.PARANOID, CheckLevelBenchmark.class);
+
+    private List<Integer> values;
+
+    @Setup
+    public void setup() {
+        values = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            values.add(i);
+        }
+    }
+
+    private static boolean isSorted(List<Integer> values) {
+        for (int i = 1; i < values.size(); i++) {
+            if (values.get(i - 1) > values.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Benchmark
+    public Integer baseline() {
+        return values.get(0);
+    }
+
+    @Benchmark
+    public Integer disabledParanoidCheck() {
+        if (Ensure.PARANOID_CHECKS) {
+            Ensure.ensureTrue(isSorted(values), "values must be sorted");
+        }
+        return values.get(0);
+    }
+
+    @Benchmark
+    public Integer disabledPackageParanoidCheck() {
+        if (PARANOID) {
+            Ensure.ensureTrue(isSorted(values), "values must be sorted");
+        }
+        return values.get(0);
+    }
+
+    @Benchmark
+    public Integer disabledIsEnabledCheck() {
+        if (Ensure.isEnabled(CheckLevel.PARANOID)) {
+            Ensure.ensureTrue(isSorted(values), "values must be sorted");
+        }
+        return values.get(0);
+    }
+
+    @Benchmark
+    @Fork(jvmArgsAppend = "-D" + CheckLevel.SYSTEM_PROPERTY + "=PARANOID")
+    public Integer enabledParanoidCheck() {
+        if (Ensure.PARANOID_CHECKS) {
+            Ensure.ensureTrue(isSorted(values), "values must be sorted");
+        }
+        return values.get(0);
+    }
+}
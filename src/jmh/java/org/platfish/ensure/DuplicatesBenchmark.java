@@ -0,0 +1,80 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the duplicate check of ID batches against a boxed {@link HashSet}. Run with the gc profiler, which
+ * reports the allocated bytes per operation: a batch of up to a million IDs reuses the pooled table, larger
+ * ones allocate 8 to 16 bytes per ID, the {@link HashSet} allocates about 50.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class DuplicatesBenchmark {
+
+    @Param({"10000", "1000000", "10000000"})
+    private int size;
+
+    private int[] ints;
+
+    private long[] longs;
+
+    @Setup
+    public void setup() {
+        // distinct random IDs, the worst case as every element is inserted
+        Random random = new Random(42);
+        int[] shuffled = new int[size];
+        for (int i = 0; i < size; i++) {
+            int j = random.nextInt(i + 1);
+            shuffled[i] = shuffled[j];
+            shuffled[j] = i * 7919;
+        }
+        ints = shuffled;
+        longs = new long[size];
+        for (int i = 0; i < size; i++) {
+            longs[i] = ((long) shuffled[i] << 20) ^ 0x5DEECE66DL;
+        }
+    }
+
+    @Benchmark
+    public int[] ensureNoDuplicatesInt() {
+        return Ensure.ensureNoDuplicates(ints);
+    }
+
+    @Benchmark
+    public long[] ensureNoDuplicatesLong() {
+        return Ensure.ensureNoDuplicates(longs);
+    }
+
+    @Benchmark
+    public int[] baselineHashSet() {
+        Set<Integer> seen = new HashSet<>();
+        for (int id : ints) {
+            if (!seen.add(id)) {
+                throw new EnsureFailedException("Duplicate " + id);
+            }
+        }
+        return ints;
+    }
+}
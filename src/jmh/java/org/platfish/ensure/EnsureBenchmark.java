@@ -0,0 +1,324 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the passing path of the {@link Ensure} checks. Every check is compared against
+ * the equivalent hand written {@code if (...) throw} baseline. Run with {@code -prof gc}
+ * (the default of the jmh task) to see allocations per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EnsureBenchmark {
+
+    private Object object;
+    private Object nullObject;
+    private Integer number;
+    private Integer otherNumber;
+    private boolean condition;
+    private String string;
+    private String emptyString;
+    private Collection<String> collection;
+    private List<String> list;
+    private List<String> singletonList;
+    private String[] array;
+    private Map<String, String> map;
+    private Optional<String> optional;
+    private OptionalInt optionalInt;
+    private int primitive;
+    private byte[] bytes;
+    private Path directory;
+    private Path missingPath;
+    private File directoryFile;
+    private File missingFile;
+
+    @Setup
+    public void setup() throws IOException {
+        object = "hello world";
+        number = 4711;
+        otherNumber = 42;
+        condition = true;
+        string = "hello world";
+        emptyString = "";
+        collection = new HashSet<>(Arrays.asList("a", "b"));
+        list = new ArrayList<>(Arrays.asList("a", "b"));
+        singletonList = Collections.singletonList("a");
+        array = new String[]{"a", "b"};
+        map = new HashMap<>();
+        map.put("a", "b");
+        optional = Optional.of("a");
+        optionalInt = OptionalInt.of(4711);
+        primitive = 4711;
+        bytes = new byte[]{1, 2, 3};
+        directory = Files.createTempDirectory("ensure-benchmark");
+        missingPath = directory.resolve("missing");
+        directoryFile = directory.toFile();
+        missingFile = missingPath.toFile();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public Object ensureNotNull() {
+        return Ensure.ensureNotNull(object);
+    }
+
+    @Benchmark
+    public Object ensureNotNullWithMessage() {
+        return Ensure.ensureNotNull(object, "object %s must not be null", number);
+    }
+
+    @Benchmark
+    public Object ensureNotNullWithVarargsMessage() {
+        return Ensure.ensureNotNull(object, "object %s %s %s %s must not be null", number, number, number, number);
+    }
+
+    @Benchmark
+    public Object ensureNotNullWithMessageSupplier() {
+        return Ensure.ensureNotNull(object, n -> "object " + n + " must not be null", number);
+    }
+
+    @Benchmark
+    public Object baselineNotNull() {
+        if (object == null) {
+            throw new EnsureFailedException("object must not be null");
+        }
+        return object;
+    }
+
+    @Benchmark
+    public void ensureNull() {
+        Ensure.ensureNull(nullObject);
+    }
+
+    @Benchmark
+    public Integer ensureEquals() {
+        return Ensure.ensureEquals(number, number);
+    }
+
+    @Benchmark
+    public Integer ensureEqualsWithMessage() {
+        return Ensure.ensureEquals(number, number, "expected %s but found %s", number, number);
+    }
+
+    @Benchmark
+    public Integer baselineEquals() {
+        if (!number.equals(number)) {
+            throw new EnsureFailedException("expected " + number + " but found " + number);
+        }
+        return number;
+    }
+
+    @Benchmark
+    public int ensureEqualsInt() {
+        return Ensure.ensureEqualsInt(4711, primitive);
+    }
+
+    @Benchmark
+    public int baselineEqualsInt() {
+        if (primitive != 4711) {
+            throw new EnsureFailedException("expected 4711 but found " + primitive);
+        }
+        return primitive;
+    }
+
+    @Benchmark
+    public Integer ensureNotEquals() {
+        return Ensure.ensureNotEquals(number, otherNumber);
+    }
+
+    @Benchmark
+    public void ensureTrue() {
+        Ensure.ensureTrue(condition);
+    }
+
+    @Benchmark
+    public void ensureTrueWithIntMessage() {
+        Ensure.ensureTrue(condition, "condition %s must be true", 4711);
+    }
+
+    @Benchmark
+    public void ensureTrueWithVarargsMessage() {
+        Ensure.ensureTrue(condition, "condition %s %s %s %s must be true", 1, 2, 3, 4);
+    }
+
+    @Benchmark
+    public void baselineTrue() {
+        if (!condition) {
+            throw new EnsureFailedException("condition must be true");
+        }
+    }
+
+    @Benchmark
+    public void ensureFalse() {
+        Ensure.ensureFalse(!condition);
+    }
+
+    @Benchmark
+    public String ensureNotEmptyString() {
+        return Ensure.ensureNotEmpty(string);
+    }
+
+    @Benchmark
+    public String baselineNotEmptyString() {
+        if (string == null || string.isEmpty()) {
+            throw new EnsureFailedException("string must not be empty");
+        }
+        return string;
+    }
+
+    @Benchmark
+    public Collection<String> ensureNotEmptyCollection() {
+        return Ensure.ensureNotEmpty(collection);
+    }
+
+    @Benchmark
+    public List<String> ensureNotEmptyList() {
+        return Ensure.ensureNotEmpty(list);
+    }
+
+    @Benchmark
+    public String[] ensureNotEmptyArray() {
+        return Ensure.ensureNotEmpty(array);
+    }
+
+    @Benchmark
+    public byte[] ensureNotEmptyByteArray() {
+        return Ensure.ensureNotEmpty(bytes);
+    }
+
+    @Benchmark
+    public Map<String, String> ensureNotEmptyMap() {
+        return Ensure.ensureNotEmpty(map);
+    }
+
+    @Benchmark
+    public String ensureEmptyString() {
+        return Ensure.ensureEmpty(emptyString);
+    }
+
+    @Benchmark
+    public Collection<String> ensureEmptyCollection() {
+        return Ensure.ensureEmpty(Collections.<String>emptySet());
+    }
+
+    @Benchmark
+    public List<String> ensureEmptyList() {
+        return Ensure.ensureEmpty(Collections.<String>emptyList());
+    }
+
+    @Benchmark
+    public String[] ensureEmptyArray() {
+        return Ensure.ensureEmpty(new String[0]);
+    }
+
+    @Benchmark
+    public Map<String, String> ensureEmptyMap() {
+        return Ensure.ensureEmpty(Collections.<String, String>emptyMap());
+    }
+
+    @Benchmark
+    public String ensureInstanceOf() {
+        return Ensure.ensureInstanceOf(String.class, object);
+    }
+
+    @Benchmark
+    public String baselineInstanceOf() {
+        if (!(object instanceof String)) {
+            throw new EnsureFailedException("object must be a String");
+        }
+        return (String) object;
+    }
+
+    @Benchmark
+    public Path ensureExistsPath() {
+        return Ensure.ensureExists(directory);
+    }
+
+    @Benchmark
+    public Path ensureNotExistsPath() {
+        return Ensure.ensureNotExists(missingPath);
+    }
+
+    @Benchmark
+    public Path ensureDirectoryPath() {
+        return Ensure.ensureDirectory(directory);
+    }
+
+    @Benchmark
+    public Path sampledEnsureDirectoryPath() {
+        return Ensure.sampled(1024).ensureDirectory(directory);
+    }
+
+    @Benchmark
+    public Path baselineDirectoryPath() {
+        if (!Files.isDirectory(directory)) {
+            throw new EnsureFailedException("path must be a directory");
+        }
+        return directory;
+    }
+
+    @Benchmark
+    public File ensureExistsFile() {
+        return Ensure.ensureExists(directoryFile);
+    }
+
+    @Benchmark
+    public File ensureNotExistsFile() {
+        return Ensure.ensureNotExists(missingFile);
+    }
+
+    @Benchmark
+    public File ensureDirectoryFile() {
+        return Ensure.ensureDirectory(directoryFile);
+    }
+
+    @Benchmark
+    public String ensureOptional() {
+        return Ensure.ensureOptional(optional);
+    }
+
+    @Benchmark
+    public int ensureOptionalInt() {
+        return Ensure.ensureOptional(optionalInt);
+    }
+
+    @Benchmark
+    public String ensureOne() {
+        return Ensure.ensureOne(singletonList);
+    }
+
+    @Benchmark
+    public String baselineOne() {
+        if (singletonList.size() != 1) {
+            throw new EnsureFailedException("list must contain exactly one element");
+        }
+        return singletonList.get(0);
+    }
+}
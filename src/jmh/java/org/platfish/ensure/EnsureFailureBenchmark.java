@@ -0,0 +1,396 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the failing path of the {@link Ensure} checks, i.e. creating the message and
+ * the {@link EnsureFailedException}. The hand written baselines throw the same exception
+ * with a concatenated message.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EnsureFailureBenchmark {
+
+    private Object object;
+    private Object nullObject;
+    private Integer number;
+    private Integer otherNumber;
+    private boolean condition;
+    private String string;
+    private List<String> list;
+    private String[] array;
+    private Map<String, String> map;
+    private Optional<String> optional;
+    private Path directory;
+    private Path missingPath;
+    private File directoryFile;
+    private File missingFile;
+
+    @Setup
+    public void setup() throws IOException {
+        object = "hello world";
+        number = 4711;
+        otherNumber = 42;
+        condition = true;
+        string = "hello world";
+        list = new ArrayList<>(Arrays.asList("a", "b"));
+        array = new String[]{"a", "b"};
+        map = new HashMap<>();
+        map.put("a", "b");
+        optional = Optional.empty();
+        directory = Files.createTempDirectory("ensure-benchmark");
+        missingPath = directory.resolve("missing");
+        directoryFile = directory.toFile();
+        missingFile = missingPath.toFile();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public Object ensureNotNull() {
+        try {
+            return Ensure.ensureNotNull(nullObject);
+        } catch (EnsureFailedException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object ensureNotNullWithMessage() {
+        try {
+            return Ensure.ensureNotNull(nullObject, "object %s must not be null", number);
+        } catch (EnsureFailedException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object baselineNotNull() {
+        try {
+            if (nullObject == null) {
+                throw new EnsureFailedException("object " + number + " must not be null");
+            }
+            return nullObject;
+        } catch (EnsureFailedException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object ensureNull() {
+        try {
+            Ensure.ensureNull(object);
+            return null;
+        } catch (EnsureFailedException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object ensureEquals() {
+        try {
+            return Ensure.ensureEquals(number, otherNumber);
+        } catch (EnsureFailedException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object ensureEqualsWithMessage() {
+        try {
+            return Ensure.ensureEquals(number, otherNumber, "expected %s but found %s", number, otherNumber);
+        } catch (EnsureFailedException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object baselineEquals() {
+        try {
+            if (!number.equals(otherNumber)) {
+                throw new EnsureFailedException("expected " + number + " but found " + otherNumber);
+            }
+            return otherNumber;
+        } catch (EnsureFailedException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object ensureNotEquals() {
+        try {
+            return Ensure.ensureNotEquals(number, number);
+        } catch (EnsureFailedException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object ensureTrue() {
+        try {
+            Ensure.ensureTrue(!condition);
+            return null;
+        } catch (EnsureFailedException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object ensureTrueWithoutStackTrace() {
+        try {
+            Ensure.ensureTrue(!condition, StackTraceMode.NONE, "Given condition must be true");
+            return null;
+        } catch (EnsureFailedException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object ensureTrueWithCallerFrame() {
+        try {
+            Ensure.ensureTrue(!condition, StackTraceMode.CALLER, "Given condition must be true");
+            return null;
+        } catch (EnsureFailedException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object baselineTrue() {
+        try {
+            if (condition) {
+                throw new EnsureFailedException("Given condition must be true");
+            }
+            return null;
+        } catch (EnsureFailedException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object ensureFalse() {
+        try {
+            Ensure.ensureFalse(condition);
+            return null;
+        } catch (EnsureFailedException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object ensureNotEmptyString() {
+        try {
+            return Ensure.ensureNotEmpty("");
+        } catch (EnsureFailedException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object ensureNotEmptyCollection() {
+        try {
+            return Ensure.ensureNotEmpty((Collection<String>) Collections.<String>emptySet());
+        } catch (EnsureFailedException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object ensureNotEmptyList() {
+        try {
+            return Ensure.ensureNotEmpty(Collections.<String>emptyList());
+        } catch (EnsureFailedException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object ensureNotEmptyArray() {
+        try {
+            return Ensure.ensureNotEmpty(new String[0]);
+        } catch (EnsureFailedException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object ensureNotEmptyMap() {
+        try {
+            return Ensure.ensureNotEmpty(Collections.<String, String>emptyMap());
+        } catch (EnsureFailedException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object ensureEmptyString() {
+        try {
+            return Ensure.ensureEmpty(string);
+        } catch (EnsureFailedException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object ensureEmptyCollection() {
+        try {
+            return Ensure.ensureEmpty((Collection<String>) list);
+        } catch (EnsureFailedException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object ensureEmptyList() {
+        try {
+            return Ensure.ensureEmpty(list);
+        } catch (EnsureFailedException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object ensureEmptyArray() {
+        try {
+            return Ensure.ensureEmpty(array);
+        } catch (EnsureFailedException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object ensureEmptyMap() {
+        try {
+            return Ensure.ensureEmpty(map);
+        } catch (EnsureFailedException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object ensureInstanceOf() {
+        try {
+            return Ensure.ensureInstanceOf(Integer.class, object);
+        } catch (EnsureFailedException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object ensureExistsPath() {
+        try {
+            return Ensure.ensureExists(missingPath);
+        } catch (EnsureFailedException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object ensureNotExistsPath() {
+        try {
+            return Ensure.ensureNotExists(directory);
+        } catch (EnsureFailedException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object ensureDirectoryPath() {
+        try {
+            return Ensure.ensureDirectory(missingPath);
+        } catch (EnsureFailedException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object ensureExistsFile() {
+        try {
+            return Ensure.ensureExists(missingFile);
+        } catch (EnsureFailedException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object ensureNotExistsFile() {
+        try {
+            return Ensure.ensureNotExists(directoryFile);
+        } catch (EnsureFailedException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object ensureDirectoryFile() {
+        try {
+            return Ensure.ensureDirectory(missingFile);
+        } catch (EnsureFailedException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object ensureOptional() {
+        try {
+            return Ensure.ensureOptional(optional);
+        } catch (EnsureFailedException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object ensureOne() {
+        try {
+            return Ensure.ensureOne(list);
+        } catch (EnsureFailedException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public String formatMessage() {
+        return MessageTemplate.format("expected %s but found %d in %s", number, otherNumber, string);
+    }
+
+    @Benchmark
+    public String baselineFormatMessage() {
+        return String.format("expected %s but found %d in %s", number, otherNumber, string);
+    }
+
+    @Benchmark
+    public Object fail() {
+        try {
+            Ensure.fail("failed %s", number);
+            return null;
+        } catch (EnsureFailedException e) {
+            return e;
+        }
+    }
+}
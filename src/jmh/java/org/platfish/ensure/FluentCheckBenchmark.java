@@ -0,0 +1,84 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the fluent checks of {@link Ensure#that(java.util.Collection)} with the equivalent static checks. Run with the
+ * gc profiler (enabled by default in the build) to show that both report 0 B/op, i.e. the chain is scalar
+ * replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FluentCheckBenchmark {
+
+    private List<Integer> list;
+    private String name;
+    private int count;
+
+    @Setup
+    public void setup() {
+        list = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        name = "hello";
+        count = 42;
+    }
+
+    @Benchmark
+    public List<Integer> fluentCollection() {
+        return Ensure.that(list).notNull().notEmpty().sizeAtMost(100).get();
+    }
+
+    @Benchmark
+    public List<Integer> staticCollection() {
+        Ensure.ensureNotNull(list);
+        Ensure.ensureNotEmpty(list);
+        Ensure.ensureTrue(list.size() <= 100, "Given collection must have at most %s elements but has %s", 100, list.size());
+        return list;
+    }
+
+    @Benchmark
+    public String fluentString() {
+        return Ensure.that(name).notEmpty().lengthAtMost(64).get();
+    }
+
+    @Benchmark
+    public String staticString() {
+        Ensure.ensureNotEmpty(name);
+        Ensure.ensureTrue(name.length() <= 64, "Given string must have at most %s characters but has %s", 64, name.length());
+        return name;
+    }
+
+    @Benchmark
+    public int fluentInt() {
+        return Ensure.that(count).notNegative().between(0, 100).get();
+    }
+
+    @Benchmark
+    public int staticInt() {
+        Ensure.ensureTrue(count >= 0, "Given value must not be negative but was %s", count);
+        Ensure.ensureTrue(count >= 0 && count <= 100, "Given value must be between %s and %s but was %s", 0, 100, count);
+        return count;
+    }
+}
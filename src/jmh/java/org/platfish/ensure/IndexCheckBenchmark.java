@@ -0,0 +1,115 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the index checks against hand written checks in a loop accessing an array. On Java 9 and later the
+ * ensure checks are intrinsic range checks, which the JIT merges with the range checks of the array accesses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IndexCheckBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private int[] values;
+    private int[] indexes;
+
+    @Setup
+    public void setup() {
+        values = new int[size];
+        indexes = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i;
+            indexes[i] = (int) ((i * 2654435761L) % size);
+        }
+    }
+
+    @Benchmark
+    public long ensureIndexSequential() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += values[Ensure.ensureIndex(i, values.length)];
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long baselineIndexSequential() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            if (i < 0 || i >= values.length) {
+                throw new EnsureFailedException("Index " + i + " out of bounds for length " + values.length);
+            }
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long ensureIndexRandom() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += values[Ensure.ensureIndex(indexes[i], values.length)];
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long baselineIndexRandom() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            int index = indexes[i];
+            if (index < 0 || index >= values.length) {
+                throw new EnsureFailedException("Index " + index + " out of bounds for length " + values.length);
+            }
+            sum += values[index];
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long ensureFromIndexSize() {
+        long sum = 0;
+        for (int i = 0; i + 16 <= size; i += 16) {
+            Ensure.ensureFromIndexSize(i, 16, values.length);
+            for (int j = i; j < i + 16; j++) {
+                sum += values[j];
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long baselineFromIndexSize() {
+        long sum = 0;
+        for (int i = 0; i + 16 <= size; i += 16) {
+            if (i < 0 || i + 16 > values.length) {
+                throw new EnsureFailedException("Range [" + i + ", " + i + " + 16) out of bounds for length " + values.length);
+            }
+            for (int j = i; j < i + 16; j++) {
+                sum += values[j];
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the type checks on mono-, bi- and megamorphic call sites, i.e. with values of one, two or eight
+ * classes. The checked types are interfaces, which the JIT can't check by the class hierarchy alone.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(InstanceOfBenchmark.VALUES)
+public class InstanceOfBenchmark {
+
+    static final int VALUES = 1024;
+
+    private static final TypeSet MESSAGES = Ensure.typeSet(Command.class, Event.class);
+
+    interface Message {
+    }
+
+    interface Command extends Message {
+    }
+
+    interface Event extends Message {
+    }
+
+    static final class Create implements Command {
+    }
+
+    static final class Update implements Command {
+    }
+
+    static final class Delete implements Command {
+    }
+
+    static final class Query implements Command {
+    }
+
+    static final class Created implements Event {
+    }
+
+    static final class Updated implements Event {
+    }
+
+    static final class Deleted implements Event {
+    }
+
+    static final class Queried implements Event {
+    }
+
+    @Param({"1", "2", "8"})
+    private int classes;
+
+    private Object[] values;
+
+    @Setup
+    public void setup() {
+        Object[] prototypes = {new Create(), new Created(), new Update(), new Updated(), new Delete(), new Deleted(),
+                new Query(), new Queried()};
+        values = new Object[VALUES];
+        for (int i = 0; i < VALUES; i++) {
+            values[i] = prototypes[i % classes];
+        }
+    }
+
+    @Benchmark
+    public int ensureInstanceOf() {
+        int count = 0;
+        for (Object value : values) {
+            count += Ensure.ensureInstanceOf(Message.class, value) != null ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * The former implementation, which builds the message arguments eagerly and checks reflectively.
+     */
+    @Benchmark
+    public int baselineAssignableFrom() {
+        int count = 0;
+        for (Object value : values) {
+            count += assignableFrom(Message.class, value, Messages.INSTANCE_OF, Message.class,
+                    value == null ? null : value.getClass()) != null ? 1 : 0;
+        }
+        return count;
+    }
+
+    private static <V> V assignableFrom(Class<V> clazz, Object value, String messageFormat, Object... messageArgs) {
+        Ensure.ensureNotNull(clazz, "clazz must not be null");
+        Ensure.ensureTrue(value != null && clazz.isAssignableFrom(value.getClass()), messageFormat, messageArgs);
+        return clazz.cast(value);
+    }
+
+    @Benchmark
+    public int ensureInstanceOfAnyTypeSet() {
+        int count = 0;
+        for (Object value : values) {
+            count += Ensure.ensureInstanceOfAny(MESSAGES, value) != null ? 1 : 0;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int ensureInstanceOfAnyClasses() {
+        int count = 0;
+        for (Object value : values) {
+            count += Ensure.ensureInstanceOfAny(value, Command.class, Event.class) != null ? 1 : 0;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int baselineInstanceOfAny() {
+        int count = 0;
+        for (Object value : values) {
+            if (!(value instanceof Command || value instanceof Event)) {
+                throw new EnsureFailedException("Unexpected type " + value.getClass());
+            }
+            count++;
+        }
+        return count;
+    }
+}
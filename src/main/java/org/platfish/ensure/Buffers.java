@@ -0,0 +1,89 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+
+/**
+ * <p>Determines the memory alignment of direct buffers, without touching or duplicating the buffer.</p>
+ * <p>This implementation is used if the multi-release classes aren't, e.g. on the plain class path or in shaded
+ * jars. It calls {@code ByteBuffer.alignmentOffset} if the VM provides it and only reads the address of the
+ * buffer reflectively on Java 8. On Java 9 and later it is replaced by a version calling
+ * {@code ByteBuffer.alignmentOffset} directly.</p>
+ */
+final class Buffers {
+
+    private static final MethodHandle ALIGNMENT_OFFSET = alignmentOffset();
+
+    private static final Field ADDRESS = ALIGNMENT_OFFSET == null ? addressField() : null;
+
+    private Buffers() {
+    }
+
+    private static MethodHandle alignmentOffset() {
+        try {
+            return MethodHandles.publicLookup().findVirtual(ByteBuffer.class, "alignmentOffset",
+                    MethodType.methodType(int.class, int.class, int.class));
+        } catch (ReflectiveOperationException e) {
+            // Java 8
+            return null;
+        }
+    }
+
+    private static Field addressField() {
+        try {
+            Field field = Buffer.class.getDeclaredField("address");
+            field.setAccessible(true);
+            return field;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns true if the memory address at the position of the given direct buffer is a multiple of the
+     * alignment, which has to be a power of two.
+     *
+     * @throws UnsupportedOperationException If the VM neither provides {@code ByteBuffer.alignmentOffset} nor
+     *                                       access to the address of direct buffers, which no known Java 8 VM
+     *                                       does.
+     */
+    static boolean isAligned(ByteBuffer buffer, int alignment) {
+        if (ALIGNMENT_OFFSET != null) {
+            try {
+                return (int) ALIGNMENT_OFFSET.invokeExact(buffer, buffer.position(), alignment) == 0;
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        if (ADDRESS == null) {
+            throw new UnsupportedOperationException("Address of direct buffers isn't accessible");
+        }
+        try {
+            long address = ADDRESS.getLong(buffer) + buffer.position();
+            return (address & (alignment - 1)) == 0;
+        } catch (IllegalAccessException e) {
+            throw new UnsupportedOperationException("Address of direct buffers isn't accessible", e);
+        }
+    }
+}
@@ -0,0 +1,355 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * <p>Scans arrays and collections for the first element violating a condition.</p>
+ * <p>Arrays and {@link RandomAccess} lists with at least {@link #PARALLEL_THRESHOLD} elements are
+ * split into chunks which are scanned in the common {@link ForkJoinPool}. The threshold can be
+ * configured by the system property {@value #PARALLEL_THRESHOLD_PROPERTY}. All methods return the
+ * index of the first violating element, or -1 if there is none.</p>
+ */
+final class BulkChecks {
+
+    static final String PARALLEL_THRESHOLD_PROPERTY = Settings.PREFIX + "parallelThreshold";
+
+    /**
+     * Minimum number of elements which are scanned in parallel.
+     */
+    static final int PARALLEL_THRESHOLD = Math.max(2, Settings.intProperty(PARALLEL_THRESHOLD_PROPERTY, 1 << 16));
+
+    private BulkChecks() {
+    }
+
+    /**
+     * Scans the elements {@code from} (inclusive) to {@code to} (exclusive) of a sequence.
+     */
+    @FunctionalInterface
+    interface RangeScanner {
+
+        /**
+         * Returns the index of the first violating element in the range, or -1 if there is none.
+         */
+        int scan(int from, int to);
+    }
+
+    static int firstNull(Object[] values) {
+        if (values.length < PARALLEL_THRESHOLD) {
+            return firstNull(values, 0, values.length);
+        }
+        return parallel(values.length, (from, to) -> firstNull(values, from, to));
+    }
+
+    private static int firstNull(Object[] values, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (values[i] == null) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int firstNull(Collection<?> values) {
+        if (values instanceof List && values instanceof RandomAccess) {
+            List<?> list = (List<?>) values;
+            if (list.size() < PARALLEL_THRESHOLD) {
+                return firstNull(list, 0, list.size());
+            }
+            return parallel(list.size(), (from, to) -> firstNull(list, from, to));
+        }
+        int index = 0;
+        for (Object value : values) {
+            if (value == null) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    private static int firstNull(List<?> values, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (values.get(i) == null) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static <T> int firstNonMatching(T[] values, Predicate<? super T> condition) {
+        if (values.length < PARALLEL_THRESHOLD) {
+            return firstNonMatching(values, condition, 0, values.length);
+        }
+        return parallel(values.length, (from, to) -> firstNonMatching(values, condition, from, to));
+    }
+
+    private static <T> int firstNonMatching(T[] values, Predicate<? super T> condition, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!condition.test(values[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static <T> int firstNonMatching(Collection<T> values, Predicate<? super T> condition) {
+        if (values instanceof List && values instanceof RandomAccess) {
+            List<T> list = (List<T>) values;
+            if (list.size() < PARALLEL_THRESHOLD) {
+                return firstNonMatching(list, condition, 0, list.size());
+            }
+            return parallel(list.size(), (from, to) -> firstNonMatching(list, condition, from, to));
+        }
+        Iterator<T> iterator = values.iterator();
+        for (int i = 0; iterator.hasNext(); i++) {
+            if (!condition.test(iterator.next())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static <T> int firstNonMatching(List<T> values, Predicate<? super T> condition, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!condition.test(values.get(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int firstOutOfRange(int[] values, int min, int max) {
+        if (values.length < PARALLEL_THRESHOLD) {
+            return firstOutOfRange(values, min, max, 0, values.length);
+        }
+        return parallel(values.length, (from, to) -> firstOutOfRange(values, min, max, from, to));
+    }
+
+    private static int firstOutOfRange(int[] values, int min, int max, int from, int to) {
+        for (int i = from; i < to; i++) {
+            int value = values[i];
+            if (value < min | value > max) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int firstOutOfRange(long[] values, long min, long max) {
+        if (values.length < PARALLEL_THRESHOLD) {
+            return firstOutOfRange(values, min, max, 0, values.length);
+        }
+        return parallel(values.length, (from, to) -> firstOutOfRange(values, min, max, from, to));
+    }
+
+    private static int firstOutOfRange(long[] values, long min, long max, int from, int to) {
+        for (int i = from; i < to; i++) {
+            long value = values[i];
+            if (value < min | value > max) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int firstOutOfRange(double[] values, double min, double max) {
+        if (values.length < PARALLEL_THRESHOLD) {
+            return firstOutOfRange(values, min, max, 0, values.length);
+        }
+        return parallel(values.length, (from, to) -> firstOutOfRange(values, min, max, from, to));
+    }
+
+    private static int firstOutOfRange(double[] values, double min, double max, int from, int to) {
+        for (int i = from; i < to; i++) {
+            double value = values[i];
+            // NaN is never in range
+            if (!(value >= min & value <= max)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /*
+     * The order scans compare each element with its predecessor, so neighbouring chunks of a parallel scan
+     * overlap by one element and the chunk boundaries need no special handling. The strict flag is loop
+     * invariant, C2 unswitches the loop and unrolls a single comparison per element.
+     */
+
+    static int firstUnsorted(int[] values, boolean strict) {
+        if (values.length < PARALLEL_THRESHOLD) {
+            return firstUnsorted(values, strict, 0, values.length);
+        }
+        return parallel(values.length, (from, to) -> firstUnsorted(values, strict, from, to));
+    }
+
+    private static int firstUnsorted(int[] values, boolean strict, int from, int to) {
+        for (int i = Math.max(from, 1); i < to; i++) {
+            if (strict ? values[i - 1] >= values[i] : values[i - 1] > values[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int firstUnsorted(long[] values, boolean strict) {
+        if (values.length < PARALLEL_THRESHOLD) {
+            return firstUnsorted(values, strict, 0, values.length);
+        }
+        return parallel(values.length, (from, to) -> firstUnsorted(values, strict, from, to));
+    }
+
+    private static int firstUnsorted(long[] values, boolean strict, int from, int to) {
+        for (int i = Math.max(from, 1); i < to; i++) {
+            if (strict ? values[i - 1] >= values[i] : values[i - 1] > values[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int firstUnsorted(double[] values, boolean strict) {
+        if (values.length < PARALLEL_THRESHOLD) {
+            return firstUnsorted(values, strict, 0, values.length);
+        }
+        return parallel(values.length, (from, to) -> firstUnsorted(values, strict, from, to));
+    }
+
+    private static int firstUnsorted(double[] values, boolean strict, int from, int to) {
+        for (int i = Math.max(from, 1); i < to; i++) {
+            // NaN is never in order
+            if (strict ? !(values[i - 1] < values[i]) : !(values[i - 1] <= values[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static <T> int firstUnsorted(T[] values, Comparator<? super T> comparator, boolean strict) {
+        if (values.length < PARALLEL_THRESHOLD) {
+            return firstUnsorted(values, comparator, strict, 0, values.length);
+        }
+        return parallel(values.length, (from, to) -> firstUnsorted(values, comparator, strict, from, to));
+    }
+
+    private static <T> int firstUnsorted(T[] values, Comparator<? super T> comparator, boolean strict, int from, int to) {
+        // a comparison result of at least the limit is a violation
+        int limit = strict ? 0 : 1;
+        for (int i = Math.max(from, 1); i < to; i++) {
+            if (comparator.compare(values[i - 1], values[i]) >= limit) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static <T> int firstUnsorted(List<T> values, Comparator<? super T> comparator, boolean strict) {
+        if (values instanceof RandomAccess) {
+            if (values.size() < PARALLEL_THRESHOLD) {
+                return firstUnsorted(values, comparator, strict, 0, values.size());
+            }
+            return parallel(values.size(), (from, to) -> firstUnsorted(values, comparator, strict, from, to));
+        }
+        int limit = strict ? 0 : 1;
+        Iterator<T> iterator = values.iterator();
+        if (!iterator.hasNext()) {
+            return -1;
+        }
+        T previous = iterator.next();
+        for (int i = 1; iterator.hasNext(); i++) {
+            T value = iterator.next();
+            if (comparator.compare(previous, value) >= limit) {
+                return i;
+            }
+            previous = value;
+        }
+        return -1;
+    }
+
+    private static <T> int firstUnsorted(List<T> values, Comparator<? super T> comparator, boolean strict, int from, int to) {
+        int limit = strict ? 0 : 1;
+        for (int i = Math.max(from, 1); i < to; i++) {
+            if (comparator.compare(values.get(i - 1), values.get(i)) >= limit) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Scans the given number of elements in the common {@link ForkJoinPool}.
+     */
+    static int parallel(int length, RangeScanner scanner) {
+        int chunkSize = Math.max(PARALLEL_THRESHOLD / 2, length / (ForkJoinPool.getCommonPoolParallelism() * 4));
+        return ForkJoinPool.commonPool().invoke(new FirstIndexTask(scanner, 0, length, chunkSize, new AtomicInteger(Integer.MAX_VALUE)));
+    }
+
+    /**
+     * Finds the first violating index of a range. Chunks behind an already found violation are skipped.
+     */
+    private static final class FirstIndexTask extends RecursiveTask<Integer> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final RangeScanner scanner;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+        private final AtomicInteger firstFound;
+
+        FirstIndexTask(RangeScanner scanner, int from, int to, int chunkSize, AtomicInteger firstFound) {
+            this.scanner = scanner;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.firstFound = firstFound;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (from > firstFound.get()) {
+                return -1;
+            }
+            if (to - from <= chunkSize) {
+                int index = scanner.scan(from, to);
+                if (index >= 0) {
+                    firstFound.accumulateAndGet(index, Math::min);
+                }
+                return index;
+            }
+            int middle = (from + to) >>> 1;
+            FirstIndexTask right = new FirstIndexTask(scanner, middle, to, chunkSize, firstFound);
+            right.fork();
+            int index = new FirstIndexTask(scanner, from, middle, chunkSize, firstFound).compute();
+            if (index >= 0) {
+                // the right half can't contain an earlier violation
+                right.tryUnfork();
+                return index;
+            }
+            return right.join();
+        }
+    }
+}
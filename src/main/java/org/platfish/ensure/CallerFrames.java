@@ -0,0 +1,46 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+/**
+ * <p>Determines the stack frame of the code calling into the ensure library.</p>
+ * <p>This implementation has to capture the whole stack trace, on Java 9 and later it is
+ * replaced by a version based on {@code StackWalker}.</p>
+ */
+final class CallerFrames {
+
+    private CallerFrames() {
+    }
+
+    /**
+     * Returns the first frame outside of the ensure library, or an empty array if there is none.
+     */
+    static StackTraceElement[] caller() {
+        for (StackTraceElement element : new Throwable().getStackTrace()) {
+            if (!isInternal(element.getClassName())) {
+                return new StackTraceElement[]{element};
+            }
+        }
+        return new StackTraceElement[0];
+    }
+
+    /**
+     * Returns whether the class belongs to the ensure library, see {@link LibraryClasses}.
+     */
+    static boolean isInternal(String className) {
+        return LibraryClasses.contains(className);
+    }
+}
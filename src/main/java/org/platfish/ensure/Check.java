@@ -0,0 +1,215 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * <p>Non-throwing variants of the {@link Ensure} checks, for code which expects violations, e.g. validating
+ * millions of records where invalid ones are only rejected.</p>
+ * <p>Each method returns {@link Violation#NONE} if the check succeeds and otherwise a preallocated
+ * {@link Violation} constant. Neither path allocates, creates an exception or formats a message.</p>
+ */
+public final class Check {
+
+    private Check() {
+    }
+
+    /**
+     * Returns {@link Violation#NOT_TRUE} if the given condition isn't true.
+     */
+    public static Violation isTrue(boolean condition) {
+        EnsureStats.recordCheck();
+        return condition ? Violation.NONE : Violation.NOT_TRUE;
+    }
+
+    /**
+     * Returns {@link Violation#NOT_FALSE} if the given condition isn't false.
+     */
+    public static Violation isFalse(boolean condition) {
+        EnsureStats.recordCheck();
+        return condition ? Violation.NOT_FALSE : Violation.NONE;
+    }
+
+    /**
+     * Returns {@link Violation#NULL_VALUE} if the given value is null.
+     */
+    public static Violation notNull(Object value) {
+        EnsureStats.recordCheck();
+        return value != null ? Violation.NONE : Violation.NULL_VALUE;
+    }
+
+    /**
+     * Returns {@link Violation#NON_NULL_VALUE} if the given value isn't null.
+     */
+    public static Violation isNull(Object value) {
+        EnsureStats.recordCheck();
+        return value == null ? Violation.NONE : Violation.NON_NULL_VALUE;
+    }
+
+    /**
+     * Returns {@link Violation#NOT_EQUAL} if the given value doesn't equal the expected value.
+     */
+    public static Violation equal(Object expected, Object value) {
+        EnsureStats.recordCheck();
+        return Objects.equals(expected, value) ? Violation.NONE : Violation.NOT_EQUAL;
+    }
+
+    /**
+     * Returns {@link Violation#NOT_EQUAL} if the given value doesn't equal the expected value.
+     */
+    public static Violation equal(int expected, int value) {
+        EnsureStats.recordCheck();
+        return expected == value ? Violation.NONE : Violation.NOT_EQUAL;
+    }
+
+    /**
+     * Returns {@link Violation#NOT_EQUAL} if the given value doesn't equal the expected value.
+     */
+    public static Violation equal(long expected, long value) {
+        EnsureStats.recordCheck();
+        return expected == value ? Violation.NONE : Violation.NOT_EQUAL;
+    }
+
+    /**
+     * Returns {@link Violation#EQUAL} if the given value equals the expected value.
+     */
+    public static Violation notEqual(Object expected, Object value) {
+        EnsureStats.recordCheck();
+        return Objects.equals(expected, value) ? Violation.EQUAL : Violation.NONE;
+    }
+
+    /**
+     * Returns {@link Violation#EQUAL} if the given value equals the expected value.
+     */
+    public static Violation notEqual(int expected, int value) {
+        EnsureStats.recordCheck();
+        return expected == value ? Violation.EQUAL : Violation.NONE;
+    }
+
+    /**
+     * Returns {@link Violation#EQUAL} if the given value equals the expected value.
+     */
+    public static Violation notEqual(long expected, long value) {
+        EnsureStats.recordCheck();
+        return expected == value ? Violation.EQUAL : Violation.NONE;
+    }
+
+    /**
+     * Returns {@link Violation#EMPTY_STRING} if the given value is null or empty.
+     */
+    public static Violation notEmpty(String value) {
+        EnsureStats.recordCheck();
+        return value != null && !value.isEmpty() ? Violation.NONE : Violation.EMPTY_STRING;
+    }
+
+    /**
+     * Returns {@link Violation#EMPTY_COLLECTION} if the given value is null or empty.
+     */
+    public static Violation notEmpty(Collection<?> value) {
+        EnsureStats.recordCheck();
+        return value != null && !value.isEmpty() ? Violation.NONE : Violation.EMPTY_COLLECTION;
+    }
+
+    /**
+     * Returns {@link Violation#EMPTY_MAP} if the given value is null or empty.
+     */
+    public static Violation notEmpty(Map<?, ?> value) {
+        EnsureStats.recordCheck();
+        return value != null && !value.isEmpty() ? Violation.NONE : Violation.EMPTY_MAP;
+    }
+
+    /**
+     * Returns {@link Violation#EMPTY_ARRAY} if the given value is null or empty.
+     */
+    public static Violation notEmpty(Object[] value) {
+        EnsureStats.recordCheck();
+        return value != null && value.length > 0 ? Violation.NONE : Violation.EMPTY_ARRAY;
+    }
+
+    /**
+     * Returns {@link Violation#NON_EMPTY_STRING} if the given value isn't empty. The null value is considered
+     * to be empty.
+     */
+    public static Violation empty(String value) {
+        EnsureStats.recordCheck();
+        return value == null || value.isEmpty() ? Violation.NONE : Violation.NON_EMPTY_STRING;
+    }
+
+    /**
+     * Returns {@link Violation#NON_EMPTY_COLLECTION} if the given value isn't empty. The null value is
+     * considered to be empty.
+     */
+    public static Violation empty(Collection<?> value) {
+        EnsureStats.recordCheck();
+        return value == null || value.isEmpty() ? Violation.NONE : Violation.NON_EMPTY_COLLECTION;
+    }
+
+    /**
+     * Returns {@link Violation#NON_EMPTY_MAP} if the given value isn't empty. The null value is considered
+     * to be empty.
+     */
+    public static Violation empty(Map<?, ?> value) {
+        EnsureStats.recordCheck();
+        return value == null || value.isEmpty() ? Violation.NONE : Violation.NON_EMPTY_MAP;
+    }
+
+    /**
+     * Returns {@link Violation#NON_EMPTY_ARRAY} if the given value isn't empty. The null value is considered
+     * to be empty.
+     */
+    public static Violation empty(Object[] value) {
+        EnsureStats.recordCheck();
+        return value == null || value.length == 0 ? Violation.NONE : Violation.NON_EMPTY_ARRAY;
+    }
+
+    /**
+     * Returns {@link Violation#WRONG_TYPE} if the given value is null or not an instance of the given class.
+     */
+    public static Violation instanceOf(Class<?> clazz, Object value) {
+        EnsureStats.recordCheck();
+        return clazz.isInstance(value) ? Violation.NONE : Violation.WRONG_TYPE;
+    }
+
+    /**
+     * Returns {@link Violation#ABSENT} if the given optional is null or has no value.
+     */
+    public static Violation present(Optional<?> value) {
+        EnsureStats.recordCheck();
+        return value != null && value.isPresent() ? Violation.NONE : Violation.ABSENT;
+    }
+
+    /**
+     * Returns {@link Violation#INDEX_OUT_OF_BOUNDS} if the given index is not within the bounds of the range from
+     * 0 (inclusive) to length (exclusive), see {@link Ensure#ensureIndex(int, int)}.
+     */
+    public static Violation index(int index, int length) {
+        EnsureStats.recordCheck();
+        return Indexes.isIndex(index, length) ? Violation.NONE : Violation.INDEX_OUT_OF_BOUNDS;
+    }
+
+    /**
+     * Returns {@link Violation#INDEX_OUT_OF_BOUNDS} if the given index is not within the bounds of the range from
+     * 0 (inclusive) to length (exclusive), see {@link Ensure#ensureIndex(long, long)}.
+     */
+    public static Violation index(long index, long length) {
+        EnsureStats.recordCheck();
+        return Indexes.isIndex(index, length) ? Violation.NONE : Violation.INDEX_OUT_OF_BOUNDS;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+/**
+ * <p>Levels for checks which are too expensive to run everywhere, like scans over whole
+ * collections or file system checks. A check of a given level runs if the configured level
+ * is the same or higher, {@link #ALWAYS} checks always run.</p>
+ * <p>The level is configured with the system property {@value #SYSTEM_PROPERTY} and defaults
+ * to {@link #STANDARD}. It can be overridden per package by appending the package name, e.g.
+ * {@code -Dorg.platfish.ensure.level.com.example.codec=PARANOID}; the most specific package
+ * wins. The global level is read once into the constants {@link Ensure#STANDARD_CHECKS} and
+ * {@link Ensure#PARANOID_CHECKS}. Since they are {@code static final}, the JIT compiler removes
+ * disabled checks completely:</p>
+ * <pre>
+ * if (Ensure.PARANOID_CHECKS) {
+ *     ensureTrue(isSorted(values), "values must be sorted");
+ * }
+ * </pre>
+ * <p>The per package level is resolved by {@link Ensure#isEnabled(CheckLevel, Class)}, which
+ * should be stored in a {@code static final} field of the checking class for the same effect:</p>
+ * <pre>
+ * private static final boolean PARANOID = Ensure.isEnabled(CheckLevel.PARANOID, Codec.class);
+ * </pre>
+ */
+public enum CheckLevel {
+
+    /**
+     * Checks which always run, regardless of the configuration.
+     */
+    ALWAYS,
+
+    /**
+     * Checks which run unless the level is lowered to {@link #ALWAYS}. This is the default level.
+     */
+    STANDARD,
+
+    /**
+     * Expensive checks which only run if the level is raised to {@code PARANOID}.
+     */
+    PARANOID;
+
+    /**
+     * Name of the system property defining the level. Appending a package name defines the level for that package.
+     */
+    public static final String SYSTEM_PROPERTY = Settings.PREFIX + "level";
+
+    static final CheckLevel CONFIGURED = Settings.enumProperty(SYSTEM_PROPERTY, CheckLevel.class, STANDARD);
+
+    /**
+     * Returns the level configured for the given package or, if there is none, its closest parent package.
+     */
+    static CheckLevel configuredFor(String packageName) {
+        String name = packageName;
+        while (!name.isEmpty()) {
+            CheckLevel level = Settings.enumProperty(SYSTEM_PROPERTY + "." + name, CheckLevel.class, null);
+            if (level != null) {
+                return level;
+            }
+            int index = name.lastIndexOf('.');
+            name = index < 0 ? "" : name.substring(0, index);
+        }
+        return CONFIGURED;
+    }
+
+    /**
+     * Returns whether checks of this level run if the given level is configured.
+     */
+    boolean isEnabledAt(CheckLevel configured) {
+        return ordinal() <= configured.ordinal();
+    }
+}
@@ -0,0 +1,835 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * <p>Fluent checks of a collection, obtained by {@link Ensure#that(Collection)}. The conditions are checked
+ * immediately and can be chained, e.g. {@code Ensure.that(list).notNull().notEmpty().sizeAtMost(100).get()}.</p>
+ * <p>The class is final and stateless apart from the checked value, so the JIT can scalar replace the
+ * instances of a chain and it doesn't allocate.</p>
+ *
+ * @param <C> Type of the checked collection.
+ */
+public final class CollectionCheck<C extends Collection<?>> {
+
+    private final C value;
+
+    CollectionCheck(C value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns the checked collection.
+     */
+    public C get() {
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is null.
+     */
+    public CollectionCheck<C> notNull() {
+        EnsureStats.recordCheck();
+        if (value == null) {
+            Ensure.fail(Messages.NOT_NULL);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is null.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public CollectionCheck<C> notNull(String messageFormat, Object... messageArgs) {
+        EnsureStats.recordCheck();
+        if (value == null) {
+            Ensure.fail(messageFormat, messageArgs);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is null.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public CollectionCheck<C> notNull(String messageFormat) {
+        EnsureStats.recordCheck();
+        if (value == null) {
+            Ensure.fail(messageFormat);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is null.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public CollectionCheck<C> notNull(String messageFormat, Object messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is null.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public CollectionCheck<C> notNull(String messageFormat, int messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is null.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public CollectionCheck<C> notNull(String messageFormat, long messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is null.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public CollectionCheck<C> notNull(String messageFormat, Object messageArg1, Object messageArg2) {
+        EnsureStats.recordCheck();
+        if (value == null) {
+            Ensure.fail(messageFormat, messageArg1, messageArg2);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is null.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public CollectionCheck<C> notNull(String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        EnsureStats.recordCheck();
+        if (value == null) {
+            Ensure.fail(messageFormat, messageArg1, messageArg2, messageArg3);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is null.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public CollectionCheck<C> notNull(Supplier<String> messageSupplier) {
+        EnsureStats.recordCheck();
+        if (value == null) {
+            Ensure.fail(messageSupplier);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is null.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public <A> CollectionCheck<C> notNull(MessageSupplier1<A> messageSupplier, A messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null) {
+            Ensure.fail(messageSupplier, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is null.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public <A, B> CollectionCheck<C> notNull(MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        EnsureStats.recordCheck();
+        if (value == null) {
+            Ensure.fail(messageSupplier, messageArg1, messageArg2);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is empty. The null value is also considered to be
+     * empty.
+     */
+    public CollectionCheck<C> notEmpty() {
+        EnsureStats.recordCheck();
+        if (value == null || value.isEmpty()) {
+            Ensure.fail(Messages.COLLECTION_NOT_EMPTY);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is empty. The null value is also considered to be
+     * empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public CollectionCheck<C> notEmpty(String messageFormat, Object... messageArgs) {
+        EnsureStats.recordCheck();
+        if (value == null || value.isEmpty()) {
+            Ensure.fail(messageFormat, messageArgs);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is empty. The null value is also considered to be
+     * empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public CollectionCheck<C> notEmpty(String messageFormat) {
+        EnsureStats.recordCheck();
+        if (value == null || value.isEmpty()) {
+            Ensure.fail(messageFormat);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is empty. The null value is also considered to be
+     * empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public CollectionCheck<C> notEmpty(String messageFormat, Object messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null || value.isEmpty()) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is empty. The null value is also considered to be
+     * empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public CollectionCheck<C> notEmpty(String messageFormat, int messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null || value.isEmpty()) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is empty. The null value is also considered to be
+     * empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public CollectionCheck<C> notEmpty(String messageFormat, long messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null || value.isEmpty()) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is empty. The null value is also considered to be
+     * empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public CollectionCheck<C> notEmpty(String messageFormat, Object messageArg1, Object messageArg2) {
+        EnsureStats.recordCheck();
+        if (value == null || value.isEmpty()) {
+            Ensure.fail(messageFormat, messageArg1, messageArg2);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is empty. The null value is also considered to be
+     * empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public CollectionCheck<C> notEmpty(String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        EnsureStats.recordCheck();
+        if (value == null || value.isEmpty()) {
+            Ensure.fail(messageFormat, messageArg1, messageArg2, messageArg3);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is empty. The null value is also considered to be
+     * empty.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public CollectionCheck<C> notEmpty(Supplier<String> messageSupplier) {
+        EnsureStats.recordCheck();
+        if (value == null || value.isEmpty()) {
+            Ensure.fail(messageSupplier);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is empty. The null value is also considered to be
+     * empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public <A> CollectionCheck<C> notEmpty(MessageSupplier1<A> messageSupplier, A messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null || value.isEmpty()) {
+            Ensure.fail(messageSupplier, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is empty. The null value is also considered to be
+     * empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public <A, B> CollectionCheck<C> notEmpty(MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        EnsureStats.recordCheck();
+        if (value == null || value.isEmpty()) {
+            Ensure.fail(messageSupplier, messageArg1, messageArg2);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is null or has less than the given number of elements.
+     */
+    public CollectionCheck<C> sizeAtLeast(int size) {
+        Ensure.requireNotNull(value, Messages.NOT_NULL);
+        EnsureStats.recordCheck();
+        if (value.size() < size) {
+            Ensure.fail("Given collection must have at least %s elements but has %s", size, value.size());
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is null or has less than the given number of elements.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public CollectionCheck<C> sizeAtLeast(int size, String messageFormat, Object... messageArgs) {
+        EnsureStats.recordCheck();
+        if (value == null || value.size() < size) {
+            Ensure.fail(messageFormat, messageArgs);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is null or has less than the given number of elements.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public CollectionCheck<C> sizeAtLeast(int size, String messageFormat) {
+        EnsureStats.recordCheck();
+        if (value == null || value.size() < size) {
+            Ensure.fail(messageFormat);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is null or has less than the given number of elements.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public CollectionCheck<C> sizeAtLeast(int size, String messageFormat, Object messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null || value.size() < size) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is null or has less than the given number of elements.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public CollectionCheck<C> sizeAtLeast(int size, String messageFormat, int messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null || value.size() < size) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is null or has less than the given number of elements.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public CollectionCheck<C> sizeAtLeast(int size, String messageFormat, long messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null || value.size() < size) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is null or has less than the given number of elements.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public CollectionCheck<C> sizeAtLeast(int size, String messageFormat, Object messageArg1, Object messageArg2) {
+        EnsureStats.recordCheck();
+        if (value == null || value.size() < size) {
+            Ensure.fail(messageFormat, messageArg1, messageArg2);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is null or has less than the given number of elements.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public CollectionCheck<C> sizeAtLeast(int size, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        EnsureStats.recordCheck();
+        if (value == null || value.size() < size) {
+            Ensure.fail(messageFormat, messageArg1, messageArg2, messageArg3);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is null or has less than the given number of elements.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public CollectionCheck<C> sizeAtLeast(int size, Supplier<String> messageSupplier) {
+        EnsureStats.recordCheck();
+        if (value == null || value.size() < size) {
+            Ensure.fail(messageSupplier);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is null or has less than the given number of elements.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public <A> CollectionCheck<C> sizeAtLeast(int size, MessageSupplier1<A> messageSupplier, A messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null || value.size() < size) {
+            Ensure.fail(messageSupplier, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is null or has less than the given number of elements.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public <A, B> CollectionCheck<C> sizeAtLeast(int size, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        EnsureStats.recordCheck();
+        if (value == null || value.size() < size) {
+            Ensure.fail(messageSupplier, messageArg1, messageArg2);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is null or has more than the given number of elements.
+     */
+    public CollectionCheck<C> sizeAtMost(int size) {
+        Ensure.requireNotNull(value, Messages.NOT_NULL);
+        EnsureStats.recordCheck();
+        if (value.size() > size) {
+            Ensure.fail("Given collection must have at most %s elements but has %s", size, value.size());
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is null or has more than the given number of elements.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public CollectionCheck<C> sizeAtMost(int size, String messageFormat, Object... messageArgs) {
+        EnsureStats.recordCheck();
+        if (value == null || value.size() > size) {
+            Ensure.fail(messageFormat, messageArgs);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is null or has more than the given number of elements.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public CollectionCheck<C> sizeAtMost(int size, String messageFormat) {
+        EnsureStats.recordCheck();
+        if (value == null || value.size() > size) {
+            Ensure.fail(messageFormat);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is null or has more than the given number of elements.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public CollectionCheck<C> sizeAtMost(int size, String messageFormat, Object messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null || value.size() > size) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is null or has more than the given number of elements.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public CollectionCheck<C> sizeAtMost(int size, String messageFormat, int messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null || value.size() > size) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is null or has more than the given number of elements.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public CollectionCheck<C> sizeAtMost(int size, String messageFormat, long messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null || value.size() > size) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is null or has more than the given number of elements.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public CollectionCheck<C> sizeAtMost(int size, String messageFormat, Object messageArg1, Object messageArg2) {
+        EnsureStats.recordCheck();
+        if (value == null || value.size() > size) {
+            Ensure.fail(messageFormat, messageArg1, messageArg2);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is null or has more than the given number of elements.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public CollectionCheck<C> sizeAtMost(int size, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        EnsureStats.recordCheck();
+        if (value == null || value.size() > size) {
+            Ensure.fail(messageFormat, messageArg1, messageArg2, messageArg3);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is null or has more than the given number of elements.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public CollectionCheck<C> sizeAtMost(int size, Supplier<String> messageSupplier) {
+        EnsureStats.recordCheck();
+        if (value == null || value.size() > size) {
+            Ensure.fail(messageSupplier);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is null or has more than the given number of elements.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public <A> CollectionCheck<C> sizeAtMost(int size, MessageSupplier1<A> messageSupplier, A messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null || value.size() > size) {
+            Ensure.fail(messageSupplier, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is null or has more than the given number of elements.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public <A, B> CollectionCheck<C> sizeAtMost(int size, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        EnsureStats.recordCheck();
+        if (value == null || value.size() > size) {
+            Ensure.fail(messageSupplier, messageArg1, messageArg2);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is null or doesn't contain the given element.
+     */
+    public CollectionCheck<C> contains(Object element) {
+        EnsureStats.recordCheck();
+        if (value == null || !value.contains(element)) {
+            Ensure.fail("Given collection must contain \"%s\"", element);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is null or doesn't contain the given element.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public CollectionCheck<C> contains(Object element, String messageFormat, Object... messageArgs) {
+        EnsureStats.recordCheck();
+        if (value == null || !value.contains(element)) {
+            Ensure.fail(messageFormat, messageArgs);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is null or doesn't contain the given element.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public CollectionCheck<C> contains(Object element, String messageFormat) {
+        EnsureStats.recordCheck();
+        if (value == null || !value.contains(element)) {
+            Ensure.fail(messageFormat);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is null or doesn't contain the given element.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public CollectionCheck<C> contains(Object element, String messageFormat, Object messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null || !value.contains(element)) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is null or doesn't contain the given element.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public CollectionCheck<C> contains(Object element, String messageFormat, int messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null || !value.contains(element)) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is null or doesn't contain the given element.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public CollectionCheck<C> contains(Object element, String messageFormat, long messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null || !value.contains(element)) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is null or doesn't contain the given element.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public CollectionCheck<C> contains(Object element, String messageFormat, Object messageArg1, Object messageArg2) {
+        EnsureStats.recordCheck();
+        if (value == null || !value.contains(element)) {
+            Ensure.fail(messageFormat, messageArg1, messageArg2);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is null or doesn't contain the given element.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public CollectionCheck<C> contains(Object element, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        EnsureStats.recordCheck();
+        if (value == null || !value.contains(element)) {
+            Ensure.fail(messageFormat, messageArg1, messageArg2, messageArg3);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is null or doesn't contain the given element.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public CollectionCheck<C> contains(Object element, Supplier<String> messageSupplier) {
+        EnsureStats.recordCheck();
+        if (value == null || !value.contains(element)) {
+            Ensure.fail(messageSupplier);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is null or doesn't contain the given element.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public <A> CollectionCheck<C> contains(Object element, MessageSupplier1<A> messageSupplier, A messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null || !value.contains(element)) {
+            Ensure.fail(messageSupplier, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is null or doesn't contain the given element.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public <A, B> CollectionCheck<C> contains(Object element, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        EnsureStats.recordCheck();
+        if (value == null || !value.contains(element)) {
+            Ensure.fail(messageSupplier, messageArg1, messageArg2);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the collection is null or contains a null element. Large random
+     * access lists are scanned in parallel, see {@link Ensure#ensureAllNotNull(Collection)}.
+     */
+    public CollectionCheck<C> allNotNull() {
+        Ensure.requireNotNull(value, Messages.NOT_NULL);
+        int index = BulkChecks.firstNull(value);
+        EnsureStats.recordCheck();
+        if (index >= 0) {
+            Ensure.fail("Element at index %s must not be null", index);
+        }
+        return this;
+    }
+}
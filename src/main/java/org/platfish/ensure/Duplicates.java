@@ -0,0 +1,187 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * <p>Finds the first duplicate element of an array, i.e. the first element which equals an earlier one.</p>
+ * <p>The elements are inserted into an open-addressing hash table with linear probing, which only stores the
+ * position of each element as {@code int}. With a load factor of at most 0.5 this costs 8 to 16 bytes per
+ * element, whereas a {@code HashSet} of boxed values costs about 50. Tables of up to
+ * {@link #MAX_POOLED_CAPACITY} slots are pooled per thread, so repeated checks of moderate batches don't
+ * allocate. A pooled table is kept until its thread terminates, i.e. up to 4 MB per thread which has checked a
+ * large batch. Larger tables are a single primitive array, which the garbage collector doesn't have to trace.</p>
+ * <p>All methods return the positions of the first duplicate packed by {@link #pack(int, int)}, or -1 if there is
+ * none.</p>
+ */
+final class Duplicates {
+
+    /**
+     * Maximum number of slots of the tables which are pooled per thread (4 MB).
+     */
+    static final int MAX_POOLED_CAPACITY = 1 << 20;
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private static final int MIN_CAPACITY = 16;
+
+    private static final int INT_PHI = 0x9E3779B9;
+    private static final long LONG_PHI = 0x9E3779B97F4A7C15L;
+
+    private static final ThreadLocal<int[]> TABLE = new ThreadLocal<>();
+
+    private Duplicates() {
+    }
+
+    static long first(int[] values) {
+        if (values.length < 2) {
+            return -1;
+        }
+        int[] table = acquire(values.length);
+        int capacity = capacity(values.length);
+        int shift = 32 - Integer.numberOfTrailingZeros(capacity);
+        int mask = capacity - 1;
+        try {
+            for (int i = 0; i < values.length; i++) {
+                int value = values[i];
+                int slot = (value * INT_PHI) >>> shift;
+                int entry;
+                while ((entry = table[slot]) != 0) {
+                    if (values[entry - 1] == value) {
+                        return pack(entry - 1, i);
+                    }
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = i + 1;
+            }
+            return -1;
+        } finally {
+            release(table);
+        }
+    }
+
+    static long first(long[] values) {
+        if (values.length < 2) {
+            return -1;
+        }
+        int[] table = acquire(values.length);
+        int capacity = capacity(values.length);
+        int shift = 64 - Integer.numberOfTrailingZeros(capacity);
+        int mask = capacity - 1;
+        try {
+            for (int i = 0; i < values.length; i++) {
+                long value = values[i];
+                int slot = (int) ((value * LONG_PHI) >>> shift);
+                int entry;
+                while ((entry = table[slot]) != 0) {
+                    if (values[entry - 1] == value) {
+                        return pack(entry - 1, i);
+                    }
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = i + 1;
+            }
+            return -1;
+        } finally {
+            release(table);
+        }
+    }
+
+    /**
+     * Compares the elements by {@link Object#equals(Object)}, null elements equal each other.
+     */
+    static long first(Object[] values) {
+        if (values.length < 2) {
+            return -1;
+        }
+        int[] table = acquire(values.length);
+        int capacity = capacity(values.length);
+        int shift = 32 - Integer.numberOfTrailingZeros(capacity);
+        int mask = capacity - 1;
+        try {
+            for (int i = 0; i < values.length; i++) {
+                Object value = values[i];
+                int slot = (Objects.hashCode(value) * INT_PHI) >>> shift;
+                int entry;
+                while ((entry = table[slot]) != 0) {
+                    if (Objects.equals(values[entry - 1], value)) {
+                        return pack(entry - 1, i);
+                    }
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = i + 1;
+            }
+            return -1;
+        } finally {
+            release(table);
+        }
+    }
+
+    /**
+     * Packs the position of the earlier element and of its duplicate into one non-negative value.
+     */
+    static long pack(int earlier, int later) {
+        return ((long) earlier << 32) | later;
+    }
+
+    static int earlier(long duplicate) {
+        return (int) (duplicate >>> 32);
+    }
+
+    static int later(long duplicate) {
+        return (int) duplicate;
+    }
+
+    /**
+     * Returns the number of slots for the given number of elements, a power of two.
+     */
+    static int capacity(int size) {
+        if (size > MAX_CAPACITY / 2) {
+            if (size >= MAX_CAPACITY) {
+                throw new IllegalArgumentException("Too many elements to check for duplicates: " + size);
+            }
+            return MAX_CAPACITY;
+        }
+        return Math.max(MIN_CAPACITY, Integer.highestOneBit(size * 2 - 1) << 1);
+    }
+
+    /**
+     * Returns a cleared table with at least the capacity for the given number of elements. Only the first
+     * {@link #capacity(int)} slots are cleared and used.
+     */
+    private static int[] acquire(int size) {
+        int capacity = capacity(size);
+        int[] table = TABLE.get();
+        if (table == null || table.length < capacity) {
+            return new int[capacity];
+        }
+        // an equals() of the elements might check for duplicates as well
+        TABLE.set(null);
+        Arrays.fill(table, 0, capacity, 0);
+        return table;
+    }
+
+    private static void release(int[] table) {
+        if (table.length <= MAX_POOLED_CAPACITY) {
+            int[] pooled = TABLE.get();
+            if (pooled == null || pooled.length < table.length) {
+                TABLE.set(table);
+            }
+        }
+    }
+}
@@ -16,12 +16,27 @@
 package org.platfish.ensure;
 
 import java.io.File;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * <p>Helper for finding programmatic errors as early as possible. Existing
@@ -30,14 +45,161 @@ import java.util.Optional;
  * with an optional message.</p>
  * <p>The ensure methods are not meant for validating user input, this should
  * be done by other mechanics.</p>
+ * <p>Besides the variants taking {@code Object... messageArgs} every ensure method
+ * has fixed-arity overloads for up to three message arguments. They don't create
+ * an argument array (or box primitive int and long arguments) unless the check
+ * actually fails, so a passing check doesn't allocate anything.</p>
+ * <p>Messages which are expensive to create can be passed as {@link Supplier},
+ * {@link MessageSupplier1} or {@link MessageSupplier2}. They are only invoked if
+ * the check fails. Using the message suppliers with a non-capturing lambda, e.g.
+ * {@code ensureNotEmpty(topics, m -> "topics for " + m.describe(), message)},
+ * avoids the allocation of a lambda instance on every call.</p>
+ * <p>The stack trace recorded for failed checks is determined by the {@link StackTraceMode},
+ * which can be set globally or for single calls of {@code ensureTrue}, {@code ensureFalse}
+ * and {@code fail}.</p>
+ * <p>Expensive checks can be guarded by a {@link CheckLevel}, e.g. by
+ * {@code if (Ensure.PARANOID_CHECKS) { ... }}.</p>
+ * <p>Evaluated and failed checks can be counted by enabling the {@link EnsureStats}. Expensive
+ * checks can be run for a sample of the invocations only, see {@link #sampled(int)}. Many
+ * checks can be collected into a single report by {@link #batch()}. File system checks with
+ * cached results are provided by {@link #cachedPaths(java.time.Duration, int)}, composite checks
+ * reading the file attributes only once by {@link #ensurePath(Path, LinkOption...)}.</p>
+ * <p>The checks are also available in a fluent style, e.g.
+ * {@code Ensure.that(list).notNull().notEmpty().sizeAtMost(100).get()}, which doesn't allocate once compiled.</p>
  */
 public final class Ensure {
 
+    /**
+     * Whether checks of {@link CheckLevel#STANDARD} run according to the configured {@link CheckLevel}.
+     */
+    public static final boolean STANDARD_CHECKS = CheckLevel.STANDARD.isEnabledAt(CheckLevel.CONFIGURED);
+
+    /**
+     * Whether checks of {@link CheckLevel#PARANOID} run according to the configured {@link CheckLevel}.
+     */
+    public static final boolean PARANOID_CHECKS = CheckLevel.PARANOID.isEnabledAt(CheckLevel.CONFIGURED);
+
+    /**
+     * Returns whether checks of the given level run according to the globally configured {@link CheckLevel}.
+     * The result is constant, so the JIT compiler can remove checks guarded by this method.
+     */
+    public static boolean isEnabled(CheckLevel level) {
+        requireNotNull(level, "level must not be null");
+        if (level == CheckLevel.PARANOID) {
+            return PARANOID_CHECKS;
+        }
+        return level != CheckLevel.STANDARD || STANDARD_CHECKS;
+    }
+
+    /**
+     * Returns whether checks of the given level run in the package of the given class. Package specific levels
+     * take precedence over the global {@link CheckLevel}. The result should be stored in a {@code static final}
+     * field of the class, so the package level is only resolved once and the JIT compiler can remove checks
+     * guarded by the field.
+     */
+    public static boolean isEnabled(CheckLevel level, Class<?> clazz) {
+        requireNotNull(level, "level must not be null");
+        requireNotNull(clazz, "clazz must not be null");
+        String className = clazz.getName();
+        int index = className.lastIndexOf('.');
+        return level.isEnabledAt(CheckLevel.configuredFor(index < 0 ? "" : className.substring(0, index)));
+    }
+
+    /**
+     * Returns a {@link Sampler} running checks only for roughly one of the given number of invocations. The rate
+     * is rounded up to the next power of two. Samplers don't have mutable state, the same instance is returned for
+     * the same rate.
+     *
+     * @param rate Number of invocations per sampled invocation, between 1 and 2^30.
+     */
+    public static Sampler sampled(int rate) {
+        return Sampler.of(rate);
+    }
+
+    /**
+     * Returns a new {@link EnsureBatch} collecting the failures of many checks, which are reported together by a
+     * single exception. At most 100 failures are recorded.
+     */
+    public static EnsureBatch batch() {
+        return batch(100);
+    }
+
+    /**
+     * Returns a new {@link EnsureBatch} collecting the failures of many checks, which are reported together by a
+     * single exception.
+     *
+     * @param maxRecordedFailures Maximum number of failures which are recorded, further failures are only counted.
+     */
+    public static EnsureBatch batch(int maxRecordedFailures) {
+        return new EnsureBatch(maxRecordedFailures);
+    }
+
+    /**
+     * Returns a new {@link PathCache} running file system checks with cached file attributes. Entries expire after
+     * the given time to live or earlier, if a change of the path is reported by the file system. Paths whose
+     * directory can't be watched only expire after the time to live, see {@link PathCache#getUnwatchedReads()}.
+     *
+     * @param ttl        Time to live of the cached attributes of a path.
+     * @param maxEntries Maximum number of cached paths and watched directories.
+     */
+    public static PathCache cachedPaths(Duration ttl, int maxEntries) {
+        return new PathCache(ttl, maxEntries);
+    }
+
+    /**
+     * Returns fluent checks of the given value, e.g. {@code Ensure.that(value).notNull().get()}. The chain doesn't
+     * allocate once it is compiled by the JIT.
+     */
+    public static <T> ObjectCheck<T> that(T value) {
+        return new ObjectCheck<>(value);
+    }
+
+    /**
+     * Returns fluent checks of the given string, e.g. {@code Ensure.that(name).notEmpty().lengthAtMost(64).get()}.
+     * The chain doesn't allocate once it is compiled by the JIT.
+     */
+    public static StringCheck that(String value) {
+        return new StringCheck(value);
+    }
+
+    /**
+     * Returns fluent checks of the given collection, e.g.
+     * {@code Ensure.that(list).notNull().notEmpty().sizeAtMost(100).get()}. The chain doesn't allocate once it is
+     * compiled by the JIT.
+     */
+    public static <C extends Collection<?>> CollectionCheck<C> that(C value) {
+        return new CollectionCheck<>(value);
+    }
+
+    /**
+     * Returns fluent checks of the given map, e.g. {@code Ensure.that(map).notEmpty().containsKey("id").get()}.
+     * The chain doesn't allocate once it is compiled by the JIT.
+     */
+    public static <M extends Map<?, ?>> MapCheck<M> that(M value) {
+        return new MapCheck<>(value);
+    }
+
+    /**
+     * Returns fluent checks of the given value, e.g. {@code Ensure.that(count).notNegative().atMost(max).get()}.
+     * The chain doesn't allocate once it is compiled by the JIT.
+     */
+    public static IntCheck that(int value) {
+        return new IntCheck(value);
+    }
+
+    /**
+     * Returns fluent checks of the given value, e.g. {@code Ensure.that(count).notNegative().atMost(max).get()}.
+     * The chain doesn't allocate once it is compiled by the JIT.
+     */
+    public static LongCheck that(long value) {
+        return new LongCheck(value);
+    }
+
     /**
      * Throws {@link EnsureFailedException} if the given value is null.
      */
     public static <T> T ensureNotNull(T value) {
-        return ensureNotNull(value, "Given value must not be null");
+        return ensureNotNull(value, Messages.NOT_NULL);
     }
 
     /**
@@ -52,484 +214,16268 @@ public final class Ensure {
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given value is not null.
+     * Throws {@link EnsureFailedException} if the given value is null.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static <T> T ensureNotNull(T value, Supplier<String> messageSupplier) {
+        ensureTrue(value != null, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is null.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <T, A> T ensureNotNull(T value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        ensureTrue(value != null, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is null.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <T, A, B> T ensureNotNull(T value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        ensureTrue(value != null, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is null.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static <T> T ensureNotNull(T value, String messageFormat) {
+        ensureTrue(value != null, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is null.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static <T> T ensureNotNull(T value, String messageFormat, Object messageArg) {
+        ensureTrue(value != null, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is null.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static <T> T ensureNotNull(T value, String messageFormat, int messageArg) {
+        ensureTrue(value != null, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is null.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static <T> T ensureNotNull(T value, String messageFormat, long messageArg) {
+        ensureTrue(value != null, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is null.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static <T> T ensureNotNull(T value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(value != null, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is null.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static <T> T ensureNotNull(T value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(value != null, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not null.
+     */
+    public static <T> void ensureNull(T value) {
+        ensureNull(value, Messages.NULL);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not null.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static <T> void ensureNull(T value, String messageFormat, Object... messageArgs) {
+        ensureTrue(value == null, messageFormat, messageArgs);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not null.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static <T> void ensureNull(T value, Supplier<String> messageSupplier) {
+        ensureTrue(value == null, messageSupplier);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not null.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <T, A> void ensureNull(T value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        ensureTrue(value == null, messageSupplier, messageArg);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not null.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <T, A, B> void ensureNull(T value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        ensureTrue(value == null, messageSupplier, messageArg1, messageArg2);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not null.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static <T> void ensureNull(T value, String messageFormat) {
+        ensureTrue(value == null, messageFormat);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not null.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static <T> void ensureNull(T value, String messageFormat, Object messageArg) {
+        ensureTrue(value == null, messageFormat, messageArg);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not null.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static <T> void ensureNull(T value, String messageFormat, int messageArg) {
+        ensureTrue(value == null, messageFormat, messageArg);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not null.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static <T> void ensureNull(T value, String messageFormat, long messageArg) {
+        ensureTrue(value == null, messageFormat, messageArg);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not null.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static <T> void ensureNull(T value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(value == null, messageFormat, messageArg1, messageArg2);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not null.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static <T> void ensureNull(T value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(value == null, messageFormat, messageArg1, messageArg2, messageArg3);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value doesn't match expected. {@link Object#equals(Object)}
+     * will be used for comparing the two values.
+     */
+    public static <T> T ensureEquals(T expected, T value) {
+        return ensureEquals(expected, value, Messages.EQUALS);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value doesn't match expected. {@link Object#equals(Object)}
+     * will be used for comparing the two values.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static <T> T ensureEquals(T expected, T value, String messageFormat, Object... messageArgs) {
+        if (expected == null) {
+            ensureTrue(value == null, messageFormat, messageArgs);
+        } else {
+            ensureTrue(expected.equals(value), messageFormat, messageArgs);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value doesn't match expected. {@link Object#equals(Object)}
+     * will be used for comparing the two values.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static <T> T ensureEquals(T expected, T value, Supplier<String> messageSupplier) {
+        if (expected == null) {
+            ensureTrue(value == null, messageSupplier);
+        } else {
+            ensureTrue(expected.equals(value), messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value doesn't match expected. {@link Object#equals(Object)}
+     * will be used for comparing the two values.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <T, A> T ensureEquals(T expected, T value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        if (expected == null) {
+            ensureTrue(value == null, messageSupplier, messageArg);
+        } else {
+            ensureTrue(expected.equals(value), messageSupplier, messageArg);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value doesn't match expected. {@link Object#equals(Object)}
+     * will be used for comparing the two values.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <T, A, B> T ensureEquals(T expected, T value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        if (expected == null) {
+            ensureTrue(value == null, messageSupplier, messageArg1, messageArg2);
+        } else {
+            ensureTrue(expected.equals(value), messageSupplier, messageArg1, messageArg2);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value doesn't match expected. {@link Object#equals(Object)}
+     * will be used for comparing the two values.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static <T> T ensureEquals(T expected, T value, String messageFormat) {
+        if (expected == null) {
+            ensureTrue(value == null, messageFormat);
+        } else {
+            ensureTrue(expected.equals(value), messageFormat);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value doesn't match expected. {@link Object#equals(Object)}
+     * will be used for comparing the two values.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static <T> T ensureEquals(T expected, T value, String messageFormat, Object messageArg) {
+        if (expected == null) {
+            ensureTrue(value == null, messageFormat, messageArg);
+        } else {
+            ensureTrue(expected.equals(value), messageFormat, messageArg);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value doesn't match expected. {@link Object#equals(Object)}
+     * will be used for comparing the two values.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static <T> T ensureEquals(T expected, T value, String messageFormat, Object messageArg1, Object messageArg2) {
+        if (expected == null) {
+            ensureTrue(value == null, messageFormat, messageArg1, messageArg2);
+        } else {
+            ensureTrue(expected.equals(value), messageFormat, messageArg1, messageArg2);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value doesn't match expected. {@link Object#equals(Object)}
+     * will be used for comparing the two values.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static <T> T ensureEquals(T expected, T value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        if (expected == null) {
+            ensureTrue(value == null, messageFormat, messageArg1, messageArg2, messageArg3);
+        } else {
+            ensureTrue(expected.equals(value), messageFormat, messageArg1, messageArg2, messageArg3);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value does match expected. {@link Object#equals(Object)}
+     * will be used for comparing the two values.
+     */
+    public static <T> T ensureNotEquals(T expected, T value) {
+        return ensureNotEquals(expected, value, Messages.NOT_EQUALS);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value does match expected. {@link Object#equals(Object)}
+     * will be used for comparing the two values.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static <T> T ensureNotEquals(T expected, T value, String messageFormat, Object... messageArgs) {
+        if (expected == null) {
+            ensureFalse(value == null, messageFormat, messageArgs);
+        } else {
+            ensureFalse(expected.equals(value), messageFormat, messageArgs);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value does match expected. {@link Object#equals(Object)}
+     * will be used for comparing the two values.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static <T> T ensureNotEquals(T expected, T value, Supplier<String> messageSupplier) {
+        if (expected == null) {
+            ensureFalse(value == null, messageSupplier);
+        } else {
+            ensureFalse(expected.equals(value), messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value does match expected. {@link Object#equals(Object)}
+     * will be used for comparing the two values.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <T, A> T ensureNotEquals(T expected, T value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        if (expected == null) {
+            ensureFalse(value == null, messageSupplier, messageArg);
+        } else {
+            ensureFalse(expected.equals(value), messageSupplier, messageArg);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value does match expected. {@link Object#equals(Object)}
+     * will be used for comparing the two values.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <T, A, B> T ensureNotEquals(T expected, T value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        if (expected == null) {
+            ensureFalse(value == null, messageSupplier, messageArg1, messageArg2);
+        } else {
+            ensureFalse(expected.equals(value), messageSupplier, messageArg1, messageArg2);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value does match expected. {@link Object#equals(Object)}
+     * will be used for comparing the two values.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static <T> T ensureNotEquals(T expected, T value, String messageFormat) {
+        if (expected == null) {
+            ensureFalse(value == null, messageFormat);
+        } else {
+            ensureFalse(expected.equals(value), messageFormat);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value does match expected. {@link Object#equals(Object)}
+     * will be used for comparing the two values.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static <T> T ensureNotEquals(T expected, T value, String messageFormat, Object messageArg) {
+        if (expected == null) {
+            ensureFalse(value == null, messageFormat, messageArg);
+        } else {
+            ensureFalse(expected.equals(value), messageFormat, messageArg);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value does match expected. {@link Object#equals(Object)}
+     * will be used for comparing the two values.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static <T> T ensureNotEquals(T expected, T value, String messageFormat, Object messageArg1, Object messageArg2) {
+        if (expected == null) {
+            ensureFalse(value == null, messageFormat, messageArg1, messageArg2);
+        } else {
+            ensureFalse(expected.equals(value), messageFormat, messageArg1, messageArg2);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value does match expected. {@link Object#equals(Object)}
+     * will be used for comparing the two values.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static <T> T ensureNotEquals(T expected, T value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        if (expected == null) {
+            ensureFalse(value == null, messageFormat, messageArg1, messageArg2, messageArg3);
+        } else {
+            ensureFalse(expected.equals(value), messageFormat, messageArg1, messageArg2, messageArg3);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value doesn't match expected. Primitive variant of
+     * {@link #ensureEquals(Object, Object)} which doesn't box the values.
+     */
+    public static int ensureEqualsInt(int expected, int value) {
+        return ensureEqualsInt(expected, value, Messages.EQUALS);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value doesn't match expected. Primitive variant of
+     * {@link #ensureEquals(Object, Object)} which doesn't box the values.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static int ensureEqualsInt(int expected, int value, String messageFormat, Object... messageArgs) {
+        ensureTrue(expected == value, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value doesn't match expected. Primitive variant of
+     * {@link #ensureEquals(Object, Object)} which doesn't box the values.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static int ensureEqualsInt(int expected, int value, String messageFormat) {
+        ensureTrue(expected == value, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value doesn't match expected. Primitive variant of
+     * {@link #ensureEquals(Object, Object)} which doesn't box the values.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static int ensureEqualsInt(int expected, int value, String messageFormat, Object messageArg) {
+        ensureTrue(expected == value, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value doesn't match expected. Primitive variant of
+     * {@link #ensureEquals(Object, Object)} which doesn't box the values.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static int ensureEqualsInt(int expected, int value, String messageFormat, int messageArg) {
+        ensureTrue(expected == value, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value doesn't match expected. Primitive variant of
+     * {@link #ensureEquals(Object, Object)} which doesn't box the values.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static int ensureEqualsInt(int expected, int value, String messageFormat, long messageArg) {
+        ensureTrue(expected == value, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value doesn't match expected. Primitive variant of
+     * {@link #ensureEquals(Object, Object)} which doesn't box the values.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static int ensureEqualsInt(int expected, int value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(expected == value, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value doesn't match expected. Primitive variant of
+     * {@link #ensureEquals(Object, Object)} which doesn't box the values.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static int ensureEqualsInt(int expected, int value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(expected == value, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value doesn't match expected. Primitive variant of
+     * {@link #ensureEquals(Object, Object)} which doesn't box the values.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static int ensureEqualsInt(int expected, int value, Supplier<String> messageSupplier) {
+        ensureTrue(expected == value, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value doesn't match expected. Primitive variant of
+     * {@link #ensureEquals(Object, Object)} which doesn't box the values.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <A> int ensureEqualsInt(int expected, int value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        ensureTrue(expected == value, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value doesn't match expected. Primitive variant of
+     * {@link #ensureEquals(Object, Object)} which doesn't box the values.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <A, B> int ensureEqualsInt(int expected, int value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        ensureTrue(expected == value, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value doesn't match expected. Primitive variant of
+     * {@link #ensureEquals(Object, Object)} which doesn't box the values.
+     */
+    public static long ensureEqualsLong(long expected, long value) {
+        return ensureEqualsLong(expected, value, Messages.EQUALS);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value doesn't match expected. Primitive variant of
+     * {@link #ensureEquals(Object, Object)} which doesn't box the values.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static long ensureEqualsLong(long expected, long value, String messageFormat, Object... messageArgs) {
+        ensureTrue(expected == value, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value doesn't match expected. Primitive variant of
+     * {@link #ensureEquals(Object, Object)} which doesn't box the values.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static long ensureEqualsLong(long expected, long value, String messageFormat) {
+        ensureTrue(expected == value, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value doesn't match expected. Primitive variant of
+     * {@link #ensureEquals(Object, Object)} which doesn't box the values.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static long ensureEqualsLong(long expected, long value, String messageFormat, Object messageArg) {
+        ensureTrue(expected == value, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value doesn't match expected. Primitive variant of
+     * {@link #ensureEquals(Object, Object)} which doesn't box the values.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static long ensureEqualsLong(long expected, long value, String messageFormat, int messageArg) {
+        ensureTrue(expected == value, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value doesn't match expected. Primitive variant of
+     * {@link #ensureEquals(Object, Object)} which doesn't box the values.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static long ensureEqualsLong(long expected, long value, String messageFormat, long messageArg) {
+        ensureTrue(expected == value, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value doesn't match expected. Primitive variant of
+     * {@link #ensureEquals(Object, Object)} which doesn't box the values.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static long ensureEqualsLong(long expected, long value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(expected == value, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value doesn't match expected. Primitive variant of
+     * {@link #ensureEquals(Object, Object)} which doesn't box the values.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static long ensureEqualsLong(long expected, long value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(expected == value, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value doesn't match expected. Primitive variant of
+     * {@link #ensureEquals(Object, Object)} which doesn't box the values.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static long ensureEqualsLong(long expected, long value, Supplier<String> messageSupplier) {
+        ensureTrue(expected == value, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value doesn't match expected. Primitive variant of
+     * {@link #ensureEquals(Object, Object)} which doesn't box the values.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <A> long ensureEqualsLong(long expected, long value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        ensureTrue(expected == value, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value doesn't match expected. Primitive variant of
+     * {@link #ensureEquals(Object, Object)} which doesn't box the values.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <A, B> long ensureEqualsLong(long expected, long value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        ensureTrue(expected == value, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value doesn't match expected. Primitive variant of
+     * {@link #ensureEquals(Object, Object)} which doesn't box the values. Like {@link Double#equals(Object)} NaN matches NaN, but 0.0 doesn't match -0.0.
+     */
+    public static double ensureEqualsDouble(double expected, double value) {
+        return ensureEqualsDouble(expected, value, Messages.EQUALS);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value doesn't match expected. Primitive variant of
+     * {@link #ensureEquals(Object, Object)} which doesn't box the values. Like {@link Double#equals(Object)} NaN matches NaN, but 0.0 doesn't match -0.0.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static double ensureEqualsDouble(double expected, double value, String messageFormat, Object... messageArgs) {
+        ensureTrue(Double.compare(expected, value) == 0, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value doesn't match expected. Primitive variant of
+     * {@link #ensureEquals(Object, Object)} which doesn't box the values. Like {@link Double#equals(Object)} NaN matches NaN, but 0.0 doesn't match -0.0.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static double ensureEqualsDouble(double expected, double value, String messageFormat) {
+        ensureTrue(Double.compare(expected, value) == 0, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value doesn't match expected. Primitive variant of
+     * {@link #ensureEquals(Object, Object)} which doesn't box the values. Like {@link Double#equals(Object)} NaN matches NaN, but 0.0 doesn't match -0.0.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static double ensureEqualsDouble(double expected, double value, String messageFormat, Object messageArg) {
+        ensureTrue(Double.compare(expected, value) == 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value doesn't match expected. Primitive variant of
+     * {@link #ensureEquals(Object, Object)} which doesn't box the values. Like {@link Double#equals(Object)} NaN matches NaN, but 0.0 doesn't match -0.0.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static double ensureEqualsDouble(double expected, double value, String messageFormat, int messageArg) {
+        ensureTrue(Double.compare(expected, value) == 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value doesn't match expected. Primitive variant of
+     * {@link #ensureEquals(Object, Object)} which doesn't box the values. Like {@link Double#equals(Object)} NaN matches NaN, but 0.0 doesn't match -0.0.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static double ensureEqualsDouble(double expected, double value, String messageFormat, long messageArg) {
+        ensureTrue(Double.compare(expected, value) == 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value doesn't match expected. Primitive variant of
+     * {@link #ensureEquals(Object, Object)} which doesn't box the values. Like {@link Double#equals(Object)} NaN matches NaN, but 0.0 doesn't match -0.0.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static double ensureEqualsDouble(double expected, double value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(Double.compare(expected, value) == 0, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value doesn't match expected. Primitive variant of
+     * {@link #ensureEquals(Object, Object)} which doesn't box the values. Like {@link Double#equals(Object)} NaN matches NaN, but 0.0 doesn't match -0.0.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static double ensureEqualsDouble(double expected, double value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(Double.compare(expected, value) == 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value doesn't match expected. Primitive variant of
+     * {@link #ensureEquals(Object, Object)} which doesn't box the values. Like {@link Double#equals(Object)} NaN matches NaN, but 0.0 doesn't match -0.0.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static double ensureEqualsDouble(double expected, double value, Supplier<String> messageSupplier) {
+        ensureTrue(Double.compare(expected, value) == 0, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value doesn't match expected. Primitive variant of
+     * {@link #ensureEquals(Object, Object)} which doesn't box the values. Like {@link Double#equals(Object)} NaN matches NaN, but 0.0 doesn't match -0.0.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <A> double ensureEqualsDouble(double expected, double value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        ensureTrue(Double.compare(expected, value) == 0, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value doesn't match expected. Primitive variant of
+     * {@link #ensureEquals(Object, Object)} which doesn't box the values. Like {@link Double#equals(Object)} NaN matches NaN, but 0.0 doesn't match -0.0.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <A, B> double ensureEqualsDouble(double expected, double value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        ensureTrue(Double.compare(expected, value) == 0, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value does match expected. Primitive variant of
+     * {@link #ensureNotEquals(Object, Object)} which doesn't box the values.
+     */
+    public static int ensureNotEqualsInt(int expected, int value) {
+        return ensureNotEqualsInt(expected, value, Messages.NOT_EQUALS);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value does match expected. Primitive variant of
+     * {@link #ensureNotEquals(Object, Object)} which doesn't box the values.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static int ensureNotEqualsInt(int expected, int value, String messageFormat, Object... messageArgs) {
+        ensureFalse(expected == value, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value does match expected. Primitive variant of
+     * {@link #ensureNotEquals(Object, Object)} which doesn't box the values.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static int ensureNotEqualsInt(int expected, int value, String messageFormat) {
+        ensureFalse(expected == value, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value does match expected. Primitive variant of
+     * {@link #ensureNotEquals(Object, Object)} which doesn't box the values.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static int ensureNotEqualsInt(int expected, int value, String messageFormat, Object messageArg) {
+        ensureFalse(expected == value, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value does match expected. Primitive variant of
+     * {@link #ensureNotEquals(Object, Object)} which doesn't box the values.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static int ensureNotEqualsInt(int expected, int value, String messageFormat, int messageArg) {
+        ensureFalse(expected == value, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value does match expected. Primitive variant of
+     * {@link #ensureNotEquals(Object, Object)} which doesn't box the values.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static int ensureNotEqualsInt(int expected, int value, String messageFormat, long messageArg) {
+        ensureFalse(expected == value, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value does match expected. Primitive variant of
+     * {@link #ensureNotEquals(Object, Object)} which doesn't box the values.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static int ensureNotEqualsInt(int expected, int value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureFalse(expected == value, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value does match expected. Primitive variant of
+     * {@link #ensureNotEquals(Object, Object)} which doesn't box the values.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static int ensureNotEqualsInt(int expected, int value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureFalse(expected == value, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value does match expected. Primitive variant of
+     * {@link #ensureNotEquals(Object, Object)} which doesn't box the values.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static int ensureNotEqualsInt(int expected, int value, Supplier<String> messageSupplier) {
+        ensureFalse(expected == value, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value does match expected. Primitive variant of
+     * {@link #ensureNotEquals(Object, Object)} which doesn't box the values.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <A> int ensureNotEqualsInt(int expected, int value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        ensureFalse(expected == value, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value does match expected. Primitive variant of
+     * {@link #ensureNotEquals(Object, Object)} which doesn't box the values.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <A, B> int ensureNotEqualsInt(int expected, int value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        ensureFalse(expected == value, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value does match expected. Primitive variant of
+     * {@link #ensureNotEquals(Object, Object)} which doesn't box the values.
+     */
+    public static long ensureNotEqualsLong(long expected, long value) {
+        return ensureNotEqualsLong(expected, value, Messages.NOT_EQUALS);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value does match expected. Primitive variant of
+     * {@link #ensureNotEquals(Object, Object)} which doesn't box the values.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static long ensureNotEqualsLong(long expected, long value, String messageFormat, Object... messageArgs) {
+        ensureFalse(expected == value, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value does match expected. Primitive variant of
+     * {@link #ensureNotEquals(Object, Object)} which doesn't box the values.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static long ensureNotEqualsLong(long expected, long value, String messageFormat) {
+        ensureFalse(expected == value, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value does match expected. Primitive variant of
+     * {@link #ensureNotEquals(Object, Object)} which doesn't box the values.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static long ensureNotEqualsLong(long expected, long value, String messageFormat, Object messageArg) {
+        ensureFalse(expected == value, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value does match expected. Primitive variant of
+     * {@link #ensureNotEquals(Object, Object)} which doesn't box the values.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static long ensureNotEqualsLong(long expected, long value, String messageFormat, int messageArg) {
+        ensureFalse(expected == value, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value does match expected. Primitive variant of
+     * {@link #ensureNotEquals(Object, Object)} which doesn't box the values.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static long ensureNotEqualsLong(long expected, long value, String messageFormat, long messageArg) {
+        ensureFalse(expected == value, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value does match expected. Primitive variant of
+     * {@link #ensureNotEquals(Object, Object)} which doesn't box the values.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static long ensureNotEqualsLong(long expected, long value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureFalse(expected == value, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value does match expected. Primitive variant of
+     * {@link #ensureNotEquals(Object, Object)} which doesn't box the values.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static long ensureNotEqualsLong(long expected, long value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureFalse(expected == value, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value does match expected. Primitive variant of
+     * {@link #ensureNotEquals(Object, Object)} which doesn't box the values.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static long ensureNotEqualsLong(long expected, long value, Supplier<String> messageSupplier) {
+        ensureFalse(expected == value, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value does match expected. Primitive variant of
+     * {@link #ensureNotEquals(Object, Object)} which doesn't box the values.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <A> long ensureNotEqualsLong(long expected, long value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        ensureFalse(expected == value, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value does match expected. Primitive variant of
+     * {@link #ensureNotEquals(Object, Object)} which doesn't box the values.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <A, B> long ensureNotEqualsLong(long expected, long value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        ensureFalse(expected == value, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value does match expected. Primitive variant of
+     * {@link #ensureNotEquals(Object, Object)} which doesn't box the values. Like {@link Double#equals(Object)} NaN matches NaN, but 0.0 doesn't match -0.0.
+     */
+    public static double ensureNotEqualsDouble(double expected, double value) {
+        return ensureNotEqualsDouble(expected, value, Messages.NOT_EQUALS);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value does match expected. Primitive variant of
+     * {@link #ensureNotEquals(Object, Object)} which doesn't box the values. Like {@link Double#equals(Object)} NaN matches NaN, but 0.0 doesn't match -0.0.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static double ensureNotEqualsDouble(double expected, double value, String messageFormat, Object... messageArgs) {
+        ensureFalse(Double.compare(expected, value) == 0, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value does match expected. Primitive variant of
+     * {@link #ensureNotEquals(Object, Object)} which doesn't box the values. Like {@link Double#equals(Object)} NaN matches NaN, but 0.0 doesn't match -0.0.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static double ensureNotEqualsDouble(double expected, double value, String messageFormat) {
+        ensureFalse(Double.compare(expected, value) == 0, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value does match expected. Primitive variant of
+     * {@link #ensureNotEquals(Object, Object)} which doesn't box the values. Like {@link Double#equals(Object)} NaN matches NaN, but 0.0 doesn't match -0.0.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static double ensureNotEqualsDouble(double expected, double value, String messageFormat, Object messageArg) {
+        ensureFalse(Double.compare(expected, value) == 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value does match expected. Primitive variant of
+     * {@link #ensureNotEquals(Object, Object)} which doesn't box the values. Like {@link Double#equals(Object)} NaN matches NaN, but 0.0 doesn't match -0.0.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static double ensureNotEqualsDouble(double expected, double value, String messageFormat, int messageArg) {
+        ensureFalse(Double.compare(expected, value) == 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value does match expected. Primitive variant of
+     * {@link #ensureNotEquals(Object, Object)} which doesn't box the values. Like {@link Double#equals(Object)} NaN matches NaN, but 0.0 doesn't match -0.0.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static double ensureNotEqualsDouble(double expected, double value, String messageFormat, long messageArg) {
+        ensureFalse(Double.compare(expected, value) == 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value does match expected. Primitive variant of
+     * {@link #ensureNotEquals(Object, Object)} which doesn't box the values. Like {@link Double#equals(Object)} NaN matches NaN, but 0.0 doesn't match -0.0.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static double ensureNotEqualsDouble(double expected, double value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureFalse(Double.compare(expected, value) == 0, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value does match expected. Primitive variant of
+     * {@link #ensureNotEquals(Object, Object)} which doesn't box the values. Like {@link Double#equals(Object)} NaN matches NaN, but 0.0 doesn't match -0.0.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static double ensureNotEqualsDouble(double expected, double value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureFalse(Double.compare(expected, value) == 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value does match expected. Primitive variant of
+     * {@link #ensureNotEquals(Object, Object)} which doesn't box the values. Like {@link Double#equals(Object)} NaN matches NaN, but 0.0 doesn't match -0.0.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static double ensureNotEqualsDouble(double expected, double value, Supplier<String> messageSupplier) {
+        ensureFalse(Double.compare(expected, value) == 0, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value does match expected. Primitive variant of
+     * {@link #ensureNotEquals(Object, Object)} which doesn't box the values. Like {@link Double#equals(Object)} NaN matches NaN, but 0.0 doesn't match -0.0.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <A> double ensureNotEqualsDouble(double expected, double value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        ensureFalse(Double.compare(expected, value) == 0, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value does match expected. Primitive variant of
+     * {@link #ensureNotEquals(Object, Object)} which doesn't box the values. Like {@link Double#equals(Object)} NaN matches NaN, but 0.0 doesn't match -0.0.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <A, B> double ensureNotEqualsDouble(double expected, double value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        ensureFalse(Double.compare(expected, value) == 0, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given condition isn't true.
+     */
+    public static void ensureTrue(boolean condition) {
+        ensureTrue(condition, Messages.CONDITION_TRUE);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given condition isn't true.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static void ensureTrue(boolean condition, String messageFormat, Object... messageArgs) {
+        EnsureStats.recordCheck();
+        if (!condition) {
+            fail(messageFormat, messageArgs);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given condition isn't true.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static void ensureTrue(boolean condition, Supplier<String> messageSupplier) {
+        EnsureStats.recordCheck();
+        if (!condition) {
+            fail(messageSupplier);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given condition isn't true.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <A> void ensureTrue(boolean condition, MessageSupplier1<A> messageSupplier, A messageArg) {
+        EnsureStats.recordCheck();
+        if (!condition) {
+            fail(messageSupplier, messageArg);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given condition isn't true.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <A, B> void ensureTrue(boolean condition, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        EnsureStats.recordCheck();
+        if (!condition) {
+            fail(messageSupplier, messageArg1, messageArg2);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given condition isn't true.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static void ensureTrue(boolean condition, String messageFormat) {
+        EnsureStats.recordCheck();
+        if (!condition) {
+            fail(messageFormat);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given condition isn't true.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static void ensureTrue(boolean condition, String messageFormat, Object messageArg) {
+        EnsureStats.recordCheck();
+        if (!condition) {
+            fail(messageFormat, messageArg);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given condition isn't true.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static void ensureTrue(boolean condition, String messageFormat, int messageArg) {
+        EnsureStats.recordCheck();
+        if (!condition) {
+            fail(messageFormat, messageArg);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given condition isn't true.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static void ensureTrue(boolean condition, String messageFormat, long messageArg) {
+        EnsureStats.recordCheck();
+        if (!condition) {
+            fail(messageFormat, messageArg);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given condition isn't true.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static void ensureTrue(boolean condition, String messageFormat, Object messageArg1, Object messageArg2) {
+        EnsureStats.recordCheck();
+        if (!condition) {
+            fail(messageFormat, messageArg1, messageArg2);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given condition isn't true.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static void ensureTrue(boolean condition, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        EnsureStats.recordCheck();
+        if (!condition) {
+            fail(messageFormat, messageArg1, messageArg2, messageArg3);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given condition isn't true. The stack trace of the exception is
+     * recorded according to the given mode instead of the default {@link StackTraceMode}.
+     *
+     * @param stackTraceMode How much of the stack trace is recorded if the check fails.
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static void ensureTrue(boolean condition, StackTraceMode stackTraceMode, String messageFormat, Object... messageArgs) {
+        EnsureStats.recordCheck();
+        if (!condition) {
+            fail(stackTraceMode, messageFormat, messageArgs);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given condition isn't true. The stack trace of the exception is
+     * recorded according to the given mode instead of the default {@link StackTraceMode}.
+     *
+     * @param stackTraceMode How much of the stack trace is recorded if the check fails.
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static void ensureTrue(boolean condition, StackTraceMode stackTraceMode, Supplier<String> messageSupplier) {
+        EnsureStats.recordCheck();
+        if (!condition) {
+            fail(stackTraceMode, messageSupplier);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given condition isn't true. The stack trace of the exception is
+     * recorded according to the given mode instead of the default {@link StackTraceMode}.
+     *
+     * @param stackTraceMode How much of the stack trace is recorded if the check fails.
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <A> void ensureTrue(boolean condition, StackTraceMode stackTraceMode, MessageSupplier1<A> messageSupplier, A messageArg) {
+        EnsureStats.recordCheck();
+        if (!condition) {
+            fail(stackTraceMode, messageSupplier, messageArg);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given condition isn't true. The stack trace of the exception is
+     * recorded according to the given mode instead of the default {@link StackTraceMode}.
+     *
+     * @param stackTraceMode How much of the stack trace is recorded if the check fails.
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <A, B> void ensureTrue(boolean condition, StackTraceMode stackTraceMode, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        EnsureStats.recordCheck();
+        if (!condition) {
+            fail(stackTraceMode, messageSupplier, messageArg1, messageArg2);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given condition isn't true. The stack trace of the exception is
+     * recorded according to the given mode instead of the default {@link StackTraceMode}.
+     *
+     * @param stackTraceMode How much of the stack trace is recorded if the check fails.
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static void ensureTrue(boolean condition, StackTraceMode stackTraceMode, String messageFormat) {
+        EnsureStats.recordCheck();
+        if (!condition) {
+            fail(stackTraceMode, messageFormat);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given condition isn't true. The stack trace of the exception is
+     * recorded according to the given mode instead of the default {@link StackTraceMode}.
+     *
+     * @param stackTraceMode How much of the stack trace is recorded if the check fails.
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static void ensureTrue(boolean condition, StackTraceMode stackTraceMode, String messageFormat, Object messageArg) {
+        EnsureStats.recordCheck();
+        if (!condition) {
+            fail(stackTraceMode, messageFormat, messageArg);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given condition isn't true. The stack trace of the exception is
+     * recorded according to the given mode instead of the default {@link StackTraceMode}.
+     *
+     * @param stackTraceMode How much of the stack trace is recorded if the check fails.
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static void ensureTrue(boolean condition, StackTraceMode stackTraceMode, String messageFormat, int messageArg) {
+        EnsureStats.recordCheck();
+        if (!condition) {
+            fail(stackTraceMode, messageFormat, messageArg);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given condition isn't true. The stack trace of the exception is
+     * recorded according to the given mode instead of the default {@link StackTraceMode}.
+     *
+     * @param stackTraceMode How much of the stack trace is recorded if the check fails.
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static void ensureTrue(boolean condition, StackTraceMode stackTraceMode, String messageFormat, long messageArg) {
+        EnsureStats.recordCheck();
+        if (!condition) {
+            fail(stackTraceMode, messageFormat, messageArg);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given condition isn't true. The stack trace of the exception is
+     * recorded according to the given mode instead of the default {@link StackTraceMode}.
+     *
+     * @param stackTraceMode How much of the stack trace is recorded if the check fails.
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static void ensureTrue(boolean condition, StackTraceMode stackTraceMode, String messageFormat, Object messageArg1, Object messageArg2) {
+        EnsureStats.recordCheck();
+        if (!condition) {
+            fail(stackTraceMode, messageFormat, messageArg1, messageArg2);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given condition isn't true. The stack trace of the exception is
+     * recorded according to the given mode instead of the default {@link StackTraceMode}.
+     *
+     * @param stackTraceMode How much of the stack trace is recorded if the check fails.
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static void ensureTrue(boolean condition, StackTraceMode stackTraceMode, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        EnsureStats.recordCheck();
+        if (!condition) {
+            fail(stackTraceMode, messageFormat, messageArg1, messageArg2, messageArg3);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given condition isn't false.
+     */
+    public static void ensureFalse(boolean condition) {
+        ensureFalse(condition, Messages.CONDITION_FALSE);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given condition isn't false.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static void ensureFalse(boolean condition, String messageFormat, Object... messageArgs) {
+        EnsureStats.recordCheck();
+        if (condition) {
+            fail(messageFormat, messageArgs);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given condition isn't false.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static void ensureFalse(boolean condition, Supplier<String> messageSupplier) {
+        EnsureStats.recordCheck();
+        if (condition) {
+            fail(messageSupplier);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given condition isn't false.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <A> void ensureFalse(boolean condition, MessageSupplier1<A> messageSupplier, A messageArg) {
+        EnsureStats.recordCheck();
+        if (condition) {
+            fail(messageSupplier, messageArg);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given condition isn't false.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <A, B> void ensureFalse(boolean condition, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        EnsureStats.recordCheck();
+        if (condition) {
+            fail(messageSupplier, messageArg1, messageArg2);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given condition isn't false.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static void ensureFalse(boolean condition, String messageFormat) {
+        EnsureStats.recordCheck();
+        if (condition) {
+            fail(messageFormat);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given condition isn't false.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static void ensureFalse(boolean condition, String messageFormat, Object messageArg) {
+        EnsureStats.recordCheck();
+        if (condition) {
+            fail(messageFormat, messageArg);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given condition isn't false.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static void ensureFalse(boolean condition, String messageFormat, int messageArg) {
+        EnsureStats.recordCheck();
+        if (condition) {
+            fail(messageFormat, messageArg);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given condition isn't false.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static void ensureFalse(boolean condition, String messageFormat, long messageArg) {
+        EnsureStats.recordCheck();
+        if (condition) {
+            fail(messageFormat, messageArg);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given condition isn't false.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static void ensureFalse(boolean condition, String messageFormat, Object messageArg1, Object messageArg2) {
+        EnsureStats.recordCheck();
+        if (condition) {
+            fail(messageFormat, messageArg1, messageArg2);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given condition isn't false.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static void ensureFalse(boolean condition, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        EnsureStats.recordCheck();
+        if (condition) {
+            fail(messageFormat, messageArg1, messageArg2, messageArg3);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given condition isn't false. The stack trace of the exception is
+     * recorded according to the given mode instead of the default {@link StackTraceMode}.
+     *
+     * @param stackTraceMode How much of the stack trace is recorded if the check fails.
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static void ensureFalse(boolean condition, StackTraceMode stackTraceMode, String messageFormat, Object... messageArgs) {
+        EnsureStats.recordCheck();
+        if (condition) {
+            fail(stackTraceMode, messageFormat, messageArgs);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given condition isn't false. The stack trace of the exception is
+     * recorded according to the given mode instead of the default {@link StackTraceMode}.
+     *
+     * @param stackTraceMode How much of the stack trace is recorded if the check fails.
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static void ensureFalse(boolean condition, StackTraceMode stackTraceMode, Supplier<String> messageSupplier) {
+        EnsureStats.recordCheck();
+        if (condition) {
+            fail(stackTraceMode, messageSupplier);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given condition isn't false. The stack trace of the exception is
+     * recorded according to the given mode instead of the default {@link StackTraceMode}.
+     *
+     * @param stackTraceMode How much of the stack trace is recorded if the check fails.
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <A> void ensureFalse(boolean condition, StackTraceMode stackTraceMode, MessageSupplier1<A> messageSupplier, A messageArg) {
+        EnsureStats.recordCheck();
+        if (condition) {
+            fail(stackTraceMode, messageSupplier, messageArg);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given condition isn't false. The stack trace of the exception is
+     * recorded according to the given mode instead of the default {@link StackTraceMode}.
+     *
+     * @param stackTraceMode How much of the stack trace is recorded if the check fails.
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <A, B> void ensureFalse(boolean condition, StackTraceMode stackTraceMode, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        EnsureStats.recordCheck();
+        if (condition) {
+            fail(stackTraceMode, messageSupplier, messageArg1, messageArg2);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given condition isn't false. The stack trace of the exception is
+     * recorded according to the given mode instead of the default {@link StackTraceMode}.
+     *
+     * @param stackTraceMode How much of the stack trace is recorded if the check fails.
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static void ensureFalse(boolean condition, StackTraceMode stackTraceMode, String messageFormat) {
+        EnsureStats.recordCheck();
+        if (condition) {
+            fail(stackTraceMode, messageFormat);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given condition isn't false. The stack trace of the exception is
+     * recorded according to the given mode instead of the default {@link StackTraceMode}.
+     *
+     * @param stackTraceMode How much of the stack trace is recorded if the check fails.
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static void ensureFalse(boolean condition, StackTraceMode stackTraceMode, String messageFormat, Object messageArg) {
+        EnsureStats.recordCheck();
+        if (condition) {
+            fail(stackTraceMode, messageFormat, messageArg);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given condition isn't false. The stack trace of the exception is
+     * recorded according to the given mode instead of the default {@link StackTraceMode}.
+     *
+     * @param stackTraceMode How much of the stack trace is recorded if the check fails.
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static void ensureFalse(boolean condition, StackTraceMode stackTraceMode, String messageFormat, int messageArg) {
+        EnsureStats.recordCheck();
+        if (condition) {
+            fail(stackTraceMode, messageFormat, messageArg);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given condition isn't false. The stack trace of the exception is
+     * recorded according to the given mode instead of the default {@link StackTraceMode}.
+     *
+     * @param stackTraceMode How much of the stack trace is recorded if the check fails.
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static void ensureFalse(boolean condition, StackTraceMode stackTraceMode, String messageFormat, long messageArg) {
+        EnsureStats.recordCheck();
+        if (condition) {
+            fail(stackTraceMode, messageFormat, messageArg);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given condition isn't false. The stack trace of the exception is
+     * recorded according to the given mode instead of the default {@link StackTraceMode}.
+     *
+     * @param stackTraceMode How much of the stack trace is recorded if the check fails.
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static void ensureFalse(boolean condition, StackTraceMode stackTraceMode, String messageFormat, Object messageArg1, Object messageArg2) {
+        EnsureStats.recordCheck();
+        if (condition) {
+            fail(stackTraceMode, messageFormat, messageArg1, messageArg2);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given condition isn't false. The stack trace of the exception is
+     * recorded according to the given mode instead of the default {@link StackTraceMode}.
+     *
+     * @param stackTraceMode How much of the stack trace is recorded if the check fails.
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static void ensureFalse(boolean condition, StackTraceMode stackTraceMode, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        EnsureStats.recordCheck();
+        if (condition) {
+            fail(stackTraceMode, messageFormat, messageArg1, messageArg2, messageArg3);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     */
+    public static String ensureNotEmpty(String value) {
+        return ensureNotEmpty(value, Messages.STRING_NOT_EMPTY);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static String ensureNotEmpty(String value, String messageFormat, Object... messageArgs) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static String ensureNotEmpty(String value, Supplier<String> messageSupplier) {
+        ensureTrue(value != null && !value.isEmpty(), messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <A> String ensureNotEmpty(String value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        ensureTrue(value != null && !value.isEmpty(), messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <A, B> String ensureNotEmpty(String value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        ensureTrue(value != null && !value.isEmpty(), messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static String ensureNotEmpty(String value, String messageFormat) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static String ensureNotEmpty(String value, String messageFormat, Object messageArg) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static String ensureNotEmpty(String value, String messageFormat, int messageArg) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static String ensureNotEmpty(String value, String messageFormat, long messageArg) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static String ensureNotEmpty(String value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static String ensureNotEmpty(String value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     */
+    public static <V> Collection<V> ensureNotEmpty(Collection<V> value) {
+        return ensureNotEmpty(value, Messages.COLLECTION_NOT_EMPTY);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static <V> Collection<V> ensureNotEmpty(Collection<V> value, String messageFormat, Object... messageArgs) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static <V> Collection<V> ensureNotEmpty(Collection<V> value, Supplier<String> messageSupplier) {
+        ensureTrue(value != null && !value.isEmpty(), messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <V, A> Collection<V> ensureNotEmpty(Collection<V> value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        ensureTrue(value != null && !value.isEmpty(), messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <V, A, B> Collection<V> ensureNotEmpty(Collection<V> value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        ensureTrue(value != null && !value.isEmpty(), messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static <V> Collection<V> ensureNotEmpty(Collection<V> value, String messageFormat) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static <V> Collection<V> ensureNotEmpty(Collection<V> value, String messageFormat, Object messageArg) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static <V> Collection<V> ensureNotEmpty(Collection<V> value, String messageFormat, int messageArg) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static <V> Collection<V> ensureNotEmpty(Collection<V> value, String messageFormat, long messageArg) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static <V> Collection<V> ensureNotEmpty(Collection<V> value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static <V> Collection<V> ensureNotEmpty(Collection<V> value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     */
+    public static <V> List<V> ensureNotEmpty(List<V> value) {
+        return ensureNotEmpty(value, Messages.COLLECTION_NOT_EMPTY);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static <V> List<V> ensureNotEmpty(List<V> value, String messageFormat, Object... messageArgs) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static <V> List<V> ensureNotEmpty(List<V> value, Supplier<String> messageSupplier) {
+        ensureTrue(value != null && !value.isEmpty(), messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <V, A> List<V> ensureNotEmpty(List<V> value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        ensureTrue(value != null && !value.isEmpty(), messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <V, A, B> List<V> ensureNotEmpty(List<V> value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        ensureTrue(value != null && !value.isEmpty(), messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static <V> List<V> ensureNotEmpty(List<V> value, String messageFormat) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static <V> List<V> ensureNotEmpty(List<V> value, String messageFormat, Object messageArg) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static <V> List<V> ensureNotEmpty(List<V> value, String messageFormat, int messageArg) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static <V> List<V> ensureNotEmpty(List<V> value, String messageFormat, long messageArg) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static <V> List<V> ensureNotEmpty(List<V> value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static <V> List<V> ensureNotEmpty(List<V> value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     */
+    public static <V> V[] ensureNotEmpty(V[] value) {
+        return ensureNotEmpty(value, Messages.ARRAY_NOT_EMPTY);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static <V> V[] ensureNotEmpty(V[] value, String messageFormat, Object... messageArgs) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static <V> V[] ensureNotEmpty(V[] value, Supplier<String> messageSupplier) {
+        ensureTrue(value != null && value.length > 0, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <V, A> V[] ensureNotEmpty(V[] value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        ensureTrue(value != null && value.length > 0, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <V, A, B> V[] ensureNotEmpty(V[] value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        ensureTrue(value != null && value.length > 0, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static <V> V[] ensureNotEmpty(V[] value, String messageFormat) {
+        ensureTrue(value != null && value.length > 0, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static <V> V[] ensureNotEmpty(V[] value, String messageFormat, Object messageArg) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static <V> V[] ensureNotEmpty(V[] value, String messageFormat, int messageArg) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static <V> V[] ensureNotEmpty(V[] value, String messageFormat, long messageArg) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static <V> V[] ensureNotEmpty(V[] value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static <V> V[] ensureNotEmpty(V[] value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     */
+    public static boolean[] ensureNotEmpty(boolean[] value) {
+        return ensureNotEmpty(value, Messages.ARRAY_NOT_EMPTY);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static boolean[] ensureNotEmpty(boolean[] value, String messageFormat, Object... messageArgs) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static boolean[] ensureNotEmpty(boolean[] value, String messageFormat) {
+        ensureTrue(value != null && value.length > 0, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static boolean[] ensureNotEmpty(boolean[] value, String messageFormat, Object messageArg) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static boolean[] ensureNotEmpty(boolean[] value, String messageFormat, int messageArg) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static boolean[] ensureNotEmpty(boolean[] value, String messageFormat, long messageArg) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static boolean[] ensureNotEmpty(boolean[] value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static boolean[] ensureNotEmpty(boolean[] value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static boolean[] ensureNotEmpty(boolean[] value, Supplier<String> messageSupplier) {
+        ensureTrue(value != null && value.length > 0, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <A> boolean[] ensureNotEmpty(boolean[] value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        ensureTrue(value != null && value.length > 0, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <A, B> boolean[] ensureNotEmpty(boolean[] value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        ensureTrue(value != null && value.length > 0, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     */
+    public static byte[] ensureNotEmpty(byte[] value) {
+        return ensureNotEmpty(value, Messages.ARRAY_NOT_EMPTY);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static byte[] ensureNotEmpty(byte[] value, String messageFormat, Object... messageArgs) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static byte[] ensureNotEmpty(byte[] value, String messageFormat) {
+        ensureTrue(value != null && value.length > 0, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static byte[] ensureNotEmpty(byte[] value, String messageFormat, Object messageArg) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static byte[] ensureNotEmpty(byte[] value, String messageFormat, int messageArg) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static byte[] ensureNotEmpty(byte[] value, String messageFormat, long messageArg) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static byte[] ensureNotEmpty(byte[] value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static byte[] ensureNotEmpty(byte[] value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static byte[] ensureNotEmpty(byte[] value, Supplier<String> messageSupplier) {
+        ensureTrue(value != null && value.length > 0, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <A> byte[] ensureNotEmpty(byte[] value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        ensureTrue(value != null && value.length > 0, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <A, B> byte[] ensureNotEmpty(byte[] value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        ensureTrue(value != null && value.length > 0, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     */
+    public static short[] ensureNotEmpty(short[] value) {
+        return ensureNotEmpty(value, Messages.ARRAY_NOT_EMPTY);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static short[] ensureNotEmpty(short[] value, String messageFormat, Object... messageArgs) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static short[] ensureNotEmpty(short[] value, String messageFormat) {
+        ensureTrue(value != null && value.length > 0, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static short[] ensureNotEmpty(short[] value, String messageFormat, Object messageArg) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static short[] ensureNotEmpty(short[] value, String messageFormat, int messageArg) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static short[] ensureNotEmpty(short[] value, String messageFormat, long messageArg) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static short[] ensureNotEmpty(short[] value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static short[] ensureNotEmpty(short[] value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static short[] ensureNotEmpty(short[] value, Supplier<String> messageSupplier) {
+        ensureTrue(value != null && value.length > 0, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <A> short[] ensureNotEmpty(short[] value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        ensureTrue(value != null && value.length > 0, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <A, B> short[] ensureNotEmpty(short[] value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        ensureTrue(value != null && value.length > 0, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     */
+    public static char[] ensureNotEmpty(char[] value) {
+        return ensureNotEmpty(value, Messages.ARRAY_NOT_EMPTY);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static char[] ensureNotEmpty(char[] value, String messageFormat, Object... messageArgs) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static char[] ensureNotEmpty(char[] value, String messageFormat) {
+        ensureTrue(value != null && value.length > 0, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static char[] ensureNotEmpty(char[] value, String messageFormat, Object messageArg) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static char[] ensureNotEmpty(char[] value, String messageFormat, int messageArg) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static char[] ensureNotEmpty(char[] value, String messageFormat, long messageArg) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static char[] ensureNotEmpty(char[] value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static char[] ensureNotEmpty(char[] value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static char[] ensureNotEmpty(char[] value, Supplier<String> messageSupplier) {
+        ensureTrue(value != null && value.length > 0, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <A> char[] ensureNotEmpty(char[] value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        ensureTrue(value != null && value.length > 0, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <A, B> char[] ensureNotEmpty(char[] value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        ensureTrue(value != null && value.length > 0, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     */
+    public static int[] ensureNotEmpty(int[] value) {
+        return ensureNotEmpty(value, Messages.ARRAY_NOT_EMPTY);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static int[] ensureNotEmpty(int[] value, String messageFormat, Object... messageArgs) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static int[] ensureNotEmpty(int[] value, String messageFormat) {
+        ensureTrue(value != null && value.length > 0, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static int[] ensureNotEmpty(int[] value, String messageFormat, Object messageArg) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static int[] ensureNotEmpty(int[] value, String messageFormat, int messageArg) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static int[] ensureNotEmpty(int[] value, String messageFormat, long messageArg) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static int[] ensureNotEmpty(int[] value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static int[] ensureNotEmpty(int[] value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static int[] ensureNotEmpty(int[] value, Supplier<String> messageSupplier) {
+        ensureTrue(value != null && value.length > 0, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <A> int[] ensureNotEmpty(int[] value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        ensureTrue(value != null && value.length > 0, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <A, B> int[] ensureNotEmpty(int[] value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        ensureTrue(value != null && value.length > 0, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     */
+    public static long[] ensureNotEmpty(long[] value) {
+        return ensureNotEmpty(value, Messages.ARRAY_NOT_EMPTY);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static long[] ensureNotEmpty(long[] value, String messageFormat, Object... messageArgs) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static long[] ensureNotEmpty(long[] value, String messageFormat) {
+        ensureTrue(value != null && value.length > 0, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static long[] ensureNotEmpty(long[] value, String messageFormat, Object messageArg) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static long[] ensureNotEmpty(long[] value, String messageFormat, int messageArg) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static long[] ensureNotEmpty(long[] value, String messageFormat, long messageArg) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static long[] ensureNotEmpty(long[] value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static long[] ensureNotEmpty(long[] value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static long[] ensureNotEmpty(long[] value, Supplier<String> messageSupplier) {
+        ensureTrue(value != null && value.length > 0, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <A> long[] ensureNotEmpty(long[] value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        ensureTrue(value != null && value.length > 0, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <A, B> long[] ensureNotEmpty(long[] value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        ensureTrue(value != null && value.length > 0, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     */
+    public static float[] ensureNotEmpty(float[] value) {
+        return ensureNotEmpty(value, Messages.ARRAY_NOT_EMPTY);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static float[] ensureNotEmpty(float[] value, String messageFormat, Object... messageArgs) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static float[] ensureNotEmpty(float[] value, String messageFormat) {
+        ensureTrue(value != null && value.length > 0, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static float[] ensureNotEmpty(float[] value, String messageFormat, Object messageArg) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static float[] ensureNotEmpty(float[] value, String messageFormat, int messageArg) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static float[] ensureNotEmpty(float[] value, String messageFormat, long messageArg) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static float[] ensureNotEmpty(float[] value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static float[] ensureNotEmpty(float[] value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static float[] ensureNotEmpty(float[] value, Supplier<String> messageSupplier) {
+        ensureTrue(value != null && value.length > 0, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <A> float[] ensureNotEmpty(float[] value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        ensureTrue(value != null && value.length > 0, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <A, B> float[] ensureNotEmpty(float[] value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        ensureTrue(value != null && value.length > 0, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     */
+    public static double[] ensureNotEmpty(double[] value) {
+        return ensureNotEmpty(value, Messages.ARRAY_NOT_EMPTY);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static double[] ensureNotEmpty(double[] value, String messageFormat, Object... messageArgs) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static double[] ensureNotEmpty(double[] value, String messageFormat) {
+        ensureTrue(value != null && value.length > 0, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static double[] ensureNotEmpty(double[] value, String messageFormat, Object messageArg) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static double[] ensureNotEmpty(double[] value, String messageFormat, int messageArg) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static double[] ensureNotEmpty(double[] value, String messageFormat, long messageArg) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static double[] ensureNotEmpty(double[] value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static double[] ensureNotEmpty(double[] value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static double[] ensureNotEmpty(double[] value, Supplier<String> messageSupplier) {
+        ensureTrue(value != null && value.length > 0, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <A> double[] ensureNotEmpty(double[] value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        ensureTrue(value != null && value.length > 0, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <A, B> double[] ensureNotEmpty(double[] value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        ensureTrue(value != null && value.length > 0, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     */
+    public static <K, V> Map<K, V> ensureNotEmpty(Map<K, V> value) {
+        return ensureNotEmpty(value, Messages.MAP_NOT_EMPTY);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static <K, V> Map<K, V> ensureNotEmpty(Map<K, V> value, String messageFormat, Object... messageArgs) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static <K, V> Map<K, V> ensureNotEmpty(Map<K, V> value, Supplier<String> messageSupplier) {
+        ensureTrue(value != null && !value.isEmpty(), messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <K, V, A> Map<K, V> ensureNotEmpty(Map<K, V> value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        ensureTrue(value != null && !value.isEmpty(), messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <K, V, A, B> Map<K, V> ensureNotEmpty(Map<K, V> value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        ensureTrue(value != null && !value.isEmpty(), messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static <K, V> Map<K, V> ensureNotEmpty(Map<K, V> value, String messageFormat) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static <K, V> Map<K, V> ensureNotEmpty(Map<K, V> value, String messageFormat, Object messageArg) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static <K, V> Map<K, V> ensureNotEmpty(Map<K, V> value, String messageFormat, int messageArg) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static <K, V> Map<K, V> ensureNotEmpty(Map<K, V> value, String messageFormat, long messageArg) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static <K, V> Map<K, V> ensureNotEmpty(Map<K, V> value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static <K, V> Map<K, V> ensureNotEmpty(Map<K, V> value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     */
+    public static String ensureEmpty(String value) {
+        return ensureEmpty(value, Messages.STRING_EMPTY);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static String ensureEmpty(String value, String messageFormat, Object... messageArgs) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static String ensureEmpty(String value, Supplier<String> messageSupplier) {
+        ensureTrue(value == null || value.isEmpty(), messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <A> String ensureEmpty(String value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        ensureTrue(value == null || value.isEmpty(), messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <A, B> String ensureEmpty(String value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        ensureTrue(value == null || value.isEmpty(), messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static String ensureEmpty(String value, String messageFormat) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static String ensureEmpty(String value, String messageFormat, Object messageArg) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static String ensureEmpty(String value, String messageFormat, int messageArg) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static String ensureEmpty(String value, String messageFormat, long messageArg) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static String ensureEmpty(String value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static String ensureEmpty(String value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     */
+    public static <V> Collection<V> ensureEmpty(Collection<V> value) {
+        return ensureEmpty(value, Messages.COLLECTION_EMPTY);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static <V> Collection<V> ensureEmpty(Collection<V> value, String messageFormat, Object... messageArgs) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static <V> Collection<V> ensureEmpty(Collection<V> value, Supplier<String> messageSupplier) {
+        ensureTrue(value == null || value.isEmpty(), messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <V, A> Collection<V> ensureEmpty(Collection<V> value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        ensureTrue(value == null || value.isEmpty(), messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <V, A, B> Collection<V> ensureEmpty(Collection<V> value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        ensureTrue(value == null || value.isEmpty(), messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static <V> Collection<V> ensureEmpty(Collection<V> value, String messageFormat) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static <V> Collection<V> ensureEmpty(Collection<V> value, String messageFormat, Object messageArg) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static <V> Collection<V> ensureEmpty(Collection<V> value, String messageFormat, int messageArg) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static <V> Collection<V> ensureEmpty(Collection<V> value, String messageFormat, long messageArg) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static <V> Collection<V> ensureEmpty(Collection<V> value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static <V> Collection<V> ensureEmpty(Collection<V> value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     */
+    public static <V> List<V> ensureEmpty(List<V> value) {
+        return ensureEmpty(value, Messages.COLLECTION_EMPTY);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static <V> List<V> ensureEmpty(List<V> value, String messageFormat, Object... messageArgs) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static <V> List<V> ensureEmpty(List<V> value, Supplier<String> messageSupplier) {
+        ensureTrue(value == null || value.isEmpty(), messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <V, A> List<V> ensureEmpty(List<V> value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        ensureTrue(value == null || value.isEmpty(), messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <V, A, B> List<V> ensureEmpty(List<V> value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        ensureTrue(value == null || value.isEmpty(), messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static <V> List<V> ensureEmpty(List<V> value, String messageFormat) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static <V> List<V> ensureEmpty(List<V> value, String messageFormat, Object messageArg) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static <V> List<V> ensureEmpty(List<V> value, String messageFormat, int messageArg) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static <V> List<V> ensureEmpty(List<V> value, String messageFormat, long messageArg) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static <V> List<V> ensureEmpty(List<V> value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static <V> List<V> ensureEmpty(List<V> value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     */
+    public static <K, V> Map<K, V> ensureEmpty(Map<K, V> value) {
+        return ensureEmpty(value, Messages.MAP_EMPTY);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static <K, V> Map<K, V> ensureEmpty(Map<K, V> value, String messageFormat, Object... messageArgs) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static <K, V> Map<K, V> ensureEmpty(Map<K, V> value, Supplier<String> messageSupplier) {
+        ensureTrue(value == null || value.isEmpty(), messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <K, V, A> Map<K, V> ensureEmpty(Map<K, V> value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        ensureTrue(value == null || value.isEmpty(), messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <K, V, A, B> Map<K, V> ensureEmpty(Map<K, V> value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        ensureTrue(value == null || value.isEmpty(), messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static <K, V> Map<K, V> ensureEmpty(Map<K, V> value, String messageFormat) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static <K, V> Map<K, V> ensureEmpty(Map<K, V> value, String messageFormat, Object messageArg) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static <K, V> Map<K, V> ensureEmpty(Map<K, V> value, String messageFormat, int messageArg) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static <K, V> Map<K, V> ensureEmpty(Map<K, V> value, String messageFormat, long messageArg) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static <K, V> Map<K, V> ensureEmpty(Map<K, V> value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static <K, V> Map<K, V> ensureEmpty(Map<K, V> value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     */
+    public static <V> V[] ensureEmpty(V[] value) {
+        return ensureEmpty(value, Messages.ARRAY_EMPTY);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static <V> V[] ensureEmpty(V[] value, String messageFormat, Object... messageArgs) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static <V> V[] ensureEmpty(V[] value, Supplier<String> messageSupplier) {
+        ensureTrue(value == null || value.length == 0, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <V, A> V[] ensureEmpty(V[] value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        ensureTrue(value == null || value.length == 0, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <V, A, B> V[] ensureEmpty(V[] value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        ensureTrue(value == null || value.length == 0, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static <V> V[] ensureEmpty(V[] value, String messageFormat) {
+        ensureTrue(value == null || value.length == 0, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static <V> V[] ensureEmpty(V[] value, String messageFormat, Object messageArg) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static <V> V[] ensureEmpty(V[] value, String messageFormat, int messageArg) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static <V> V[] ensureEmpty(V[] value, String messageFormat, long messageArg) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static <V> V[] ensureEmpty(V[] value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static <V> V[] ensureEmpty(V[] value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     */
+    public static boolean[] ensureEmpty(boolean[] value) {
+        return ensureEmpty(value, Messages.ARRAY_EMPTY);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static boolean[] ensureEmpty(boolean[] value, String messageFormat, Object... messageArgs) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static boolean[] ensureEmpty(boolean[] value, String messageFormat) {
+        ensureTrue(value == null || value.length == 0, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static boolean[] ensureEmpty(boolean[] value, String messageFormat, Object messageArg) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static boolean[] ensureEmpty(boolean[] value, String messageFormat, int messageArg) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static boolean[] ensureEmpty(boolean[] value, String messageFormat, long messageArg) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static boolean[] ensureEmpty(boolean[] value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static boolean[] ensureEmpty(boolean[] value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static boolean[] ensureEmpty(boolean[] value, Supplier<String> messageSupplier) {
+        ensureTrue(value == null || value.length == 0, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <A> boolean[] ensureEmpty(boolean[] value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        ensureTrue(value == null || value.length == 0, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <A, B> boolean[] ensureEmpty(boolean[] value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        ensureTrue(value == null || value.length == 0, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     */
+    public static byte[] ensureEmpty(byte[] value) {
+        return ensureEmpty(value, Messages.ARRAY_EMPTY);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static byte[] ensureEmpty(byte[] value, String messageFormat, Object... messageArgs) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static byte[] ensureEmpty(byte[] value, String messageFormat) {
+        ensureTrue(value == null || value.length == 0, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static byte[] ensureEmpty(byte[] value, String messageFormat, Object messageArg) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static byte[] ensureEmpty(byte[] value, String messageFormat, int messageArg) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static byte[] ensureEmpty(byte[] value, String messageFormat, long messageArg) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static byte[] ensureEmpty(byte[] value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static byte[] ensureEmpty(byte[] value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static byte[] ensureEmpty(byte[] value, Supplier<String> messageSupplier) {
+        ensureTrue(value == null || value.length == 0, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <A> byte[] ensureEmpty(byte[] value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        ensureTrue(value == null || value.length == 0, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <A, B> byte[] ensureEmpty(byte[] value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        ensureTrue(value == null || value.length == 0, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     */
+    public static short[] ensureEmpty(short[] value) {
+        return ensureEmpty(value, Messages.ARRAY_EMPTY);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static short[] ensureEmpty(short[] value, String messageFormat, Object... messageArgs) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static short[] ensureEmpty(short[] value, String messageFormat) {
+        ensureTrue(value == null || value.length == 0, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static short[] ensureEmpty(short[] value, String messageFormat, Object messageArg) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static short[] ensureEmpty(short[] value, String messageFormat, int messageArg) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static short[] ensureEmpty(short[] value, String messageFormat, long messageArg) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static short[] ensureEmpty(short[] value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static short[] ensureEmpty(short[] value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static short[] ensureEmpty(short[] value, Supplier<String> messageSupplier) {
+        ensureTrue(value == null || value.length == 0, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <A> short[] ensureEmpty(short[] value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        ensureTrue(value == null || value.length == 0, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <A, B> short[] ensureEmpty(short[] value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        ensureTrue(value == null || value.length == 0, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     */
+    public static char[] ensureEmpty(char[] value) {
+        return ensureEmpty(value, Messages.ARRAY_EMPTY);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static char[] ensureEmpty(char[] value, String messageFormat, Object... messageArgs) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static char[] ensureEmpty(char[] value, String messageFormat) {
+        ensureTrue(value == null || value.length == 0, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static char[] ensureEmpty(char[] value, String messageFormat, Object messageArg) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static char[] ensureEmpty(char[] value, String messageFormat, int messageArg) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static char[] ensureEmpty(char[] value, String messageFormat, long messageArg) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static char[] ensureEmpty(char[] value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static char[] ensureEmpty(char[] value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static char[] ensureEmpty(char[] value, Supplier<String> messageSupplier) {
+        ensureTrue(value == null || value.length == 0, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <A> char[] ensureEmpty(char[] value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        ensureTrue(value == null || value.length == 0, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <A, B> char[] ensureEmpty(char[] value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        ensureTrue(value == null || value.length == 0, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     */
+    public static int[] ensureEmpty(int[] value) {
+        return ensureEmpty(value, Messages.ARRAY_EMPTY);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static int[] ensureEmpty(int[] value, String messageFormat, Object... messageArgs) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static int[] ensureEmpty(int[] value, String messageFormat) {
+        ensureTrue(value == null || value.length == 0, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static int[] ensureEmpty(int[] value, String messageFormat, Object messageArg) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static int[] ensureEmpty(int[] value, String messageFormat, int messageArg) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static int[] ensureEmpty(int[] value, String messageFormat, long messageArg) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static int[] ensureEmpty(int[] value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static int[] ensureEmpty(int[] value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static int[] ensureEmpty(int[] value, Supplier<String> messageSupplier) {
+        ensureTrue(value == null || value.length == 0, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <A> int[] ensureEmpty(int[] value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        ensureTrue(value == null || value.length == 0, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <A, B> int[] ensureEmpty(int[] value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        ensureTrue(value == null || value.length == 0, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     */
+    public static long[] ensureEmpty(long[] value) {
+        return ensureEmpty(value, Messages.ARRAY_EMPTY);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static long[] ensureEmpty(long[] value, String messageFormat, Object... messageArgs) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static long[] ensureEmpty(long[] value, String messageFormat) {
+        ensureTrue(value == null || value.length == 0, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static long[] ensureEmpty(long[] value, String messageFormat, Object messageArg) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static long[] ensureEmpty(long[] value, String messageFormat, int messageArg) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static long[] ensureEmpty(long[] value, String messageFormat, long messageArg) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static long[] ensureEmpty(long[] value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static long[] ensureEmpty(long[] value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static long[] ensureEmpty(long[] value, Supplier<String> messageSupplier) {
+        ensureTrue(value == null || value.length == 0, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <A> long[] ensureEmpty(long[] value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        ensureTrue(value == null || value.length == 0, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <A, B> long[] ensureEmpty(long[] value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        ensureTrue(value == null || value.length == 0, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     */
+    public static float[] ensureEmpty(float[] value) {
+        return ensureEmpty(value, Messages.ARRAY_EMPTY);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static float[] ensureEmpty(float[] value, String messageFormat, Object... messageArgs) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static float[] ensureEmpty(float[] value, String messageFormat) {
+        ensureTrue(value == null || value.length == 0, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static float[] ensureEmpty(float[] value, String messageFormat, Object messageArg) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static float[] ensureEmpty(float[] value, String messageFormat, int messageArg) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static float[] ensureEmpty(float[] value, String messageFormat, long messageArg) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static float[] ensureEmpty(float[] value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static float[] ensureEmpty(float[] value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static float[] ensureEmpty(float[] value, Supplier<String> messageSupplier) {
+        ensureTrue(value == null || value.length == 0, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <A> float[] ensureEmpty(float[] value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        ensureTrue(value == null || value.length == 0, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <A, B> float[] ensureEmpty(float[] value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        ensureTrue(value == null || value.length == 0, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     */
+    public static double[] ensureEmpty(double[] value) {
+        return ensureEmpty(value, Messages.ARRAY_EMPTY);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static double[] ensureEmpty(double[] value, String messageFormat, Object... messageArgs) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static double[] ensureEmpty(double[] value, String messageFormat) {
+        ensureTrue(value == null || value.length == 0, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static double[] ensureEmpty(double[] value, String messageFormat, Object messageArg) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static double[] ensureEmpty(double[] value, String messageFormat, int messageArg) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static double[] ensureEmpty(double[] value, String messageFormat, long messageArg) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static double[] ensureEmpty(double[] value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static double[] ensureEmpty(double[] value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(value == null || value.length == 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static double[] ensureEmpty(double[] value, Supplier<String> messageSupplier) {
+        ensureTrue(value == null || value.length == 0, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <A> double[] ensureEmpty(double[] value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        ensureTrue(value == null || value.length == 0, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <A, B> double[] ensureEmpty(double[] value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        ensureTrue(value == null || value.length == 0, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Returns the immutable set of the given types, for checking values by
+     * {@link #ensureInstanceOfAny(TypeSet, Object)}. The set caches the result per checked class and should be
+     * kept in a constant.
+     */
+    public static TypeSet typeSet(Class<?>... types) {
+        ensureAllNotNull(types, "types must not contain null");
+        return new TypeSet(types.clone());
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is null or not an instance of any of the given types.
+     * The types are checked one after the other, prefer {@link #ensureInstanceOfAny(TypeSet, Object)} for
+     * frequent checks.
+     *
+     * @return The checked value.
+     */
+    public static Object ensureInstanceOfAny(Object value, Class<?>... types) {
+        EnsureStats.recordCheck();
+        if (value != null) {
+            for (Class<?> type : types) {
+                if (type.isInstance(value)) {
+                    return value;
+                }
+            }
+        }
+        fail(Messages.INSTANCE_OF_ANY, Arrays.toString(types), value == null ? null : value.getClass());
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is null or not an instance of any of the types of
+     * the given set. The result is cached per class of the checked values.
+     *
+     * @return The checked value.
+     */
+    public static Object ensureInstanceOfAny(TypeSet types, Object value) {
+        EnsureStats.recordCheck();
+        if (!types.contains(value)) {
+            fail(Messages.INSTANCE_OF_ANY, types, value == null ? null : value.getClass());
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is null or not an instance of any of the types of
+     * the given set. The result is cached per class of the checked values.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checked value.
+     */
+    public static Object ensureInstanceOfAny(TypeSet types, Object value, String messageFormat, Object... messageArgs) {
+        EnsureStats.recordCheck();
+        if (!types.contains(value)) {
+            fail(messageFormat, messageArgs);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is null or not an instance of any of the types of
+     * the given set. The result is cached per class of the checked values.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checked value.
+     */
+    public static Object ensureInstanceOfAny(TypeSet types, Object value, String messageFormat) {
+        EnsureStats.recordCheck();
+        if (!types.contains(value)) {
+            fail(messageFormat);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is null or not an instance of any of the types of
+     * the given set. The result is cached per class of the checked values.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked value.
+     */
+    public static Object ensureInstanceOfAny(TypeSet types, Object value, String messageFormat, Object messageArg) {
+        EnsureStats.recordCheck();
+        if (!types.contains(value)) {
+            fail(messageFormat, messageArg);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is null or not an instance of any of the types of
+     * the given set. The result is cached per class of the checked values.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked value.
+     */
+    public static Object ensureInstanceOfAny(TypeSet types, Object value, String messageFormat, int messageArg) {
+        EnsureStats.recordCheck();
+        if (!types.contains(value)) {
+            fail(messageFormat, messageArg);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is null or not an instance of any of the types of
+     * the given set. The result is cached per class of the checked values.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked value.
+     */
+    public static Object ensureInstanceOfAny(TypeSet types, Object value, String messageFormat, long messageArg) {
+        EnsureStats.recordCheck();
+        if (!types.contains(value)) {
+            fail(messageFormat, messageArg);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is null or not an instance of any of the types of
+     * the given set. The result is cached per class of the checked values.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checked value.
+     */
+    public static Object ensureInstanceOfAny(TypeSet types, Object value, String messageFormat, Object messageArg1, Object messageArg2) {
+        EnsureStats.recordCheck();
+        if (!types.contains(value)) {
+            fail(messageFormat, messageArg1, messageArg2);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is null or not an instance of any of the types of
+     * the given set. The result is cached per class of the checked values.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checked value.
+     */
+    public static Object ensureInstanceOfAny(TypeSet types, Object value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        EnsureStats.recordCheck();
+        if (!types.contains(value)) {
+            fail(messageFormat, messageArg1, messageArg2, messageArg3);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is null or not an instance of any of the types of
+     * the given set. The result is cached per class of the checked values.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checked value.
+     */
+    public static Object ensureInstanceOfAny(TypeSet types, Object value, Supplier<String> messageSupplier) {
+        EnsureStats.recordCheck();
+        if (!types.contains(value)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is null or not an instance of any of the types of
+     * the given set. The result is cached per class of the checked values.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checked value.
+     */
+    public static <A> Object ensureInstanceOfAny(TypeSet types, Object value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        EnsureStats.recordCheck();
+        if (!types.contains(value)) {
+            fail(messageSupplier, messageArg);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is null or not an instance of any of the types of
+     * the given set. The result is cached per class of the checked values.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checked value.
+     */
+    public static <A, B> Object ensureInstanceOfAny(TypeSet types, Object value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        EnsureStats.recordCheck();
+        if (!types.contains(value)) {
+            fail(messageSupplier, messageArg1, messageArg2);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not an instance of the specified class.
+     */
+    public static <V> V ensureInstanceOf(Class<V> clazz, Object value) {
+        EnsureStats.recordCheck();
+        if (clazz == null || !clazz.isInstance(value)) {
+            if (clazz == null) {
+                fail("clazz must not be null");
+            }
+            fail(Messages.INSTANCE_OF, clazz, value == null ? null : value.getClass());
+        }
+        return clazz.cast(value);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not an instance of the specified class.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static <V> V ensureInstanceOf(Class<V> clazz, Object value, String messageFormat, Object... messageArgs) {
+        EnsureStats.recordCheck();
+        if (clazz == null || !clazz.isInstance(value)) {
+            if (clazz == null) {
+                fail("clazz must not be null");
+            }
+            fail(messageFormat, messageArgs);
+        }
+        return clazz.cast(value);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not an instance of the specified class.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static <V> V ensureInstanceOf(Class<V> clazz, Object value, Supplier<String> messageSupplier) {
+        EnsureStats.recordCheck();
+        if (clazz == null || !clazz.isInstance(value)) {
+            if (clazz == null) {
+                fail("clazz must not be null");
+            }
+            fail(messageSupplier);
+        }
+        return clazz.cast(value);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not an instance of the specified class.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <V, A> V ensureInstanceOf(Class<V> clazz, Object value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        EnsureStats.recordCheck();
+        if (clazz == null || !clazz.isInstance(value)) {
+            if (clazz == null) {
+                fail("clazz must not be null");
+            }
+            fail(messageSupplier, messageArg);
+        }
+        return clazz.cast(value);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not an instance of the specified class.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <V, A, B> V ensureInstanceOf(Class<V> clazz, Object value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        EnsureStats.recordCheck();
+        if (clazz == null || !clazz.isInstance(value)) {
+            if (clazz == null) {
+                fail("clazz must not be null");
+            }
+            fail(messageSupplier, messageArg1, messageArg2);
+        }
+        return clazz.cast(value);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not an instance of the specified class.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static <V> V ensureInstanceOf(Class<V> clazz, Object value, String messageFormat) {
+        EnsureStats.recordCheck();
+        if (clazz == null || !clazz.isInstance(value)) {
+            if (clazz == null) {
+                fail("clazz must not be null");
+            }
+            fail(messageFormat);
+        }
+        return clazz.cast(value);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not an instance of the specified class.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static <V> V ensureInstanceOf(Class<V> clazz, Object value, String messageFormat, Object messageArg) {
+        EnsureStats.recordCheck();
+        if (clazz == null || !clazz.isInstance(value)) {
+            if (clazz == null) {
+                fail("clazz must not be null");
+            }
+            fail(messageFormat, messageArg);
+        }
+        return clazz.cast(value);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not an instance of the specified class.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static <V> V ensureInstanceOf(Class<V> clazz, Object value, String messageFormat, int messageArg) {
+        EnsureStats.recordCheck();
+        if (clazz == null || !clazz.isInstance(value)) {
+            if (clazz == null) {
+                fail("clazz must not be null");
+            }
+            fail(messageFormat, messageArg);
+        }
+        return clazz.cast(value);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not an instance of the specified class.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static <V> V ensureInstanceOf(Class<V> clazz, Object value, String messageFormat, long messageArg) {
+        EnsureStats.recordCheck();
+        if (clazz == null || !clazz.isInstance(value)) {
+            if (clazz == null) {
+                fail("clazz must not be null");
+            }
+            fail(messageFormat, messageArg);
+        }
+        return clazz.cast(value);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not an instance of the specified class.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static <V> V ensureInstanceOf(Class<V> clazz, Object value, String messageFormat, Object messageArg1, Object messageArg2) {
+        EnsureStats.recordCheck();
+        if (clazz == null || !clazz.isInstance(value)) {
+            if (clazz == null) {
+                fail("clazz must not be null");
+            }
+            fail(messageFormat, messageArg1, messageArg2);
+        }
+        return clazz.cast(value);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given value is not an instance of the specified class.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static <V> V ensureInstanceOf(Class<V> clazz, Object value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        EnsureStats.recordCheck();
+        if (clazz == null || !clazz.isInstance(value)) {
+            if (clazz == null) {
+                fail("clazz must not be null");
+            }
+            fail(messageFormat, messageArg1, messageArg2, messageArg3);
+        }
+        return clazz.cast(value);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does not exist.
+     *
+     * @param value The path to be checked.
+     * @return Returns the checked path.
+     */
+    public static Path ensureExists(Path value) {
+        return ensureExists(value, Messages.PATH_EXISTS, value);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return Returns the checked path.
+     */
+    public static Path ensureExists(Path value, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Files.exists(value), messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does not exist.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return Returns the checked path.
+     */
+    public static Path ensureExists(Path value, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Files.exists(value), messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does not exist.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return Returns the checked path.
+     */
+    public static <A> Path ensureExists(Path value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Files.exists(value), messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does not exist.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return Returns the checked path.
+     */
+    public static <A, B> Path ensureExists(Path value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Files.exists(value), messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return Returns the checked path.
+     */
+    public static Path ensureExists(Path value, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Files.exists(value), messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return Returns the checked path.
+     */
+    public static Path ensureExists(Path value, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Files.exists(value), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return Returns the checked path.
+     */
+    public static Path ensureExists(Path value, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Files.exists(value), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return Returns the checked path.
+     */
+    public static Path ensureExists(Path value, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Files.exists(value), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return Returns the checked path.
+     */
+    public static Path ensureExists(Path value, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Files.exists(value), messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return Returns the checked path.
+     */
+    public static Path ensureExists(Path value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Files.exists(value), messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does exist.
+     *
+     * @param value The path to be checked.
+     * @return Returns the checked path.
+     */
+    public static Path ensureNotExists(Path value) {
+        return ensureNotExists(value, Messages.PATH_NOT_EXISTS, value);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return Returns the checked directory.
+     */
+    public static Path ensureNotExists(Path value, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        ensureFalse(Files.exists(value), messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does exist.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return Returns the checked directory.
+     */
+    public static Path ensureNotExists(Path value, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        ensureFalse(Files.exists(value), messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does exist.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return Returns the checked directory.
+     */
+    public static <A> Path ensureNotExists(Path value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureFalse(Files.exists(value), messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does exist.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return Returns the checked directory.
+     */
+    public static <A, B> Path ensureNotExists(Path value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureFalse(Files.exists(value), messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return Returns the checked directory.
+     */
+    public static Path ensureNotExists(Path value, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        ensureFalse(Files.exists(value), messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return Returns the checked directory.
+     */
+    public static Path ensureNotExists(Path value, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureFalse(Files.exists(value), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return Returns the checked directory.
+     */
+    public static Path ensureNotExists(Path value, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureFalse(Files.exists(value), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return Returns the checked directory.
+     */
+    public static Path ensureNotExists(Path value, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureFalse(Files.exists(value), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return Returns the checked directory.
+     */
+    public static Path ensureNotExists(Path value, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureFalse(Files.exists(value), messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return Returns the checked directory.
+     */
+    public static Path ensureNotExists(Path value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        ensureFalse(Files.exists(value), messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path is not a directory.
+     *
+     * @param value The directory to be checked.
+     * @return Returns the checked directory.
+     */
+    public static Path ensureDirectory(Path value) {
+        return ensureDirectory(value, Messages.PATH_DIRECTORY, value);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return Returns the checked directory.
+     */
+    public static Path ensureDirectory(Path value, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Files.isDirectory(value), messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path is not a directory.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return Returns the checked directory.
+     */
+    public static Path ensureDirectory(Path value, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Files.isDirectory(value), messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path is not a directory.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return Returns the checked directory.
+     */
+    public static <A> Path ensureDirectory(Path value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Files.isDirectory(value), messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path is not a directory.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return Returns the checked directory.
+     */
+    public static <A, B> Path ensureDirectory(Path value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Files.isDirectory(value), messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return Returns the checked directory.
+     */
+    public static Path ensureDirectory(Path value, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Files.isDirectory(value), messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return Returns the checked directory.
+     */
+    public static Path ensureDirectory(Path value, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Files.isDirectory(value), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return Returns the checked directory.
+     */
+    public static Path ensureDirectory(Path value, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Files.isDirectory(value), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return Returns the checked directory.
+     */
+    public static Path ensureDirectory(Path value, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Files.isDirectory(value), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return Returns the checked directory.
+     */
+    public static Path ensureDirectory(Path value, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Files.isDirectory(value), messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return Returns the checked directory.
+     */
+    public static Path ensureDirectory(Path value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Files.isDirectory(value), messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does not exist.
+     *
+     * @param value The file to be checked.
+     * @return Returns the checked file.
+     */
+    public static File ensureExists(File value) {
+        return ensureExists(value, Messages.FILE_EXISTS, value);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static File ensureExists(File value, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(value.exists(), messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does not exist.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static File ensureExists(File value, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(value.exists(), messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does not exist.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <A> File ensureExists(File value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(value.exists(), messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does not exist.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <A, B> File ensureExists(File value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(value.exists(), messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static File ensureExists(File value, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(value.exists(), messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static File ensureExists(File value, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(value.exists(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static File ensureExists(File value, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(value.exists(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static File ensureExists(File value, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(value.exists(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static File ensureExists(File value, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(value.exists(), messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static File ensureExists(File value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(value.exists(), messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does exist.
+     */
+    public static File ensureNotExists(File value) {
+        return ensureNotExists(value, Messages.FILE_NOT_EXISTS, value);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static File ensureNotExists(File value, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        ensureFalse(value.exists(), messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does exist.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static File ensureNotExists(File value, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        ensureFalse(value.exists(), messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does exist.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <A> File ensureNotExists(File value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureFalse(value.exists(), messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does exist.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <A, B> File ensureNotExists(File value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureFalse(value.exists(), messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static File ensureNotExists(File value, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        ensureFalse(value.exists(), messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static File ensureNotExists(File value, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureFalse(value.exists(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static File ensureNotExists(File value, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureFalse(value.exists(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static File ensureNotExists(File value, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureFalse(value.exists(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static File ensureNotExists(File value, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureFalse(value.exists(), messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static File ensureNotExists(File value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        ensureFalse(value.exists(), messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path is not a directory.
+     */
+    public static File ensureDirectory(File value) {
+        return ensureDirectory(value, Messages.FILE_DIRECTORY, value);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static File ensureDirectory(File value, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(value.isDirectory(), messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path is not a directory.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static File ensureDirectory(File value, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(value.isDirectory(), messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path is not a directory.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <A> File ensureDirectory(File value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(value.isDirectory(), messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path is not a directory.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <A, B> File ensureDirectory(File value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(value.isDirectory(), messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static File ensureDirectory(File value, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(value.isDirectory(), messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static File ensureDirectory(File value, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(value.isDirectory(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static File ensureDirectory(File value, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(value.isDirectory(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static File ensureDirectory(File value, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(value.isDirectory(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static File ensureDirectory(File value, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(value.isDirectory(), messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static File ensureDirectory(File value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(value.isDirectory(), messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Returns composite checks of the given path, which are all resolved from a single read of the file attributes,
+     * e.g. {@code ensurePath(p).exists().regularFile().minSize(n)}. Symbolic links are followed unless
+     * {@link LinkOption#NOFOLLOW_LINKS} is given.
+     *
+     * @param value       The path to be checked.
+     * @param linkOptions Options indicating how symbolic links are handled.
+     */
+    public static PathCheck ensurePath(Path value, LinkOption... linkOptions) {
+        return new PathCheck(value, linkOptions);
+    }
+
+    /**
+     * Returns composite checks of the given file, which are all resolved from a single read of the file attributes,
+     * e.g. {@code ensurePath(f).exists().regularFile().minSize(n)}.
+     *
+     * @param value The file to be checked.
+     */
+    public static PathCheck ensurePath(File value) {
+        requireNotNull(value, "value must not be null");
+        return new PathCheck(value.toPath());
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Optional has no value.
+     */
+    public static <T> T ensureOptional(Optional<T> value) {
+        return ensureOptional(value, Messages.OPTIONAL_PRESENT);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Optional has no value.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static <T> T ensureOptional(Optional<T> value, String messageFormat, Object... messageArgs) {
+        ensureTrue(value.isPresent(), messageFormat, messageArgs);
+        return value.get();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Optional has no value.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static <T> T ensureOptional(Optional<T> value, Supplier<String> messageSupplier) {
+        ensureTrue(value.isPresent(), messageSupplier);
+        return value.get();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Optional has no value.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <T, A> T ensureOptional(Optional<T> value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        ensureTrue(value.isPresent(), messageSupplier, messageArg);
+        return value.get();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Optional has no value.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <T, A, B> T ensureOptional(Optional<T> value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        ensureTrue(value.isPresent(), messageSupplier, messageArg1, messageArg2);
+        return value.get();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Optional has no value.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static <T> T ensureOptional(Optional<T> value, String messageFormat) {
+        ensureTrue(value.isPresent(), messageFormat);
+        return value.get();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Optional has no value.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static <T> T ensureOptional(Optional<T> value, String messageFormat, Object messageArg) {
+        ensureTrue(value.isPresent(), messageFormat, messageArg);
+        return value.get();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Optional has no value.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static <T> T ensureOptional(Optional<T> value, String messageFormat, int messageArg) {
+        ensureTrue(value.isPresent(), messageFormat, messageArg);
+        return value.get();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Optional has no value.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static <T> T ensureOptional(Optional<T> value, String messageFormat, long messageArg) {
+        ensureTrue(value.isPresent(), messageFormat, messageArg);
+        return value.get();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Optional has no value.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static <T> T ensureOptional(Optional<T> value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(value.isPresent(), messageFormat, messageArg1, messageArg2);
+        return value.get();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Optional has no value.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static <T> T ensureOptional(Optional<T> value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(value.isPresent(), messageFormat, messageArg1, messageArg2, messageArg3);
+        return value.get();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given OptionalInt has no value.
+     */
+    public static int ensureOptional(OptionalInt value) {
+        return ensureOptional(value, Messages.OPTIONAL_PRESENT);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given OptionalInt has no value.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static int ensureOptional(OptionalInt value, String messageFormat, Object... messageArgs) {
+        ensureTrue(value.isPresent(), messageFormat, messageArgs);
+        return value.getAsInt();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given OptionalInt has no value.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static int ensureOptional(OptionalInt value, String messageFormat) {
+        ensureTrue(value.isPresent(), messageFormat);
+        return value.getAsInt();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given OptionalInt has no value.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static int ensureOptional(OptionalInt value, String messageFormat, Object messageArg) {
+        ensureTrue(value.isPresent(), messageFormat, messageArg);
+        return value.getAsInt();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given OptionalInt has no value.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static int ensureOptional(OptionalInt value, String messageFormat, int messageArg) {
+        ensureTrue(value.isPresent(), messageFormat, messageArg);
+        return value.getAsInt();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given OptionalInt has no value.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static int ensureOptional(OptionalInt value, String messageFormat, long messageArg) {
+        ensureTrue(value.isPresent(), messageFormat, messageArg);
+        return value.getAsInt();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given OptionalInt has no value.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static int ensureOptional(OptionalInt value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(value.isPresent(), messageFormat, messageArg1, messageArg2);
+        return value.getAsInt();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given OptionalInt has no value.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static int ensureOptional(OptionalInt value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(value.isPresent(), messageFormat, messageArg1, messageArg2, messageArg3);
+        return value.getAsInt();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given OptionalInt has no value.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static int ensureOptional(OptionalInt value, Supplier<String> messageSupplier) {
+        ensureTrue(value.isPresent(), messageSupplier);
+        return value.getAsInt();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given OptionalInt has no value.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <A> int ensureOptional(OptionalInt value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        ensureTrue(value.isPresent(), messageSupplier, messageArg);
+        return value.getAsInt();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given OptionalInt has no value.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <A, B> int ensureOptional(OptionalInt value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        ensureTrue(value.isPresent(), messageSupplier, messageArg1, messageArg2);
+        return value.getAsInt();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given OptionalLong has no value.
+     */
+    public static long ensureOptional(OptionalLong value) {
+        return ensureOptional(value, Messages.OPTIONAL_PRESENT);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given OptionalLong has no value.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static long ensureOptional(OptionalLong value, String messageFormat, Object... messageArgs) {
+        ensureTrue(value.isPresent(), messageFormat, messageArgs);
+        return value.getAsLong();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given OptionalLong has no value.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static long ensureOptional(OptionalLong value, String messageFormat) {
+        ensureTrue(value.isPresent(), messageFormat);
+        return value.getAsLong();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given OptionalLong has no value.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static long ensureOptional(OptionalLong value, String messageFormat, Object messageArg) {
+        ensureTrue(value.isPresent(), messageFormat, messageArg);
+        return value.getAsLong();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given OptionalLong has no value.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static long ensureOptional(OptionalLong value, String messageFormat, int messageArg) {
+        ensureTrue(value.isPresent(), messageFormat, messageArg);
+        return value.getAsLong();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given OptionalLong has no value.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static long ensureOptional(OptionalLong value, String messageFormat, long messageArg) {
+        ensureTrue(value.isPresent(), messageFormat, messageArg);
+        return value.getAsLong();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given OptionalLong has no value.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static long ensureOptional(OptionalLong value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(value.isPresent(), messageFormat, messageArg1, messageArg2);
+        return value.getAsLong();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given OptionalLong has no value.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static long ensureOptional(OptionalLong value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(value.isPresent(), messageFormat, messageArg1, messageArg2, messageArg3);
+        return value.getAsLong();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given OptionalLong has no value.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static long ensureOptional(OptionalLong value, Supplier<String> messageSupplier) {
+        ensureTrue(value.isPresent(), messageSupplier);
+        return value.getAsLong();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given OptionalLong has no value.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <A> long ensureOptional(OptionalLong value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        ensureTrue(value.isPresent(), messageSupplier, messageArg);
+        return value.getAsLong();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given OptionalLong has no value.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <A, B> long ensureOptional(OptionalLong value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        ensureTrue(value.isPresent(), messageSupplier, messageArg1, messageArg2);
+        return value.getAsLong();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given OptionalDouble has no value.
+     */
+    public static double ensureOptional(OptionalDouble value) {
+        return ensureOptional(value, Messages.OPTIONAL_PRESENT);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given OptionalDouble has no value.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static double ensureOptional(OptionalDouble value, String messageFormat, Object... messageArgs) {
+        ensureTrue(value.isPresent(), messageFormat, messageArgs);
+        return value.getAsDouble();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given OptionalDouble has no value.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static double ensureOptional(OptionalDouble value, String messageFormat) {
+        ensureTrue(value.isPresent(), messageFormat);
+        return value.getAsDouble();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given OptionalDouble has no value.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static double ensureOptional(OptionalDouble value, String messageFormat, Object messageArg) {
+        ensureTrue(value.isPresent(), messageFormat, messageArg);
+        return value.getAsDouble();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given OptionalDouble has no value.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static double ensureOptional(OptionalDouble value, String messageFormat, int messageArg) {
+        ensureTrue(value.isPresent(), messageFormat, messageArg);
+        return value.getAsDouble();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given OptionalDouble has no value.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static double ensureOptional(OptionalDouble value, String messageFormat, long messageArg) {
+        ensureTrue(value.isPresent(), messageFormat, messageArg);
+        return value.getAsDouble();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given OptionalDouble has no value.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static double ensureOptional(OptionalDouble value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(value.isPresent(), messageFormat, messageArg1, messageArg2);
+        return value.getAsDouble();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given OptionalDouble has no value.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static double ensureOptional(OptionalDouble value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(value.isPresent(), messageFormat, messageArg1, messageArg2, messageArg3);
+        return value.getAsDouble();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given OptionalDouble has no value.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public static double ensureOptional(OptionalDouble value, Supplier<String> messageSupplier) {
+        ensureTrue(value.isPresent(), messageSupplier);
+        return value.getAsDouble();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given OptionalDouble has no value.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <A> double ensureOptional(OptionalDouble value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        ensureTrue(value.isPresent(), messageSupplier, messageArg);
+        return value.getAsDouble();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given OptionalDouble has no value.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <A, B> double ensureOptional(OptionalDouble value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        ensureTrue(value.isPresent(), messageSupplier, messageArg1, messageArg2);
+        return value.getAsDouble();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} with the given message. This should be used in code blocks which shouldn't be reached.
+     * For example in a final else statement or the default block of a switch statement.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static void fail(String messageFormat, Object... messageArgs) {
+        EnsureStats.recordFailure(messageFormat);
+        throw EnsureFailedException.create(MessageTemplate.format(messageFormat, messageArgs));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} with the given message. This should be used in code blocks which shouldn't be reached.
+     * For example in a final else statement or the default block of a switch statement.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static void fail(String messageFormat) {
+        EnsureStats.recordFailure(messageFormat);
+        throw EnsureFailedException.create(MessageTemplate.format(messageFormat));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} with the given message. This should be used in code blocks which shouldn't be reached.
+     * For example in a final else statement or the default block of a switch statement.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static void fail(String messageFormat, Object messageArg) {
+        EnsureStats.recordFailure(messageFormat);
+        throw EnsureFailedException.create(MessageTemplate.format(messageFormat, messageArg));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} with the given message. This should be used in code blocks which shouldn't be reached.
+     * For example in a final else statement or the default block of a switch statement.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static void fail(String messageFormat, int messageArg) {
+        EnsureStats.recordFailure(messageFormat);
+        throw EnsureFailedException.create(MessageTemplate.format(messageFormat, messageArg));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} with the given message. This should be used in code blocks which shouldn't be reached.
+     * For example in a final else statement or the default block of a switch statement.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static void fail(String messageFormat, long messageArg) {
+        EnsureStats.recordFailure(messageFormat);
+        throw EnsureFailedException.create(MessageTemplate.format(messageFormat, messageArg));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} with the given message. This should be used in code blocks which shouldn't be reached.
+     * For example in a final else statement or the default block of a switch statement.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static void fail(String messageFormat, Object messageArg1, Object messageArg2) {
+        EnsureStats.recordFailure(messageFormat);
+        throw EnsureFailedException.create(MessageTemplate.format(messageFormat, messageArg1, messageArg2));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} with the given message. This should be used in code blocks which shouldn't be reached.
+     * For example in a final else statement or the default block of a switch statement.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static void fail(String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        EnsureStats.recordFailure(messageFormat);
+        throw EnsureFailedException.create(MessageTemplate.format(messageFormat, messageArg1, messageArg2, messageArg3));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} with the given message. This should be used in code blocks which shouldn't be reached.
+     * For example in a final else statement or the default block of a switch statement.
+     *
+     * @param messageSupplier Supplier of the exception message.
+     */
+    public static void fail(Supplier<String> messageSupplier) {
+        EnsureStats.recordFailure(null);
+        throw EnsureFailedException.create(messageSupplier.get());
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} with the given message. This should be used in code blocks which shouldn't be reached.
+     * For example in a final else statement or the default block of a switch statement.
+     *
+     * @param messageSupplier Function creating the exception message.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <A> void fail(MessageSupplier1<A> messageSupplier, A messageArg) {
+        EnsureStats.recordFailure(null);
+        throw EnsureFailedException.create(messageSupplier.get(messageArg));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} with the given message. This should be used in code blocks which shouldn't be reached.
+     * For example in a final else statement or the default block of a switch statement.
+     *
+     * @param messageSupplier Function creating the exception message.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <A, B> void fail(MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        EnsureStats.recordFailure(null);
+        throw EnsureFailedException.create(messageSupplier.get(messageArg1, messageArg2));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} with the given message. The stack trace of the exception is recorded
+     * according to the given mode instead of the default {@link StackTraceMode}.
+     *
+     * @param stackTraceMode How much of the stack trace is recorded if the check fails.
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public static void fail(StackTraceMode stackTraceMode, String messageFormat, Object... messageArgs) {
+        EnsureStats.recordFailure(messageFormat);
+        throw EnsureFailedException.create(MessageTemplate.format(messageFormat, messageArgs), stackTraceMode);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} with the given message. The stack trace of the exception is recorded
+     * according to the given mode instead of the default {@link StackTraceMode}.
+     *
+     * @param stackTraceMode How much of the stack trace is recorded if the check fails.
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public static void fail(StackTraceMode stackTraceMode, String messageFormat) {
+        EnsureStats.recordFailure(messageFormat);
+        throw EnsureFailedException.create(MessageTemplate.format(messageFormat), stackTraceMode);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} with the given message. The stack trace of the exception is recorded
+     * according to the given mode instead of the default {@link StackTraceMode}.
+     *
+     * @param stackTraceMode How much of the stack trace is recorded if the check fails.
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static void fail(StackTraceMode stackTraceMode, String messageFormat, Object messageArg) {
+        EnsureStats.recordFailure(messageFormat);
+        throw EnsureFailedException.create(MessageTemplate.format(messageFormat, messageArg), stackTraceMode);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} with the given message. The stack trace of the exception is recorded
+     * according to the given mode instead of the default {@link StackTraceMode}.
+     *
+     * @param stackTraceMode How much of the stack trace is recorded if the check fails.
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static void fail(StackTraceMode stackTraceMode, String messageFormat, int messageArg) {
+        EnsureStats.recordFailure(messageFormat);
+        throw EnsureFailedException.create(MessageTemplate.format(messageFormat, messageArg), stackTraceMode);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} with the given message. The stack trace of the exception is recorded
+     * according to the given mode instead of the default {@link StackTraceMode}.
+     *
+     * @param stackTraceMode How much of the stack trace is recorded if the check fails.
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public static void fail(StackTraceMode stackTraceMode, String messageFormat, long messageArg) {
+        EnsureStats.recordFailure(messageFormat);
+        throw EnsureFailedException.create(MessageTemplate.format(messageFormat, messageArg), stackTraceMode);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} with the given message. The stack trace of the exception is recorded
+     * according to the given mode instead of the default {@link StackTraceMode}.
+     *
+     * @param stackTraceMode How much of the stack trace is recorded if the check fails.
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public static void fail(StackTraceMode stackTraceMode, String messageFormat, Object messageArg1, Object messageArg2) {
+        EnsureStats.recordFailure(messageFormat);
+        throw EnsureFailedException.create(MessageTemplate.format(messageFormat, messageArg1, messageArg2), stackTraceMode);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} with the given message. The stack trace of the exception is recorded
+     * according to the given mode instead of the default {@link StackTraceMode}.
+     *
+     * @param stackTraceMode How much of the stack trace is recorded if the check fails.
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public static void fail(StackTraceMode stackTraceMode, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        EnsureStats.recordFailure(messageFormat);
+        throw EnsureFailedException.create(MessageTemplate.format(messageFormat, messageArg1, messageArg2, messageArg3), stackTraceMode);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} with the given message. The stack trace of the exception is recorded
+     * according to the given mode instead of the default {@link StackTraceMode}.
+     *
+     * @param stackTraceMode How much of the stack trace is recorded if the check fails.
+     * @param messageSupplier Supplier of the exception message.
+     */
+    public static void fail(StackTraceMode stackTraceMode, Supplier<String> messageSupplier) {
+        EnsureStats.recordFailure(null);
+        throw EnsureFailedException.create(messageSupplier.get(), stackTraceMode);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} with the given message. The stack trace of the exception is recorded
+     * according to the given mode instead of the default {@link StackTraceMode}.
+     *
+     * @param stackTraceMode How much of the stack trace is recorded if the check fails.
+     * @param messageSupplier Function creating the exception message.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public static <A> void fail(StackTraceMode stackTraceMode, MessageSupplier1<A> messageSupplier, A messageArg) {
+        EnsureStats.recordFailure(null);
+        throw EnsureFailedException.create(messageSupplier.get(messageArg), stackTraceMode);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} with the given message. The stack trace of the exception is recorded
+     * according to the given mode instead of the default {@link StackTraceMode}.
+     *
+     * @param stackTraceMode How much of the stack trace is recorded if the check fails.
+     * @param messageSupplier Function creating the exception message.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public static <A, B> void fail(StackTraceMode stackTraceMode, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        EnsureStats.recordFailure(null);
+        throw EnsureFailedException.create(messageSupplier.get(messageArg1, messageArg2), stackTraceMode);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if an argument of a check is null. Unlike {@link #ensureNotNull(Object, String)}
+     * the precondition is only counted by {@link EnsureStats} if it fails, so each check is counted once.
+     */
+    static <T> T requireNotNull(T value, String messageFormat) {
+        if (value == null) {
+            EnsureStats.recordCheck();
+            fail(messageFormat);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if an argument of a check is invalid, counted like
+     * {@link #requireNotNull(Object, String)}.
+     */
+    static void requireArgument(boolean condition, String messageFormat, Object messageArg) {
+        if (!condition) {
+            EnsureStats.recordCheck();
+            fail(messageFormat, messageArg);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if an argument of a check is invalid, counted like
+     * {@link #requireNotNull(Object, String)}.
+     */
+    static void requireArgument(boolean condition, String messageFormat, long messageArg) {
+        if (!condition) {
+            EnsureStats.recordCheck();
+            fail(messageFormat, messageArg);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value is null. The default message
+     * reports the index of the first null element. Arrays and {@link java.util.RandomAccess} lists with at least
+     * {@code org.platfish.ensure.parallelThreshold} elements (65536 by default) are scanned in parallel by the threads
+     * of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @return The checked value.
+     */
+    public static <V> Collection<V> ensureAllNotNull(Collection<V> value) {
+        requireNotNull(value, "value must not be null");
+        int index = BulkChecks.firstNull(value);
+        ensureTrue(index < 0, "Element at index %s must not be null", index);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value is null. Arrays and
+     * {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold} elements (65536
+     * by default) are scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checked value.
+     */
+    public static <V> Collection<V> ensureAllNotNull(Collection<V> value, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstNull(value) < 0, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value is null. Arrays and
+     * {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold} elements (65536
+     * by default) are scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checked value.
+     */
+    public static <V> Collection<V> ensureAllNotNull(Collection<V> value, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstNull(value) < 0, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value is null. Arrays and
+     * {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold} elements (65536
+     * by default) are scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked value.
+     */
+    public static <V> Collection<V> ensureAllNotNull(Collection<V> value, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstNull(value) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value is null. Arrays and
+     * {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold} elements (65536
+     * by default) are scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked value.
+     */
+    public static <V> Collection<V> ensureAllNotNull(Collection<V> value, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstNull(value) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value is null. Arrays and
+     * {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold} elements (65536
+     * by default) are scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked value.
+     */
+    public static <V> Collection<V> ensureAllNotNull(Collection<V> value, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstNull(value) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value is null. Arrays and
+     * {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold} elements (65536
+     * by default) are scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checked value.
+     */
+    public static <V> Collection<V> ensureAllNotNull(Collection<V> value, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstNull(value) < 0, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value is null. Arrays and
+     * {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold} elements (65536
+     * by default) are scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checked value.
+     */
+    public static <V> Collection<V> ensureAllNotNull(Collection<V> value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstNull(value) < 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value is null. Arrays and
+     * {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold} elements (65536
+     * by default) are scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checked value.
+     */
+    public static <V> Collection<V> ensureAllNotNull(Collection<V> value, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstNull(value) < 0, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value is null. Arrays and
+     * {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold} elements (65536
+     * by default) are scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checked value.
+     */
+    public static <V, A> Collection<V> ensureAllNotNull(Collection<V> value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstNull(value) < 0, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value is null. Arrays and
+     * {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold} elements (65536
+     * by default) are scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checked value.
+     */
+    public static <V, A, B> Collection<V> ensureAllNotNull(Collection<V> value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstNull(value) < 0, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value is null. The default message
+     * reports the index of the first null element. Arrays and {@link java.util.RandomAccess} lists with at least
+     * {@code org.platfish.ensure.parallelThreshold} elements (65536 by default) are scanned in parallel by the threads
+     * of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @return The checked value.
+     */
+    public static <V> List<V> ensureAllNotNull(List<V> value) {
+        requireNotNull(value, "value must not be null");
+        int index = BulkChecks.firstNull(value);
+        ensureTrue(index < 0, "Element at index %s must not be null", index);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value is null. Arrays and
+     * {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold} elements (65536
+     * by default) are scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checked value.
+     */
+    public static <V> List<V> ensureAllNotNull(List<V> value, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstNull(value) < 0, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value is null. Arrays and
+     * {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold} elements (65536
+     * by default) are scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checked value.
+     */
+    public static <V> List<V> ensureAllNotNull(List<V> value, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstNull(value) < 0, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value is null. Arrays and
+     * {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold} elements (65536
+     * by default) are scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked value.
+     */
+    public static <V> List<V> ensureAllNotNull(List<V> value, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstNull(value) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value is null. Arrays and
+     * {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold} elements (65536
+     * by default) are scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked value.
+     */
+    public static <V> List<V> ensureAllNotNull(List<V> value, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstNull(value) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value is null. Arrays and
+     * {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold} elements (65536
+     * by default) are scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked value.
+     */
+    public static <V> List<V> ensureAllNotNull(List<V> value, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstNull(value) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value is null. Arrays and
+     * {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold} elements (65536
+     * by default) are scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checked value.
+     */
+    public static <V> List<V> ensureAllNotNull(List<V> value, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstNull(value) < 0, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value is null. Arrays and
+     * {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold} elements (65536
+     * by default) are scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checked value.
+     */
+    public static <V> List<V> ensureAllNotNull(List<V> value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstNull(value) < 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value is null. Arrays and
+     * {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold} elements (65536
+     * by default) are scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checked value.
+     */
+    public static <V> List<V> ensureAllNotNull(List<V> value, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstNull(value) < 0, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value is null. Arrays and
+     * {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold} elements (65536
+     * by default) are scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checked value.
+     */
+    public static <V, A> List<V> ensureAllNotNull(List<V> value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstNull(value) < 0, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value is null. Arrays and
+     * {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold} elements (65536
+     * by default) are scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checked value.
+     */
+    public static <V, A, B> List<V> ensureAllNotNull(List<V> value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstNull(value) < 0, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value is null. The default message
+     * reports the index of the first null element. Arrays and {@link java.util.RandomAccess} lists with at least
+     * {@code org.platfish.ensure.parallelThreshold} elements (65536 by default) are scanned in parallel by the threads
+     * of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @return The checked value.
+     */
+    public static <V> V[] ensureAllNotNull(V[] value) {
+        requireNotNull(value, "value must not be null");
+        int index = BulkChecks.firstNull(value);
+        ensureTrue(index < 0, "Element at index %s must not be null", index);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value is null. Arrays and
+     * {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold} elements (65536
+     * by default) are scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checked value.
+     */
+    public static <V> V[] ensureAllNotNull(V[] value, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstNull(value) < 0, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value is null. Arrays and
+     * {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold} elements (65536
+     * by default) are scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checked value.
+     */
+    public static <V> V[] ensureAllNotNull(V[] value, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstNull(value) < 0, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value is null. Arrays and
+     * {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold} elements (65536
+     * by default) are scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked value.
+     */
+    public static <V> V[] ensureAllNotNull(V[] value, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstNull(value) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value is null. Arrays and
+     * {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold} elements (65536
+     * by default) are scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked value.
+     */
+    public static <V> V[] ensureAllNotNull(V[] value, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstNull(value) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value is null. Arrays and
+     * {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold} elements (65536
+     * by default) are scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked value.
+     */
+    public static <V> V[] ensureAllNotNull(V[] value, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstNull(value) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value is null. Arrays and
+     * {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold} elements (65536
+     * by default) are scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checked value.
+     */
+    public static <V> V[] ensureAllNotNull(V[] value, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstNull(value) < 0, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value is null. Arrays and
+     * {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold} elements (65536
+     * by default) are scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checked value.
+     */
+    public static <V> V[] ensureAllNotNull(V[] value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstNull(value) < 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value is null. Arrays and
+     * {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold} elements (65536
+     * by default) are scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checked value.
+     */
+    public static <V> V[] ensureAllNotNull(V[] value, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstNull(value) < 0, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value is null. Arrays and
+     * {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold} elements (65536
+     * by default) are scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checked value.
+     */
+    public static <V, A> V[] ensureAllNotNull(V[] value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstNull(value) < 0, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value is null. Arrays and
+     * {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold} elements (65536
+     * by default) are scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checked value.
+     */
+    public static <V, A, B> V[] ensureAllNotNull(V[] value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstNull(value) < 0, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value doesn't match the condition. The
+     * default message reports the index of the first non-matching element. Arrays and {@link java.util.RandomAccess}
+     * lists with at least {@code org.platfish.ensure.parallelThreshold} elements (65536 by default) are scanned in
+     * parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}. The condition is called
+     * concurrently by these threads and has to be thread-safe.
+     *
+     * @return The checked value.
+     */
+    public static <V> Collection<V> ensureAll(Collection<V> value, Predicate<? super V> condition) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        int index = BulkChecks.firstNonMatching(value, condition);
+        ensureTrue(index < 0, "Element at index %s doesn't match the condition", index);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value doesn't match the condition.
+     * Arrays and {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold}
+     * elements (65536 by default) are scanned in parallel by the threads of the common
+     * {@link java.util.concurrent.ForkJoinPool}. The condition is called concurrently by these threads and has to be
+     * thread-safe.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checked value.
+     */
+    public static <V> Collection<V> ensureAll(Collection<V> value, Predicate<? super V> condition, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        ensureTrue(BulkChecks.firstNonMatching(value, condition) < 0, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value doesn't match the condition.
+     * Arrays and {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold}
+     * elements (65536 by default) are scanned in parallel by the threads of the common
+     * {@link java.util.concurrent.ForkJoinPool}. The condition is called concurrently by these threads and has to be
+     * thread-safe.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checked value.
+     */
+    public static <V> Collection<V> ensureAll(Collection<V> value, Predicate<? super V> condition, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        ensureTrue(BulkChecks.firstNonMatching(value, condition) < 0, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value doesn't match the condition.
+     * Arrays and {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold}
+     * elements (65536 by default) are scanned in parallel by the threads of the common
+     * {@link java.util.concurrent.ForkJoinPool}. The condition is called concurrently by these threads and has to be
+     * thread-safe.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked value.
+     */
+    public static <V> Collection<V> ensureAll(Collection<V> value, Predicate<? super V> condition, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        ensureTrue(BulkChecks.firstNonMatching(value, condition) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value doesn't match the condition.
+     * Arrays and {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold}
+     * elements (65536 by default) are scanned in parallel by the threads of the common
+     * {@link java.util.concurrent.ForkJoinPool}. The condition is called concurrently by these threads and has to be
+     * thread-safe.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked value.
+     */
+    public static <V> Collection<V> ensureAll(Collection<V> value, Predicate<? super V> condition, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        ensureTrue(BulkChecks.firstNonMatching(value, condition) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value doesn't match the condition.
+     * Arrays and {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold}
+     * elements (65536 by default) are scanned in parallel by the threads of the common
+     * {@link java.util.concurrent.ForkJoinPool}. The condition is called concurrently by these threads and has to be
+     * thread-safe.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked value.
+     */
+    public static <V> Collection<V> ensureAll(Collection<V> value, Predicate<? super V> condition, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        ensureTrue(BulkChecks.firstNonMatching(value, condition) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value doesn't match the condition.
+     * Arrays and {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold}
+     * elements (65536 by default) are scanned in parallel by the threads of the common
+     * {@link java.util.concurrent.ForkJoinPool}. The condition is called concurrently by these threads and has to be
+     * thread-safe.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checked value.
+     */
+    public static <V> Collection<V> ensureAll(Collection<V> value, Predicate<? super V> condition, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        ensureTrue(BulkChecks.firstNonMatching(value, condition) < 0, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value doesn't match the condition.
+     * Arrays and {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold}
+     * elements (65536 by default) are scanned in parallel by the threads of the common
+     * {@link java.util.concurrent.ForkJoinPool}. The condition is called concurrently by these threads and has to be
+     * thread-safe.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checked value.
+     */
+    public static <V> Collection<V> ensureAll(Collection<V> value, Predicate<? super V> condition, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        ensureTrue(BulkChecks.firstNonMatching(value, condition) < 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value doesn't match the condition.
+     * Arrays and {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold}
+     * elements (65536 by default) are scanned in parallel by the threads of the common
+     * {@link java.util.concurrent.ForkJoinPool}. The condition is called concurrently by these threads and has to be
+     * thread-safe.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checked value.
+     */
+    public static <V> Collection<V> ensureAll(Collection<V> value, Predicate<? super V> condition, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        ensureTrue(BulkChecks.firstNonMatching(value, condition) < 0, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value doesn't match the condition.
+     * Arrays and {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold}
+     * elements (65536 by default) are scanned in parallel by the threads of the common
+     * {@link java.util.concurrent.ForkJoinPool}. The condition is called concurrently by these threads and has to be
+     * thread-safe.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checked value.
+     */
+    public static <V, A> Collection<V> ensureAll(Collection<V> value, Predicate<? super V> condition, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        ensureTrue(BulkChecks.firstNonMatching(value, condition) < 0, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value doesn't match the condition.
+     * Arrays and {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold}
+     * elements (65536 by default) are scanned in parallel by the threads of the common
+     * {@link java.util.concurrent.ForkJoinPool}. The condition is called concurrently by these threads and has to be
+     * thread-safe.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checked value.
+     */
+    public static <V, A, B> Collection<V> ensureAll(Collection<V> value, Predicate<? super V> condition, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        ensureTrue(BulkChecks.firstNonMatching(value, condition) < 0, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value doesn't match the condition. The
+     * default message reports the index of the first non-matching element. Arrays and {@link java.util.RandomAccess}
+     * lists with at least {@code org.platfish.ensure.parallelThreshold} elements (65536 by default) are scanned in
+     * parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}. The condition is called
+     * concurrently by these threads and has to be thread-safe.
+     *
+     * @return The checked value.
+     */
+    public static <V> List<V> ensureAll(List<V> value, Predicate<? super V> condition) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        int index = BulkChecks.firstNonMatching(value, condition);
+        ensureTrue(index < 0, "Element at index %s doesn't match the condition", index);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value doesn't match the condition.
+     * Arrays and {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold}
+     * elements (65536 by default) are scanned in parallel by the threads of the common
+     * {@link java.util.concurrent.ForkJoinPool}. The condition is called concurrently by these threads and has to be
+     * thread-safe.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checked value.
+     */
+    public static <V> List<V> ensureAll(List<V> value, Predicate<? super V> condition, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        ensureTrue(BulkChecks.firstNonMatching(value, condition) < 0, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value doesn't match the condition.
+     * Arrays and {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold}
+     * elements (65536 by default) are scanned in parallel by the threads of the common
+     * {@link java.util.concurrent.ForkJoinPool}. The condition is called concurrently by these threads and has to be
+     * thread-safe.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checked value.
+     */
+    public static <V> List<V> ensureAll(List<V> value, Predicate<? super V> condition, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        ensureTrue(BulkChecks.firstNonMatching(value, condition) < 0, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value doesn't match the condition.
+     * Arrays and {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold}
+     * elements (65536 by default) are scanned in parallel by the threads of the common
+     * {@link java.util.concurrent.ForkJoinPool}. The condition is called concurrently by these threads and has to be
+     * thread-safe.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked value.
+     */
+    public static <V> List<V> ensureAll(List<V> value, Predicate<? super V> condition, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        ensureTrue(BulkChecks.firstNonMatching(value, condition) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value doesn't match the condition.
+     * Arrays and {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold}
+     * elements (65536 by default) are scanned in parallel by the threads of the common
+     * {@link java.util.concurrent.ForkJoinPool}. The condition is called concurrently by these threads and has to be
+     * thread-safe.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked value.
+     */
+    public static <V> List<V> ensureAll(List<V> value, Predicate<? super V> condition, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        ensureTrue(BulkChecks.firstNonMatching(value, condition) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value doesn't match the condition.
+     * Arrays and {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold}
+     * elements (65536 by default) are scanned in parallel by the threads of the common
+     * {@link java.util.concurrent.ForkJoinPool}. The condition is called concurrently by these threads and has to be
+     * thread-safe.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked value.
+     */
+    public static <V> List<V> ensureAll(List<V> value, Predicate<? super V> condition, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        ensureTrue(BulkChecks.firstNonMatching(value, condition) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value doesn't match the condition.
+     * Arrays and {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold}
+     * elements (65536 by default) are scanned in parallel by the threads of the common
+     * {@link java.util.concurrent.ForkJoinPool}. The condition is called concurrently by these threads and has to be
+     * thread-safe.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checked value.
+     */
+    public static <V> List<V> ensureAll(List<V> value, Predicate<? super V> condition, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        ensureTrue(BulkChecks.firstNonMatching(value, condition) < 0, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value doesn't match the condition.
+     * Arrays and {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold}
+     * elements (65536 by default) are scanned in parallel by the threads of the common
+     * {@link java.util.concurrent.ForkJoinPool}. The condition is called concurrently by these threads and has to be
+     * thread-safe.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checked value.
+     */
+    public static <V> List<V> ensureAll(List<V> value, Predicate<? super V> condition, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        ensureTrue(BulkChecks.firstNonMatching(value, condition) < 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value doesn't match the condition.
+     * Arrays and {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold}
+     * elements (65536 by default) are scanned in parallel by the threads of the common
+     * {@link java.util.concurrent.ForkJoinPool}. The condition is called concurrently by these threads and has to be
+     * thread-safe.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checked value.
+     */
+    public static <V> List<V> ensureAll(List<V> value, Predicate<? super V> condition, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        ensureTrue(BulkChecks.firstNonMatching(value, condition) < 0, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value doesn't match the condition.
+     * Arrays and {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold}
+     * elements (65536 by default) are scanned in parallel by the threads of the common
+     * {@link java.util.concurrent.ForkJoinPool}. The condition is called concurrently by these threads and has to be
+     * thread-safe.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checked value.
+     */
+    public static <V, A> List<V> ensureAll(List<V> value, Predicate<? super V> condition, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        ensureTrue(BulkChecks.firstNonMatching(value, condition) < 0, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value doesn't match the condition.
+     * Arrays and {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold}
+     * elements (65536 by default) are scanned in parallel by the threads of the common
+     * {@link java.util.concurrent.ForkJoinPool}. The condition is called concurrently by these threads and has to be
+     * thread-safe.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checked value.
+     */
+    public static <V, A, B> List<V> ensureAll(List<V> value, Predicate<? super V> condition, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        ensureTrue(BulkChecks.firstNonMatching(value, condition) < 0, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value doesn't match the condition. The
+     * default message reports the index of the first non-matching element. Arrays and {@link java.util.RandomAccess}
+     * lists with at least {@code org.platfish.ensure.parallelThreshold} elements (65536 by default) are scanned in
+     * parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}. The condition is called
+     * concurrently by these threads and has to be thread-safe.
+     *
+     * @return The checked value.
+     */
+    public static <V> V[] ensureAll(V[] value, Predicate<? super V> condition) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        int index = BulkChecks.firstNonMatching(value, condition);
+        ensureTrue(index < 0, "Element at index %s doesn't match the condition", index);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value doesn't match the condition.
+     * Arrays and {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold}
+     * elements (65536 by default) are scanned in parallel by the threads of the common
+     * {@link java.util.concurrent.ForkJoinPool}. The condition is called concurrently by these threads and has to be
+     * thread-safe.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checked value.
+     */
+    public static <V> V[] ensureAll(V[] value, Predicate<? super V> condition, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        ensureTrue(BulkChecks.firstNonMatching(value, condition) < 0, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value doesn't match the condition.
+     * Arrays and {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold}
+     * elements (65536 by default) are scanned in parallel by the threads of the common
+     * {@link java.util.concurrent.ForkJoinPool}. The condition is called concurrently by these threads and has to be
+     * thread-safe.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checked value.
+     */
+    public static <V> V[] ensureAll(V[] value, Predicate<? super V> condition, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        ensureTrue(BulkChecks.firstNonMatching(value, condition) < 0, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value doesn't match the condition.
+     * Arrays and {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold}
+     * elements (65536 by default) are scanned in parallel by the threads of the common
+     * {@link java.util.concurrent.ForkJoinPool}. The condition is called concurrently by these threads and has to be
+     * thread-safe.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked value.
+     */
+    public static <V> V[] ensureAll(V[] value, Predicate<? super V> condition, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        ensureTrue(BulkChecks.firstNonMatching(value, condition) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value doesn't match the condition.
+     * Arrays and {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold}
+     * elements (65536 by default) are scanned in parallel by the threads of the common
+     * {@link java.util.concurrent.ForkJoinPool}. The condition is called concurrently by these threads and has to be
+     * thread-safe.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked value.
+     */
+    public static <V> V[] ensureAll(V[] value, Predicate<? super V> condition, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        ensureTrue(BulkChecks.firstNonMatching(value, condition) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value doesn't match the condition.
+     * Arrays and {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold}
+     * elements (65536 by default) are scanned in parallel by the threads of the common
+     * {@link java.util.concurrent.ForkJoinPool}. The condition is called concurrently by these threads and has to be
+     * thread-safe.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked value.
+     */
+    public static <V> V[] ensureAll(V[] value, Predicate<? super V> condition, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        ensureTrue(BulkChecks.firstNonMatching(value, condition) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value doesn't match the condition.
+     * Arrays and {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold}
+     * elements (65536 by default) are scanned in parallel by the threads of the common
+     * {@link java.util.concurrent.ForkJoinPool}. The condition is called concurrently by these threads and has to be
+     * thread-safe.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checked value.
+     */
+    public static <V> V[] ensureAll(V[] value, Predicate<? super V> condition, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        ensureTrue(BulkChecks.firstNonMatching(value, condition) < 0, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value doesn't match the condition.
+     * Arrays and {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold}
+     * elements (65536 by default) are scanned in parallel by the threads of the common
+     * {@link java.util.concurrent.ForkJoinPool}. The condition is called concurrently by these threads and has to be
+     * thread-safe.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checked value.
+     */
+    public static <V> V[] ensureAll(V[] value, Predicate<? super V> condition, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        ensureTrue(BulkChecks.firstNonMatching(value, condition) < 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value doesn't match the condition.
+     * Arrays and {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold}
+     * elements (65536 by default) are scanned in parallel by the threads of the common
+     * {@link java.util.concurrent.ForkJoinPool}. The condition is called concurrently by these threads and has to be
+     * thread-safe.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checked value.
+     */
+    public static <V> V[] ensureAll(V[] value, Predicate<? super V> condition, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        ensureTrue(BulkChecks.firstNonMatching(value, condition) < 0, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value doesn't match the condition.
+     * Arrays and {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold}
+     * elements (65536 by default) are scanned in parallel by the threads of the common
+     * {@link java.util.concurrent.ForkJoinPool}. The condition is called concurrently by these threads and has to be
+     * thread-safe.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checked value.
+     */
+    public static <V, A> V[] ensureAll(V[] value, Predicate<? super V> condition, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        ensureTrue(BulkChecks.firstNonMatching(value, condition) < 0, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given value doesn't match the condition.
+     * Arrays and {@link java.util.RandomAccess} lists with at least {@code org.platfish.ensure.parallelThreshold}
+     * elements (65536 by default) are scanned in parallel by the threads of the common
+     * {@link java.util.concurrent.ForkJoinPool}. The condition is called concurrently by these threads and has to be
+     * thread-safe.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checked value.
+     */
+    public static <V, A, B> V[] ensureAll(V[] value, Predicate<? super V> condition, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        ensureTrue(BulkChecks.firstNonMatching(value, condition) < 0, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given array is not between min and max (both
+     * inclusive). The default message reports the first element out of range and its index. Arrays with at least
+     * {@code org.platfish.ensure.parallelThreshold} elements (65536 by default) are scanned in parallel by the threads
+     * of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @return The checked array.
+     */
+    public static int[] ensureAllInRange(int[] value, int min, int max) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        int index = BulkChecks.firstOutOfRange(value, min, max);
+        if (index >= 0) {
+            fail("Element %s at index %s must be between %s and %s", value[index], index, min, max);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given array is not between min and max (both
+     * inclusive). Arrays with at least {@code org.platfish.ensure.parallelThreshold} elements (65536 by default) are
+     * scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checked array.
+     */
+    public static int[] ensureAllInRange(int[] value, int min, int max, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstOutOfRange(value, min, max) < 0, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given array is not between min and max (both
+     * inclusive). Arrays with at least {@code org.platfish.ensure.parallelThreshold} elements (65536 by default) are
+     * scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checked array.
+     */
+    public static int[] ensureAllInRange(int[] value, int min, int max, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstOutOfRange(value, min, max) < 0, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given array is not between min and max (both
+     * inclusive). Arrays with at least {@code org.platfish.ensure.parallelThreshold} elements (65536 by default) are
+     * scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked array.
+     */
+    public static int[] ensureAllInRange(int[] value, int min, int max, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstOutOfRange(value, min, max) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given array is not between min and max (both
+     * inclusive). Arrays with at least {@code org.platfish.ensure.parallelThreshold} elements (65536 by default) are
+     * scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked array.
+     */
+    public static int[] ensureAllInRange(int[] value, int min, int max, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstOutOfRange(value, min, max) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given array is not between min and max (both
+     * inclusive). Arrays with at least {@code org.platfish.ensure.parallelThreshold} elements (65536 by default) are
+     * scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked array.
+     */
+    public static int[] ensureAllInRange(int[] value, int min, int max, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstOutOfRange(value, min, max) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given array is not between min and max (both
+     * inclusive). Arrays with at least {@code org.platfish.ensure.parallelThreshold} elements (65536 by default) are
+     * scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checked array.
+     */
+    public static int[] ensureAllInRange(int[] value, int min, int max, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstOutOfRange(value, min, max) < 0, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given array is not between min and max (both
+     * inclusive). Arrays with at least {@code org.platfish.ensure.parallelThreshold} elements (65536 by default) are
+     * scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checked array.
+     */
+    public static int[] ensureAllInRange(int[] value, int min, int max, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstOutOfRange(value, min, max) < 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given array is not between min and max (both
+     * inclusive). Arrays with at least {@code org.platfish.ensure.parallelThreshold} elements (65536 by default) are
+     * scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checked array.
+     */
+    public static int[] ensureAllInRange(int[] value, int min, int max, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstOutOfRange(value, min, max) < 0, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given array is not between min and max (both
+     * inclusive). Arrays with at least {@code org.platfish.ensure.parallelThreshold} elements (65536 by default) are
+     * scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checked array.
+     */
+    public static <A> int[] ensureAllInRange(int[] value, int min, int max, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstOutOfRange(value, min, max) < 0, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given array is not between min and max (both
+     * inclusive). Arrays with at least {@code org.platfish.ensure.parallelThreshold} elements (65536 by default) are
+     * scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checked array.
+     */
+    public static <A, B> int[] ensureAllInRange(int[] value, int min, int max, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstOutOfRange(value, min, max) < 0, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given array is not between min and max (both
+     * inclusive). The default message reports the first element out of range and its index. Arrays with at least
+     * {@code org.platfish.ensure.parallelThreshold} elements (65536 by default) are scanned in parallel by the threads
+     * of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @return The checked array.
+     */
+    public static long[] ensureAllInRange(long[] value, long min, long max) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        int index = BulkChecks.firstOutOfRange(value, min, max);
+        if (index >= 0) {
+            fail("Element %s at index %s must be between %s and %s", value[index], index, min, max);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given array is not between min and max (both
+     * inclusive). Arrays with at least {@code org.platfish.ensure.parallelThreshold} elements (65536 by default) are
+     * scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checked array.
+     */
+    public static long[] ensureAllInRange(long[] value, long min, long max, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstOutOfRange(value, min, max) < 0, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given array is not between min and max (both
+     * inclusive). Arrays with at least {@code org.platfish.ensure.parallelThreshold} elements (65536 by default) are
+     * scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checked array.
+     */
+    public static long[] ensureAllInRange(long[] value, long min, long max, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstOutOfRange(value, min, max) < 0, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given array is not between min and max (both
+     * inclusive). Arrays with at least {@code org.platfish.ensure.parallelThreshold} elements (65536 by default) are
+     * scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked array.
+     */
+    public static long[] ensureAllInRange(long[] value, long min, long max, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstOutOfRange(value, min, max) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given array is not between min and max (both
+     * inclusive). Arrays with at least {@code org.platfish.ensure.parallelThreshold} elements (65536 by default) are
+     * scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked array.
+     */
+    public static long[] ensureAllInRange(long[] value, long min, long max, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstOutOfRange(value, min, max) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given array is not between min and max (both
+     * inclusive). Arrays with at least {@code org.platfish.ensure.parallelThreshold} elements (65536 by default) are
+     * scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked array.
+     */
+    public static long[] ensureAllInRange(long[] value, long min, long max, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstOutOfRange(value, min, max) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given array is not between min and max (both
+     * inclusive). Arrays with at least {@code org.platfish.ensure.parallelThreshold} elements (65536 by default) are
+     * scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checked array.
+     */
+    public static long[] ensureAllInRange(long[] value, long min, long max, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstOutOfRange(value, min, max) < 0, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given array is not between min and max (both
+     * inclusive). Arrays with at least {@code org.platfish.ensure.parallelThreshold} elements (65536 by default) are
+     * scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checked array.
+     */
+    public static long[] ensureAllInRange(long[] value, long min, long max, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstOutOfRange(value, min, max) < 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given array is not between min and max (both
+     * inclusive). Arrays with at least {@code org.platfish.ensure.parallelThreshold} elements (65536 by default) are
+     * scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checked array.
+     */
+    public static long[] ensureAllInRange(long[] value, long min, long max, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstOutOfRange(value, min, max) < 0, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given array is not between min and max (both
+     * inclusive). Arrays with at least {@code org.platfish.ensure.parallelThreshold} elements (65536 by default) are
+     * scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checked array.
+     */
+    public static <A> long[] ensureAllInRange(long[] value, long min, long max, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstOutOfRange(value, min, max) < 0, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given array is not between min and max (both
+     * inclusive). Arrays with at least {@code org.platfish.ensure.parallelThreshold} elements (65536 by default) are
+     * scanned in parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checked array.
+     */
+    public static <A, B> long[] ensureAllInRange(long[] value, long min, long max, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstOutOfRange(value, min, max) < 0, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given array is not between min and max (both
+     * inclusive). The default message reports the first element out of range and its index. NaN is never in range.
+     * Arrays with at least {@code org.platfish.ensure.parallelThreshold} elements (65536 by default) are scanned in
+     * parallel by the threads of the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @return The checked array.
+     */
+    public static double[] ensureAllInRange(double[] value, double min, double max) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        int index = BulkChecks.firstOutOfRange(value, min, max);
+        if (index >= 0) {
+            fail("Element %s at index %s must be between %s and %s", value[index], index, min, max);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given array is not between min and max (both
+     * inclusive). NaN is never in range. Arrays with at least {@code org.platfish.ensure.parallelThreshold} elements
+     * (65536 by default) are scanned in parallel by the threads of the common
+     * {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checked array.
+     */
+    public static double[] ensureAllInRange(double[] value, double min, double max, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstOutOfRange(value, min, max) < 0, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given array is not between min and max (both
+     * inclusive). NaN is never in range. Arrays with at least {@code org.platfish.ensure.parallelThreshold} elements
+     * (65536 by default) are scanned in parallel by the threads of the common
+     * {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checked array.
+     */
+    public static double[] ensureAllInRange(double[] value, double min, double max, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstOutOfRange(value, min, max) < 0, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given array is not between min and max (both
+     * inclusive). NaN is never in range. Arrays with at least {@code org.platfish.ensure.parallelThreshold} elements
+     * (65536 by default) are scanned in parallel by the threads of the common
+     * {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked array.
+     */
+    public static double[] ensureAllInRange(double[] value, double min, double max, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstOutOfRange(value, min, max) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given array is not between min and max (both
+     * inclusive). NaN is never in range. Arrays with at least {@code org.platfish.ensure.parallelThreshold} elements
+     * (65536 by default) are scanned in parallel by the threads of the common
+     * {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked array.
+     */
+    public static double[] ensureAllInRange(double[] value, double min, double max, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstOutOfRange(value, min, max) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given array is not between min and max (both
+     * inclusive). NaN is never in range. Arrays with at least {@code org.platfish.ensure.parallelThreshold} elements
+     * (65536 by default) are scanned in parallel by the threads of the common
+     * {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked array.
+     */
+    public static double[] ensureAllInRange(double[] value, double min, double max, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstOutOfRange(value, min, max) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given array is not between min and max (both
+     * inclusive). NaN is never in range. Arrays with at least {@code org.platfish.ensure.parallelThreshold} elements
+     * (65536 by default) are scanned in parallel by the threads of the common
+     * {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checked array.
+     */
+    public static double[] ensureAllInRange(double[] value, double min, double max, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstOutOfRange(value, min, max) < 0, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given array is not between min and max (both
+     * inclusive). NaN is never in range. Arrays with at least {@code org.platfish.ensure.parallelThreshold} elements
+     * (65536 by default) are scanned in parallel by the threads of the common
+     * {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checked array.
+     */
+    public static double[] ensureAllInRange(double[] value, double min, double max, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstOutOfRange(value, min, max) < 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given array is not between min and max (both
+     * inclusive). NaN is never in range. Arrays with at least {@code org.platfish.ensure.parallelThreshold} elements
+     * (65536 by default) are scanned in parallel by the threads of the common
+     * {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checked array.
+     */
+    public static double[] ensureAllInRange(double[] value, double min, double max, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstOutOfRange(value, min, max) < 0, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given array is not between min and max (both
+     * inclusive). NaN is never in range. Arrays with at least {@code org.platfish.ensure.parallelThreshold} elements
+     * (65536 by default) are scanned in parallel by the threads of the common
+     * {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checked array.
+     */
+    public static <A> double[] ensureAllInRange(double[] value, double min, double max, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstOutOfRange(value, min, max) < 0, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given array is not between min and max (both
+     * inclusive). NaN is never in range. Arrays with at least {@code org.platfish.ensure.parallelThreshold} elements
+     * (65536 by default) are scanned in parallel by the threads of the common
+     * {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checked array.
+     */
+    public static <A, B> double[] ensureAllInRange(double[] value, double min, double max, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstOutOfRange(value, min, max) < 0, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given collection does not contain exactly one value.
+     *
+     * @return The single value of the collection.
+     */
+    public static <V> V ensureOne(Collection<V> value) {
+        ensureTrue(value.size() == 1, "Given collection must contain exactly one element");
+        return value.iterator().next();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given collection does not contain exactly one value.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The single value of the collection.
+     */
+    public static <V> V ensureOne(Collection<V> value, String messageFormat, Object... messageArgs) {
+        ensureTrue(value.size() == 1, messageFormat, messageArgs);
+        return value.iterator().next();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given collection does not contain exactly one value.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The single value of the collection.
+     */
+    public static <V> V ensureOne(Collection<V> value, Supplier<String> messageSupplier) {
+        ensureTrue(value.size() == 1, messageSupplier);
+        return value.iterator().next();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given collection does not contain exactly one value.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The single value of the collection.
+     */
+    public static <V, A> V ensureOne(Collection<V> value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        ensureTrue(value.size() == 1, messageSupplier, messageArg);
+        return value.iterator().next();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given collection does not contain exactly one value.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The single value of the collection.
+     */
+    public static <V, A, B> V ensureOne(Collection<V> value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        ensureTrue(value.size() == 1, messageSupplier, messageArg1, messageArg2);
+        return value.iterator().next();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given collection does not contain exactly one value.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The single value of the collection.
+     */
+    public static <V> V ensureOne(Collection<V> value, String messageFormat) {
+        ensureTrue(value.size() == 1, messageFormat);
+        return value.iterator().next();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given collection does not contain exactly one value.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The single value of the collection.
+     */
+    public static <V> V ensureOne(Collection<V> value, String messageFormat, Object messageArg) {
+        ensureTrue(value.size() == 1, messageFormat, messageArg);
+        return value.iterator().next();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given collection does not contain exactly one value.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The single value of the collection.
+     */
+    public static <V> V ensureOne(Collection<V> value, String messageFormat, int messageArg) {
+        ensureTrue(value.size() == 1, messageFormat, messageArg);
+        return value.iterator().next();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given collection does not contain exactly one value.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The single value of the collection.
+     */
+    public static <V> V ensureOne(Collection<V> value, String messageFormat, long messageArg) {
+        ensureTrue(value.size() == 1, messageFormat, messageArg);
+        return value.iterator().next();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given collection does not contain exactly one value.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The single value of the collection.
+     */
+    public static <V> V ensureOne(Collection<V> value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(value.size() == 1, messageFormat, messageArg1, messageArg2);
+        return value.iterator().next();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given collection does not contain exactly one value.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The single value of the collection.
+     */
+    public static <V> V ensureOne(Collection<V> value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(value.size() == 1, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value.iterator().next();
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given index is not within the bounds of the range from 0
+     * (inclusive) to length (exclusive).
+     * The check never overflows and compiles to an intrinsic range check on Java 9 and later, which the JIT can
+     * merge with the range checks of array accesses.
+     *
+     * @return The checked index.
+     */
+    public static int ensureIndex(int index, int length) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isIndex(index, length)) {
+            fail(Messages.INDEX, index, length);
+        }
+        return index;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given index is not within the bounds of the range from 0
+     * (inclusive) to length (exclusive).
+     * The check never overflows and compiles to an intrinsic range check on Java 9 and later, which the JIT can
+     * merge with the range checks of array accesses.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checked index.
+     */
+    public static int ensureIndex(int index, int length, String messageFormat, Object... messageArgs) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isIndex(index, length)) {
+            fail(messageFormat, messageArgs);
+        }
+        return index;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given index is not within the bounds of the range from 0
+     * (inclusive) to length (exclusive).
+     * The check never overflows and compiles to an intrinsic range check on Java 9 and later, which the JIT can
+     * merge with the range checks of array accesses.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checked index.
+     */
+    public static int ensureIndex(int index, int length, String messageFormat) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isIndex(index, length)) {
+            fail(messageFormat);
+        }
+        return index;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given index is not within the bounds of the range from 0
+     * (inclusive) to length (exclusive).
+     * The check never overflows and compiles to an intrinsic range check on Java 9 and later, which the JIT can
+     * merge with the range checks of array accesses.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked index.
+     */
+    public static int ensureIndex(int index, int length, String messageFormat, Object messageArg) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isIndex(index, length)) {
+            fail(messageFormat, messageArg);
+        }
+        return index;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given index is not within the bounds of the range from 0
+     * (inclusive) to length (exclusive).
+     * The check never overflows and compiles to an intrinsic range check on Java 9 and later, which the JIT can
+     * merge with the range checks of array accesses.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked index.
+     */
+    public static int ensureIndex(int index, int length, String messageFormat, int messageArg) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isIndex(index, length)) {
+            fail(messageFormat, messageArg);
+        }
+        return index;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given index is not within the bounds of the range from 0
+     * (inclusive) to length (exclusive).
+     * The check never overflows and compiles to an intrinsic range check on Java 9 and later, which the JIT can
+     * merge with the range checks of array accesses.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked index.
+     */
+    public static int ensureIndex(int index, int length, String messageFormat, long messageArg) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isIndex(index, length)) {
+            fail(messageFormat, messageArg);
+        }
+        return index;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given index is not within the bounds of the range from 0
+     * (inclusive) to length (exclusive).
+     * The check never overflows and compiles to an intrinsic range check on Java 9 and later, which the JIT can
+     * merge with the range checks of array accesses.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checked index.
+     */
+    public static int ensureIndex(int index, int length, String messageFormat, Object messageArg1, Object messageArg2) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isIndex(index, length)) {
+            fail(messageFormat, messageArg1, messageArg2);
+        }
+        return index;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given index is not within the bounds of the range from 0
+     * (inclusive) to length (exclusive).
+     * The check never overflows and compiles to an intrinsic range check on Java 9 and later, which the JIT can
+     * merge with the range checks of array accesses.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checked index.
+     */
+    public static int ensureIndex(int index, int length, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isIndex(index, length)) {
+            fail(messageFormat, messageArg1, messageArg2, messageArg3);
+        }
+        return index;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given index is not within the bounds of the range from 0
+     * (inclusive) to length (exclusive).
+     * The check never overflows and compiles to an intrinsic range check on Java 9 and later, which the JIT can
+     * merge with the range checks of array accesses.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checked index.
+     */
+    public static int ensureIndex(int index, int length, Supplier<String> messageSupplier) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isIndex(index, length)) {
+            fail(messageSupplier);
+        }
+        return index;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given index is not within the bounds of the range from 0
+     * (inclusive) to length (exclusive).
+     * The check never overflows and compiles to an intrinsic range check on Java 9 and later, which the JIT can
+     * merge with the range checks of array accesses.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checked index.
+     */
+    public static <A> int ensureIndex(int index, int length, MessageSupplier1<A> messageSupplier, A messageArg) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isIndex(index, length)) {
+            fail(messageSupplier, messageArg);
+        }
+        return index;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given index is not within the bounds of the range from 0
+     * (inclusive) to length (exclusive).
+     * The check never overflows and compiles to an intrinsic range check on Java 9 and later, which the JIT can
+     * merge with the range checks of array accesses.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checked index.
+     */
+    public static <A, B> int ensureIndex(int index, int length, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isIndex(index, length)) {
+            fail(messageSupplier, messageArg1, messageArg2);
+        }
+        return index;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the sub-range from fromIndex (inclusive) to toIndex (exclusive) is
+     * not within the bounds of the range from 0 (inclusive) to length (exclusive).
+     * The check never overflows and compiles to an intrinsic range check on Java 9 and later, which the JIT can
+     * merge with the range checks of array accesses.
+     *
+     * @return The checked fromIndex.
+     */
+    public static int ensureFromToIndex(int fromIndex, int toIndex, int length) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isFromToIndex(fromIndex, toIndex, length)) {
+            fail("Range [%s, %s) out of bounds for length %s", fromIndex, toIndex, length);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the sub-range from fromIndex (inclusive) to toIndex (exclusive) is
+     * not within the bounds of the range from 0 (inclusive) to length (exclusive).
+     * The check never overflows and compiles to an intrinsic range check on Java 9 and later, which the JIT can
+     * merge with the range checks of array accesses.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checked fromIndex.
+     */
+    public static int ensureFromToIndex(int fromIndex, int toIndex, int length, String messageFormat, Object... messageArgs) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isFromToIndex(fromIndex, toIndex, length)) {
+            fail(messageFormat, messageArgs);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the sub-range from fromIndex (inclusive) to toIndex (exclusive) is
+     * not within the bounds of the range from 0 (inclusive) to length (exclusive).
+     * The check never overflows and compiles to an intrinsic range check on Java 9 and later, which the JIT can
+     * merge with the range checks of array accesses.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checked fromIndex.
+     */
+    public static int ensureFromToIndex(int fromIndex, int toIndex, int length, String messageFormat) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isFromToIndex(fromIndex, toIndex, length)) {
+            fail(messageFormat);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the sub-range from fromIndex (inclusive) to toIndex (exclusive) is
+     * not within the bounds of the range from 0 (inclusive) to length (exclusive).
+     * The check never overflows and compiles to an intrinsic range check on Java 9 and later, which the JIT can
+     * merge with the range checks of array accesses.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked fromIndex.
+     */
+    public static int ensureFromToIndex(int fromIndex, int toIndex, int length, String messageFormat, Object messageArg) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isFromToIndex(fromIndex, toIndex, length)) {
+            fail(messageFormat, messageArg);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the sub-range from fromIndex (inclusive) to toIndex (exclusive) is
+     * not within the bounds of the range from 0 (inclusive) to length (exclusive).
+     * The check never overflows and compiles to an intrinsic range check on Java 9 and later, which the JIT can
+     * merge with the range checks of array accesses.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked fromIndex.
+     */
+    public static int ensureFromToIndex(int fromIndex, int toIndex, int length, String messageFormat, int messageArg) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isFromToIndex(fromIndex, toIndex, length)) {
+            fail(messageFormat, messageArg);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the sub-range from fromIndex (inclusive) to toIndex (exclusive) is
+     * not within the bounds of the range from 0 (inclusive) to length (exclusive).
+     * The check never overflows and compiles to an intrinsic range check on Java 9 and later, which the JIT can
+     * merge with the range checks of array accesses.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked fromIndex.
+     */
+    public static int ensureFromToIndex(int fromIndex, int toIndex, int length, String messageFormat, long messageArg) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isFromToIndex(fromIndex, toIndex, length)) {
+            fail(messageFormat, messageArg);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the sub-range from fromIndex (inclusive) to toIndex (exclusive) is
+     * not within the bounds of the range from 0 (inclusive) to length (exclusive).
+     * The check never overflows and compiles to an intrinsic range check on Java 9 and later, which the JIT can
+     * merge with the range checks of array accesses.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checked fromIndex.
+     */
+    public static int ensureFromToIndex(int fromIndex, int toIndex, int length, String messageFormat, Object messageArg1, Object messageArg2) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isFromToIndex(fromIndex, toIndex, length)) {
+            fail(messageFormat, messageArg1, messageArg2);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the sub-range from fromIndex (inclusive) to toIndex (exclusive) is
+     * not within the bounds of the range from 0 (inclusive) to length (exclusive).
+     * The check never overflows and compiles to an intrinsic range check on Java 9 and later, which the JIT can
+     * merge with the range checks of array accesses.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checked fromIndex.
+     */
+    public static int ensureFromToIndex(int fromIndex, int toIndex, int length, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isFromToIndex(fromIndex, toIndex, length)) {
+            fail(messageFormat, messageArg1, messageArg2, messageArg3);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the sub-range from fromIndex (inclusive) to toIndex (exclusive) is
+     * not within the bounds of the range from 0 (inclusive) to length (exclusive).
+     * The check never overflows and compiles to an intrinsic range check on Java 9 and later, which the JIT can
+     * merge with the range checks of array accesses.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checked fromIndex.
+     */
+    public static int ensureFromToIndex(int fromIndex, int toIndex, int length, Supplier<String> messageSupplier) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isFromToIndex(fromIndex, toIndex, length)) {
+            fail(messageSupplier);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the sub-range from fromIndex (inclusive) to toIndex (exclusive) is
+     * not within the bounds of the range from 0 (inclusive) to length (exclusive).
+     * The check never overflows and compiles to an intrinsic range check on Java 9 and later, which the JIT can
+     * merge with the range checks of array accesses.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checked fromIndex.
+     */
+    public static <A> int ensureFromToIndex(int fromIndex, int toIndex, int length, MessageSupplier1<A> messageSupplier, A messageArg) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isFromToIndex(fromIndex, toIndex, length)) {
+            fail(messageSupplier, messageArg);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the sub-range from fromIndex (inclusive) to toIndex (exclusive) is
+     * not within the bounds of the range from 0 (inclusive) to length (exclusive).
+     * The check never overflows and compiles to an intrinsic range check on Java 9 and later, which the JIT can
+     * merge with the range checks of array accesses.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checked fromIndex.
+     */
+    public static <A, B> int ensureFromToIndex(int fromIndex, int toIndex, int length, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isFromToIndex(fromIndex, toIndex, length)) {
+            fail(messageSupplier, messageArg1, messageArg2);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the sub-range from fromIndex (inclusive) to fromIndex + size
+     * (exclusive) is not within the bounds of the range from 0 (inclusive) to length (exclusive).
+     * The check never overflows and compiles to an intrinsic range check on Java 9 and later, which the JIT can
+     * merge with the range checks of array accesses.
+     *
+     * @return The checked fromIndex.
+     */
+    public static int ensureFromIndexSize(int fromIndex, int size, int length) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isFromIndexSize(fromIndex, size, length)) {
+            fail("Range [%s, %s + %s) out of bounds for length %s", fromIndex, fromIndex, size, length);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the sub-range from fromIndex (inclusive) to fromIndex + size
+     * (exclusive) is not within the bounds of the range from 0 (inclusive) to length (exclusive).
+     * The check never overflows and compiles to an intrinsic range check on Java 9 and later, which the JIT can
+     * merge with the range checks of array accesses.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checked fromIndex.
+     */
+    public static int ensureFromIndexSize(int fromIndex, int size, int length, String messageFormat, Object... messageArgs) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isFromIndexSize(fromIndex, size, length)) {
+            fail(messageFormat, messageArgs);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the sub-range from fromIndex (inclusive) to fromIndex + size
+     * (exclusive) is not within the bounds of the range from 0 (inclusive) to length (exclusive).
+     * The check never overflows and compiles to an intrinsic range check on Java 9 and later, which the JIT can
+     * merge with the range checks of array accesses.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checked fromIndex.
+     */
+    public static int ensureFromIndexSize(int fromIndex, int size, int length, String messageFormat) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isFromIndexSize(fromIndex, size, length)) {
+            fail(messageFormat);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the sub-range from fromIndex (inclusive) to fromIndex + size
+     * (exclusive) is not within the bounds of the range from 0 (inclusive) to length (exclusive).
+     * The check never overflows and compiles to an intrinsic range check on Java 9 and later, which the JIT can
+     * merge with the range checks of array accesses.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked fromIndex.
+     */
+    public static int ensureFromIndexSize(int fromIndex, int size, int length, String messageFormat, Object messageArg) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isFromIndexSize(fromIndex, size, length)) {
+            fail(messageFormat, messageArg);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the sub-range from fromIndex (inclusive) to fromIndex + size
+     * (exclusive) is not within the bounds of the range from 0 (inclusive) to length (exclusive).
+     * The check never overflows and compiles to an intrinsic range check on Java 9 and later, which the JIT can
+     * merge with the range checks of array accesses.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked fromIndex.
+     */
+    public static int ensureFromIndexSize(int fromIndex, int size, int length, String messageFormat, int messageArg) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isFromIndexSize(fromIndex, size, length)) {
+            fail(messageFormat, messageArg);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the sub-range from fromIndex (inclusive) to fromIndex + size
+     * (exclusive) is not within the bounds of the range from 0 (inclusive) to length (exclusive).
+     * The check never overflows and compiles to an intrinsic range check on Java 9 and later, which the JIT can
+     * merge with the range checks of array accesses.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked fromIndex.
+     */
+    public static int ensureFromIndexSize(int fromIndex, int size, int length, String messageFormat, long messageArg) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isFromIndexSize(fromIndex, size, length)) {
+            fail(messageFormat, messageArg);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the sub-range from fromIndex (inclusive) to fromIndex + size
+     * (exclusive) is not within the bounds of the range from 0 (inclusive) to length (exclusive).
+     * The check never overflows and compiles to an intrinsic range check on Java 9 and later, which the JIT can
+     * merge with the range checks of array accesses.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checked fromIndex.
+     */
+    public static int ensureFromIndexSize(int fromIndex, int size, int length, String messageFormat, Object messageArg1, Object messageArg2) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isFromIndexSize(fromIndex, size, length)) {
+            fail(messageFormat, messageArg1, messageArg2);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the sub-range from fromIndex (inclusive) to fromIndex + size
+     * (exclusive) is not within the bounds of the range from 0 (inclusive) to length (exclusive).
+     * The check never overflows and compiles to an intrinsic range check on Java 9 and later, which the JIT can
+     * merge with the range checks of array accesses.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checked fromIndex.
+     */
+    public static int ensureFromIndexSize(int fromIndex, int size, int length, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isFromIndexSize(fromIndex, size, length)) {
+            fail(messageFormat, messageArg1, messageArg2, messageArg3);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the sub-range from fromIndex (inclusive) to fromIndex + size
+     * (exclusive) is not within the bounds of the range from 0 (inclusive) to length (exclusive).
+     * The check never overflows and compiles to an intrinsic range check on Java 9 and later, which the JIT can
+     * merge with the range checks of array accesses.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checked fromIndex.
+     */
+    public static int ensureFromIndexSize(int fromIndex, int size, int length, Supplier<String> messageSupplier) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isFromIndexSize(fromIndex, size, length)) {
+            fail(messageSupplier);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the sub-range from fromIndex (inclusive) to fromIndex + size
+     * (exclusive) is not within the bounds of the range from 0 (inclusive) to length (exclusive).
+     * The check never overflows and compiles to an intrinsic range check on Java 9 and later, which the JIT can
+     * merge with the range checks of array accesses.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checked fromIndex.
+     */
+    public static <A> int ensureFromIndexSize(int fromIndex, int size, int length, MessageSupplier1<A> messageSupplier, A messageArg) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isFromIndexSize(fromIndex, size, length)) {
+            fail(messageSupplier, messageArg);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the sub-range from fromIndex (inclusive) to fromIndex + size
+     * (exclusive) is not within the bounds of the range from 0 (inclusive) to length (exclusive).
+     * The check never overflows and compiles to an intrinsic range check on Java 9 and later, which the JIT can
+     * merge with the range checks of array accesses.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checked fromIndex.
+     */
+    public static <A, B> int ensureFromIndexSize(int fromIndex, int size, int length, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isFromIndexSize(fromIndex, size, length)) {
+            fail(messageSupplier, messageArg1, messageArg2);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given index is not within the bounds of the range from 0
+     * (inclusive) to length (exclusive).
+     * The check never overflows.
+     *
+     * @return The checked index.
+     */
+    public static long ensureIndex(long index, long length) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isIndex(index, length)) {
+            fail(Messages.INDEX, index, length);
+        }
+        return index;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given index is not within the bounds of the range from 0
+     * (inclusive) to length (exclusive).
+     * The check never overflows.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checked index.
+     */
+    public static long ensureIndex(long index, long length, String messageFormat, Object... messageArgs) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isIndex(index, length)) {
+            fail(messageFormat, messageArgs);
+        }
+        return index;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given index is not within the bounds of the range from 0
+     * (inclusive) to length (exclusive).
+     * The check never overflows.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checked index.
+     */
+    public static long ensureIndex(long index, long length, String messageFormat) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isIndex(index, length)) {
+            fail(messageFormat);
+        }
+        return index;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given index is not within the bounds of the range from 0
+     * (inclusive) to length (exclusive).
+     * The check never overflows.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked index.
+     */
+    public static long ensureIndex(long index, long length, String messageFormat, Object messageArg) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isIndex(index, length)) {
+            fail(messageFormat, messageArg);
+        }
+        return index;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given index is not within the bounds of the range from 0
+     * (inclusive) to length (exclusive).
+     * The check never overflows.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked index.
+     */
+    public static long ensureIndex(long index, long length, String messageFormat, int messageArg) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isIndex(index, length)) {
+            fail(messageFormat, messageArg);
+        }
+        return index;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given index is not within the bounds of the range from 0
+     * (inclusive) to length (exclusive).
+     * The check never overflows.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked index.
+     */
+    public static long ensureIndex(long index, long length, String messageFormat, long messageArg) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isIndex(index, length)) {
+            fail(messageFormat, messageArg);
+        }
+        return index;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given index is not within the bounds of the range from 0
+     * (inclusive) to length (exclusive).
+     * The check never overflows.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checked index.
+     */
+    public static long ensureIndex(long index, long length, String messageFormat, Object messageArg1, Object messageArg2) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isIndex(index, length)) {
+            fail(messageFormat, messageArg1, messageArg2);
+        }
+        return index;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given index is not within the bounds of the range from 0
+     * (inclusive) to length (exclusive).
+     * The check never overflows.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checked index.
+     */
+    public static long ensureIndex(long index, long length, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isIndex(index, length)) {
+            fail(messageFormat, messageArg1, messageArg2, messageArg3);
+        }
+        return index;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given index is not within the bounds of the range from 0
+     * (inclusive) to length (exclusive).
+     * The check never overflows.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checked index.
+     */
+    public static long ensureIndex(long index, long length, Supplier<String> messageSupplier) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isIndex(index, length)) {
+            fail(messageSupplier);
+        }
+        return index;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given index is not within the bounds of the range from 0
+     * (inclusive) to length (exclusive).
+     * The check never overflows.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checked index.
+     */
+    public static <A> long ensureIndex(long index, long length, MessageSupplier1<A> messageSupplier, A messageArg) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isIndex(index, length)) {
+            fail(messageSupplier, messageArg);
+        }
+        return index;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given index is not within the bounds of the range from 0
+     * (inclusive) to length (exclusive).
+     * The check never overflows.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checked index.
+     */
+    public static <A, B> long ensureIndex(long index, long length, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isIndex(index, length)) {
+            fail(messageSupplier, messageArg1, messageArg2);
+        }
+        return index;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the sub-range from fromIndex (inclusive) to toIndex (exclusive) is
+     * not within the bounds of the range from 0 (inclusive) to length (exclusive).
+     * The check never overflows.
+     *
+     * @return The checked fromIndex.
+     */
+    public static long ensureFromToIndex(long fromIndex, long toIndex, long length) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isFromToIndex(fromIndex, toIndex, length)) {
+            fail("Range [%s, %s) out of bounds for length %s", fromIndex, toIndex, length);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the sub-range from fromIndex (inclusive) to toIndex (exclusive) is
+     * not within the bounds of the range from 0 (inclusive) to length (exclusive).
+     * The check never overflows.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checked fromIndex.
+     */
+    public static long ensureFromToIndex(long fromIndex, long toIndex, long length, String messageFormat, Object... messageArgs) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isFromToIndex(fromIndex, toIndex, length)) {
+            fail(messageFormat, messageArgs);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the sub-range from fromIndex (inclusive) to toIndex (exclusive) is
+     * not within the bounds of the range from 0 (inclusive) to length (exclusive).
+     * The check never overflows.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checked fromIndex.
+     */
+    public static long ensureFromToIndex(long fromIndex, long toIndex, long length, String messageFormat) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isFromToIndex(fromIndex, toIndex, length)) {
+            fail(messageFormat);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the sub-range from fromIndex (inclusive) to toIndex (exclusive) is
+     * not within the bounds of the range from 0 (inclusive) to length (exclusive).
+     * The check never overflows.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked fromIndex.
+     */
+    public static long ensureFromToIndex(long fromIndex, long toIndex, long length, String messageFormat, Object messageArg) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isFromToIndex(fromIndex, toIndex, length)) {
+            fail(messageFormat, messageArg);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the sub-range from fromIndex (inclusive) to toIndex (exclusive) is
+     * not within the bounds of the range from 0 (inclusive) to length (exclusive).
+     * The check never overflows.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked fromIndex.
+     */
+    public static long ensureFromToIndex(long fromIndex, long toIndex, long length, String messageFormat, int messageArg) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isFromToIndex(fromIndex, toIndex, length)) {
+            fail(messageFormat, messageArg);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the sub-range from fromIndex (inclusive) to toIndex (exclusive) is
+     * not within the bounds of the range from 0 (inclusive) to length (exclusive).
+     * The check never overflows.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked fromIndex.
+     */
+    public static long ensureFromToIndex(long fromIndex, long toIndex, long length, String messageFormat, long messageArg) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isFromToIndex(fromIndex, toIndex, length)) {
+            fail(messageFormat, messageArg);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the sub-range from fromIndex (inclusive) to toIndex (exclusive) is
+     * not within the bounds of the range from 0 (inclusive) to length (exclusive).
+     * The check never overflows.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checked fromIndex.
+     */
+    public static long ensureFromToIndex(long fromIndex, long toIndex, long length, String messageFormat, Object messageArg1, Object messageArg2) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isFromToIndex(fromIndex, toIndex, length)) {
+            fail(messageFormat, messageArg1, messageArg2);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the sub-range from fromIndex (inclusive) to toIndex (exclusive) is
+     * not within the bounds of the range from 0 (inclusive) to length (exclusive).
+     * The check never overflows.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checked fromIndex.
+     */
+    public static long ensureFromToIndex(long fromIndex, long toIndex, long length, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isFromToIndex(fromIndex, toIndex, length)) {
+            fail(messageFormat, messageArg1, messageArg2, messageArg3);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the sub-range from fromIndex (inclusive) to toIndex (exclusive) is
+     * not within the bounds of the range from 0 (inclusive) to length (exclusive).
+     * The check never overflows.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checked fromIndex.
+     */
+    public static long ensureFromToIndex(long fromIndex, long toIndex, long length, Supplier<String> messageSupplier) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isFromToIndex(fromIndex, toIndex, length)) {
+            fail(messageSupplier);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the sub-range from fromIndex (inclusive) to toIndex (exclusive) is
+     * not within the bounds of the range from 0 (inclusive) to length (exclusive).
+     * The check never overflows.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checked fromIndex.
+     */
+    public static <A> long ensureFromToIndex(long fromIndex, long toIndex, long length, MessageSupplier1<A> messageSupplier, A messageArg) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isFromToIndex(fromIndex, toIndex, length)) {
+            fail(messageSupplier, messageArg);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the sub-range from fromIndex (inclusive) to toIndex (exclusive) is
+     * not within the bounds of the range from 0 (inclusive) to length (exclusive).
+     * The check never overflows.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checked fromIndex.
+     */
+    public static <A, B> long ensureFromToIndex(long fromIndex, long toIndex, long length, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isFromToIndex(fromIndex, toIndex, length)) {
+            fail(messageSupplier, messageArg1, messageArg2);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the sub-range from fromIndex (inclusive) to fromIndex + size
+     * (exclusive) is not within the bounds of the range from 0 (inclusive) to length (exclusive).
+     * The check never overflows.
+     *
+     * @return The checked fromIndex.
+     */
+    public static long ensureFromIndexSize(long fromIndex, long size, long length) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isFromIndexSize(fromIndex, size, length)) {
+            fail("Range [%s, %s + %s) out of bounds for length %s", fromIndex, fromIndex, size, length);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the sub-range from fromIndex (inclusive) to fromIndex + size
+     * (exclusive) is not within the bounds of the range from 0 (inclusive) to length (exclusive).
+     * The check never overflows.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checked fromIndex.
+     */
+    public static long ensureFromIndexSize(long fromIndex, long size, long length, String messageFormat, Object... messageArgs) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isFromIndexSize(fromIndex, size, length)) {
+            fail(messageFormat, messageArgs);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the sub-range from fromIndex (inclusive) to fromIndex + size
+     * (exclusive) is not within the bounds of the range from 0 (inclusive) to length (exclusive).
+     * The check never overflows.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checked fromIndex.
+     */
+    public static long ensureFromIndexSize(long fromIndex, long size, long length, String messageFormat) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isFromIndexSize(fromIndex, size, length)) {
+            fail(messageFormat);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the sub-range from fromIndex (inclusive) to fromIndex + size
+     * (exclusive) is not within the bounds of the range from 0 (inclusive) to length (exclusive).
+     * The check never overflows.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked fromIndex.
+     */
+    public static long ensureFromIndexSize(long fromIndex, long size, long length, String messageFormat, Object messageArg) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isFromIndexSize(fromIndex, size, length)) {
+            fail(messageFormat, messageArg);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the sub-range from fromIndex (inclusive) to fromIndex + size
+     * (exclusive) is not within the bounds of the range from 0 (inclusive) to length (exclusive).
+     * The check never overflows.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked fromIndex.
+     */
+    public static long ensureFromIndexSize(long fromIndex, long size, long length, String messageFormat, int messageArg) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isFromIndexSize(fromIndex, size, length)) {
+            fail(messageFormat, messageArg);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the sub-range from fromIndex (inclusive) to fromIndex + size
+     * (exclusive) is not within the bounds of the range from 0 (inclusive) to length (exclusive).
+     * The check never overflows.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked fromIndex.
+     */
+    public static long ensureFromIndexSize(long fromIndex, long size, long length, String messageFormat, long messageArg) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isFromIndexSize(fromIndex, size, length)) {
+            fail(messageFormat, messageArg);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the sub-range from fromIndex (inclusive) to fromIndex + size
+     * (exclusive) is not within the bounds of the range from 0 (inclusive) to length (exclusive).
+     * The check never overflows.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checked fromIndex.
+     */
+    public static long ensureFromIndexSize(long fromIndex, long size, long length, String messageFormat, Object messageArg1, Object messageArg2) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isFromIndexSize(fromIndex, size, length)) {
+            fail(messageFormat, messageArg1, messageArg2);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the sub-range from fromIndex (inclusive) to fromIndex + size
+     * (exclusive) is not within the bounds of the range from 0 (inclusive) to length (exclusive).
+     * The check never overflows.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checked fromIndex.
+     */
+    public static long ensureFromIndexSize(long fromIndex, long size, long length, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isFromIndexSize(fromIndex, size, length)) {
+            fail(messageFormat, messageArg1, messageArg2, messageArg3);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the sub-range from fromIndex (inclusive) to fromIndex + size
+     * (exclusive) is not within the bounds of the range from 0 (inclusive) to length (exclusive).
+     * The check never overflows.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checked fromIndex.
+     */
+    public static long ensureFromIndexSize(long fromIndex, long size, long length, Supplier<String> messageSupplier) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isFromIndexSize(fromIndex, size, length)) {
+            fail(messageSupplier);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the sub-range from fromIndex (inclusive) to fromIndex + size
+     * (exclusive) is not within the bounds of the range from 0 (inclusive) to length (exclusive).
+     * The check never overflows.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checked fromIndex.
+     */
+    public static <A> long ensureFromIndexSize(long fromIndex, long size, long length, MessageSupplier1<A> messageSupplier, A messageArg) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isFromIndexSize(fromIndex, size, length)) {
+            fail(messageSupplier, messageArg);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the sub-range from fromIndex (inclusive) to fromIndex + size
+     * (exclusive) is not within the bounds of the range from 0 (inclusive) to length (exclusive).
+     * The check never overflows.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checked fromIndex.
+     */
+    public static <A, B> long ensureFromIndexSize(long fromIndex, long size, long length, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        EnsureStats.recordCheck();
+        if (!Indexes.isFromIndexSize(fromIndex, size, length)) {
+            fail(messageSupplier, messageArg1, messageArg2);
+        }
+        return fromIndex;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer has less than count elements remaining between its position
+     * and its limit.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @return The checked buffer.
+     */
+    public static <V extends Buffer> V ensureRemaining(V value, int count) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        if (value.remaining() < count) {
+            fail("Buffer must have at least %s elements remaining but has %s", count, value.remaining());
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer has less than count elements remaining between its position
+     * and its limit.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checked buffer.
+     */
+    public static <V extends Buffer> V ensureRemaining(V value, int count, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(value.remaining() >= count, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer has less than count elements remaining between its position
+     * and its limit.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checked buffer.
+     */
+    public static <V extends Buffer> V ensureRemaining(V value, int count, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(value.remaining() >= count, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer has less than count elements remaining between its position
+     * and its limit.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked buffer.
+     */
+    public static <V extends Buffer> V ensureRemaining(V value, int count, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(value.remaining() >= count, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer has less than count elements remaining between its position
+     * and its limit.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked buffer.
+     */
+    public static <V extends Buffer> V ensureRemaining(V value, int count, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(value.remaining() >= count, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer has less than count elements remaining between its position
+     * and its limit.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked buffer.
+     */
+    public static <V extends Buffer> V ensureRemaining(V value, int count, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(value.remaining() >= count, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer has less than count elements remaining between its position
+     * and its limit.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checked buffer.
+     */
+    public static <V extends Buffer> V ensureRemaining(V value, int count, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(value.remaining() >= count, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer has less than count elements remaining between its position
+     * and its limit.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checked buffer.
+     */
+    public static <V extends Buffer> V ensureRemaining(V value, int count, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(value.remaining() >= count, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer has less than count elements remaining between its position
+     * and its limit.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checked buffer.
+     */
+    public static <V extends Buffer> V ensureRemaining(V value, int count, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(value.remaining() >= count, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer has less than count elements remaining between its position
+     * and its limit.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checked buffer.
+     */
+    public static <V extends Buffer, A> V ensureRemaining(V value, int count, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(value.remaining() >= count, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer has less than count elements remaining between its position
+     * and its limit.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checked buffer.
+     */
+    public static <V extends Buffer, A, B> V ensureRemaining(V value, int count, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(value.remaining() >= count, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer isn't a direct buffer, e.g. one allocated by
+     * {@link ByteBuffer#allocateDirect(int)} or a memory-mapped buffer.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @return The checked buffer.
+     */
+    public static <V extends Buffer> V ensureDirect(V value) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        if (!value.isDirect()) {
+            fail("Buffer must be direct");
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer isn't a direct buffer, e.g. one allocated by
+     * {@link ByteBuffer#allocateDirect(int)} or a memory-mapped buffer.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checked buffer.
+     */
+    public static <V extends Buffer> V ensureDirect(V value, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(value.isDirect(), messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer isn't a direct buffer, e.g. one allocated by
+     * {@link ByteBuffer#allocateDirect(int)} or a memory-mapped buffer.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checked buffer.
+     */
+    public static <V extends Buffer> V ensureDirect(V value, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(value.isDirect(), messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer isn't a direct buffer, e.g. one allocated by
+     * {@link ByteBuffer#allocateDirect(int)} or a memory-mapped buffer.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked buffer.
+     */
+    public static <V extends Buffer> V ensureDirect(V value, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(value.isDirect(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer isn't a direct buffer, e.g. one allocated by
+     * {@link ByteBuffer#allocateDirect(int)} or a memory-mapped buffer.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked buffer.
+     */
+    public static <V extends Buffer> V ensureDirect(V value, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(value.isDirect(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer isn't a direct buffer, e.g. one allocated by
+     * {@link ByteBuffer#allocateDirect(int)} or a memory-mapped buffer.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked buffer.
+     */
+    public static <V extends Buffer> V ensureDirect(V value, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(value.isDirect(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer isn't a direct buffer, e.g. one allocated by
+     * {@link ByteBuffer#allocateDirect(int)} or a memory-mapped buffer.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checked buffer.
+     */
+    public static <V extends Buffer> V ensureDirect(V value, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(value.isDirect(), messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer isn't a direct buffer, e.g. one allocated by
+     * {@link ByteBuffer#allocateDirect(int)} or a memory-mapped buffer.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checked buffer.
+     */
+    public static <V extends Buffer> V ensureDirect(V value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(value.isDirect(), messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer isn't a direct buffer, e.g. one allocated by
+     * {@link ByteBuffer#allocateDirect(int)} or a memory-mapped buffer.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checked buffer.
+     */
+    public static <V extends Buffer> V ensureDirect(V value, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(value.isDirect(), messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer isn't a direct buffer, e.g. one allocated by
+     * {@link ByteBuffer#allocateDirect(int)} or a memory-mapped buffer.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checked buffer.
+     */
+    public static <V extends Buffer, A> V ensureDirect(V value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(value.isDirect(), messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer isn't a direct buffer, e.g. one allocated by
+     * {@link ByteBuffer#allocateDirect(int)} or a memory-mapped buffer.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checked buffer.
+     */
+    public static <V extends Buffer, A, B> V ensureDirect(V value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(value.isDirect(), messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer isn't direct or the memory address at its position isn't
+     * a multiple of the given alignment. Heap buffers always fail, because the garbage collector may move them.
+     * The alignment has to be a power of two.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @return The checked buffer.
+     */
+    public static ByteBuffer ensureAligned(ByteBuffer value, int alignment) {
+        requireNotNull(value, "value must not be null");
+        requireArgument(alignment > 0 && (alignment & (alignment - 1)) == 0, "alignment must be a power of two but was %s", alignment);
+        EnsureStats.recordCheck();
+        if (!value.isDirect() || !Buffers.isAligned(value, alignment)) {
+            fail("Buffer must be direct and aligned to %s bytes at position %s", alignment, value.position());
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer isn't direct or the memory address at its position isn't
+     * a multiple of the given alignment. Heap buffers always fail, because the garbage collector may move them.
+     * The alignment has to be a power of two.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checked buffer.
+     */
+    public static ByteBuffer ensureAligned(ByteBuffer value, int alignment, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        requireArgument(alignment > 0 && (alignment & (alignment - 1)) == 0, "alignment must be a power of two but was %s", alignment);
+        ensureTrue(value.isDirect() && Buffers.isAligned(value, alignment), messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer isn't direct or the memory address at its position isn't
+     * a multiple of the given alignment. Heap buffers always fail, because the garbage collector may move them.
+     * The alignment has to be a power of two.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checked buffer.
+     */
+    public static ByteBuffer ensureAligned(ByteBuffer value, int alignment, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        requireArgument(alignment > 0 && (alignment & (alignment - 1)) == 0, "alignment must be a power of two but was %s", alignment);
+        ensureTrue(value.isDirect() && Buffers.isAligned(value, alignment), messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer isn't direct or the memory address at its position isn't
+     * a multiple of the given alignment. Heap buffers always fail, because the garbage collector may move them.
+     * The alignment has to be a power of two.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked buffer.
+     */
+    public static ByteBuffer ensureAligned(ByteBuffer value, int alignment, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireArgument(alignment > 0 && (alignment & (alignment - 1)) == 0, "alignment must be a power of two but was %s", alignment);
+        ensureTrue(value.isDirect() && Buffers.isAligned(value, alignment), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer isn't direct or the memory address at its position isn't
+     * a multiple of the given alignment. Heap buffers always fail, because the garbage collector may move them.
+     * The alignment has to be a power of two.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked buffer.
+     */
+    public static ByteBuffer ensureAligned(ByteBuffer value, int alignment, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireArgument(alignment > 0 && (alignment & (alignment - 1)) == 0, "alignment must be a power of two but was %s", alignment);
+        ensureTrue(value.isDirect() && Buffers.isAligned(value, alignment), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer isn't direct or the memory address at its position isn't
+     * a multiple of the given alignment. Heap buffers always fail, because the garbage collector may move them.
+     * The alignment has to be a power of two.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked buffer.
+     */
+    public static ByteBuffer ensureAligned(ByteBuffer value, int alignment, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireArgument(alignment > 0 && (alignment & (alignment - 1)) == 0, "alignment must be a power of two but was %s", alignment);
+        ensureTrue(value.isDirect() && Buffers.isAligned(value, alignment), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer isn't direct or the memory address at its position isn't
+     * a multiple of the given alignment. Heap buffers always fail, because the garbage collector may move them.
+     * The alignment has to be a power of two.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checked buffer.
+     */
+    public static ByteBuffer ensureAligned(ByteBuffer value, int alignment, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        requireArgument(alignment > 0 && (alignment & (alignment - 1)) == 0, "alignment must be a power of two but was %s", alignment);
+        ensureTrue(value.isDirect() && Buffers.isAligned(value, alignment), messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer isn't direct or the memory address at its position isn't
+     * a multiple of the given alignment. Heap buffers always fail, because the garbage collector may move them.
+     * The alignment has to be a power of two.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checked buffer.
+     */
+    public static ByteBuffer ensureAligned(ByteBuffer value, int alignment, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        requireArgument(alignment > 0 && (alignment & (alignment - 1)) == 0, "alignment must be a power of two but was %s", alignment);
+        ensureTrue(value.isDirect() && Buffers.isAligned(value, alignment), messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer isn't direct or the memory address at its position isn't
+     * a multiple of the given alignment. Heap buffers always fail, because the garbage collector may move them.
+     * The alignment has to be a power of two.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checked buffer.
+     */
+    public static ByteBuffer ensureAligned(ByteBuffer value, int alignment, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        requireArgument(alignment > 0 && (alignment & (alignment - 1)) == 0, "alignment must be a power of two but was %s", alignment);
+        ensureTrue(value.isDirect() && Buffers.isAligned(value, alignment), messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer isn't direct or the memory address at its position isn't
+     * a multiple of the given alignment. Heap buffers always fail, because the garbage collector may move them.
+     * The alignment has to be a power of two.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checked buffer.
+     */
+    public static <A> ByteBuffer ensureAligned(ByteBuffer value, int alignment, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireArgument(alignment > 0 && (alignment & (alignment - 1)) == 0, "alignment must be a power of two but was %s", alignment);
+        ensureTrue(value.isDirect() && Buffers.isAligned(value, alignment), messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer isn't direct or the memory address at its position isn't
+     * a multiple of the given alignment. Heap buffers always fail, because the garbage collector may move them.
+     * The alignment has to be a power of two.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checked buffer.
+     */
+    public static <A, B> ByteBuffer ensureAligned(ByteBuffer value, int alignment, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        requireArgument(alignment > 0 && (alignment & (alignment - 1)) == 0, "alignment must be a power of two but was %s", alignment);
+        ensureTrue(value.isDirect() && Buffers.isAligned(value, alignment), messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer doesn't have the given byte order.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @return The checked buffer.
+     */
+    public static ByteBuffer ensureOrder(ByteBuffer value, ByteOrder order) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(order, "order must not be null");
+        EnsureStats.recordCheck();
+        if (value.order() != order) {
+            fail("Buffer must have byte order %s but has %s", order, value.order());
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer doesn't have the given byte order.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checked buffer.
+     */
+    public static ByteBuffer ensureOrder(ByteBuffer value, ByteOrder order, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(order, "order must not be null");
+        ensureTrue(value.order() == order, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer doesn't have the given byte order.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checked buffer.
+     */
+    public static ByteBuffer ensureOrder(ByteBuffer value, ByteOrder order, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(order, "order must not be null");
+        ensureTrue(value.order() == order, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer doesn't have the given byte order.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked buffer.
+     */
+    public static ByteBuffer ensureOrder(ByteBuffer value, ByteOrder order, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(order, "order must not be null");
+        ensureTrue(value.order() == order, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer doesn't have the given byte order.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked buffer.
+     */
+    public static ByteBuffer ensureOrder(ByteBuffer value, ByteOrder order, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(order, "order must not be null");
+        ensureTrue(value.order() == order, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer doesn't have the given byte order.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked buffer.
+     */
+    public static ByteBuffer ensureOrder(ByteBuffer value, ByteOrder order, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(order, "order must not be null");
+        ensureTrue(value.order() == order, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer doesn't have the given byte order.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checked buffer.
+     */
+    public static ByteBuffer ensureOrder(ByteBuffer value, ByteOrder order, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(order, "order must not be null");
+        ensureTrue(value.order() == order, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer doesn't have the given byte order.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checked buffer.
+     */
+    public static ByteBuffer ensureOrder(ByteBuffer value, ByteOrder order, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(order, "order must not be null");
+        ensureTrue(value.order() == order, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer doesn't have the given byte order.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checked buffer.
+     */
+    public static ByteBuffer ensureOrder(ByteBuffer value, ByteOrder order, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(order, "order must not be null");
+        ensureTrue(value.order() == order, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer doesn't have the given byte order.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checked buffer.
+     */
+    public static <A> ByteBuffer ensureOrder(ByteBuffer value, ByteOrder order, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(order, "order must not be null");
+        ensureTrue(value.order() == order, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer doesn't have the given byte order.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checked buffer.
+     */
+    public static <A, B> ByteBuffer ensureOrder(ByteBuffer value, ByteOrder order, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(order, "order must not be null");
+        ensureTrue(value.order() == order, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer is read-only.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @return The checked buffer.
+     */
+    public static <V extends Buffer> V ensureNotReadOnly(V value) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        if (value.isReadOnly()) {
+            fail("Buffer must not be read-only");
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer is read-only.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checked buffer.
+     */
+    public static <V extends Buffer> V ensureNotReadOnly(V value, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(!value.isReadOnly(), messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer is read-only.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checked buffer.
+     */
+    public static <V extends Buffer> V ensureNotReadOnly(V value, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(!value.isReadOnly(), messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer is read-only.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked buffer.
+     */
+    public static <V extends Buffer> V ensureNotReadOnly(V value, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(!value.isReadOnly(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer is read-only.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked buffer.
+     */
+    public static <V extends Buffer> V ensureNotReadOnly(V value, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(!value.isReadOnly(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer is read-only.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked buffer.
+     */
+    public static <V extends Buffer> V ensureNotReadOnly(V value, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(!value.isReadOnly(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer is read-only.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checked buffer.
+     */
+    public static <V extends Buffer> V ensureNotReadOnly(V value, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(!value.isReadOnly(), messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer is read-only.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checked buffer.
+     */
+    public static <V extends Buffer> V ensureNotReadOnly(V value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(!value.isReadOnly(), messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer is read-only.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checked buffer.
+     */
+    public static <V extends Buffer> V ensureNotReadOnly(V value, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(!value.isReadOnly(), messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer is read-only.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checked buffer.
+     */
+    public static <V extends Buffer, A> V ensureNotReadOnly(V value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(!value.isReadOnly(), messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given buffer is read-only.
+     * Neither the contents nor the position of the buffer are touched.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checked buffer.
+     */
+    public static <V extends Buffer, A, B> V ensureNotReadOnly(V value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(!value.isReadOnly(), messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given stream doesn't match the condition.
+     * The elements are checked while the returned stream is consumed, elements which are never consumed are
+     * not checked. Nothing is buffered and parallel streams are split like the given one.
+     * The default message reports the non-matching element. The condition has to be thread-safe
+     * for parallel streams.
+     *
+     * @return The checking stream.
+     */
+    public static <V> Stream<V> ensureEach(Stream<V> value, Predicate<? super V> condition) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.each(value, condition, element -> fail("Element %s doesn't match the condition", element));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given stream doesn't match the condition.
+     * The elements are checked while the returned stream is consumed, elements which are never consumed are
+     * not checked. Nothing is buffered and parallel streams are split like the given one.
+     * The default message reports the non-matching element. The condition has to be thread-safe
+     * for parallel streams.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checking stream.
+     */
+    public static <V> Stream<V> ensureEach(Stream<V> value, Predicate<? super V> condition, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.each(value, condition, element -> fail(messageFormat, messageArgs));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given stream doesn't match the condition.
+     * The elements are checked while the returned stream is consumed, elements which are never consumed are
+     * not checked. Nothing is buffered and parallel streams are split like the given one.
+     * The default message reports the non-matching element. The condition has to be thread-safe
+     * for parallel streams.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checking stream.
+     */
+    public static <V> Stream<V> ensureEach(Stream<V> value, Predicate<? super V> condition, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.each(value, condition, element -> fail(messageFormat));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given stream doesn't match the condition.
+     * The elements are checked while the returned stream is consumed, elements which are never consumed are
+     * not checked. Nothing is buffered and parallel streams are split like the given one.
+     * The default message reports the non-matching element. The condition has to be thread-safe
+     * for parallel streams.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checking stream.
+     */
+    public static <V> Stream<V> ensureEach(Stream<V> value, Predicate<? super V> condition, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.each(value, condition, element -> fail(messageFormat, messageArg));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given stream doesn't match the condition.
+     * The elements are checked while the returned stream is consumed, elements which are never consumed are
+     * not checked. Nothing is buffered and parallel streams are split like the given one.
+     * The default message reports the non-matching element. The condition has to be thread-safe
+     * for parallel streams.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checking stream.
+     */
+    public static <V> Stream<V> ensureEach(Stream<V> value, Predicate<? super V> condition, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.each(value, condition, element -> fail(messageFormat, messageArg));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given stream doesn't match the condition.
+     * The elements are checked while the returned stream is consumed, elements which are never consumed are
+     * not checked. Nothing is buffered and parallel streams are split like the given one.
+     * The default message reports the non-matching element. The condition has to be thread-safe
+     * for parallel streams.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checking stream.
+     */
+    public static <V> Stream<V> ensureEach(Stream<V> value, Predicate<? super V> condition, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.each(value, condition, element -> fail(messageFormat, messageArg));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given stream doesn't match the condition.
+     * The elements are checked while the returned stream is consumed, elements which are never consumed are
+     * not checked. Nothing is buffered and parallel streams are split like the given one.
+     * The default message reports the non-matching element. The condition has to be thread-safe
+     * for parallel streams.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checking stream.
+     */
+    public static <V> Stream<V> ensureEach(Stream<V> value, Predicate<? super V> condition, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.each(value, condition, element -> fail(messageFormat, messageArg1, messageArg2));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given stream doesn't match the condition.
+     * The elements are checked while the returned stream is consumed, elements which are never consumed are
+     * not checked. Nothing is buffered and parallel streams are split like the given one.
+     * The default message reports the non-matching element. The condition has to be thread-safe
+     * for parallel streams.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checking stream.
+     */
+    public static <V> Stream<V> ensureEach(Stream<V> value, Predicate<? super V> condition, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.each(value, condition, element -> fail(messageFormat, messageArg1, messageArg2, messageArg3));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given stream doesn't match the condition.
+     * The elements are checked while the returned stream is consumed, elements which are never consumed are
+     * not checked. Nothing is buffered and parallel streams are split like the given one.
+     * The default message reports the non-matching element. The condition has to be thread-safe
+     * for parallel streams.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checking stream.
+     */
+    public static <V> Stream<V> ensureEach(Stream<V> value, Predicate<? super V> condition, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.each(value, condition, element -> fail(messageSupplier));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given stream doesn't match the condition.
+     * The elements are checked while the returned stream is consumed, elements which are never consumed are
+     * not checked. Nothing is buffered and parallel streams are split like the given one.
+     * The default message reports the non-matching element. The condition has to be thread-safe
+     * for parallel streams.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checking stream.
+     */
+    public static <V, A> Stream<V> ensureEach(Stream<V> value, Predicate<? super V> condition, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.each(value, condition, element -> fail(messageSupplier, messageArg));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given stream doesn't match the condition.
+     * The elements are checked while the returned stream is consumed, elements which are never consumed are
+     * not checked. Nothing is buffered and parallel streams are split like the given one.
+     * The default message reports the non-matching element. The condition has to be thread-safe
+     * for parallel streams.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checking stream.
+     */
+    public static <V, A, B> Stream<V> ensureEach(Stream<V> value, Predicate<? super V> condition, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.each(value, condition, element -> fail(messageSupplier, messageArg1, messageArg2));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given iterator doesn't match the condition.
+     * The elements are checked by {@link Iterator#next()} of the returned iterator.
+     * The default message reports the non-matching element.
+     *
+     * @return The checking iterator.
+     */
+    public static <V> Iterator<V> ensureEach(Iterator<V> value, Predicate<? super V> condition) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.each(value, condition, element -> fail("Element %s doesn't match the condition", element));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given iterator doesn't match the condition.
+     * The elements are checked by {@link Iterator#next()} of the returned iterator.
+     * The default message reports the non-matching element.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checking iterator.
+     */
+    public static <V> Iterator<V> ensureEach(Iterator<V> value, Predicate<? super V> condition, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.each(value, condition, element -> fail(messageFormat, messageArgs));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given iterator doesn't match the condition.
+     * The elements are checked by {@link Iterator#next()} of the returned iterator.
+     * The default message reports the non-matching element.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checking iterator.
+     */
+    public static <V> Iterator<V> ensureEach(Iterator<V> value, Predicate<? super V> condition, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.each(value, condition, element -> fail(messageFormat));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given iterator doesn't match the condition.
+     * The elements are checked by {@link Iterator#next()} of the returned iterator.
+     * The default message reports the non-matching element.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checking iterator.
+     */
+    public static <V> Iterator<V> ensureEach(Iterator<V> value, Predicate<? super V> condition, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.each(value, condition, element -> fail(messageFormat, messageArg));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given iterator doesn't match the condition.
+     * The elements are checked by {@link Iterator#next()} of the returned iterator.
+     * The default message reports the non-matching element.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checking iterator.
+     */
+    public static <V> Iterator<V> ensureEach(Iterator<V> value, Predicate<? super V> condition, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.each(value, condition, element -> fail(messageFormat, messageArg));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given iterator doesn't match the condition.
+     * The elements are checked by {@link Iterator#next()} of the returned iterator.
+     * The default message reports the non-matching element.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checking iterator.
+     */
+    public static <V> Iterator<V> ensureEach(Iterator<V> value, Predicate<? super V> condition, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.each(value, condition, element -> fail(messageFormat, messageArg));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given iterator doesn't match the condition.
+     * The elements are checked by {@link Iterator#next()} of the returned iterator.
+     * The default message reports the non-matching element.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checking iterator.
+     */
+    public static <V> Iterator<V> ensureEach(Iterator<V> value, Predicate<? super V> condition, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.each(value, condition, element -> fail(messageFormat, messageArg1, messageArg2));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given iterator doesn't match the condition.
+     * The elements are checked by {@link Iterator#next()} of the returned iterator.
+     * The default message reports the non-matching element.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checking iterator.
+     */
+    public static <V> Iterator<V> ensureEach(Iterator<V> value, Predicate<? super V> condition, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.each(value, condition, element -> fail(messageFormat, messageArg1, messageArg2, messageArg3));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given iterator doesn't match the condition.
+     * The elements are checked by {@link Iterator#next()} of the returned iterator.
+     * The default message reports the non-matching element.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checking iterator.
+     */
+    public static <V> Iterator<V> ensureEach(Iterator<V> value, Predicate<? super V> condition, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.each(value, condition, element -> fail(messageSupplier));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given iterator doesn't match the condition.
+     * The elements are checked by {@link Iterator#next()} of the returned iterator.
+     * The default message reports the non-matching element.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checking iterator.
+     */
+    public static <V, A> Iterator<V> ensureEach(Iterator<V> value, Predicate<? super V> condition, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.each(value, condition, element -> fail(messageSupplier, messageArg));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given iterator doesn't match the condition.
+     * The elements are checked by {@link Iterator#next()} of the returned iterator.
+     * The default message reports the non-matching element.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checking iterator.
+     */
+    public static <V, A, B> Iterator<V> ensureEach(Iterator<V> value, Predicate<? super V> condition, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.each(value, condition, element -> fail(messageSupplier, messageArg1, messageArg2));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given spliterator doesn't match the condition.
+     * The elements are checked while the returned spliterator is traversed, elements which are never consumed
+     * are not checked. Nothing is buffered and the characteristics of the given spliterator are kept.
+     * The default message reports the non-matching element.
+     *
+     * @return The checking spliterator.
+     */
+    public static <V> Spliterator<V> ensureEach(Spliterator<V> value, Predicate<? super V> condition) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.each(value, condition, element -> fail("Element %s doesn't match the condition", element));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given spliterator doesn't match the condition.
+     * The elements are checked while the returned spliterator is traversed, elements which are never consumed
+     * are not checked. Nothing is buffered and the characteristics of the given spliterator are kept.
+     * The default message reports the non-matching element.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checking spliterator.
+     */
+    public static <V> Spliterator<V> ensureEach(Spliterator<V> value, Predicate<? super V> condition, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.each(value, condition, element -> fail(messageFormat, messageArgs));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given spliterator doesn't match the condition.
+     * The elements are checked while the returned spliterator is traversed, elements which are never consumed
+     * are not checked. Nothing is buffered and the characteristics of the given spliterator are kept.
+     * The default message reports the non-matching element.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checking spliterator.
+     */
+    public static <V> Spliterator<V> ensureEach(Spliterator<V> value, Predicate<? super V> condition, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.each(value, condition, element -> fail(messageFormat));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given spliterator doesn't match the condition.
+     * The elements are checked while the returned spliterator is traversed, elements which are never consumed
+     * are not checked. Nothing is buffered and the characteristics of the given spliterator are kept.
+     * The default message reports the non-matching element.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checking spliterator.
+     */
+    public static <V> Spliterator<V> ensureEach(Spliterator<V> value, Predicate<? super V> condition, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.each(value, condition, element -> fail(messageFormat, messageArg));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given spliterator doesn't match the condition.
+     * The elements are checked while the returned spliterator is traversed, elements which are never consumed
+     * are not checked. Nothing is buffered and the characteristics of the given spliterator are kept.
+     * The default message reports the non-matching element.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checking spliterator.
+     */
+    public static <V> Spliterator<V> ensureEach(Spliterator<V> value, Predicate<? super V> condition, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.each(value, condition, element -> fail(messageFormat, messageArg));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given spliterator doesn't match the condition.
+     * The elements are checked while the returned spliterator is traversed, elements which are never consumed
+     * are not checked. Nothing is buffered and the characteristics of the given spliterator are kept.
+     * The default message reports the non-matching element.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checking spliterator.
+     */
+    public static <V> Spliterator<V> ensureEach(Spliterator<V> value, Predicate<? super V> condition, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.each(value, condition, element -> fail(messageFormat, messageArg));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given spliterator doesn't match the condition.
+     * The elements are checked while the returned spliterator is traversed, elements which are never consumed
+     * are not checked. Nothing is buffered and the characteristics of the given spliterator are kept.
+     * The default message reports the non-matching element.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checking spliterator.
+     */
+    public static <V> Spliterator<V> ensureEach(Spliterator<V> value, Predicate<? super V> condition, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.each(value, condition, element -> fail(messageFormat, messageArg1, messageArg2));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given spliterator doesn't match the condition.
+     * The elements are checked while the returned spliterator is traversed, elements which are never consumed
+     * are not checked. Nothing is buffered and the characteristics of the given spliterator are kept.
+     * The default message reports the non-matching element.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checking spliterator.
+     */
+    public static <V> Spliterator<V> ensureEach(Spliterator<V> value, Predicate<? super V> condition, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.each(value, condition, element -> fail(messageFormat, messageArg1, messageArg2, messageArg3));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given spliterator doesn't match the condition.
+     * The elements are checked while the returned spliterator is traversed, elements which are never consumed
+     * are not checked. Nothing is buffered and the characteristics of the given spliterator are kept.
+     * The default message reports the non-matching element.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checking spliterator.
+     */
+    public static <V> Spliterator<V> ensureEach(Spliterator<V> value, Predicate<? super V> condition, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.each(value, condition, element -> fail(messageSupplier));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given spliterator doesn't match the condition.
+     * The elements are checked while the returned spliterator is traversed, elements which are never consumed
+     * are not checked. Nothing is buffered and the characteristics of the given spliterator are kept.
+     * The default message reports the non-matching element.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checking spliterator.
+     */
+    public static <V, A> Spliterator<V> ensureEach(Spliterator<V> value, Predicate<? super V> condition, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.each(value, condition, element -> fail(messageSupplier, messageArg));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if one of the elements of the given spliterator doesn't match the condition.
+     * The elements are checked while the returned spliterator is traversed, elements which are never consumed
+     * are not checked. Nothing is buffered and the characteristics of the given spliterator are kept.
+     * The default message reports the non-matching element.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checking spliterator.
+     */
+    public static <V, A, B> Spliterator<V> ensureEach(Spliterator<V> value, Predicate<? super V> condition, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(condition, "condition must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.each(value, condition, element -> fail(messageSupplier, messageArg1, messageArg2));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given stream is empty. The null value is also considered to be empty.
+     * The check fails immediately if the stream is known to be empty, otherwise when the returned stream has been
+     * consumed without a single element.
+     *
+     * @return The checking stream.
+     */
+    public static <V> Stream<V> ensureNotEmpty(Stream<V> value) {
+        return ensureNotEmpty(value, "Given stream must not be empty");
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given stream is empty. The null value is also considered to be empty.
+     * The check fails immediately if the stream is known to be empty, otherwise when the returned stream has been
+     * consumed without a single element.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checking stream.
+     */
+    public static <V> Stream<V> ensureNotEmpty(Stream<V> value, String messageFormat, Object... messageArgs) {
+        ensureTrue(value != null, messageFormat, messageArgs);
+        return LazyChecks.notEmpty(value, () -> fail(messageFormat, messageArgs));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given stream is empty. The null value is also considered to be empty.
+     * The check fails immediately if the stream is known to be empty, otherwise when the returned stream has been
+     * consumed without a single element.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checking stream.
+     */
+    public static <V> Stream<V> ensureNotEmpty(Stream<V> value, String messageFormat) {
+        ensureTrue(value != null, messageFormat);
+        return LazyChecks.notEmpty(value, () -> fail(messageFormat));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given stream is empty. The null value is also considered to be empty.
+     * The check fails immediately if the stream is known to be empty, otherwise when the returned stream has been
+     * consumed without a single element.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checking stream.
+     */
+    public static <V> Stream<V> ensureNotEmpty(Stream<V> value, String messageFormat, Object messageArg) {
+        ensureTrue(value != null, messageFormat, messageArg);
+        return LazyChecks.notEmpty(value, () -> fail(messageFormat, messageArg));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given stream is empty. The null value is also considered to be empty.
+     * The check fails immediately if the stream is known to be empty, otherwise when the returned stream has been
+     * consumed without a single element.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checking stream.
+     */
+    public static <V> Stream<V> ensureNotEmpty(Stream<V> value, String messageFormat, int messageArg) {
+        ensureTrue(value != null, messageFormat, messageArg);
+        return LazyChecks.notEmpty(value, () -> fail(messageFormat, messageArg));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given stream is empty. The null value is also considered to be empty.
+     * The check fails immediately if the stream is known to be empty, otherwise when the returned stream has been
+     * consumed without a single element.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checking stream.
+     */
+    public static <V> Stream<V> ensureNotEmpty(Stream<V> value, String messageFormat, long messageArg) {
+        ensureTrue(value != null, messageFormat, messageArg);
+        return LazyChecks.notEmpty(value, () -> fail(messageFormat, messageArg));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given stream is empty. The null value is also considered to be empty.
+     * The check fails immediately if the stream is known to be empty, otherwise when the returned stream has been
+     * consumed without a single element.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checking stream.
+     */
+    public static <V> Stream<V> ensureNotEmpty(Stream<V> value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(value != null, messageFormat, messageArg1, messageArg2);
+        return LazyChecks.notEmpty(value, () -> fail(messageFormat, messageArg1, messageArg2));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given stream is empty. The null value is also considered to be empty.
+     * The check fails immediately if the stream is known to be empty, otherwise when the returned stream has been
+     * consumed without a single element.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checking stream.
+     */
+    public static <V> Stream<V> ensureNotEmpty(Stream<V> value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(value != null, messageFormat, messageArg1, messageArg2, messageArg3);
+        return LazyChecks.notEmpty(value, () -> fail(messageFormat, messageArg1, messageArg2, messageArg3));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given stream is empty. The null value is also considered to be empty.
+     * The check fails immediately if the stream is known to be empty, otherwise when the returned stream has been
+     * consumed without a single element.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checking stream.
+     */
+    public static <V> Stream<V> ensureNotEmpty(Stream<V> value, Supplier<String> messageSupplier) {
+        ensureTrue(value != null, messageSupplier);
+        return LazyChecks.notEmpty(value, () -> fail(messageSupplier));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given stream is empty. The null value is also considered to be empty.
+     * The check fails immediately if the stream is known to be empty, otherwise when the returned stream has been
+     * consumed without a single element.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checking stream.
+     */
+    public static <V, A> Stream<V> ensureNotEmpty(Stream<V> value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        ensureTrue(value != null, messageSupplier, messageArg);
+        return LazyChecks.notEmpty(value, () -> fail(messageSupplier, messageArg));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given stream is empty. The null value is also considered to be empty.
+     * The check fails immediately if the stream is known to be empty, otherwise when the returned stream has been
+     * consumed without a single element.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checking stream.
+     */
+    public static <V, A, B> Stream<V> ensureNotEmpty(Stream<V> value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        ensureTrue(value != null, messageSupplier, messageArg1, messageArg2);
+        return LazyChecks.notEmpty(value, () -> fail(messageSupplier, messageArg1, messageArg2));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given iterator has no next element. The null value is also
+     * considered to be empty. No element is consumed.
+     *
+     * @return The checked iterator.
+     */
+    public static <V> Iterator<V> ensureNotEmpty(Iterator<V> value) {
+        return ensureNotEmpty(value, "Given iterator must not be empty");
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given iterator has no next element. The null value is also
+     * considered to be empty. No element is consumed.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checked iterator.
+     */
+    public static <V> Iterator<V> ensureNotEmpty(Iterator<V> value, String messageFormat, Object... messageArgs) {
+        ensureTrue(value != null && value.hasNext(), messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given iterator has no next element. The null value is also
+     * considered to be empty. No element is consumed.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checked iterator.
+     */
+    public static <V> Iterator<V> ensureNotEmpty(Iterator<V> value, String messageFormat) {
+        ensureTrue(value != null && value.hasNext(), messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given iterator has no next element. The null value is also
+     * considered to be empty. No element is consumed.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked iterator.
+     */
+    public static <V> Iterator<V> ensureNotEmpty(Iterator<V> value, String messageFormat, Object messageArg) {
+        ensureTrue(value != null && value.hasNext(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given iterator has no next element. The null value is also
+     * considered to be empty. No element is consumed.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked iterator.
+     */
+    public static <V> Iterator<V> ensureNotEmpty(Iterator<V> value, String messageFormat, int messageArg) {
+        ensureTrue(value != null && value.hasNext(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given iterator has no next element. The null value is also
+     * considered to be empty. No element is consumed.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked iterator.
+     */
+    public static <V> Iterator<V> ensureNotEmpty(Iterator<V> value, String messageFormat, long messageArg) {
+        ensureTrue(value != null && value.hasNext(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given iterator has no next element. The null value is also
+     * considered to be empty. No element is consumed.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checked iterator.
+     */
+    public static <V> Iterator<V> ensureNotEmpty(Iterator<V> value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(value != null && value.hasNext(), messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given iterator has no next element. The null value is also
+     * considered to be empty. No element is consumed.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checked iterator.
+     */
+    public static <V> Iterator<V> ensureNotEmpty(Iterator<V> value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(value != null && value.hasNext(), messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given iterator has no next element. The null value is also
+     * considered to be empty. No element is consumed.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checked iterator.
+     */
+    public static <V> Iterator<V> ensureNotEmpty(Iterator<V> value, Supplier<String> messageSupplier) {
+        ensureTrue(value != null && value.hasNext(), messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given iterator has no next element. The null value is also
+     * considered to be empty. No element is consumed.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checked iterator.
+     */
+    public static <V, A> Iterator<V> ensureNotEmpty(Iterator<V> value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        ensureTrue(value != null && value.hasNext(), messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given iterator has no next element. The null value is also
+     * considered to be empty. No element is consumed.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checked iterator.
+     */
+    public static <V, A, B> Iterator<V> ensureNotEmpty(Iterator<V> value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        ensureTrue(value != null && value.hasNext(), messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given spliterator is empty. The null value is also considered to be empty.
+     * The check fails immediately if the spliterator is known to be empty, otherwise when the returned spliterator
+     * has been consumed without a single element.
+     *
+     * @return The checking spliterator.
+     */
+    public static <V> Spliterator<V> ensureNotEmpty(Spliterator<V> value) {
+        return ensureNotEmpty(value, "Given spliterator must not be empty");
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given spliterator is empty. The null value is also considered to be empty.
+     * The check fails immediately if the spliterator is known to be empty, otherwise when the returned spliterator
+     * has been consumed without a single element.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checking spliterator.
+     */
+    public static <V> Spliterator<V> ensureNotEmpty(Spliterator<V> value, String messageFormat, Object... messageArgs) {
+        ensureTrue(value != null, messageFormat, messageArgs);
+        return LazyChecks.notEmpty(value, () -> fail(messageFormat, messageArgs));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given spliterator is empty. The null value is also considered to be empty.
+     * The check fails immediately if the spliterator is known to be empty, otherwise when the returned spliterator
+     * has been consumed without a single element.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checking spliterator.
+     */
+    public static <V> Spliterator<V> ensureNotEmpty(Spliterator<V> value, String messageFormat) {
+        ensureTrue(value != null, messageFormat);
+        return LazyChecks.notEmpty(value, () -> fail(messageFormat));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given spliterator is empty. The null value is also considered to be empty.
+     * The check fails immediately if the spliterator is known to be empty, otherwise when the returned spliterator
+     * has been consumed without a single element.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checking spliterator.
+     */
+    public static <V> Spliterator<V> ensureNotEmpty(Spliterator<V> value, String messageFormat, Object messageArg) {
+        ensureTrue(value != null, messageFormat, messageArg);
+        return LazyChecks.notEmpty(value, () -> fail(messageFormat, messageArg));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given spliterator is empty. The null value is also considered to be empty.
+     * The check fails immediately if the spliterator is known to be empty, otherwise when the returned spliterator
+     * has been consumed without a single element.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checking spliterator.
+     */
+    public static <V> Spliterator<V> ensureNotEmpty(Spliterator<V> value, String messageFormat, int messageArg) {
+        ensureTrue(value != null, messageFormat, messageArg);
+        return LazyChecks.notEmpty(value, () -> fail(messageFormat, messageArg));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given spliterator is empty. The null value is also considered to be empty.
+     * The check fails immediately if the spliterator is known to be empty, otherwise when the returned spliterator
+     * has been consumed without a single element.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checking spliterator.
+     */
+    public static <V> Spliterator<V> ensureNotEmpty(Spliterator<V> value, String messageFormat, long messageArg) {
+        ensureTrue(value != null, messageFormat, messageArg);
+        return LazyChecks.notEmpty(value, () -> fail(messageFormat, messageArg));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given spliterator is empty. The null value is also considered to be empty.
+     * The check fails immediately if the spliterator is known to be empty, otherwise when the returned spliterator
+     * has been consumed without a single element.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checking spliterator.
+     */
+    public static <V> Spliterator<V> ensureNotEmpty(Spliterator<V> value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(value != null, messageFormat, messageArg1, messageArg2);
+        return LazyChecks.notEmpty(value, () -> fail(messageFormat, messageArg1, messageArg2));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given spliterator is empty. The null value is also considered to be empty.
+     * The check fails immediately if the spliterator is known to be empty, otherwise when the returned spliterator
+     * has been consumed without a single element.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checking spliterator.
+     */
+    public static <V> Spliterator<V> ensureNotEmpty(Spliterator<V> value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(value != null, messageFormat, messageArg1, messageArg2, messageArg3);
+        return LazyChecks.notEmpty(value, () -> fail(messageFormat, messageArg1, messageArg2, messageArg3));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given spliterator is empty. The null value is also considered to be empty.
+     * The check fails immediately if the spliterator is known to be empty, otherwise when the returned spliterator
+     * has been consumed without a single element.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checking spliterator.
+     */
+    public static <V> Spliterator<V> ensureNotEmpty(Spliterator<V> value, Supplier<String> messageSupplier) {
+        ensureTrue(value != null, messageSupplier);
+        return LazyChecks.notEmpty(value, () -> fail(messageSupplier));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given spliterator is empty. The null value is also considered to be empty.
+     * The check fails immediately if the spliterator is known to be empty, otherwise when the returned spliterator
+     * has been consumed without a single element.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checking spliterator.
+     */
+    public static <V, A> Spliterator<V> ensureNotEmpty(Spliterator<V> value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        ensureTrue(value != null, messageSupplier, messageArg);
+        return LazyChecks.notEmpty(value, () -> fail(messageSupplier, messageArg));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given spliterator is empty. The null value is also considered to be empty.
+     * The check fails immediately if the spliterator is known to be empty, otherwise when the returned spliterator
+     * has been consumed without a single element.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checking spliterator.
+     */
+    public static <V, A, B> Spliterator<V> ensureNotEmpty(Spliterator<V> value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        ensureTrue(value != null, messageSupplier, messageArg1, messageArg2);
+        return LazyChecks.notEmpty(value, () -> fail(messageSupplier, messageArg1, messageArg2));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given stream are not sorted according to the
+     * comparator. Equal elements may follow each other, e.g. use {@link Comparator#naturalOrder()} for
+     * {@link Comparable} elements.
+     * The elements are checked while the returned stream is consumed, elements which are never consumed are
+     * not checked. Nothing is buffered and parallel streams are split like the given one.
+     * The default message reports both elements out of order. The comparator has to be thread-safe for parallel
+     * streams.
+     *
+     * @return The checking stream.
+     */
+    public static <V> Stream<V> ensureSorted(Stream<V> value, Comparator<? super V> comparator) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.sorted(value, comparator, (previous, next) -> fail("Elements must be sorted but %s is followed by %s", previous, next));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given stream are not sorted according to the
+     * comparator. Equal elements may follow each other, e.g. use {@link Comparator#naturalOrder()} for
+     * {@link Comparable} elements.
+     * The elements are checked while the returned stream is consumed, elements which are never consumed are
+     * not checked. Nothing is buffered and parallel streams are split like the given one.
+     * The default message reports both elements out of order. The comparator has to be thread-safe for parallel
+     * streams.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checking stream.
+     */
+    public static <V> Stream<V> ensureSorted(Stream<V> value, Comparator<? super V> comparator, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.sorted(value, comparator, (previous, next) -> fail(messageFormat, messageArgs));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given stream are not sorted according to the
+     * comparator. Equal elements may follow each other, e.g. use {@link Comparator#naturalOrder()} for
+     * {@link Comparable} elements.
+     * The elements are checked while the returned stream is consumed, elements which are never consumed are
+     * not checked. Nothing is buffered and parallel streams are split like the given one.
+     * The default message reports both elements out of order. The comparator has to be thread-safe for parallel
+     * streams.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checking stream.
+     */
+    public static <V> Stream<V> ensureSorted(Stream<V> value, Comparator<? super V> comparator, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.sorted(value, comparator, (previous, next) -> fail(messageFormat));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given stream are not sorted according to the
+     * comparator. Equal elements may follow each other, e.g. use {@link Comparator#naturalOrder()} for
+     * {@link Comparable} elements.
+     * The elements are checked while the returned stream is consumed, elements which are never consumed are
+     * not checked. Nothing is buffered and parallel streams are split like the given one.
+     * The default message reports both elements out of order. The comparator has to be thread-safe for parallel
+     * streams.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checking stream.
+     */
+    public static <V> Stream<V> ensureSorted(Stream<V> value, Comparator<? super V> comparator, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.sorted(value, comparator, (previous, next) -> fail(messageFormat, messageArg));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given stream are not sorted according to the
+     * comparator. Equal elements may follow each other, e.g. use {@link Comparator#naturalOrder()} for
+     * {@link Comparable} elements.
+     * The elements are checked while the returned stream is consumed, elements which are never consumed are
+     * not checked. Nothing is buffered and parallel streams are split like the given one.
+     * The default message reports both elements out of order. The comparator has to be thread-safe for parallel
+     * streams.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checking stream.
+     */
+    public static <V> Stream<V> ensureSorted(Stream<V> value, Comparator<? super V> comparator, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.sorted(value, comparator, (previous, next) -> fail(messageFormat, messageArg));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given stream are not sorted according to the
+     * comparator. Equal elements may follow each other, e.g. use {@link Comparator#naturalOrder()} for
+     * {@link Comparable} elements.
+     * The elements are checked while the returned stream is consumed, elements which are never consumed are
+     * not checked. Nothing is buffered and parallel streams are split like the given one.
+     * The default message reports both elements out of order. The comparator has to be thread-safe for parallel
+     * streams.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checking stream.
+     */
+    public static <V> Stream<V> ensureSorted(Stream<V> value, Comparator<? super V> comparator, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.sorted(value, comparator, (previous, next) -> fail(messageFormat, messageArg));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given stream are not sorted according to the
+     * comparator. Equal elements may follow each other, e.g. use {@link Comparator#naturalOrder()} for
+     * {@link Comparable} elements.
+     * The elements are checked while the returned stream is consumed, elements which are never consumed are
+     * not checked. Nothing is buffered and parallel streams are split like the given one.
+     * The default message reports both elements out of order. The comparator has to be thread-safe for parallel
+     * streams.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checking stream.
+     */
+    public static <V> Stream<V> ensureSorted(Stream<V> value, Comparator<? super V> comparator, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.sorted(value, comparator, (previous, next) -> fail(messageFormat, messageArg1, messageArg2));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given stream are not sorted according to the
+     * comparator. Equal elements may follow each other, e.g. use {@link Comparator#naturalOrder()} for
+     * {@link Comparable} elements.
+     * The elements are checked while the returned stream is consumed, elements which are never consumed are
+     * not checked. Nothing is buffered and parallel streams are split like the given one.
+     * The default message reports both elements out of order. The comparator has to be thread-safe for parallel
+     * streams.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checking stream.
+     */
+    public static <V> Stream<V> ensureSorted(Stream<V> value, Comparator<? super V> comparator, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.sorted(value, comparator, (previous, next) -> fail(messageFormat, messageArg1, messageArg2, messageArg3));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given stream are not sorted according to the
+     * comparator. Equal elements may follow each other, e.g. use {@link Comparator#naturalOrder()} for
+     * {@link Comparable} elements.
+     * The elements are checked while the returned stream is consumed, elements which are never consumed are
+     * not checked. Nothing is buffered and parallel streams are split like the given one.
+     * The default message reports both elements out of order. The comparator has to be thread-safe for parallel
+     * streams.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checking stream.
+     */
+    public static <V> Stream<V> ensureSorted(Stream<V> value, Comparator<? super V> comparator, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.sorted(value, comparator, (previous, next) -> fail(messageSupplier));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given stream are not sorted according to the
+     * comparator. Equal elements may follow each other, e.g. use {@link Comparator#naturalOrder()} for
+     * {@link Comparable} elements.
+     * The elements are checked while the returned stream is consumed, elements which are never consumed are
+     * not checked. Nothing is buffered and parallel streams are split like the given one.
+     * The default message reports both elements out of order. The comparator has to be thread-safe for parallel
+     * streams.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checking stream.
+     */
+    public static <V, A> Stream<V> ensureSorted(Stream<V> value, Comparator<? super V> comparator, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.sorted(value, comparator, (previous, next) -> fail(messageSupplier, messageArg));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given stream are not sorted according to the
+     * comparator. Equal elements may follow each other, e.g. use {@link Comparator#naturalOrder()} for
+     * {@link Comparable} elements.
+     * The elements are checked while the returned stream is consumed, elements which are never consumed are
+     * not checked. Nothing is buffered and parallel streams are split like the given one.
+     * The default message reports both elements out of order. The comparator has to be thread-safe for parallel
+     * streams.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checking stream.
+     */
+    public static <V, A, B> Stream<V> ensureSorted(Stream<V> value, Comparator<? super V> comparator, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.sorted(value, comparator, (previous, next) -> fail(messageSupplier, messageArg1, messageArg2));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given iterator are not sorted according to the
+     * comparator. Equal elements may follow each other, e.g. use {@link Comparator#naturalOrder()} for
+     * {@link Comparable} elements.
+     * The elements are checked by {@link Iterator#next()} of the returned iterator.
+     * The default message reports both elements out of order.
+     *
+     * @return The checking iterator.
+     */
+    public static <V> Iterator<V> ensureSorted(Iterator<V> value, Comparator<? super V> comparator) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.sorted(value, comparator, (previous, next) -> fail("Elements must be sorted but %s is followed by %s", previous, next));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given iterator are not sorted according to the
+     * comparator. Equal elements may follow each other, e.g. use {@link Comparator#naturalOrder()} for
+     * {@link Comparable} elements.
+     * The elements are checked by {@link Iterator#next()} of the returned iterator.
+     * The default message reports both elements out of order.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checking iterator.
+     */
+    public static <V> Iterator<V> ensureSorted(Iterator<V> value, Comparator<? super V> comparator, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.sorted(value, comparator, (previous, next) -> fail(messageFormat, messageArgs));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given iterator are not sorted according to the
+     * comparator. Equal elements may follow each other, e.g. use {@link Comparator#naturalOrder()} for
+     * {@link Comparable} elements.
+     * The elements are checked by {@link Iterator#next()} of the returned iterator.
+     * The default message reports both elements out of order.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checking iterator.
+     */
+    public static <V> Iterator<V> ensureSorted(Iterator<V> value, Comparator<? super V> comparator, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.sorted(value, comparator, (previous, next) -> fail(messageFormat));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given iterator are not sorted according to the
+     * comparator. Equal elements may follow each other, e.g. use {@link Comparator#naturalOrder()} for
+     * {@link Comparable} elements.
+     * The elements are checked by {@link Iterator#next()} of the returned iterator.
+     * The default message reports both elements out of order.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checking iterator.
+     */
+    public static <V> Iterator<V> ensureSorted(Iterator<V> value, Comparator<? super V> comparator, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.sorted(value, comparator, (previous, next) -> fail(messageFormat, messageArg));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given iterator are not sorted according to the
+     * comparator. Equal elements may follow each other, e.g. use {@link Comparator#naturalOrder()} for
+     * {@link Comparable} elements.
+     * The elements are checked by {@link Iterator#next()} of the returned iterator.
+     * The default message reports both elements out of order.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checking iterator.
+     */
+    public static <V> Iterator<V> ensureSorted(Iterator<V> value, Comparator<? super V> comparator, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.sorted(value, comparator, (previous, next) -> fail(messageFormat, messageArg));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given iterator are not sorted according to the
+     * comparator. Equal elements may follow each other, e.g. use {@link Comparator#naturalOrder()} for
+     * {@link Comparable} elements.
+     * The elements are checked by {@link Iterator#next()} of the returned iterator.
+     * The default message reports both elements out of order.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checking iterator.
+     */
+    public static <V> Iterator<V> ensureSorted(Iterator<V> value, Comparator<? super V> comparator, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.sorted(value, comparator, (previous, next) -> fail(messageFormat, messageArg));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given iterator are not sorted according to the
+     * comparator. Equal elements may follow each other, e.g. use {@link Comparator#naturalOrder()} for
+     * {@link Comparable} elements.
+     * The elements are checked by {@link Iterator#next()} of the returned iterator.
+     * The default message reports both elements out of order.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checking iterator.
+     */
+    public static <V> Iterator<V> ensureSorted(Iterator<V> value, Comparator<? super V> comparator, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.sorted(value, comparator, (previous, next) -> fail(messageFormat, messageArg1, messageArg2));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given iterator are not sorted according to the
+     * comparator. Equal elements may follow each other, e.g. use {@link Comparator#naturalOrder()} for
+     * {@link Comparable} elements.
+     * The elements are checked by {@link Iterator#next()} of the returned iterator.
+     * The default message reports both elements out of order.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checking iterator.
+     */
+    public static <V> Iterator<V> ensureSorted(Iterator<V> value, Comparator<? super V> comparator, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.sorted(value, comparator, (previous, next) -> fail(messageFormat, messageArg1, messageArg2, messageArg3));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given iterator are not sorted according to the
+     * comparator. Equal elements may follow each other, e.g. use {@link Comparator#naturalOrder()} for
+     * {@link Comparable} elements.
+     * The elements are checked by {@link Iterator#next()} of the returned iterator.
+     * The default message reports both elements out of order.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checking iterator.
+     */
+    public static <V> Iterator<V> ensureSorted(Iterator<V> value, Comparator<? super V> comparator, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.sorted(value, comparator, (previous, next) -> fail(messageSupplier));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given iterator are not sorted according to the
+     * comparator. Equal elements may follow each other, e.g. use {@link Comparator#naturalOrder()} for
+     * {@link Comparable} elements.
+     * The elements are checked by {@link Iterator#next()} of the returned iterator.
+     * The default message reports both elements out of order.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checking iterator.
+     */
+    public static <V, A> Iterator<V> ensureSorted(Iterator<V> value, Comparator<? super V> comparator, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.sorted(value, comparator, (previous, next) -> fail(messageSupplier, messageArg));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given iterator are not sorted according to the
+     * comparator. Equal elements may follow each other, e.g. use {@link Comparator#naturalOrder()} for
+     * {@link Comparable} elements.
+     * The elements are checked by {@link Iterator#next()} of the returned iterator.
+     * The default message reports both elements out of order.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checking iterator.
+     */
+    public static <V, A, B> Iterator<V> ensureSorted(Iterator<V> value, Comparator<? super V> comparator, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.sorted(value, comparator, (previous, next) -> fail(messageSupplier, messageArg1, messageArg2));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given spliterator are not sorted according to the
+     * comparator. Equal elements may follow each other, e.g. use {@link Comparator#naturalOrder()} for
+     * {@link Comparable} elements.
+     * The elements are checked while the returned spliterator is traversed, elements which are never consumed
+     * are not checked. Nothing is buffered and the characteristics of the given spliterator are kept.
+     * The default message reports both elements out of order.
+     *
+     * @return The checking spliterator.
+     */
+    public static <V> Spliterator<V> ensureSorted(Spliterator<V> value, Comparator<? super V> comparator) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.sorted(value, comparator, (previous, next) -> fail("Elements must be sorted but %s is followed by %s", previous, next));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given spliterator are not sorted according to the
+     * comparator. Equal elements may follow each other, e.g. use {@link Comparator#naturalOrder()} for
+     * {@link Comparable} elements.
+     * The elements are checked while the returned spliterator is traversed, elements which are never consumed
+     * are not checked. Nothing is buffered and the characteristics of the given spliterator are kept.
+     * The default message reports both elements out of order.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checking spliterator.
+     */
+    public static <V> Spliterator<V> ensureSorted(Spliterator<V> value, Comparator<? super V> comparator, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.sorted(value, comparator, (previous, next) -> fail(messageFormat, messageArgs));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given spliterator are not sorted according to the
+     * comparator. Equal elements may follow each other, e.g. use {@link Comparator#naturalOrder()} for
+     * {@link Comparable} elements.
+     * The elements are checked while the returned spliterator is traversed, elements which are never consumed
+     * are not checked. Nothing is buffered and the characteristics of the given spliterator are kept.
+     * The default message reports both elements out of order.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checking spliterator.
+     */
+    public static <V> Spliterator<V> ensureSorted(Spliterator<V> value, Comparator<? super V> comparator, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.sorted(value, comparator, (previous, next) -> fail(messageFormat));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given spliterator are not sorted according to the
+     * comparator. Equal elements may follow each other, e.g. use {@link Comparator#naturalOrder()} for
+     * {@link Comparable} elements.
+     * The elements are checked while the returned spliterator is traversed, elements which are never consumed
+     * are not checked. Nothing is buffered and the characteristics of the given spliterator are kept.
+     * The default message reports both elements out of order.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checking spliterator.
+     */
+    public static <V> Spliterator<V> ensureSorted(Spliterator<V> value, Comparator<? super V> comparator, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.sorted(value, comparator, (previous, next) -> fail(messageFormat, messageArg));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given spliterator are not sorted according to the
+     * comparator. Equal elements may follow each other, e.g. use {@link Comparator#naturalOrder()} for
+     * {@link Comparable} elements.
+     * The elements are checked while the returned spliterator is traversed, elements which are never consumed
+     * are not checked. Nothing is buffered and the characteristics of the given spliterator are kept.
+     * The default message reports both elements out of order.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checking spliterator.
+     */
+    public static <V> Spliterator<V> ensureSorted(Spliterator<V> value, Comparator<? super V> comparator, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.sorted(value, comparator, (previous, next) -> fail(messageFormat, messageArg));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given spliterator are not sorted according to the
+     * comparator. Equal elements may follow each other, e.g. use {@link Comparator#naturalOrder()} for
+     * {@link Comparable} elements.
+     * The elements are checked while the returned spliterator is traversed, elements which are never consumed
+     * are not checked. Nothing is buffered and the characteristics of the given spliterator are kept.
+     * The default message reports both elements out of order.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checking spliterator.
+     */
+    public static <V> Spliterator<V> ensureSorted(Spliterator<V> value, Comparator<? super V> comparator, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.sorted(value, comparator, (previous, next) -> fail(messageFormat, messageArg));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given spliterator are not sorted according to the
+     * comparator. Equal elements may follow each other, e.g. use {@link Comparator#naturalOrder()} for
+     * {@link Comparable} elements.
+     * The elements are checked while the returned spliterator is traversed, elements which are never consumed
+     * are not checked. Nothing is buffered and the characteristics of the given spliterator are kept.
+     * The default message reports both elements out of order.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checking spliterator.
+     */
+    public static <V> Spliterator<V> ensureSorted(Spliterator<V> value, Comparator<? super V> comparator, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.sorted(value, comparator, (previous, next) -> fail(messageFormat, messageArg1, messageArg2));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given spliterator are not sorted according to the
+     * comparator. Equal elements may follow each other, e.g. use {@link Comparator#naturalOrder()} for
+     * {@link Comparable} elements.
+     * The elements are checked while the returned spliterator is traversed, elements which are never consumed
+     * are not checked. Nothing is buffered and the characteristics of the given spliterator are kept.
+     * The default message reports both elements out of order.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checking spliterator.
+     */
+    public static <V> Spliterator<V> ensureSorted(Spliterator<V> value, Comparator<? super V> comparator, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.sorted(value, comparator, (previous, next) -> fail(messageFormat, messageArg1, messageArg2, messageArg3));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given spliterator are not sorted according to the
+     * comparator. Equal elements may follow each other, e.g. use {@link Comparator#naturalOrder()} for
+     * {@link Comparable} elements.
+     * The elements are checked while the returned spliterator is traversed, elements which are never consumed
+     * are not checked. Nothing is buffered and the characteristics of the given spliterator are kept.
+     * The default message reports both elements out of order.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checking spliterator.
+     */
+    public static <V> Spliterator<V> ensureSorted(Spliterator<V> value, Comparator<? super V> comparator, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.sorted(value, comparator, (previous, next) -> fail(messageSupplier));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given spliterator are not sorted according to the
+     * comparator. Equal elements may follow each other, e.g. use {@link Comparator#naturalOrder()} for
+     * {@link Comparable} elements.
+     * The elements are checked while the returned spliterator is traversed, elements which are never consumed
+     * are not checked. Nothing is buffered and the characteristics of the given spliterator are kept.
+     * The default message reports both elements out of order.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checking spliterator.
+     */
+    public static <V, A> Spliterator<V> ensureSorted(Spliterator<V> value, Comparator<? super V> comparator, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.sorted(value, comparator, (previous, next) -> fail(messageSupplier, messageArg));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given spliterator are not sorted according to the
+     * comparator. Equal elements may follow each other, e.g. use {@link Comparator#naturalOrder()} for
+     * {@link Comparable} elements.
+     * The elements are checked while the returned spliterator is traversed, elements which are never consumed
+     * are not checked. Nothing is buffered and the characteristics of the given spliterator are kept.
+     * The default message reports both elements out of order.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checking spliterator.
+     */
+    public static <V, A, B> Spliterator<V> ensureSorted(Spliterator<V> value, Comparator<? super V> comparator, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        EnsureStats.recordCheck();
+        return LazyChecks.sorted(value, comparator, (previous, next) -> fail(messageSupplier, messageArg1, messageArg2));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given map doesn't contain the key, otherwise returns the value of the
+     * key. The map is only looked up once, unless the value is null, then {@link Map#containsKey(Object)}
+     * distinguishes a null value from a missing key.
+     *
+     * @return The value of the key.
+     */
+    public static <K, V> V ensureGet(Map<K, V> value, K key) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        V element = value.get(key);
+        if (element == null && !value.containsKey(key)) {
+            fail(Messages.MAP_CONTAINS_KEY, key);
+        }
+        return element;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given map doesn't contain the key, otherwise returns the value of the
+     * key. The map is only looked up once, unless the value is null, then {@link Map#containsKey(Object)}
+     * distinguishes a null value from a missing key.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The value of the key.
+     */
+    public static <K, V> V ensureGet(Map<K, V> value, K key, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        V element = value.get(key);
+        if (element == null && !value.containsKey(key)) {
+            fail(messageFormat, messageArgs);
+        }
+        return element;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given map doesn't contain the key, otherwise returns the value of the
+     * key. The map is only looked up once, unless the value is null, then {@link Map#containsKey(Object)}
+     * distinguishes a null value from a missing key.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The value of the key.
+     */
+    public static <K, V> V ensureGet(Map<K, V> value, K key, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        V element = value.get(key);
+        if (element == null && !value.containsKey(key)) {
+            fail(messageFormat);
+        }
+        return element;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given map doesn't contain the key, otherwise returns the value of the
+     * key. The map is only looked up once, unless the value is null, then {@link Map#containsKey(Object)}
+     * distinguishes a null value from a missing key.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The value of the key.
+     */
+    public static <K, V> V ensureGet(Map<K, V> value, K key, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        V element = value.get(key);
+        if (element == null && !value.containsKey(key)) {
+            fail(messageFormat, messageArg);
+        }
+        return element;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given map doesn't contain the key, otherwise returns the value of the
+     * key. The map is only looked up once, unless the value is null, then {@link Map#containsKey(Object)}
+     * distinguishes a null value from a missing key.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The value of the key.
+     */
+    public static <K, V> V ensureGet(Map<K, V> value, K key, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        V element = value.get(key);
+        if (element == null && !value.containsKey(key)) {
+            fail(messageFormat, messageArg);
+        }
+        return element;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given map doesn't contain the key, otherwise returns the value of the
+     * key. The map is only looked up once, unless the value is null, then {@link Map#containsKey(Object)}
+     * distinguishes a null value from a missing key.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The value of the key.
+     */
+    public static <K, V> V ensureGet(Map<K, V> value, K key, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        V element = value.get(key);
+        if (element == null && !value.containsKey(key)) {
+            fail(messageFormat, messageArg);
+        }
+        return element;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given map doesn't contain the key, otherwise returns the value of the
+     * key. The map is only looked up once, unless the value is null, then {@link Map#containsKey(Object)}
+     * distinguishes a null value from a missing key.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The value of the key.
+     */
+    public static <K, V> V ensureGet(Map<K, V> value, K key, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        V element = value.get(key);
+        if (element == null && !value.containsKey(key)) {
+            fail(messageFormat, messageArg1, messageArg2);
+        }
+        return element;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given map doesn't contain the key, otherwise returns the value of the
+     * key. The map is only looked up once, unless the value is null, then {@link Map#containsKey(Object)}
+     * distinguishes a null value from a missing key.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The value of the key.
+     */
+    public static <K, V> V ensureGet(Map<K, V> value, K key, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        V element = value.get(key);
+        if (element == null && !value.containsKey(key)) {
+            fail(messageFormat, messageArg1, messageArg2, messageArg3);
+        }
+        return element;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given map doesn't contain the key, otherwise returns the value of the
+     * key. The map is only looked up once, unless the value is null, then {@link Map#containsKey(Object)}
+     * distinguishes a null value from a missing key.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The value of the key.
+     */
+    public static <K, V> V ensureGet(Map<K, V> value, K key, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        V element = value.get(key);
+        if (element == null && !value.containsKey(key)) {
+            fail(messageSupplier);
+        }
+        return element;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given map doesn't contain the key, otherwise returns the value of the
+     * key. The map is only looked up once, unless the value is null, then {@link Map#containsKey(Object)}
+     * distinguishes a null value from a missing key.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The value of the key.
+     */
+    public static <K, V, A> V ensureGet(Map<K, V> value, K key, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        V element = value.get(key);
+        if (element == null && !value.containsKey(key)) {
+            fail(messageSupplier, messageArg);
+        }
+        return element;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given map doesn't contain the key, otherwise returns the value of the
+     * key. The map is only looked up once, unless the value is null, then {@link Map#containsKey(Object)}
+     * distinguishes a null value from a missing key.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The value of the key.
+     */
+    public static <K, V, A, B> V ensureGet(Map<K, V> value, K key, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        V element = value.get(key);
+        if (element == null && !value.containsKey(key)) {
+            fail(messageSupplier, messageArg1, messageArg2);
+        }
+        return element;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given map doesn't contain the key. Use
+     * {@link #ensureGet(Map, Object)} if the value of the key is needed, it looks up the map only once.
+     *
+     * @return The checked map.
+     */
+    public static <K, V> Map<K, V> ensureContainsKey(Map<K, V> value, K key) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        if (!value.containsKey(key)) {
+            fail(Messages.MAP_CONTAINS_KEY, key);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given map doesn't contain the key. Use
+     * {@link #ensureGet(Map, Object)} if the value of the key is needed, it looks up the map only once.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checked map.
+     */
+    public static <K, V> Map<K, V> ensureContainsKey(Map<K, V> value, K key, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        if (!value.containsKey(key)) {
+            fail(messageFormat, messageArgs);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given map doesn't contain the key. Use
+     * {@link #ensureGet(Map, Object)} if the value of the key is needed, it looks up the map only once.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checked map.
+     */
+    public static <K, V> Map<K, V> ensureContainsKey(Map<K, V> value, K key, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        if (!value.containsKey(key)) {
+            fail(messageFormat);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given map doesn't contain the key. Use
+     * {@link #ensureGet(Map, Object)} if the value of the key is needed, it looks up the map only once.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked map.
+     */
+    public static <K, V> Map<K, V> ensureContainsKey(Map<K, V> value, K key, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        if (!value.containsKey(key)) {
+            fail(messageFormat, messageArg);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given map doesn't contain the key. Use
+     * {@link #ensureGet(Map, Object)} if the value of the key is needed, it looks up the map only once.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked map.
+     */
+    public static <K, V> Map<K, V> ensureContainsKey(Map<K, V> value, K key, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        if (!value.containsKey(key)) {
+            fail(messageFormat, messageArg);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given map doesn't contain the key. Use
+     * {@link #ensureGet(Map, Object)} if the value of the key is needed, it looks up the map only once.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked map.
+     */
+    public static <K, V> Map<K, V> ensureContainsKey(Map<K, V> value, K key, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        if (!value.containsKey(key)) {
+            fail(messageFormat, messageArg);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given map doesn't contain the key. Use
+     * {@link #ensureGet(Map, Object)} if the value of the key is needed, it looks up the map only once.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checked map.
+     */
+    public static <K, V> Map<K, V> ensureContainsKey(Map<K, V> value, K key, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        if (!value.containsKey(key)) {
+            fail(messageFormat, messageArg1, messageArg2);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given map doesn't contain the key. Use
+     * {@link #ensureGet(Map, Object)} if the value of the key is needed, it looks up the map only once.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checked map.
+     */
+    public static <K, V> Map<K, V> ensureContainsKey(Map<K, V> value, K key, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        if (!value.containsKey(key)) {
+            fail(messageFormat, messageArg1, messageArg2, messageArg3);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given map doesn't contain the key. Use
+     * {@link #ensureGet(Map, Object)} if the value of the key is needed, it looks up the map only once.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checked map.
+     */
+    public static <K, V> Map<K, V> ensureContainsKey(Map<K, V> value, K key, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        if (!value.containsKey(key)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given map doesn't contain the key. Use
+     * {@link #ensureGet(Map, Object)} if the value of the key is needed, it looks up the map only once.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checked map.
+     */
+    public static <K, V, A> Map<K, V> ensureContainsKey(Map<K, V> value, K key, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        if (!value.containsKey(key)) {
+            fail(messageSupplier, messageArg);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given map doesn't contain the key. Use
+     * {@link #ensureGet(Map, Object)} if the value of the key is needed, it looks up the map only once.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checked map.
+     */
+    public static <K, V, A, B> Map<K, V> ensureContainsKey(Map<K, V> value, K key, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        if (!value.containsKey(key)) {
+            fail(messageSupplier, messageArg1, messageArg2);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given map contains the key.
+     *
+     * @return The checked map.
+     */
+    public static <K, V> Map<K, V> ensureNotContainsKey(Map<K, V> value, K key) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        if (value.containsKey(key)) {
+            fail(Messages.MAP_NOT_CONTAINS_KEY, key);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given map contains the key.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checked map.
+     */
+    public static <K, V> Map<K, V> ensureNotContainsKey(Map<K, V> value, K key, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        if (value.containsKey(key)) {
+            fail(messageFormat, messageArgs);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given map contains the key.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checked map.
+     */
+    public static <K, V> Map<K, V> ensureNotContainsKey(Map<K, V> value, K key, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        if (value.containsKey(key)) {
+            fail(messageFormat);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given map contains the key.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked map.
+     */
+    public static <K, V> Map<K, V> ensureNotContainsKey(Map<K, V> value, K key, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        if (value.containsKey(key)) {
+            fail(messageFormat, messageArg);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given map contains the key.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked map.
+     */
+    public static <K, V> Map<K, V> ensureNotContainsKey(Map<K, V> value, K key, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        if (value.containsKey(key)) {
+            fail(messageFormat, messageArg);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given map contains the key.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked map.
+     */
+    public static <K, V> Map<K, V> ensureNotContainsKey(Map<K, V> value, K key, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        if (value.containsKey(key)) {
+            fail(messageFormat, messageArg);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given map contains the key.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checked map.
+     */
+    public static <K, V> Map<K, V> ensureNotContainsKey(Map<K, V> value, K key, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        if (value.containsKey(key)) {
+            fail(messageFormat, messageArg1, messageArg2);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given map contains the key.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checked map.
+     */
+    public static <K, V> Map<K, V> ensureNotContainsKey(Map<K, V> value, K key, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        if (value.containsKey(key)) {
+            fail(messageFormat, messageArg1, messageArg2, messageArg3);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given map contains the key.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checked map.
+     */
+    public static <K, V> Map<K, V> ensureNotContainsKey(Map<K, V> value, K key, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        if (value.containsKey(key)) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given map contains the key.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checked map.
+     */
+    public static <K, V, A> Map<K, V> ensureNotContainsKey(Map<K, V> value, K key, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        if (value.containsKey(key)) {
+            fail(messageSupplier, messageArg);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given map contains the key.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checked map.
+     */
+    public static <K, V, A, B> Map<K, V> ensureNotContainsKey(Map<K, V> value, K key, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        if (value.containsKey(key)) {
+            fail(messageSupplier, messageArg1, messageArg2);
+        }
+        return value;
+    }
+
+    /**
+     * Puts the element into the given map and throws {@link EnsureFailedException} if the map already contained a
+     * non-null value for the key, which is kept in that case. The check and the put are done by
+     * {@link Map#putIfAbsent(Object, Object)}, which is atomic for a {@link java.util.concurrent.ConcurrentMap}
+     * and looks up a {@link java.util.HashMap} only once.
+     *
+     * @return The checked map.
+     */
+    public static <K, V> Map<K, V> ensurePutAbsent(Map<K, V> value, K key, V element) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        if (value.putIfAbsent(key, element) != null) {
+            fail(Messages.MAP_NOT_CONTAINS_KEY, key);
+        }
+        return value;
+    }
+
+    /**
+     * Puts the element into the given map and throws {@link EnsureFailedException} if the map already contained a
+     * non-null value for the key, which is kept in that case. The check and the put are done by
+     * {@link Map#putIfAbsent(Object, Object)}, which is atomic for a {@link java.util.concurrent.ConcurrentMap}
+     * and looks up a {@link java.util.HashMap} only once.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checked map.
+     */
+    public static <K, V> Map<K, V> ensurePutAbsent(Map<K, V> value, K key, V element, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        if (value.putIfAbsent(key, element) != null) {
+            fail(messageFormat, messageArgs);
+        }
+        return value;
+    }
+
+    /**
+     * Puts the element into the given map and throws {@link EnsureFailedException} if the map already contained a
+     * non-null value for the key, which is kept in that case. The check and the put are done by
+     * {@link Map#putIfAbsent(Object, Object)}, which is atomic for a {@link java.util.concurrent.ConcurrentMap}
+     * and looks up a {@link java.util.HashMap} only once.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checked map.
+     */
+    public static <K, V> Map<K, V> ensurePutAbsent(Map<K, V> value, K key, V element, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        if (value.putIfAbsent(key, element) != null) {
+            fail(messageFormat);
+        }
+        return value;
+    }
+
+    /**
+     * Puts the element into the given map and throws {@link EnsureFailedException} if the map already contained a
+     * non-null value for the key, which is kept in that case. The check and the put are done by
+     * {@link Map#putIfAbsent(Object, Object)}, which is atomic for a {@link java.util.concurrent.ConcurrentMap}
+     * and looks up a {@link java.util.HashMap} only once.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked map.
+     */
+    public static <K, V> Map<K, V> ensurePutAbsent(Map<K, V> value, K key, V element, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        if (value.putIfAbsent(key, element) != null) {
+            fail(messageFormat, messageArg);
+        }
+        return value;
+    }
+
+    /**
+     * Puts the element into the given map and throws {@link EnsureFailedException} if the map already contained a
+     * non-null value for the key, which is kept in that case. The check and the put are done by
+     * {@link Map#putIfAbsent(Object, Object)}, which is atomic for a {@link java.util.concurrent.ConcurrentMap}
+     * and looks up a {@link java.util.HashMap} only once.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked map.
+     */
+    public static <K, V> Map<K, V> ensurePutAbsent(Map<K, V> value, K key, V element, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        if (value.putIfAbsent(key, element) != null) {
+            fail(messageFormat, messageArg);
+        }
+        return value;
+    }
+
+    /**
+     * Puts the element into the given map and throws {@link EnsureFailedException} if the map already contained a
+     * non-null value for the key, which is kept in that case. The check and the put are done by
+     * {@link Map#putIfAbsent(Object, Object)}, which is atomic for a {@link java.util.concurrent.ConcurrentMap}
+     * and looks up a {@link java.util.HashMap} only once.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked map.
+     */
+    public static <K, V> Map<K, V> ensurePutAbsent(Map<K, V> value, K key, V element, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        if (value.putIfAbsent(key, element) != null) {
+            fail(messageFormat, messageArg);
+        }
+        return value;
+    }
+
+    /**
+     * Puts the element into the given map and throws {@link EnsureFailedException} if the map already contained a
+     * non-null value for the key, which is kept in that case. The check and the put are done by
+     * {@link Map#putIfAbsent(Object, Object)}, which is atomic for a {@link java.util.concurrent.ConcurrentMap}
+     * and looks up a {@link java.util.HashMap} only once.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checked map.
+     */
+    public static <K, V> Map<K, V> ensurePutAbsent(Map<K, V> value, K key, V element, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        if (value.putIfAbsent(key, element) != null) {
+            fail(messageFormat, messageArg1, messageArg2);
+        }
+        return value;
+    }
+
+    /**
+     * Puts the element into the given map and throws {@link EnsureFailedException} if the map already contained a
+     * non-null value for the key, which is kept in that case. The check and the put are done by
+     * {@link Map#putIfAbsent(Object, Object)}, which is atomic for a {@link java.util.concurrent.ConcurrentMap}
+     * and looks up a {@link java.util.HashMap} only once.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checked map.
+     */
+    public static <K, V> Map<K, V> ensurePutAbsent(Map<K, V> value, K key, V element, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        if (value.putIfAbsent(key, element) != null) {
+            fail(messageFormat, messageArg1, messageArg2, messageArg3);
+        }
+        return value;
+    }
+
+    /**
+     * Puts the element into the given map and throws {@link EnsureFailedException} if the map already contained a
+     * non-null value for the key, which is kept in that case. The check and the put are done by
+     * {@link Map#putIfAbsent(Object, Object)}, which is atomic for a {@link java.util.concurrent.ConcurrentMap}
+     * and looks up a {@link java.util.HashMap} only once.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checked map.
+     */
+    public static <K, V> Map<K, V> ensurePutAbsent(Map<K, V> value, K key, V element, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        if (value.putIfAbsent(key, element) != null) {
+            fail(messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Puts the element into the given map and throws {@link EnsureFailedException} if the map already contained a
+     * non-null value for the key, which is kept in that case. The check and the put are done by
+     * {@link Map#putIfAbsent(Object, Object)}, which is atomic for a {@link java.util.concurrent.ConcurrentMap}
+     * and looks up a {@link java.util.HashMap} only once.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checked map.
+     */
+    public static <K, V, A> Map<K, V> ensurePutAbsent(Map<K, V> value, K key, V element, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        if (value.putIfAbsent(key, element) != null) {
+            fail(messageSupplier, messageArg);
+        }
+        return value;
+    }
+
+    /**
+     * Puts the element into the given map and throws {@link EnsureFailedException} if the map already contained a
+     * non-null value for the key, which is kept in that case. The check and the put are done by
+     * {@link Map#putIfAbsent(Object, Object)}, which is atomic for a {@link java.util.concurrent.ConcurrentMap}
+     * and looks up a {@link java.util.HashMap} only once.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checked map.
+     */
+    public static <K, V, A, B> Map<K, V> ensurePutAbsent(Map<K, V> value, K key, V element, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        if (value.putIfAbsent(key, element) != null) {
+            fail(messageSupplier, messageArg1, messageArg2);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given map doesn't contain all of the keys. The default message
+     * reports the first missing key. Each key is looked up once.
+     *
+     * @return The checked map.
+     */
+    @SafeVarargs
+    public static <K, V> Map<K, V> ensureKeys(Map<K, V> value, K... keys) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        for (K key : keys) {
+            if (!value.containsKey(key)) {
+                fail(Messages.MAP_CONTAINS_KEY, key);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given collection contains two equal elements. The default message
+     * reports the first element which duplicates an earlier one and the indices of both. The elements are copied into
+     * an array and their positions are hashed into a primitive table, which costs 12 to 24 bytes per element including
+     * the copy instead of about 50 for a {@link java.util.HashSet}. Tables of up to 4 MB are pooled per thread and stay
+     * allocated for the lifetime of the thread.
+     *
+     * @return The checked value.
+     */
+    public static <V> Collection<V> ensureNoDuplicates(Collection<V> value) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        Object[] elements = value.toArray();
+        long duplicate = Duplicates.first(elements);
+        if (duplicate >= 0) {
+            int index = Duplicates.later(duplicate);
+            fail(Messages.DUPLICATE, elements[index], index, Duplicates.earlier(duplicate));
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given collection contains two equal elements. The elements are copied
+     * into an array and their positions are hashed into a primitive table, which costs 12 to 24 bytes per element
+     * including the copy instead of about 50 for a {@link java.util.HashSet}. Tables of up to 4 MB are pooled per
+     * thread and stay allocated for the lifetime of the thread.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checked value.
+     */
+    public static <V> Collection<V> ensureNoDuplicates(Collection<V> value, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Duplicates.first(value.toArray()) < 0, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given collection contains two equal elements. The elements are copied
+     * into an array and their positions are hashed into a primitive table, which costs 12 to 24 bytes per element
+     * including the copy instead of about 50 for a {@link java.util.HashSet}. Tables of up to 4 MB are pooled per
+     * thread and stay allocated for the lifetime of the thread.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checked value.
+     */
+    public static <V> Collection<V> ensureNoDuplicates(Collection<V> value, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Duplicates.first(value.toArray()) < 0, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given collection contains two equal elements. The elements are copied
+     * into an array and their positions are hashed into a primitive table, which costs 12 to 24 bytes per element
+     * including the copy instead of about 50 for a {@link java.util.HashSet}. Tables of up to 4 MB are pooled per
+     * thread and stay allocated for the lifetime of the thread.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked value.
+     */
+    public static <V> Collection<V> ensureNoDuplicates(Collection<V> value, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Duplicates.first(value.toArray()) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given collection contains two equal elements. The elements are copied
+     * into an array and their positions are hashed into a primitive table, which costs 12 to 24 bytes per element
+     * including the copy instead of about 50 for a {@link java.util.HashSet}. Tables of up to 4 MB are pooled per
+     * thread and stay allocated for the lifetime of the thread.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked value.
+     */
+    public static <V> Collection<V> ensureNoDuplicates(Collection<V> value, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Duplicates.first(value.toArray()) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given collection contains two equal elements. The elements are copied
+     * into an array and their positions are hashed into a primitive table, which costs 12 to 24 bytes per element
+     * including the copy instead of about 50 for a {@link java.util.HashSet}. Tables of up to 4 MB are pooled per
+     * thread and stay allocated for the lifetime of the thread.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked value.
+     */
+    public static <V> Collection<V> ensureNoDuplicates(Collection<V> value, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Duplicates.first(value.toArray()) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given collection contains two equal elements. The elements are copied
+     * into an array and their positions are hashed into a primitive table, which costs 12 to 24 bytes per element
+     * including the copy instead of about 50 for a {@link java.util.HashSet}. Tables of up to 4 MB are pooled per
+     * thread and stay allocated for the lifetime of the thread.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checked value.
+     */
+    public static <V> Collection<V> ensureNoDuplicates(Collection<V> value, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Duplicates.first(value.toArray()) < 0, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given collection contains two equal elements. The elements are copied
+     * into an array and their positions are hashed into a primitive table, which costs 12 to 24 bytes per element
+     * including the copy instead of about 50 for a {@link java.util.HashSet}. Tables of up to 4 MB are pooled per
+     * thread and stay allocated for the lifetime of the thread.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checked value.
+     */
+    public static <V> Collection<V> ensureNoDuplicates(Collection<V> value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Duplicates.first(value.toArray()) < 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given collection contains two equal elements. The elements are copied
+     * into an array and their positions are hashed into a primitive table, which costs 12 to 24 bytes per element
+     * including the copy instead of about 50 for a {@link java.util.HashSet}. Tables of up to 4 MB are pooled per
+     * thread and stay allocated for the lifetime of the thread.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checked value.
+     */
+    public static <V> Collection<V> ensureNoDuplicates(Collection<V> value, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Duplicates.first(value.toArray()) < 0, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given collection contains two equal elements. The elements are copied
+     * into an array and their positions are hashed into a primitive table, which costs 12 to 24 bytes per element
+     * including the copy instead of about 50 for a {@link java.util.HashSet}. Tables of up to 4 MB are pooled per
+     * thread and stay allocated for the lifetime of the thread.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checked value.
+     */
+    public static <V, A> Collection<V> ensureNoDuplicates(Collection<V> value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Duplicates.first(value.toArray()) < 0, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given collection contains two equal elements. The elements are copied
+     * into an array and their positions are hashed into a primitive table, which costs 12 to 24 bytes per element
+     * including the copy instead of about 50 for a {@link java.util.HashSet}. Tables of up to 4 MB are pooled per
+     * thread and stay allocated for the lifetime of the thread.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checked value.
+     */
+    public static <V, A, B> Collection<V> ensureNoDuplicates(Collection<V> value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Duplicates.first(value.toArray()) < 0, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given list contains two equal elements. The default message reports
+     * the first element which duplicates an earlier one and the indices of both. The elements are copied into an array
+     * and their positions are hashed into a primitive table, which costs 12 to 24 bytes per element including the copy
+     * instead of about 50 for a {@link java.util.HashSet}. Tables of up to 4 MB are pooled per thread and stay
+     * allocated for the lifetime of the thread.
+     *
+     * @return The checked value.
+     */
+    public static <V> List<V> ensureNoDuplicates(List<V> value) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        Object[] elements = value.toArray();
+        long duplicate = Duplicates.first(elements);
+        if (duplicate >= 0) {
+            int index = Duplicates.later(duplicate);
+            fail(Messages.DUPLICATE, elements[index], index, Duplicates.earlier(duplicate));
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given list contains two equal elements. The elements are copied into
+     * an array and their positions are hashed into a primitive table, which costs 12 to 24 bytes per element including
+     * the copy instead of about 50 for a {@link java.util.HashSet}. Tables of up to 4 MB are pooled per thread and stay
+     * allocated for the lifetime of the thread.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checked value.
+     */
+    public static <V> List<V> ensureNoDuplicates(List<V> value, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Duplicates.first(value.toArray()) < 0, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given list contains two equal elements. The elements are copied into
+     * an array and their positions are hashed into a primitive table, which costs 12 to 24 bytes per element including
+     * the copy instead of about 50 for a {@link java.util.HashSet}. Tables of up to 4 MB are pooled per thread and stay
+     * allocated for the lifetime of the thread.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checked value.
+     */
+    public static <V> List<V> ensureNoDuplicates(List<V> value, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Duplicates.first(value.toArray()) < 0, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given list contains two equal elements. The elements are copied into
+     * an array and their positions are hashed into a primitive table, which costs 12 to 24 bytes per element including
+     * the copy instead of about 50 for a {@link java.util.HashSet}. Tables of up to 4 MB are pooled per thread and stay
+     * allocated for the lifetime of the thread.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked value.
+     */
+    public static <V> List<V> ensureNoDuplicates(List<V> value, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Duplicates.first(value.toArray()) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given list contains two equal elements. The elements are copied into
+     * an array and their positions are hashed into a primitive table, which costs 12 to 24 bytes per element including
+     * the copy instead of about 50 for a {@link java.util.HashSet}. Tables of up to 4 MB are pooled per thread and stay
+     * allocated for the lifetime of the thread.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked value.
+     */
+    public static <V> List<V> ensureNoDuplicates(List<V> value, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Duplicates.first(value.toArray()) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given list contains two equal elements. The elements are copied into
+     * an array and their positions are hashed into a primitive table, which costs 12 to 24 bytes per element including
+     * the copy instead of about 50 for a {@link java.util.HashSet}. Tables of up to 4 MB are pooled per thread and stay
+     * allocated for the lifetime of the thread.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked value.
+     */
+    public static <V> List<V> ensureNoDuplicates(List<V> value, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Duplicates.first(value.toArray()) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given list contains two equal elements. The elements are copied into
+     * an array and their positions are hashed into a primitive table, which costs 12 to 24 bytes per element including
+     * the copy instead of about 50 for a {@link java.util.HashSet}. Tables of up to 4 MB are pooled per thread and stay
+     * allocated for the lifetime of the thread.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checked value.
+     */
+    public static <V> List<V> ensureNoDuplicates(List<V> value, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Duplicates.first(value.toArray()) < 0, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given list contains two equal elements. The elements are copied into
+     * an array and their positions are hashed into a primitive table, which costs 12 to 24 bytes per element including
+     * the copy instead of about 50 for a {@link java.util.HashSet}. Tables of up to 4 MB are pooled per thread and stay
+     * allocated for the lifetime of the thread.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checked value.
+     */
+    public static <V> List<V> ensureNoDuplicates(List<V> value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Duplicates.first(value.toArray()) < 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given list contains two equal elements. The elements are copied into
+     * an array and their positions are hashed into a primitive table, which costs 12 to 24 bytes per element including
+     * the copy instead of about 50 for a {@link java.util.HashSet}. Tables of up to 4 MB are pooled per thread and stay
+     * allocated for the lifetime of the thread.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checked value.
+     */
+    public static <V> List<V> ensureNoDuplicates(List<V> value, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Duplicates.first(value.toArray()) < 0, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given list contains two equal elements. The elements are copied into
+     * an array and their positions are hashed into a primitive table, which costs 12 to 24 bytes per element including
+     * the copy instead of about 50 for a {@link java.util.HashSet}. Tables of up to 4 MB are pooled per thread and stay
+     * allocated for the lifetime of the thread.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checked value.
+     */
+    public static <V, A> List<V> ensureNoDuplicates(List<V> value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Duplicates.first(value.toArray()) < 0, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given list contains two equal elements. The elements are copied into
+     * an array and their positions are hashed into a primitive table, which costs 12 to 24 bytes per element including
+     * the copy instead of about 50 for a {@link java.util.HashSet}. Tables of up to 4 MB are pooled per thread and stay
+     * allocated for the lifetime of the thread.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checked value.
+     */
+    public static <V, A, B> List<V> ensureNoDuplicates(List<V> value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Duplicates.first(value.toArray()) < 0, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array contains two equal elements. The default message reports
+     * the first element which duplicates an earlier one and the indices of both. The elements are hashed into a
+     * primitive table, which costs 8 to 16 bytes per element instead of about 50 for a boxed {@link java.util.HashSet}.
+     * Tables of up to 4 MB are pooled per thread and stay allocated for the lifetime of the thread.
+     *
+     * @return The checked value.
+     */
+    public static int[] ensureNoDuplicates(int[] value) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        long duplicate = Duplicates.first(value);
+        if (duplicate >= 0) {
+            int index = Duplicates.later(duplicate);
+            fail(Messages.DUPLICATE, value[index], index, Duplicates.earlier(duplicate));
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array contains two equal elements. The elements are hashed into
+     * a primitive table, which costs 8 to 16 bytes per element instead of about 50 for a boxed
+     * {@link java.util.HashSet}. Tables of up to 4 MB are pooled per thread and stay allocated for the lifetime of the
+     * thread.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checked value.
+     */
+    public static int[] ensureNoDuplicates(int[] value, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Duplicates.first(value) < 0, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array contains two equal elements. The elements are hashed into
+     * a primitive table, which costs 8 to 16 bytes per element instead of about 50 for a boxed
+     * {@link java.util.HashSet}. Tables of up to 4 MB are pooled per thread and stay allocated for the lifetime of the
+     * thread.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checked value.
+     */
+    public static int[] ensureNoDuplicates(int[] value, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Duplicates.first(value) < 0, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array contains two equal elements. The elements are hashed into
+     * a primitive table, which costs 8 to 16 bytes per element instead of about 50 for a boxed
+     * {@link java.util.HashSet}. Tables of up to 4 MB are pooled per thread and stay allocated for the lifetime of the
+     * thread.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked value.
+     */
+    public static int[] ensureNoDuplicates(int[] value, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Duplicates.first(value) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array contains two equal elements. The elements are hashed into
+     * a primitive table, which costs 8 to 16 bytes per element instead of about 50 for a boxed
+     * {@link java.util.HashSet}. Tables of up to 4 MB are pooled per thread and stay allocated for the lifetime of the
+     * thread.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked value.
+     */
+    public static int[] ensureNoDuplicates(int[] value, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Duplicates.first(value) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array contains two equal elements. The elements are hashed into
+     * a primitive table, which costs 8 to 16 bytes per element instead of about 50 for a boxed
+     * {@link java.util.HashSet}. Tables of up to 4 MB are pooled per thread and stay allocated for the lifetime of the
+     * thread.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked value.
+     */
+    public static int[] ensureNoDuplicates(int[] value, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Duplicates.first(value) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array contains two equal elements. The elements are hashed into
+     * a primitive table, which costs 8 to 16 bytes per element instead of about 50 for a boxed
+     * {@link java.util.HashSet}. Tables of up to 4 MB are pooled per thread and stay allocated for the lifetime of the
+     * thread.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checked value.
+     */
+    public static int[] ensureNoDuplicates(int[] value, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Duplicates.first(value) < 0, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array contains two equal elements. The elements are hashed into
+     * a primitive table, which costs 8 to 16 bytes per element instead of about 50 for a boxed
+     * {@link java.util.HashSet}. Tables of up to 4 MB are pooled per thread and stay allocated for the lifetime of the
+     * thread.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checked value.
+     */
+    public static int[] ensureNoDuplicates(int[] value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Duplicates.first(value) < 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array contains two equal elements. The elements are hashed into
+     * a primitive table, which costs 8 to 16 bytes per element instead of about 50 for a boxed
+     * {@link java.util.HashSet}. Tables of up to 4 MB are pooled per thread and stay allocated for the lifetime of the
+     * thread.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checked value.
+     */
+    public static int[] ensureNoDuplicates(int[] value, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Duplicates.first(value) < 0, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array contains two equal elements. The elements are hashed into
+     * a primitive table, which costs 8 to 16 bytes per element instead of about 50 for a boxed
+     * {@link java.util.HashSet}. Tables of up to 4 MB are pooled per thread and stay allocated for the lifetime of the
+     * thread.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checked value.
+     */
+    public static <A> int[] ensureNoDuplicates(int[] value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Duplicates.first(value) < 0, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array contains two equal elements. The elements are hashed into
+     * a primitive table, which costs 8 to 16 bytes per element instead of about 50 for a boxed
+     * {@link java.util.HashSet}. Tables of up to 4 MB are pooled per thread and stay allocated for the lifetime of the
+     * thread.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checked value.
+     */
+    public static <A, B> int[] ensureNoDuplicates(int[] value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Duplicates.first(value) < 0, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array contains two equal elements. The default message reports
+     * the first element which duplicates an earlier one and the indices of both. The elements are hashed into a
+     * primitive table, which costs 8 to 16 bytes per element instead of about 50 for a boxed {@link java.util.HashSet}.
+     * Tables of up to 4 MB are pooled per thread and stay allocated for the lifetime of the thread.
+     *
+     * @return The checked value.
+     */
+    public static long[] ensureNoDuplicates(long[] value) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        long duplicate = Duplicates.first(value);
+        if (duplicate >= 0) {
+            int index = Duplicates.later(duplicate);
+            fail(Messages.DUPLICATE, value[index], index, Duplicates.earlier(duplicate));
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array contains two equal elements. The elements are hashed into
+     * a primitive table, which costs 8 to 16 bytes per element instead of about 50 for a boxed
+     * {@link java.util.HashSet}. Tables of up to 4 MB are pooled per thread and stay allocated for the lifetime of the
+     * thread.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checked value.
+     */
+    public static long[] ensureNoDuplicates(long[] value, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Duplicates.first(value) < 0, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array contains two equal elements. The elements are hashed into
+     * a primitive table, which costs 8 to 16 bytes per element instead of about 50 for a boxed
+     * {@link java.util.HashSet}. Tables of up to 4 MB are pooled per thread and stay allocated for the lifetime of the
+     * thread.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checked value.
+     */
+    public static long[] ensureNoDuplicates(long[] value, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Duplicates.first(value) < 0, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array contains two equal elements. The elements are hashed into
+     * a primitive table, which costs 8 to 16 bytes per element instead of about 50 for a boxed
+     * {@link java.util.HashSet}. Tables of up to 4 MB are pooled per thread and stay allocated for the lifetime of the
+     * thread.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked value.
+     */
+    public static long[] ensureNoDuplicates(long[] value, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Duplicates.first(value) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array contains two equal elements. The elements are hashed into
+     * a primitive table, which costs 8 to 16 bytes per element instead of about 50 for a boxed
+     * {@link java.util.HashSet}. Tables of up to 4 MB are pooled per thread and stay allocated for the lifetime of the
+     * thread.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked value.
+     */
+    public static long[] ensureNoDuplicates(long[] value, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Duplicates.first(value) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array contains two equal elements. The elements are hashed into
+     * a primitive table, which costs 8 to 16 bytes per element instead of about 50 for a boxed
+     * {@link java.util.HashSet}. Tables of up to 4 MB are pooled per thread and stay allocated for the lifetime of the
+     * thread.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked value.
+     */
+    public static long[] ensureNoDuplicates(long[] value, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Duplicates.first(value) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array contains two equal elements. The elements are hashed into
+     * a primitive table, which costs 8 to 16 bytes per element instead of about 50 for a boxed
+     * {@link java.util.HashSet}. Tables of up to 4 MB are pooled per thread and stay allocated for the lifetime of the
+     * thread.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checked value.
+     */
+    public static long[] ensureNoDuplicates(long[] value, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Duplicates.first(value) < 0, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array contains two equal elements. The elements are hashed into
+     * a primitive table, which costs 8 to 16 bytes per element instead of about 50 for a boxed
+     * {@link java.util.HashSet}. Tables of up to 4 MB are pooled per thread and stay allocated for the lifetime of the
+     * thread.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checked value.
+     */
+    public static long[] ensureNoDuplicates(long[] value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Duplicates.first(value) < 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array contains two equal elements. The elements are hashed into
+     * a primitive table, which costs 8 to 16 bytes per element instead of about 50 for a boxed
+     * {@link java.util.HashSet}. Tables of up to 4 MB are pooled per thread and stay allocated for the lifetime of the
+     * thread.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checked value.
+     */
+    public static long[] ensureNoDuplicates(long[] value, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Duplicates.first(value) < 0, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array contains two equal elements. The elements are hashed into
+     * a primitive table, which costs 8 to 16 bytes per element instead of about 50 for a boxed
+     * {@link java.util.HashSet}. Tables of up to 4 MB are pooled per thread and stay allocated for the lifetime of the
+     * thread.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checked value.
+     */
+    public static <A> long[] ensureNoDuplicates(long[] value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Duplicates.first(value) < 0, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given array contains two equal elements. The elements are hashed into
+     * a primitive table, which costs 8 to 16 bytes per element instead of about 50 for a boxed
+     * {@link java.util.HashSet}. Tables of up to 4 MB are pooled per thread and stay allocated for the lifetime of the
+     * thread.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checked value.
+     */
+    public static <A, B> long[] ensureNoDuplicates(long[] value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(Duplicates.first(value) < 0, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @return The checked array.
+     */
+    public static int[] ensureSorted(int[] value) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        int index = BulkChecks.firstUnsorted(value, false);
+        if (index >= 0) {
+            fail(Messages.SORTED, value[index], index, value[index - 1]);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checked array.
+     */
+    public static int[] ensureSorted(int[] value, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, false) < 0, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checked array.
+     */
+    public static int[] ensureSorted(int[] value, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, false) < 0, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked array.
+     */
+    public static int[] ensureSorted(int[] value, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, false) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked array.
+     */
+    public static int[] ensureSorted(int[] value, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, false) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked array.
+     */
+    public static int[] ensureSorted(int[] value, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, false) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checked array.
+     */
+    public static int[] ensureSorted(int[] value, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, false) < 0, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checked array.
+     */
+    public static int[] ensureSorted(int[] value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, false) < 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checked array.
+     */
+    public static int[] ensureSorted(int[] value, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, false) < 0, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checked array.
+     */
+    public static <A> int[] ensureSorted(int[] value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, false) < 0, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checked array.
+     */
+    public static <A, B> int[] ensureSorted(int[] value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, false) < 0, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @return The checked array.
+     */
+    public static long[] ensureSorted(long[] value) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        int index = BulkChecks.firstUnsorted(value, false);
+        if (index >= 0) {
+            fail(Messages.SORTED, value[index], index, value[index - 1]);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checked array.
+     */
+    public static long[] ensureSorted(long[] value, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, false) < 0, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checked array.
+     */
+    public static long[] ensureSorted(long[] value, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, false) < 0, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked array.
+     */
+    public static long[] ensureSorted(long[] value, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, false) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked array.
+     */
+    public static long[] ensureSorted(long[] value, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, false) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked array.
+     */
+    public static long[] ensureSorted(long[] value, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, false) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checked array.
+     */
+    public static long[] ensureSorted(long[] value, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, false) < 0, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checked array.
+     */
+    public static long[] ensureSorted(long[] value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, false) < 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checked array.
+     */
+    public static long[] ensureSorted(long[] value, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, false) < 0, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checked array.
+     */
+    public static <A> long[] ensureSorted(long[] value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, false) < 0, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checked array.
+     */
+    public static <A, B> long[] ensureSorted(long[] value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, false) < 0, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted. NaN is never in order.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @return The checked array.
+     */
+    public static double[] ensureSorted(double[] value) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        int index = BulkChecks.firstUnsorted(value, false);
+        if (index >= 0) {
+            fail(Messages.SORTED, value[index], index, value[index - 1]);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted. NaN is never in order.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checked array.
+     */
+    public static double[] ensureSorted(double[] value, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, false) < 0, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted. NaN is never in order.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checked array.
+     */
+    public static double[] ensureSorted(double[] value, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, false) < 0, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted. NaN is never in order.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked array.
+     */
+    public static double[] ensureSorted(double[] value, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, false) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted. NaN is never in order.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked array.
+     */
+    public static double[] ensureSorted(double[] value, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, false) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted. NaN is never in order.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked array.
+     */
+    public static double[] ensureSorted(double[] value, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, false) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted. NaN is never in order.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checked array.
+     */
+    public static double[] ensureSorted(double[] value, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, false) < 0, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted. NaN is never in order.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checked array.
+     */
+    public static double[] ensureSorted(double[] value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, false) < 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted. NaN is never in order.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checked array.
+     */
+    public static double[] ensureSorted(double[] value, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, false) < 0, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted. NaN is never in order.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checked array.
+     */
+    public static <A> double[] ensureSorted(double[] value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, false) < 0, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted. NaN is never in order.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checked array.
+     */
+    public static <A, B> double[] ensureSorted(double[] value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, false) < 0, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted. The elements are compared by their natural ordering.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @return The checked array.
+     */
+    public static <V extends Comparable<? super V>> V[] ensureSorted(V[] value) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        int index = BulkChecks.firstUnsorted(value, Comparator.naturalOrder(), false);
+        if (index >= 0) {
+            fail(Messages.SORTED, value[index], index, value[index - 1]);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted. The elements are compared by their natural ordering.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checked array.
+     */
+    public static <V extends Comparable<? super V>> V[] ensureSorted(V[] value, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, Comparator.naturalOrder(), false) < 0, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted. The elements are compared by their natural ordering.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checked array.
+     */
+    public static <V extends Comparable<? super V>> V[] ensureSorted(V[] value, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, Comparator.naturalOrder(), false) < 0, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted. The elements are compared by their natural ordering.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked array.
+     */
+    public static <V extends Comparable<? super V>> V[] ensureSorted(V[] value, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, Comparator.naturalOrder(), false) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted. The elements are compared by their natural ordering.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked array.
+     */
+    public static <V extends Comparable<? super V>> V[] ensureSorted(V[] value, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, Comparator.naturalOrder(), false) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted. The elements are compared by their natural ordering.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked array.
+     */
+    public static <V extends Comparable<? super V>> V[] ensureSorted(V[] value, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, Comparator.naturalOrder(), false) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted. The elements are compared by their natural ordering.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checked array.
+     */
+    public static <V extends Comparable<? super V>> V[] ensureSorted(V[] value, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, Comparator.naturalOrder(), false) < 0, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted. The elements are compared by their natural ordering.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checked array.
+     */
+    public static <V extends Comparable<? super V>> V[] ensureSorted(V[] value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, Comparator.naturalOrder(), false) < 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted. The elements are compared by their natural ordering.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checked array.
+     */
+    public static <V extends Comparable<? super V>> V[] ensureSorted(V[] value, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, Comparator.naturalOrder(), false) < 0, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted. The elements are compared by their natural ordering.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checked array.
+     */
+    public static <V extends Comparable<? super V>, A> V[] ensureSorted(V[] value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, Comparator.naturalOrder(), false) < 0, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted. The elements are compared by their natural ordering.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checked array.
+     */
+    public static <V extends Comparable<? super V>, A, B> V[] ensureSorted(V[] value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, Comparator.naturalOrder(), false) < 0, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted. The elements are compared by the comparator.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @return The checked array.
+     */
+    public static <V> V[] ensureSorted(V[] value, Comparator<? super V> comparator) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        EnsureStats.recordCheck();
+        int index = BulkChecks.firstUnsorted(value, comparator, false);
+        if (index >= 0) {
+            fail(Messages.SORTED, value[index], index, value[index - 1]);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted. The elements are compared by the comparator.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checked array.
+     */
+    public static <V> V[] ensureSorted(V[] value, Comparator<? super V> comparator, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, comparator, false) < 0, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted. The elements are compared by the comparator.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checked array.
+     */
+    public static <V> V[] ensureSorted(V[] value, Comparator<? super V> comparator, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, comparator, false) < 0, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted. The elements are compared by the comparator.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked array.
+     */
+    public static <V> V[] ensureSorted(V[] value, Comparator<? super V> comparator, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, comparator, false) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted. The elements are compared by the comparator.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked array.
+     */
+    public static <V> V[] ensureSorted(V[] value, Comparator<? super V> comparator, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, comparator, false) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted. The elements are compared by the comparator.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked array.
+     */
+    public static <V> V[] ensureSorted(V[] value, Comparator<? super V> comparator, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, comparator, false) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted. The elements are compared by the comparator.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checked array.
+     */
+    public static <V> V[] ensureSorted(V[] value, Comparator<? super V> comparator, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, comparator, false) < 0, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted. The elements are compared by the comparator.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checked array.
+     */
+    public static <V> V[] ensureSorted(V[] value, Comparator<? super V> comparator, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, comparator, false) < 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted. The elements are compared by the comparator.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checked array.
+     */
+    public static <V> V[] ensureSorted(V[] value, Comparator<? super V> comparator, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, comparator, false) < 0, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted. The elements are compared by the comparator.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checked array.
+     */
+    public static <V, A> V[] ensureSorted(V[] value, Comparator<? super V> comparator, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, comparator, false) < 0, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not sorted. The elements are compared by the comparator.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checked array.
+     */
+    public static <V, A, B> V[] ensureSorted(V[] value, Comparator<? super V> comparator, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, comparator, false) < 0, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given list are not sorted. The elements are compared by their natural ordering.
+     * The default message reports the first element out of order and its index. Large lists are scanned
+     * in parallel.
+     *
+     * @return The checked list.
+     */
+    public static <V extends Comparable<? super V>> List<V> ensureSorted(List<V> value) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        int index = BulkChecks.firstUnsorted(value, Comparator.naturalOrder(), false);
+        if (index >= 0) {
+            fail(Messages.SORTED, value.get(index), index, value.get(index - 1));
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given list are not sorted. The elements are compared by their natural ordering.
+     * The default message reports the first element out of order and its index. Large lists are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checked list.
+     */
+    public static <V extends Comparable<? super V>> List<V> ensureSorted(List<V> value, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, Comparator.naturalOrder(), false) < 0, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given list are not sorted. The elements are compared by their natural ordering.
+     * The default message reports the first element out of order and its index. Large lists are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checked list.
+     */
+    public static <V extends Comparable<? super V>> List<V> ensureSorted(List<V> value, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, Comparator.naturalOrder(), false) < 0, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given list are not sorted. The elements are compared by their natural ordering.
+     * The default message reports the first element out of order and its index. Large lists are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked list.
+     */
+    public static <V extends Comparable<? super V>> List<V> ensureSorted(List<V> value, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, Comparator.naturalOrder(), false) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given list are not sorted. The elements are compared by their natural ordering.
+     * The default message reports the first element out of order and its index. Large lists are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked list.
+     */
+    public static <V extends Comparable<? super V>> List<V> ensureSorted(List<V> value, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, Comparator.naturalOrder(), false) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given list are not sorted. The elements are compared by their natural ordering.
+     * The default message reports the first element out of order and its index. Large lists are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked list.
+     */
+    public static <V extends Comparable<? super V>> List<V> ensureSorted(List<V> value, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, Comparator.naturalOrder(), false) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given list are not sorted. The elements are compared by their natural ordering.
+     * The default message reports the first element out of order and its index. Large lists are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checked list.
+     */
+    public static <V extends Comparable<? super V>> List<V> ensureSorted(List<V> value, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, Comparator.naturalOrder(), false) < 0, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given list are not sorted. The elements are compared by their natural ordering.
+     * The default message reports the first element out of order and its index. Large lists are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checked list.
+     */
+    public static <V extends Comparable<? super V>> List<V> ensureSorted(List<V> value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, Comparator.naturalOrder(), false) < 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given list are not sorted. The elements are compared by their natural ordering.
+     * The default message reports the first element out of order and its index. Large lists are scanned
+     * in parallel.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checked list.
+     */
+    public static <V extends Comparable<? super V>> List<V> ensureSorted(List<V> value, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, Comparator.naturalOrder(), false) < 0, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given list are not sorted. The elements are compared by their natural ordering.
+     * The default message reports the first element out of order and its index. Large lists are scanned
+     * in parallel.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checked list.
+     */
+    public static <V extends Comparable<? super V>, A> List<V> ensureSorted(List<V> value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, Comparator.naturalOrder(), false) < 0, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given list are not sorted. The elements are compared by their natural ordering.
+     * The default message reports the first element out of order and its index. Large lists are scanned
+     * in parallel.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checked list.
+     */
+    public static <V extends Comparable<? super V>, A, B> List<V> ensureSorted(List<V> value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, Comparator.naturalOrder(), false) < 0, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given list are not sorted. The elements are compared by the comparator.
+     * The default message reports the first element out of order and its index. Large lists are scanned
+     * in parallel.
+     *
+     * @return The checked list.
+     */
+    public static <V> List<V> ensureSorted(List<V> value, Comparator<? super V> comparator) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        EnsureStats.recordCheck();
+        int index = BulkChecks.firstUnsorted(value, comparator, false);
+        if (index >= 0) {
+            fail(Messages.SORTED, value.get(index), index, value.get(index - 1));
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given list are not sorted. The elements are compared by the comparator.
+     * The default message reports the first element out of order and its index. Large lists are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checked list.
+     */
+    public static <V> List<V> ensureSorted(List<V> value, Comparator<? super V> comparator, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, comparator, false) < 0, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given list are not sorted. The elements are compared by the comparator.
+     * The default message reports the first element out of order and its index. Large lists are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checked list.
+     */
+    public static <V> List<V> ensureSorted(List<V> value, Comparator<? super V> comparator, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, comparator, false) < 0, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given list are not sorted. The elements are compared by the comparator.
+     * The default message reports the first element out of order and its index. Large lists are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked list.
+     */
+    public static <V> List<V> ensureSorted(List<V> value, Comparator<? super V> comparator, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, comparator, false) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given list are not sorted. The elements are compared by the comparator.
+     * The default message reports the first element out of order and its index. Large lists are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked list.
+     */
+    public static <V> List<V> ensureSorted(List<V> value, Comparator<? super V> comparator, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, comparator, false) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given list are not sorted. The elements are compared by the comparator.
+     * The default message reports the first element out of order and its index. Large lists are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked list.
+     */
+    public static <V> List<V> ensureSorted(List<V> value, Comparator<? super V> comparator, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, comparator, false) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given list are not sorted. The elements are compared by the comparator.
+     * The default message reports the first element out of order and its index. Large lists are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checked list.
+     */
+    public static <V> List<V> ensureSorted(List<V> value, Comparator<? super V> comparator, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, comparator, false) < 0, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given list are not sorted. The elements are compared by the comparator.
+     * The default message reports the first element out of order and its index. Large lists are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checked list.
+     */
+    public static <V> List<V> ensureSorted(List<V> value, Comparator<? super V> comparator, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, comparator, false) < 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given list are not sorted. The elements are compared by the comparator.
+     * The default message reports the first element out of order and its index. Large lists are scanned
+     * in parallel.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checked list.
+     */
+    public static <V> List<V> ensureSorted(List<V> value, Comparator<? super V> comparator, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, comparator, false) < 0, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given list are not sorted. The elements are compared by the comparator.
+     * The default message reports the first element out of order and its index. Large lists are scanned
+     * in parallel.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checked list.
+     */
+    public static <V, A> List<V> ensureSorted(List<V> value, Comparator<? super V> comparator, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, comparator, false) < 0, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given list are not sorted. The elements are compared by the comparator.
+     * The default message reports the first element out of order and its index. Large lists are scanned
+     * in parallel.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checked list.
+     */
+    public static <V, A, B> List<V> ensureSorted(List<V> value, Comparator<? super V> comparator, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, comparator, false) < 0, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @return The checked array.
+     */
+    public static int[] ensureStrictlyIncreasing(int[] value) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        int index = BulkChecks.firstUnsorted(value, true);
+        if (index >= 0) {
+            fail(Messages.STRICTLY_INCREASING, value[index], index, value[index - 1]);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checked array.
+     */
+    public static int[] ensureStrictlyIncreasing(int[] value, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, true) < 0, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checked array.
+     */
+    public static int[] ensureStrictlyIncreasing(int[] value, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, true) < 0, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked array.
+     */
+    public static int[] ensureStrictlyIncreasing(int[] value, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, true) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked array.
+     */
+    public static int[] ensureStrictlyIncreasing(int[] value, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, true) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked array.
+     */
+    public static int[] ensureStrictlyIncreasing(int[] value, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, true) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checked array.
+     */
+    public static int[] ensureStrictlyIncreasing(int[] value, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, true) < 0, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checked array.
+     */
+    public static int[] ensureStrictlyIncreasing(int[] value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, true) < 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checked array.
+     */
+    public static int[] ensureStrictlyIncreasing(int[] value, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, true) < 0, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checked array.
+     */
+    public static <A> int[] ensureStrictlyIncreasing(int[] value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, true) < 0, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checked array.
+     */
+    public static <A, B> int[] ensureStrictlyIncreasing(int[] value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, true) < 0, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @return The checked array.
+     */
+    public static long[] ensureStrictlyIncreasing(long[] value) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        int index = BulkChecks.firstUnsorted(value, true);
+        if (index >= 0) {
+            fail(Messages.STRICTLY_INCREASING, value[index], index, value[index - 1]);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checked array.
+     */
+    public static long[] ensureStrictlyIncreasing(long[] value, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, true) < 0, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checked array.
+     */
+    public static long[] ensureStrictlyIncreasing(long[] value, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, true) < 0, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked array.
+     */
+    public static long[] ensureStrictlyIncreasing(long[] value, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, true) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked array.
+     */
+    public static long[] ensureStrictlyIncreasing(long[] value, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, true) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked array.
+     */
+    public static long[] ensureStrictlyIncreasing(long[] value, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, true) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checked array.
+     */
+    public static long[] ensureStrictlyIncreasing(long[] value, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, true) < 0, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checked array.
+     */
+    public static long[] ensureStrictlyIncreasing(long[] value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, true) < 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checked array.
+     */
+    public static long[] ensureStrictlyIncreasing(long[] value, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, true) < 0, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checked array.
+     */
+    public static <A> long[] ensureStrictlyIncreasing(long[] value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, true) < 0, messageSupplier, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checked array.
+     */
+    public static <A, B> long[] ensureStrictlyIncreasing(long[] value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, true) < 0, messageSupplier, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing. NaN is never in order.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @return The checked array.
+     */
+    public static double[] ensureStrictlyIncreasing(double[] value) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        int index = BulkChecks.firstUnsorted(value, true);
+        if (index >= 0) {
+            fail(Messages.STRICTLY_INCREASING, value[index], index, value[index - 1]);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing. NaN is never in order.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checked array.
+     */
+    public static double[] ensureStrictlyIncreasing(double[] value, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, true) < 0, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing. NaN is never in order.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checked array.
+     */
+    public static double[] ensureStrictlyIncreasing(double[] value, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, true) < 0, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing. NaN is never in order.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked array.
+     */
+    public static double[] ensureStrictlyIncreasing(double[] value, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, true) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing. NaN is never in order.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked array.
+     */
+    public static double[] ensureStrictlyIncreasing(double[] value, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, true) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing. NaN is never in order.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked array.
+     */
+    public static double[] ensureStrictlyIncreasing(double[] value, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, true) < 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing. NaN is never in order.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checked array.
      */
-    public static <T> void ensureNull(T value) {
-        ensureNull(value, "Given value must be null");
+    public static double[] ensureStrictlyIncreasing(double[] value, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, true) < 0, messageFormat, messageArg1, messageArg2);
+        return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given value is not null.
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing. NaN is never in order.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
      *
      * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
-     * @param messageArgs   Arguments for the message format.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checked array.
      */
-    public static <T> void ensureNull(T value, String messageFormat, Object... messageArgs) {
-        ensureTrue(value == null, messageFormat, messageArgs);
+    public static double[] ensureStrictlyIncreasing(double[] value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, true) < 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given value doesn't match expected. {@link Object#equals(Object)}
-     * will be used for comparing the two values.
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing. NaN is never in order.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checked array.
      */
-    public static <T> T ensureEquals(T expected, T value) {
-        return ensureEquals(expected, value, "Given value must match the expected value");
+    public static double[] ensureStrictlyIncreasing(double[] value, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, true) < 0, messageSupplier);
+        return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given value doesn't match expected. {@link Object#equals(Object)}
-     * will be used for comparing the two values.
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing. NaN is never in order.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
      *
-     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
-     * @param messageArgs   Arguments for the message format.
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checked array.
      */
-    public static <T> T ensureEquals(T expected, T value, String messageFormat, Object... messageArgs) {
-        if (expected == null) {
-            ensureTrue(value == null, messageFormat, messageArgs);
-        } else {
-            ensureTrue(expected.equals(value), messageFormat, messageArgs);
-        }
+    public static <A> double[] ensureStrictlyIncreasing(double[] value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, true) < 0, messageSupplier, messageArg);
         return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given value does match expected. {@link Object#equals(Object)}
-     * will be used for comparing the two values.
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing. NaN is never in order.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checked array.
      */
-    public static <T> T ensureNotEquals(T expected, T value) {
-        return ensureNotEquals(expected, value, "Given value must differ from expected value");
+    public static <A, B> double[] ensureStrictlyIncreasing(double[] value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, true) < 0, messageSupplier, messageArg1, messageArg2);
+        return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given value does match expected. {@link Object#equals(Object)}
-     * will be used for comparing the two values.
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing. The elements are compared by their natural ordering.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
      *
-     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
-     * @param messageArgs   Arguments for the message format.
+     * @return The checked array.
      */
-    public static <T> T ensureNotEquals(T expected, T value, String messageFormat, Object... messageArgs) {
-        if (expected == null) {
-            ensureFalse(value == null, messageFormat, messageArgs);
-        } else {
-            ensureFalse(expected.equals(value), messageFormat, messageArgs);
+    public static <V extends Comparable<? super V>> V[] ensureStrictlyIncreasing(V[] value) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        int index = BulkChecks.firstUnsorted(value, Comparator.naturalOrder(), true);
+        if (index >= 0) {
+            fail(Messages.STRICTLY_INCREASING, value[index], index, value[index - 1]);
         }
         return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given condition isn't true.
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing. The elements are compared by their natural ordering.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checked array.
      */
-    public static void ensureTrue(boolean condition) {
-        ensureTrue(condition, "Given condition must be true");
+    public static <V extends Comparable<? super V>> V[] ensureStrictlyIncreasing(V[] value, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, Comparator.naturalOrder(), true) < 0, messageFormat, messageArgs);
+        return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given condition isn't true.
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing. The elements are compared by their natural ordering.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
      *
      * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
-     * @param messageArgs   Arguments for the message format.
+     * @return The checked array.
      */
-    public static void ensureTrue(boolean condition, String messageFormat, Object... messageArgs) {
-        if (!condition) {
-            fail(messageFormat, messageArgs);
-        }
+    public static <V extends Comparable<? super V>> V[] ensureStrictlyIncreasing(V[] value, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, Comparator.naturalOrder(), true) < 0, messageFormat);
+        return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given condition isn't false.
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing. The elements are compared by their natural ordering.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked array.
      */
-    public static void ensureFalse(boolean condition) {
-        ensureFalse(condition, "Given condition must be false");
+    public static <V extends Comparable<? super V>> V[] ensureStrictlyIncreasing(V[] value, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, Comparator.naturalOrder(), true) < 0, messageFormat, messageArg);
+        return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given condition isn't false.
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing. The elements are compared by their natural ordering.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
      *
      * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
-     * @param messageArgs   Arguments for the message format.
+     * @param messageArg    Argument for the message format.
+     * @return The checked array.
      */
-    public static void ensureFalse(boolean condition, String messageFormat, Object... messageArgs) {
-        if (condition) {
-            fail(messageFormat, messageArgs);
-        }
+    public static <V extends Comparable<? super V>> V[] ensureStrictlyIncreasing(V[] value, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, Comparator.naturalOrder(), true) < 0, messageFormat, messageArg);
+        return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing. The elements are compared by their natural ordering.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked array.
      */
-    public static String ensureNotEmpty(String value) {
-        return ensureNotEmpty(value, "Given string must not be empty");
+    public static <V extends Comparable<? super V>> V[] ensureStrictlyIncreasing(V[] value, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, Comparator.naturalOrder(), true) < 0, messageFormat, messageArg);
+        return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing. The elements are compared by their natural ordering.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
      *
      * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
-     * @param messageArgs   Arguments for the message format.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checked array.
      */
-    public static String ensureNotEmpty(String value, String messageFormat, Object... messageArgs) {
-        ensureTrue(value != null && !value.isEmpty(), messageFormat, messageArgs);
+    public static <V extends Comparable<? super V>> V[] ensureStrictlyIncreasing(V[] value, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, Comparator.naturalOrder(), true) < 0, messageFormat, messageArg1, messageArg2);
         return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing. The elements are compared by their natural ordering.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checked array.
      */
-    public static <V> Collection<V> ensureNotEmpty(Collection<V> value) {
-        return ensureNotEmpty(value, "Given collection must not be empty");
+    public static <V extends Comparable<? super V>> V[] ensureStrictlyIncreasing(V[] value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, Comparator.naturalOrder(), true) < 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing. The elements are compared by their natural ordering.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
      *
-     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
-     * @param messageArgs   Arguments for the message format.
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checked array.
      */
-    public static <V> Collection<V> ensureNotEmpty(Collection<V> value, String messageFormat, Object... messageArgs) {
-        ensureTrue(value != null && !value.isEmpty(), messageFormat, messageArgs);
+    public static <V extends Comparable<? super V>> V[] ensureStrictlyIncreasing(V[] value, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, Comparator.naturalOrder(), true) < 0, messageSupplier);
         return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing. The elements are compared by their natural ordering.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checked array.
      */
-    public static <V> List<V> ensureNotEmpty(List<V> value) {
-        return ensureNotEmpty(value, "Given collection must not be empty");
+    public static <V extends Comparable<? super V>, A> V[] ensureStrictlyIncreasing(V[] value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, Comparator.naturalOrder(), true) < 0, messageSupplier, messageArg);
+        return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing. The elements are compared by their natural ordering.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
      *
-     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
-     * @param messageArgs   Arguments for the message format.
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checked array.
      */
-    public static <V> List<V> ensureNotEmpty(List<V> value, String messageFormat, Object... messageArgs) {
-        ensureTrue(value != null && !value.isEmpty(), messageFormat, messageArgs);
+    public static <V extends Comparable<? super V>, A, B> V[] ensureStrictlyIncreasing(V[] value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, Comparator.naturalOrder(), true) < 0, messageSupplier, messageArg1, messageArg2);
         return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given array is empty. The null value is also considered to be empty.
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing. The elements are compared by the comparator.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @return The checked array.
      */
-    public static <V> V[] ensureNotEmpty(V[] value) {
-        return ensureNotEmpty(value, "Given array must not be empty");
+    public static <V> V[] ensureStrictlyIncreasing(V[] value, Comparator<? super V> comparator) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        EnsureStats.recordCheck();
+        int index = BulkChecks.firstUnsorted(value, comparator, true);
+        if (index >= 0) {
+            fail(Messages.STRICTLY_INCREASING, value[index], index, value[index - 1]);
+        }
+        return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing. The elements are compared by the comparator.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
      *
      * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
      * @param messageArgs   Arguments for the message format.
+     * @return The checked array.
      */
-    public static <V> V[] ensureNotEmpty(V[] value, String messageFormat, Object... messageArgs) {
-        ensureTrue(value != null && value.length > 0, messageFormat, messageArgs);
+    public static <V> V[] ensureStrictlyIncreasing(V[] value, Comparator<? super V> comparator, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, comparator, true) < 0, messageFormat, messageArgs);
         return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing. The elements are compared by the comparator.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checked array.
      */
-    public static <K, V> Map<K, V> ensureNotEmpty(Map<K, V> value) {
-        return ensureNotEmpty(value, "Given map must not be empty");
+    public static <V> V[] ensureStrictlyIncreasing(V[] value, Comparator<? super V> comparator, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, comparator, true) < 0, messageFormat);
+        return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given value is empty. The null value is also considered to be empty.
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing. The elements are compared by the comparator.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
      *
      * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
-     * @param messageArgs   Arguments for the message format.
+     * @param messageArg    Argument for the message format.
+     * @return The checked array.
      */
-    public static <K, V> Map<K, V> ensureNotEmpty(Map<K, V> value, String messageFormat, Object... messageArgs) {
-        ensureTrue(value != null && !value.isEmpty(), messageFormat, messageArgs);
+    public static <V> V[] ensureStrictlyIncreasing(V[] value, Comparator<? super V> comparator, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, comparator, true) < 0, messageFormat, messageArg);
         return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing. The elements are compared by the comparator.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked array.
      */
-    public static String ensureEmpty(String value) {
-        return ensureEmpty(value, "Given string must be empty");
+    public static <V> V[] ensureStrictlyIncreasing(V[] value, Comparator<? super V> comparator, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, comparator, true) < 0, messageFormat, messageArg);
+        return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing. The elements are compared by the comparator.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
      *
      * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
-     * @param messageArgs   Arguments for the message format.
+     * @param messageArg    Argument for the message format.
+     * @return The checked array.
      */
-    public static String ensureEmpty(String value, String messageFormat, Object... messageArgs) {
-        ensureTrue(value == null || value.isEmpty(), messageFormat, messageArgs);
+    public static <V> V[] ensureStrictlyIncreasing(V[] value, Comparator<? super V> comparator, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, comparator, true) < 0, messageFormat, messageArg);
         return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing. The elements are compared by the comparator.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checked array.
      */
-    public static <V> Collection<V> ensureEmpty(Collection<V> value) {
-        return ensureEmpty(value, "Given collection must be empty");
+    public static <V> V[] ensureStrictlyIncreasing(V[] value, Comparator<? super V> comparator, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, comparator, true) < 0, messageFormat, messageArg1, messageArg2);
+        return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing. The elements are compared by the comparator.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
      *
      * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
-     * @param messageArgs   Arguments for the message format.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checked array.
      */
-    public static <V> Collection<V> ensureEmpty(Collection<V> value, String messageFormat, Object... messageArgs) {
-        ensureTrue(value == null || value.isEmpty(), messageFormat, messageArgs);
+    public static <V> V[] ensureStrictlyIncreasing(V[] value, Comparator<? super V> comparator, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, comparator, true) < 0, messageFormat, messageArg1, messageArg2, messageArg3);
         return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing. The elements are compared by the comparator.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checked array.
      */
-    public static <V> List<V> ensureEmpty(List<V> value) {
-        return ensureEmpty(value, "Given collection must be empty");
+    public static <V> V[] ensureStrictlyIncreasing(V[] value, Comparator<? super V> comparator, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, comparator, true) < 0, messageSupplier);
+        return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing. The elements are compared by the comparator.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
      *
-     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
-     * @param messageArgs   Arguments for the message format.
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checked array.
      */
-    public static <V> List<V> ensureEmpty(List<V> value, String messageFormat, Object... messageArgs) {
-        ensureTrue(value == null || value.isEmpty(), messageFormat, messageArgs);
+    public static <V, A> V[] ensureStrictlyIncreasing(V[] value, Comparator<? super V> comparator, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, comparator, true) < 0, messageSupplier, messageArg);
         return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     * Throws {@link EnsureFailedException} if the elements of the given array are not strictly increasing. The elements are compared by the comparator.
+     * The default message reports the first element out of order and its index. Large arrays are scanned
+     * in parallel.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checked array.
      */
-    public static <K, V> Map<K, V> ensureEmpty(Map<K, V> value) {
-        return ensureEmpty(value, "Given map must be empty");
+    public static <V, A, B> V[] ensureStrictlyIncreasing(V[] value, Comparator<? super V> comparator, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, comparator, true) < 0, messageSupplier, messageArg1, messageArg2);
+        return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given value is not empty. The null value is also considered to be empty.
+     * Throws {@link EnsureFailedException} if the elements of the given list are not strictly increasing. The elements are compared by their natural ordering.
+     * The default message reports the first element out of order and its index. Large lists are scanned
+     * in parallel.
      *
-     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
-     * @param messageArgs   Arguments for the message format.
+     * @return The checked list.
      */
-    public static <K, V> Map<K, V> ensureEmpty(Map<K, V> value, String messageFormat, Object... messageArgs) {
-        ensureTrue(value == null || value.isEmpty(), messageFormat, messageArgs);
+    public static <V extends Comparable<? super V>> List<V> ensureStrictlyIncreasing(List<V> value) {
+        requireNotNull(value, "value must not be null");
+        EnsureStats.recordCheck();
+        int index = BulkChecks.firstUnsorted(value, Comparator.naturalOrder(), true);
+        if (index >= 0) {
+            fail(Messages.STRICTLY_INCREASING, value.get(index), index, value.get(index - 1));
+        }
         return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     * Throws {@link EnsureFailedException} if the elements of the given list are not strictly increasing. The elements are compared by their natural ordering.
+     * The default message reports the first element out of order and its index. Large lists are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The checked list.
      */
-    public static <V> V[] ensureEmpty(V[] value) {
-        return ensureEmpty(value, "Given array must be empty");
+    public static <V extends Comparable<? super V>> List<V> ensureStrictlyIncreasing(List<V> value, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, Comparator.naturalOrder(), true) < 0, messageFormat, messageArgs);
+        return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given array is not empty. The null value is also considered to be empty.
+     * Throws {@link EnsureFailedException} if the elements of the given list are not strictly increasing. The elements are compared by their natural ordering.
+     * The default message reports the first element out of order and its index. Large lists are scanned
+     * in parallel.
      *
      * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
-     * @param messageArgs   Arguments for the message format.
+     * @return The checked list.
      */
-    public static <V> V[] ensureEmpty(V[] value, String messageFormat, Object... messageArgs) {
-        ensureTrue(value == null || value.length == 0, messageFormat, messageArgs);
+    public static <V extends Comparable<? super V>> List<V> ensureStrictlyIncreasing(List<V> value, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, Comparator.naturalOrder(), true) < 0, messageFormat);
         return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given value is not an instance of the specified class.
+     * Throws {@link EnsureFailedException} if the elements of the given list are not strictly increasing. The elements are compared by their natural ordering.
+     * The default message reports the first element out of order and its index. Large lists are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked list.
      */
-    public static <V> V ensureInstanceOf(Class<V> clazz, Object value) {
-        return ensureInstanceOf(clazz, value, "Given value must be of type \"%s\" but found \"%s\"", clazz, value == null ? null : value.getClass());
+    public static <V extends Comparable<? super V>> List<V> ensureStrictlyIncreasing(List<V> value, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, Comparator.naturalOrder(), true) < 0, messageFormat, messageArg);
+        return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given value is not an instance of the specified class.
+     * Throws {@link EnsureFailedException} if the elements of the given list are not strictly increasing. The elements are compared by their natural ordering.
+     * The default message reports the first element out of order and its index. Large lists are scanned
+     * in parallel.
      *
      * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
-     * @param messageArgs   Arguments for the message format.
+     * @param messageArg    Argument for the message format.
+     * @return The checked list.
      */
-    public static <V> V ensureInstanceOf(Class<V> clazz, Object value, String messageFormat, Object... messageArgs) {
-        ensureNotNull(clazz, "clazz must not be null");
-        ensureTrue(value != null && clazz.isAssignableFrom(value.getClass()), messageFormat, messageArgs);
-        return (V) value;
+    public static <V extends Comparable<? super V>> List<V> ensureStrictlyIncreasing(List<V> value, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, Comparator.naturalOrder(), true) < 0, messageFormat, messageArg);
+        return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given Path does not exist.
+     * Throws {@link EnsureFailedException} if the elements of the given list are not strictly increasing. The elements are compared by their natural ordering.
+     * The default message reports the first element out of order and its index. Large lists are scanned
+     * in parallel.
      *
-     * @param value The path to be checked.
-     * @return Returns the checked path.
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked list.
      */
-    public static Path ensureExists(Path value) {
-        return ensureExists(value, "Path \"%s\" doesn't exist", value);
+    public static <V extends Comparable<? super V>> List<V> ensureStrictlyIncreasing(List<V> value, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, Comparator.naturalOrder(), true) < 0, messageFormat, messageArg);
+        return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given Path does not exist.
+     * Throws {@link EnsureFailedException} if the elements of the given list are not strictly increasing. The elements are compared by their natural ordering.
+     * The default message reports the first element out of order and its index. Large lists are scanned
+     * in parallel.
      *
      * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
-     * @param messageArgs   Arguments for the message format.
-     * @return Returns the checked path.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checked list.
      */
-    public static Path ensureExists(Path value, String messageFormat, Object... messageArgs) {
-        ensureNotNull(value, "value must not be null");
-        ensureTrue(Files.exists(value), messageFormat, messageArgs);
+    public static <V extends Comparable<? super V>> List<V> ensureStrictlyIncreasing(List<V> value, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, Comparator.naturalOrder(), true) < 0, messageFormat, messageArg1, messageArg2);
         return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given Path does exist.
+     * Throws {@link EnsureFailedException} if the elements of the given list are not strictly increasing. The elements are compared by their natural ordering.
+     * The default message reports the first element out of order and its index. Large lists are scanned
+     * in parallel.
      *
-     * @param value The path to be checked.
-     * @return Returns the checked path.
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checked list.
      */
-    public static Path ensureNotExists(Path value) {
-        return ensureNotExists(value, "Path \"%s\" already exists", value);
+    public static <V extends Comparable<? super V>> List<V> ensureStrictlyIncreasing(List<V> value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, Comparator.naturalOrder(), true) < 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given Path does exist.
+     * Throws {@link EnsureFailedException} if the elements of the given list are not strictly increasing. The elements are compared by their natural ordering.
+     * The default message reports the first element out of order and its index. Large lists are scanned
+     * in parallel.
      *
-     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
-     * @param messageArgs   Arguments for the message format.
-     * @return Returns the checked directory.
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checked list.
      */
-    public static Path ensureNotExists(Path value, String messageFormat, Object... messageArgs) {
-        ensureNotNull(value, "value must not be null");
-        ensureFalse(Files.exists(value), messageFormat, messageArgs);
+    public static <V extends Comparable<? super V>> List<V> ensureStrictlyIncreasing(List<V> value, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, Comparator.naturalOrder(), true) < 0, messageSupplier);
         return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given Path is not a directory.
+     * Throws {@link EnsureFailedException} if the elements of the given list are not strictly increasing. The elements are compared by their natural ordering.
+     * The default message reports the first element out of order and its index. Large lists are scanned
+     * in parallel.
      *
-     * @param value The directory to be checked.
-     * @return Returns the checked directory.
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checked list.
      */
-    public static Path ensureDirectory(Path value) {
-        return ensureDirectory(value, "Path \"%s\" is not a directory", value);
+    public static <V extends Comparable<? super V>, A> List<V> ensureStrictlyIncreasing(List<V> value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, Comparator.naturalOrder(), true) < 0, messageSupplier, messageArg);
+        return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given Path is not a directory.
+     * Throws {@link EnsureFailedException} if the elements of the given list are not strictly increasing. The elements are compared by their natural ordering.
+     * The default message reports the first element out of order and its index. Large lists are scanned
+     * in parallel.
      *
-     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
-     * @param messageArgs   Arguments for the message format.
-     * @return Returns the checked directory.
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checked list.
      */
-    public static Path ensureDirectory(Path value, String messageFormat, Object... messageArgs) {
-        ensureNotNull(value, "value must not be null");
-        ensureTrue(Files.isDirectory(value), messageFormat, messageArgs);
+    public static <V extends Comparable<? super V>, A, B> List<V> ensureStrictlyIncreasing(List<V> value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, Comparator.naturalOrder(), true) < 0, messageSupplier, messageArg1, messageArg2);
         return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given Path does not exist.
+     * Throws {@link EnsureFailedException} if the elements of the given list are not strictly increasing. The elements are compared by the comparator.
+     * The default message reports the first element out of order and its index. Large lists are scanned
+     * in parallel.
      *
-     * @param value The file to be checked.
-     * @return Returns the checked file.
+     * @return The checked list.
      */
-    public static File ensureExists(File value) {
-        return ensureExists(value, "File \"%s\" doesn't exist");
+    public static <V> List<V> ensureStrictlyIncreasing(List<V> value, Comparator<? super V> comparator) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        EnsureStats.recordCheck();
+        int index = BulkChecks.firstUnsorted(value, comparator, true);
+        if (index >= 0) {
+            fail(Messages.STRICTLY_INCREASING, value.get(index), index, value.get(index - 1));
+        }
+        return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given Path does not exist.
+     * Throws {@link EnsureFailedException} if the elements of the given list are not strictly increasing. The elements are compared by the comparator.
+     * The default message reports the first element out of order and its index. Large lists are scanned
+     * in parallel.
      *
      * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
      * @param messageArgs   Arguments for the message format.
+     * @return The checked list.
      */
-    public static File ensureExists(File value, String messageFormat, Object... messageArgs) {
-        ensureNotNull(value, "value must not be null");
-        ensureTrue(value.exists(), messageFormat, messageArgs);
+    public static <V> List<V> ensureStrictlyIncreasing(List<V> value, Comparator<? super V> comparator, String messageFormat, Object... messageArgs) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, comparator, true) < 0, messageFormat, messageArgs);
         return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given Path does exist.
+     * Throws {@link EnsureFailedException} if the elements of the given list are not strictly increasing. The elements are compared by the comparator.
+     * The default message reports the first element out of order and its index. Large lists are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return The checked list.
      */
-    public static File ensureNotExists(File value) {
-        return ensureNotExists(value, "File \"%s\" already exists", value);
+    public static <V> List<V> ensureStrictlyIncreasing(List<V> value, Comparator<? super V> comparator, String messageFormat) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, comparator, true) < 0, messageFormat);
+        return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given Path does exist.
+     * Throws {@link EnsureFailedException} if the elements of the given list are not strictly increasing. The elements are compared by the comparator.
+     * The default message reports the first element out of order and its index. Large lists are scanned
+     * in parallel.
      *
      * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
-     * @param messageArgs   Arguments for the message format.
+     * @param messageArg    Argument for the message format.
+     * @return The checked list.
      */
-    public static File ensureNotExists(File value, String messageFormat, Object... messageArgs) {
-        ensureNotNull(value, "value must not be null");
-        ensureFalse(value.exists(), messageFormat, messageArgs);
+    public static <V> List<V> ensureStrictlyIncreasing(List<V> value, Comparator<? super V> comparator, String messageFormat, Object messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, comparator, true) < 0, messageFormat, messageArg);
         return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given Path is not a directory.
+     * Throws {@link EnsureFailedException} if the elements of the given list are not strictly increasing. The elements are compared by the comparator.
+     * The default message reports the first element out of order and its index. Large lists are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The checked list.
      */
-    public static File ensureDirectory(File value) {
-        return ensureDirectory(value, "File \"%s\" isn't a directory", value);
+    public static <V> List<V> ensureStrictlyIncreasing(List<V> value, Comparator<? super V> comparator, String messageFormat, int messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, comparator, true) < 0, messageFormat, messageArg);
+        return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given Path is not a directory.
+     * Throws {@link EnsureFailedException} if the elements of the given list are not strictly increasing. The elements are compared by the comparator.
+     * The default message reports the first element out of order and its index. Large lists are scanned
+     * in parallel.
      *
      * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
-     * @param messageArgs   Arguments for the message format.
+     * @param messageArg    Argument for the message format.
+     * @return The checked list.
      */
-    public static File ensureDirectory(File value, String messageFormat, Object... messageArgs) {
-        ensureNotNull(value, "value must not be null");
-        ensureTrue(value.isDirectory(), messageFormat, messageArgs);
+    public static <V> List<V> ensureStrictlyIncreasing(List<V> value, Comparator<? super V> comparator, String messageFormat, long messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, comparator, true) < 0, messageFormat, messageArg);
         return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given Optional has no value.
+     * Throws {@link EnsureFailedException} if the elements of the given list are not strictly increasing. The elements are compared by the comparator.
+     * The default message reports the first element out of order and its index. Large lists are scanned
+     * in parallel.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The checked list.
      */
-    public static <T> T ensureOptional(Optional<T> value) {
-        return ensureOptional(value, "Optional has no value");
+    public static <V> List<V> ensureStrictlyIncreasing(List<V> value, Comparator<? super V> comparator, String messageFormat, Object messageArg1, Object messageArg2) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, comparator, true) < 0, messageFormat, messageArg1, messageArg2);
+        return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given Optional has no value.
+     * Throws {@link EnsureFailedException} if the elements of the given list are not strictly increasing. The elements are compared by the comparator.
+     * The default message reports the first element out of order and its index. Large lists are scanned
+     * in parallel.
      *
      * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
-     * @param messageArgs   Arguments for the message format.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The checked list.
      */
-    public static <T> T ensureOptional(Optional<T> value, String messageFormat, Object... messageArgs) {
-        ensureTrue(value.isPresent(), messageFormat, messageArgs);
-        return value.get();
+    public static <V> List<V> ensureStrictlyIncreasing(List<V> value, Comparator<? super V> comparator, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, comparator, true) < 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} with the given message. This should be used in code blocks which shouldn't be reached.
-     * For example in a final else statement or the default block of a switch statement.
+     * Throws {@link EnsureFailedException} if the elements of the given list are not strictly increasing. The elements are compared by the comparator.
+     * The default message reports the first element out of order and its index. Large lists are scanned
+     * in parallel.
      *
-     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
-     * @param messageArgs   Arguments for the message format.
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return The checked list.
      */
-    public static void fail(String messageFormat, Object... messageArgs) {
-        throw new EnsureFailedException(String.format(messageFormat, messageArgs));
+    public static <V> List<V> ensureStrictlyIncreasing(List<V> value, Comparator<? super V> comparator, Supplier<String> messageSupplier) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, comparator, true) < 0, messageSupplier);
+        return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given collection does not contain exactly one value.
+     * Throws {@link EnsureFailedException} if the elements of the given list are not strictly increasing. The elements are compared by the comparator.
+     * The default message reports the first element out of order and its index. Large lists are scanned
+     * in parallel.
      *
-     * @return The single value of the collection.
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return The checked list.
      */
-    public static <V> V ensureOne(Collection<V> value) {
-        ensureEquals(1, value.size(), "Given collection must contain exactly one element");
-        return value.iterator().next();
+    public static <V, A> List<V> ensureStrictlyIncreasing(List<V> value, Comparator<? super V> comparator, MessageSupplier1<A> messageSupplier, A messageArg) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, comparator, true) < 0, messageSupplier, messageArg);
+        return value;
     }
 
     /**
-     * Throws {@link EnsureFailedException} if the given collection does not contain exactly one value.
+     * Throws {@link EnsureFailedException} if the elements of the given list are not strictly increasing. The elements are compared by the comparator.
+     * The default message reports the first element out of order and its index. Large lists are scanned
+     * in parallel.
      *
-     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
-     * @param messageArgs   Arguments for the message format.
-     * @return The single value of the collection.
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return The checked list.
      */
-    public static <V> V ensureOne(Collection<V> value, String messageFormat, Object... messageArgs) {
-        ensureEquals(1, value.size(), messageFormat, messageArgs);
-        return value.iterator().next();
+    public static <V, A, B> List<V> ensureStrictlyIncreasing(List<V> value, Comparator<? super V> comparator, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        requireNotNull(value, "value must not be null");
+        requireNotNull(comparator, "comparator must not be null");
+        ensureTrue(BulkChecks.firstUnsorted(value, comparator, true) < 0, messageSupplier, messageArg1, messageArg2);
+        return value;
     }
 }
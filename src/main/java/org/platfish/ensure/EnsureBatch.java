@@ -0,0 +1,1525 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * <p>Collects the failures of many checks and reports them together, e.g. for validating a
+ * whole configuration or a batch of records. Instances are created by {@link Ensure#batch()}.</p>
+ * <p>The check methods mirror those of {@link Ensure}, but instead of throwing an exception a
+ * failed check is only recorded as message format and arguments. No exception and no stack trace
+ * is created per failure and messages are only formatted when the final report is rendered.
+ * {@link #throwIfFailed()}, or {@link #close()} at the end of a try-with-resources block, throws
+ * a single {@link EnsureBatchFailedException} for all failures.</p>
+ * <pre>
+ * try (EnsureBatch batch = Ensure.batch()) {
+ *     batch.ensureNotEmpty(config.getName(), "name must not be empty");
+ *     batch.ensureTrue(config.getPort() &gt; 0, "port %s must be positive", config.getPort());
+ * }
+ * </pre>
+ * <p>Instances are not thread-safe.</p>
+ */
+public final class EnsureBatch implements AutoCloseable {
+
+    private static final Object[] NO_ARGS = new Object[0];
+
+    private final int maxRecordedFailures;
+    private String[] recordedFormats;
+    private Object[][] recordedArgs;
+    private int recordedFailures;
+    private int failureCount;
+
+    EnsureBatch(int maxRecordedFailures) {
+        Ensure.requireArgument(maxRecordedFailures >= 0, "maxRecordedFailures must not be negative but was %s", maxRecordedFailures);
+        this.maxRecordedFailures = maxRecordedFailures;
+        int capacity = Math.min(maxRecordedFailures, 8);
+        this.recordedFormats = new String[capacity];
+        this.recordedArgs = new Object[capacity][];
+    }
+
+    /**
+     * Records a failure if the given condition isn't true.
+     *
+     * @return Whether the condition is true.
+     */
+    public boolean ensureTrue(boolean condition) {
+        return ensureTrue(condition, Messages.CONDITION_TRUE);
+    }
+
+    /**
+     * Records a failure if the given condition isn't true.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return Whether the condition is true.
+     */
+    public boolean ensureTrue(boolean condition, String messageFormat, Object... messageArgs) {
+        EnsureStats.recordCheck();
+        if (!condition) {
+            fail(messageFormat, messageArgs);
+        }
+        return condition;
+    }
+
+    /**
+     * Records a failure if the given condition isn't true.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @return Whether the condition is true.
+     */
+    public boolean ensureTrue(boolean condition, String messageFormat) {
+        EnsureStats.recordCheck();
+        if (!condition) {
+            fail(messageFormat);
+        }
+        return condition;
+    }
+
+    /**
+     * Records a failure if the given condition isn't true.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return Whether the condition is true.
+     */
+    public boolean ensureTrue(boolean condition, String messageFormat, Object messageArg) {
+        EnsureStats.recordCheck();
+        if (!condition) {
+            fail(messageFormat, messageArg);
+        }
+        return condition;
+    }
+
+    /**
+     * Records a failure if the given condition isn't true.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return Whether the condition is true.
+     */
+    public boolean ensureTrue(boolean condition, String messageFormat, int messageArg) {
+        EnsureStats.recordCheck();
+        if (!condition) {
+            fail(messageFormat, messageArg);
+        }
+        return condition;
+    }
+
+    /**
+     * Records a failure if the given condition isn't true.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return Whether the condition is true.
+     */
+    public boolean ensureTrue(boolean condition, String messageFormat, long messageArg) {
+        EnsureStats.recordCheck();
+        if (!condition) {
+            fail(messageFormat, messageArg);
+        }
+        return condition;
+    }
+
+    /**
+     * Records a failure if the given condition isn't true.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return Whether the condition is true.
+     */
+    public boolean ensureTrue(boolean condition, String messageFormat, Object messageArg1, Object messageArg2) {
+        EnsureStats.recordCheck();
+        if (!condition) {
+            fail(messageFormat, messageArg1, messageArg2);
+        }
+        return condition;
+    }
+
+    /**
+     * Records a failure if the given condition isn't true.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return Whether the condition is true.
+     */
+    public boolean ensureTrue(boolean condition, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        EnsureStats.recordCheck();
+        if (!condition) {
+            fail(messageFormat, messageArg1, messageArg2, messageArg3);
+        }
+        return condition;
+    }
+
+    /**
+     * Records a failure if the given condition isn't false.
+     *
+     * @return Whether the condition is false.
+     */
+    public boolean ensureFalse(boolean condition) {
+        return ensureFalse(condition, Messages.CONDITION_FALSE);
+    }
+
+    /**
+     * Records a failure if the given condition isn't false.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return Whether the condition is false.
+     */
+    public boolean ensureFalse(boolean condition, String messageFormat, Object... messageArgs) {
+        return ensureTrue(!condition, messageFormat, messageArgs);
+    }
+
+    /**
+     * Records a failure if the given condition isn't false.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @return Whether the condition is false.
+     */
+    public boolean ensureFalse(boolean condition, String messageFormat) {
+        return ensureTrue(!condition, messageFormat);
+    }
+
+    /**
+     * Records a failure if the given condition isn't false.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return Whether the condition is false.
+     */
+    public boolean ensureFalse(boolean condition, String messageFormat, Object messageArg) {
+        return ensureTrue(!condition, messageFormat, messageArg);
+    }
+
+    /**
+     * Records a failure if the given condition isn't false.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return Whether the condition is false.
+     */
+    public boolean ensureFalse(boolean condition, String messageFormat, int messageArg) {
+        return ensureTrue(!condition, messageFormat, messageArg);
+    }
+
+    /**
+     * Records a failure if the given condition isn't false.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return Whether the condition is false.
+     */
+    public boolean ensureFalse(boolean condition, String messageFormat, long messageArg) {
+        return ensureTrue(!condition, messageFormat, messageArg);
+    }
+
+    /**
+     * Records a failure if the given condition isn't false.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return Whether the condition is false.
+     */
+    public boolean ensureFalse(boolean condition, String messageFormat, Object messageArg1, Object messageArg2) {
+        return ensureTrue(!condition, messageFormat, messageArg1, messageArg2);
+    }
+
+    /**
+     * Records a failure if the given condition isn't false.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return Whether the condition is false.
+     */
+    public boolean ensureFalse(boolean condition, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        return ensureTrue(!condition, messageFormat, messageArg1, messageArg2, messageArg3);
+    }
+
+    /**
+     * Records a failure if the given value is null.
+     */
+    public <T> T ensureNotNull(T value) {
+        return ensureNotNull(value, Messages.NOT_NULL);
+    }
+
+    /**
+     * Records a failure if the given value is null.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public <T> T ensureNotNull(T value, String messageFormat, Object... messageArgs) {
+        ensureTrue(value != null, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is null.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     */
+    public <T> T ensureNotNull(T value, String messageFormat) {
+        ensureTrue(value != null, messageFormat);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is null.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public <T> T ensureNotNull(T value, String messageFormat, Object messageArg) {
+        ensureTrue(value != null, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is null.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public <T> T ensureNotNull(T value, String messageFormat, int messageArg) {
+        ensureTrue(value != null, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is null.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public <T> T ensureNotNull(T value, String messageFormat, long messageArg) {
+        ensureTrue(value != null, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is null.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public <T> T ensureNotNull(T value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(value != null, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is null.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public <T> T ensureNotNull(T value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(value != null, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is not null.
+     */
+    public <T> void ensureNull(T value) {
+        ensureNull(value, Messages.NULL);
+    }
+
+    /**
+     * Records a failure if the given value is not null.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public <T> void ensureNull(T value, String messageFormat, Object... messageArgs) {
+        ensureTrue(value == null, messageFormat, messageArgs);
+    }
+
+    /**
+     * Records a failure if the given value is not null.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     */
+    public <T> void ensureNull(T value, String messageFormat) {
+        ensureTrue(value == null, messageFormat);
+    }
+
+    /**
+     * Records a failure if the given value is not null.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public <T> void ensureNull(T value, String messageFormat, Object messageArg) {
+        ensureTrue(value == null, messageFormat, messageArg);
+    }
+
+    /**
+     * Records a failure if the given value is not null.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public <T> void ensureNull(T value, String messageFormat, int messageArg) {
+        ensureTrue(value == null, messageFormat, messageArg);
+    }
+
+    /**
+     * Records a failure if the given value is not null.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public <T> void ensureNull(T value, String messageFormat, long messageArg) {
+        ensureTrue(value == null, messageFormat, messageArg);
+    }
+
+    /**
+     * Records a failure if the given value is not null.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public <T> void ensureNull(T value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(value == null, messageFormat, messageArg1, messageArg2);
+    }
+
+    /**
+     * Records a failure if the given value is not null.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public <T> void ensureNull(T value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(value == null, messageFormat, messageArg1, messageArg2, messageArg3);
+    }
+
+    /**
+     * Records a failure if the given value doesn't match expected. {@link Object#equals(Object)} will be used for
+     * comparing the two values.
+     */
+    public <T> T ensureEquals(T expected, T value) {
+        return ensureEquals(expected, value, Messages.EQUALS);
+    }
+
+    /**
+     * Records a failure if the given value doesn't match expected. {@link Object#equals(Object)} will be used for
+     * comparing the two values.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public <T> T ensureEquals(T expected, T value, String messageFormat, Object... messageArgs) {
+        ensureTrue(expected == null ? value == null : expected.equals(value), messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value doesn't match expected. {@link Object#equals(Object)} will be used for
+     * comparing the two values.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     */
+    public <T> T ensureEquals(T expected, T value, String messageFormat) {
+        ensureTrue(expected == null ? value == null : expected.equals(value), messageFormat);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value doesn't match expected. {@link Object#equals(Object)} will be used for
+     * comparing the two values.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public <T> T ensureEquals(T expected, T value, String messageFormat, Object messageArg) {
+        ensureTrue(expected == null ? value == null : expected.equals(value), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value doesn't match expected. {@link Object#equals(Object)} will be used for
+     * comparing the two values.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public <T> T ensureEquals(T expected, T value, String messageFormat, int messageArg) {
+        ensureTrue(expected == null ? value == null : expected.equals(value), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value doesn't match expected. {@link Object#equals(Object)} will be used for
+     * comparing the two values.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public <T> T ensureEquals(T expected, T value, String messageFormat, long messageArg) {
+        ensureTrue(expected == null ? value == null : expected.equals(value), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value doesn't match expected. {@link Object#equals(Object)} will be used for
+     * comparing the two values.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public <T> T ensureEquals(T expected, T value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(expected == null ? value == null : expected.equals(value), messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value doesn't match expected. {@link Object#equals(Object)} will be used for
+     * comparing the two values.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public <T> T ensureEquals(T expected, T value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(expected == null ? value == null : expected.equals(value), messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value does match expected. {@link Object#equals(Object)} will be used for
+     * comparing the two values.
+     */
+    public <T> T ensureNotEquals(T expected, T value) {
+        return ensureNotEquals(expected, value, Messages.NOT_EQUALS);
+    }
+
+    /**
+     * Records a failure if the given value does match expected. {@link Object#equals(Object)} will be used for
+     * comparing the two values.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public <T> T ensureNotEquals(T expected, T value, String messageFormat, Object... messageArgs) {
+        ensureFalse(expected == null ? value == null : expected.equals(value), messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value does match expected. {@link Object#equals(Object)} will be used for
+     * comparing the two values.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     */
+    public <T> T ensureNotEquals(T expected, T value, String messageFormat) {
+        ensureFalse(expected == null ? value == null : expected.equals(value), messageFormat);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value does match expected. {@link Object#equals(Object)} will be used for
+     * comparing the two values.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public <T> T ensureNotEquals(T expected, T value, String messageFormat, Object messageArg) {
+        ensureFalse(expected == null ? value == null : expected.equals(value), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value does match expected. {@link Object#equals(Object)} will be used for
+     * comparing the two values.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public <T> T ensureNotEquals(T expected, T value, String messageFormat, int messageArg) {
+        ensureFalse(expected == null ? value == null : expected.equals(value), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value does match expected. {@link Object#equals(Object)} will be used for
+     * comparing the two values.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public <T> T ensureNotEquals(T expected, T value, String messageFormat, long messageArg) {
+        ensureFalse(expected == null ? value == null : expected.equals(value), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value does match expected. {@link Object#equals(Object)} will be used for
+     * comparing the two values.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public <T> T ensureNotEquals(T expected, T value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureFalse(expected == null ? value == null : expected.equals(value), messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value does match expected. {@link Object#equals(Object)} will be used for
+     * comparing the two values.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public <T> T ensureNotEquals(T expected, T value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureFalse(expected == null ? value == null : expected.equals(value), messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is empty. The null value is also considered to be empty.
+     */
+    public String ensureNotEmpty(String value) {
+        return ensureNotEmpty(value, Messages.STRING_NOT_EMPTY);
+    }
+
+    /**
+     * Records a failure if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public String ensureNotEmpty(String value, String messageFormat, Object... messageArgs) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     */
+    public String ensureNotEmpty(String value, String messageFormat) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public String ensureNotEmpty(String value, String messageFormat, Object messageArg) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public String ensureNotEmpty(String value, String messageFormat, int messageArg) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public String ensureNotEmpty(String value, String messageFormat, long messageArg) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public String ensureNotEmpty(String value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public String ensureNotEmpty(String value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is empty. The null value is also considered to be empty.
+     */
+    public <C extends Collection<?>> C ensureNotEmpty(C value) {
+        return ensureNotEmpty(value, Messages.COLLECTION_NOT_EMPTY);
+    }
+
+    /**
+     * Records a failure if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public <C extends Collection<?>> C ensureNotEmpty(C value, String messageFormat, Object... messageArgs) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     */
+    public <C extends Collection<?>> C ensureNotEmpty(C value, String messageFormat) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public <C extends Collection<?>> C ensureNotEmpty(C value, String messageFormat, Object messageArg) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public <C extends Collection<?>> C ensureNotEmpty(C value, String messageFormat, int messageArg) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public <C extends Collection<?>> C ensureNotEmpty(C value, String messageFormat, long messageArg) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public <C extends Collection<?>> C ensureNotEmpty(C value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public <C extends Collection<?>> C ensureNotEmpty(C value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is empty. The null value is also considered to be empty.
+     */
+    public <M extends Map<?, ?>> M ensureNotEmpty(M value) {
+        return ensureNotEmpty(value, Messages.MAP_NOT_EMPTY);
+    }
+
+    /**
+     * Records a failure if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public <M extends Map<?, ?>> M ensureNotEmpty(M value, String messageFormat, Object... messageArgs) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     */
+    public <M extends Map<?, ?>> M ensureNotEmpty(M value, String messageFormat) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public <M extends Map<?, ?>> M ensureNotEmpty(M value, String messageFormat, Object messageArg) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public <M extends Map<?, ?>> M ensureNotEmpty(M value, String messageFormat, int messageArg) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public <M extends Map<?, ?>> M ensureNotEmpty(M value, String messageFormat, long messageArg) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public <M extends Map<?, ?>> M ensureNotEmpty(M value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public <M extends Map<?, ?>> M ensureNotEmpty(M value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(value != null && !value.isEmpty(), messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given array is empty. The null value is also considered to be empty.
+     */
+    public <V> V[] ensureNotEmpty(V[] value) {
+        return ensureNotEmpty(value, Messages.ARRAY_NOT_EMPTY);
+    }
+
+    /**
+     * Records a failure if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public <V> V[] ensureNotEmpty(V[] value, String messageFormat, Object... messageArgs) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     */
+    public <V> V[] ensureNotEmpty(V[] value, String messageFormat) {
+        ensureTrue(value != null && value.length > 0, messageFormat);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public <V> V[] ensureNotEmpty(V[] value, String messageFormat, Object messageArg) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public <V> V[] ensureNotEmpty(V[] value, String messageFormat, int messageArg) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public <V> V[] ensureNotEmpty(V[] value, String messageFormat, long messageArg) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public <V> V[] ensureNotEmpty(V[] value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given array is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public <V> V[] ensureNotEmpty(V[] value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(value != null && value.length > 0, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is not empty. The null value is also considered to be empty.
+     */
+    public String ensureEmpty(String value) {
+        return ensureEmpty(value, Messages.STRING_EMPTY);
+    }
+
+    /**
+     * Records a failure if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public String ensureEmpty(String value, String messageFormat, Object... messageArgs) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     */
+    public String ensureEmpty(String value, String messageFormat) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public String ensureEmpty(String value, String messageFormat, Object messageArg) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public String ensureEmpty(String value, String messageFormat, int messageArg) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public String ensureEmpty(String value, String messageFormat, long messageArg) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public String ensureEmpty(String value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public String ensureEmpty(String value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is not empty. The null value is also considered to be empty.
+     */
+    public <C extends Collection<?>> C ensureEmpty(C value) {
+        return ensureEmpty(value, Messages.COLLECTION_EMPTY);
+    }
+
+    /**
+     * Records a failure if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public <C extends Collection<?>> C ensureEmpty(C value, String messageFormat, Object... messageArgs) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     */
+    public <C extends Collection<?>> C ensureEmpty(C value, String messageFormat) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public <C extends Collection<?>> C ensureEmpty(C value, String messageFormat, Object messageArg) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public <C extends Collection<?>> C ensureEmpty(C value, String messageFormat, int messageArg) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public <C extends Collection<?>> C ensureEmpty(C value, String messageFormat, long messageArg) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public <C extends Collection<?>> C ensureEmpty(C value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public <C extends Collection<?>> C ensureEmpty(C value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is not empty. The null value is also considered to be empty.
+     */
+    public <M extends Map<?, ?>> M ensureEmpty(M value) {
+        return ensureEmpty(value, Messages.MAP_EMPTY);
+    }
+
+    /**
+     * Records a failure if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public <M extends Map<?, ?>> M ensureEmpty(M value, String messageFormat, Object... messageArgs) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     */
+    public <M extends Map<?, ?>> M ensureEmpty(M value, String messageFormat) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public <M extends Map<?, ?>> M ensureEmpty(M value, String messageFormat, Object messageArg) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public <M extends Map<?, ?>> M ensureEmpty(M value, String messageFormat, int messageArg) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public <M extends Map<?, ?>> M ensureEmpty(M value, String messageFormat, long messageArg) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public <M extends Map<?, ?>> M ensureEmpty(M value, String messageFormat, Object messageArg1, Object messageArg2) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is not empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public <M extends Map<?, ?>> M ensureEmpty(M value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        ensureTrue(value == null || value.isEmpty(), messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Records a failure if the given value is not an instance of the specified class.
+     *
+     * @return The given value, or null if it isn't an instance of the class.
+     */
+    public <V> V ensureInstanceOf(Class<V> clazz, Object value) {
+        Ensure.requireNotNull(clazz, "clazz must not be null");
+        EnsureStats.recordCheck();
+        if (clazz.isInstance(value)) {
+            return clazz.cast(value);
+        }
+        fail(Messages.INSTANCE_OF, clazz, value == null ? null : value.getClass());
+        return null;
+    }
+
+    /**
+     * Records a failure if the given value is not an instance of the specified class.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The given value, or null if it isn't an instance of the class.
+     */
+    public <V> V ensureInstanceOf(Class<V> clazz, Object value, String messageFormat, Object... messageArgs) {
+        Ensure.requireNotNull(clazz, "clazz must not be null");
+        return ensureTrue(clazz.isInstance(value), messageFormat, messageArgs) ? clazz.cast(value) : null;
+    }
+
+    /**
+     * Records a failure if the given value is not an instance of the specified class.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @return The given value, or null if it isn't an instance of the class.
+     */
+    public <V> V ensureInstanceOf(Class<V> clazz, Object value, String messageFormat) {
+        Ensure.requireNotNull(clazz, "clazz must not be null");
+        return ensureTrue(clazz.isInstance(value), messageFormat) ? clazz.cast(value) : null;
+    }
+
+    /**
+     * Records a failure if the given value is not an instance of the specified class.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The given value, or null if it isn't an instance of the class.
+     */
+    public <V> V ensureInstanceOf(Class<V> clazz, Object value, String messageFormat, Object messageArg) {
+        Ensure.requireNotNull(clazz, "clazz must not be null");
+        return ensureTrue(clazz.isInstance(value), messageFormat, messageArg) ? clazz.cast(value) : null;
+    }
+
+    /**
+     * Records a failure if the given value is not an instance of the specified class.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The given value, or null if it isn't an instance of the class.
+     */
+    public <V> V ensureInstanceOf(Class<V> clazz, Object value, String messageFormat, int messageArg) {
+        Ensure.requireNotNull(clazz, "clazz must not be null");
+        return ensureTrue(clazz.isInstance(value), messageFormat, messageArg) ? clazz.cast(value) : null;
+    }
+
+    /**
+     * Records a failure if the given value is not an instance of the specified class.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The given value, or null if it isn't an instance of the class.
+     */
+    public <V> V ensureInstanceOf(Class<V> clazz, Object value, String messageFormat, long messageArg) {
+        Ensure.requireNotNull(clazz, "clazz must not be null");
+        return ensureTrue(clazz.isInstance(value), messageFormat, messageArg) ? clazz.cast(value) : null;
+    }
+
+    /**
+     * Records a failure if the given value is not an instance of the specified class.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The given value, or null if it isn't an instance of the class.
+     */
+    public <V> V ensureInstanceOf(Class<V> clazz, Object value, String messageFormat, Object messageArg1, Object messageArg2) {
+        Ensure.requireNotNull(clazz, "clazz must not be null");
+        return ensureTrue(clazz.isInstance(value), messageFormat, messageArg1, messageArg2) ? clazz.cast(value) : null;
+    }
+
+    /**
+     * Records a failure if the given value is not an instance of the specified class.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The given value, or null if it isn't an instance of the class.
+     */
+    public <V> V ensureInstanceOf(Class<V> clazz, Object value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        Ensure.requireNotNull(clazz, "clazz must not be null");
+        return ensureTrue(clazz.isInstance(value), messageFormat, messageArg1, messageArg2, messageArg3) ? clazz.cast(value) : null;
+    }
+
+    /**
+     * Records a failure if the given Optional has no value.
+     *
+     * @return The value of the Optional, or null if it has no value.
+     */
+    public <T> T ensureOptional(Optional<T> value) {
+        return ensureOptional(value, Messages.OPTIONAL_PRESENT);
+    }
+
+    /**
+     * Records a failure if the given Optional has no value.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return The value of the Optional, or null if it has no value.
+     */
+    public <T> T ensureOptional(Optional<T> value, String messageFormat, Object... messageArgs) {
+        return ensureTrue(value.isPresent(), messageFormat, messageArgs) ? value.get() : null;
+    }
+
+    /**
+     * Records a failure if the given Optional has no value.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @return The value of the Optional, or null if it has no value.
+     */
+    public <T> T ensureOptional(Optional<T> value, String messageFormat) {
+        return ensureTrue(value.isPresent(), messageFormat) ? value.get() : null;
+    }
+
+    /**
+     * Records a failure if the given Optional has no value.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The value of the Optional, or null if it has no value.
+     */
+    public <T> T ensureOptional(Optional<T> value, String messageFormat, Object messageArg) {
+        return ensureTrue(value.isPresent(), messageFormat, messageArg) ? value.get() : null;
+    }
+
+    /**
+     * Records a failure if the given Optional has no value.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The value of the Optional, or null if it has no value.
+     */
+    public <T> T ensureOptional(Optional<T> value, String messageFormat, int messageArg) {
+        return ensureTrue(value.isPresent(), messageFormat, messageArg) ? value.get() : null;
+    }
+
+    /**
+     * Records a failure if the given Optional has no value.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return The value of the Optional, or null if it has no value.
+     */
+    public <T> T ensureOptional(Optional<T> value, String messageFormat, long messageArg) {
+        return ensureTrue(value.isPresent(), messageFormat, messageArg) ? value.get() : null;
+    }
+
+    /**
+     * Records a failure if the given Optional has no value.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return The value of the Optional, or null if it has no value.
+     */
+    public <T> T ensureOptional(Optional<T> value, String messageFormat, Object messageArg1, Object messageArg2) {
+        return ensureTrue(value.isPresent(), messageFormat, messageArg1, messageArg2) ? value.get() : null;
+    }
+
+    /**
+     * Records a failure if the given Optional has no value.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return The value of the Optional, or null if it has no value.
+     */
+    public <T> T ensureOptional(Optional<T> value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        return ensureTrue(value.isPresent(), messageFormat, messageArg1, messageArg2, messageArg3) ? value.get() : null;
+    }
+
+    /**
+     * Records a failure with the given message. The arguments are copied, but the objects they reference are only
+     * formatted when the report is rendered.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public void fail(String messageFormat, Object... messageArgs) {
+        record(messageFormat, messageArgs == null || messageArgs.length == 0 ? NO_ARGS : messageArgs.clone());
+    }
+
+    /**
+     * Records a failure with the given message.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     */
+    public void fail(String messageFormat) {
+        record(messageFormat, NO_ARGS);
+    }
+
+    /**
+     * Records a failure with the given message.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public void fail(String messageFormat, Object messageArg) {
+        record(messageFormat, new Object[]{messageArg});
+    }
+
+    /**
+     * Records a failure with the given message.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public void fail(String messageFormat, int messageArg) {
+        record(messageFormat, new Object[]{messageArg});
+    }
+
+    /**
+     * Records a failure with the given message.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public void fail(String messageFormat, long messageArg) {
+        record(messageFormat, new Object[]{messageArg});
+    }
+
+    /**
+     * Records a failure with the given message.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public void fail(String messageFormat, Object messageArg1, Object messageArg2) {
+        record(messageFormat, new Object[]{messageArg1, messageArg2});
+    }
+
+    /**
+     * Records a failure with the given message.
+     *
+     * @param messageFormat Format for the message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public void fail(String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        record(messageFormat, new Object[]{messageArg1, messageArg2, messageArg3});
+    }
+
+    private void record(String messageFormat, Object[] messageArgs) {
+        EnsureStats.recordFailure(messageFormat);
+        failureCount++;
+        if (recordedFailures == maxRecordedFailures) {
+            return;
+        }
+        if (recordedFailures == recordedFormats.length) {
+            int capacity = Math.min(maxRecordedFailures, recordedFormats.length * 2);
+            recordedFormats = Arrays.copyOf(recordedFormats, capacity);
+            recordedArgs = Arrays.copyOf(recordedArgs, capacity);
+        }
+        recordedFormats[recordedFailures] = messageFormat;
+        recordedArgs[recordedFailures++] = messageArgs;
+    }
+
+    /**
+     * Returns whether any check of this batch has failed.
+     */
+    public boolean hasFailures() {
+        return failureCount > 0;
+    }
+
+    /**
+     * Returns the number of failed checks, including those which haven't been recorded because the maximum number of
+     * recorded failures has been reached.
+     */
+    public int getFailureCount() {
+        return failureCount;
+    }
+
+    /**
+     * Throws an {@link EnsureBatchFailedException} with all recorded failures, if any check of this batch has failed.
+     */
+    public void throwIfFailed() {
+        if (failureCount > 0) {
+            throw new EnsureBatchFailedException(Arrays.copyOf(recordedFormats, recordedFailures),
+                    Arrays.copyOf(recordedArgs, recordedFailures), failureCount);
+        }
+    }
+
+    /**
+     * Same as {@link #throwIfFailed()}, for using the batch in a try-with-resources block.
+     */
+    @Override
+    public void close() {
+        throwIfFailed();
+    }
+}
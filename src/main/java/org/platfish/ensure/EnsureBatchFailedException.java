@@ -0,0 +1,107 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IllegalFormatException;
+import java.util.List;
+
+/**
+ * <p>Thrown by {@link EnsureBatch} for all checks of a batch which have failed. The message
+ * lists the messages of the single failures, it is only formatted once if it is requested. A
+ * failure whose format doesn't match its arguments is reported by its unformatted format.</p>
+ */
+public class EnsureBatchFailedException extends EnsureFailedException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String[] messageFormats;
+    private final transient Object[][] messageArgs;
+    private final int failureCount;
+    private volatile List<String> messages;
+    private transient volatile String message;
+
+    EnsureBatchFailedException(String[] messageFormats, Object[][] messageArgs, int failureCount) {
+        super(null);
+        this.messageFormats = messageFormats;
+        this.messageArgs = messageArgs;
+        this.failureCount = failureCount;
+    }
+
+    /**
+     * Returns the number of failed checks, including those which haven't been recorded because the maximum number of
+     * recorded failures has been reached.
+     */
+    public int getFailureCount() {
+        return failureCount;
+    }
+
+    /**
+     * Returns the messages of the recorded failures.
+     */
+    public List<String> getFailureMessages() {
+        List<String> result = messages;
+        if (result == null) {
+            result = new ArrayList<>(messageFormats.length);
+            for (int i = 0; i < messageFormats.length; i++) {
+                result.add(format(messageFormats[i], messageArgs[i]));
+            }
+            result = Collections.unmodifiableList(result);
+            messages = result;
+        }
+        return result;
+    }
+
+    private static String format(String messageFormat, Object[] messageArgs) {
+        try {
+            return MessageTemplate.format(messageFormat, messageArgs);
+        } catch (IllegalFormatException e) {
+            // reporting the failures must not fail itself
+            return messageFormat;
+        }
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        // the arguments don't need to be serializable, so the messages are serialized instead
+        getFailureMessages();
+        out.defaultWriteObject();
+    }
+
+    @Override
+    public String getMessage() {
+        String result = message;
+        if (result == null) {
+            result = formatMessage();
+            message = result;
+        }
+        return result;
+    }
+
+    private String formatMessage() {
+        StringBuilder builder = new StringBuilder();
+        builder.append(failureCount).append(failureCount == 1 ? " check failed" : " checks failed");
+        for (String failure : getFailureMessages()) {
+            builder.append(System.lineSeparator()).append("  - ").append(failure);
+        }
+        if (failureCount > messageFormats.length) {
+            builder.append(System.lineSeparator()).append("  ... ").append(failureCount - messageFormats.length).append(" more");
+        }
+        return builder.toString();
+    }
+}
@@ -17,6 +17,8 @@ package org.platfish.ensure;
 
 /**
  * <p>Unchecked exception indicating that an assumption has been violated.</p>
+ * <p>How much of the stack trace gets recorded by the ensure methods is determined by the
+ * {@link StackTraceMode}.</p>
  */
 public class EnsureFailedException extends RuntimeException{
 
@@ -26,4 +28,52 @@ public class EnsureFailedException extends RuntimeException{
     public EnsureFailedException(String message) {
         super(message);
     }
+
+    /**
+     * Creates a new instance with the given message. Suppressed exceptions aren't recorded.
+     *
+     * @param writableStackTrace Whether the stack trace should be captured and be writable.
+     */
+    protected EnsureFailedException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
+
+    /**
+     * Creates a new instance according to the default {@link StackTraceMode}.
+     */
+    static EnsureFailedException create(String message) {
+        return create(message, StackTraceMode.DEFAULT);
+    }
+
+    /**
+     * Creates a new instance according to the given {@link StackTraceMode}.
+     */
+    static EnsureFailedException create(String message, StackTraceMode stackTraceMode) {
+        switch (stackTraceMode) {
+            case NONE:
+                return new EnsureFailedException(message, false);
+            case CALLER:
+                return new CallerFrameOnly(message);
+            default:
+                return new EnsureFailedException(message);
+        }
+    }
+
+    /**
+     * Only records the frame of the caller, without capturing the complete stack trace first.
+     */
+    private static final class CallerFrameOnly extends EnsureFailedException {
+
+        private static final long serialVersionUID = 1L;
+
+        CallerFrameOnly(String message) {
+            super(message, true);
+            setStackTrace(CallerFrames.caller());
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>Marks a numeric field or parameter which must be between min and max (both inclusive). Null values of boxed
+ * types are not checked, they can be rejected by {@link EnsureNotNull}.</p>
+ * <p>The checks of the annotations {@link EnsureNotNull}, {@link EnsureNotEmpty} and {@code EnsureRange} are
+ * generated at compile time by the annotation processor of the {@code ensure-processor} module. For a type
+ * {@code Person} it generates the class {@code PersonValidator} in the same package, which calls {@link Ensure}
+ * directly without any reflection:</p>
+ * <ul>
+ * <li>{@code PersonValidator.validate(person)} checks the annotated fields of a person. Private fields are read by
+ * their accessor {@code getName()}, {@code isName()} or {@code name()}.</li>
+ * <li>{@code PersonValidator.validateSetAge(age)} checks the annotated parameters of the method {@code setAge}, it
+ * takes the same parameters as the method. The constructor parameters are checked by
+ * {@code PersonValidator.validatePerson(...)}.</li>
+ * </ul>
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target({ElementType.FIELD, ElementType.PARAMETER})
+public @interface EnsureRange {
+
+    /**
+     * Minimum value (inclusive).
+     */
+    long min() default Long.MIN_VALUE;
+
+    /**
+     * Maximum value (inclusive).
+     */
+    long max() default Long.MAX_VALUE;
+}
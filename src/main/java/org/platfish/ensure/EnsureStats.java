@@ -0,0 +1,171 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Counts the evaluated and failed checks. Failures are counted per call site, which is identified
+ * by the message format or by the frame of the calling code. Evaluated checks are only counted in total, as
+ * identifying the site of each passing check would cost more than the check itself.</p>
+ * <p>The checks of {@link Ensure}, the fluent checks, {@link Check}, {@link EnsureBatch} and {@link PathCache}
+ * are counted once each, the null and argument preconditions of a check aren't counted separately. Violations
+ * returned by {@link Check} are only counted as failures if they are thrown.</p>
+ * <p>The statistics are disabled by default and enabled with the system property {@value #SYSTEM_PROPERTY},
+ * set to {@code format} or {@code caller}. The property is read once, if it is disabled the counting is
+ * removed by the JIT compiler. If it is enabled each check costs a single increment of an uncontended
+ * {@link LongAdder}. The statistics are published as platform MBean {@value #OBJECT_NAME}.</p>
+ */
+public final class EnsureStats implements EnsureStatsMBean {
+
+    /**
+     * Name of the system property enabling the statistics.
+     */
+    public static final String SYSTEM_PROPERTY = Settings.PREFIX + "stats";
+
+    /**
+     * Object name of the registered MBean.
+     */
+    public static final String OBJECT_NAME = "org.platfish.ensure:type=EnsureStats";
+
+    /**
+     * Maximum number of distinct call sites, further failing sites are counted as {@link #OTHER_SITES}.
+     */
+    static final int MAX_SITES = 10000;
+
+    static final String OTHER_SITES = "<other sites>";
+
+    /**
+     * Identification of the call sites.
+     */
+    enum Mode {
+        OFF, FORMAT, CALLER
+    }
+
+    private static final Mode MODE = Settings.enumProperty(SYSTEM_PROPERTY, Mode.class, Mode.OFF);
+
+    static final boolean ENABLED = MODE != Mode.OFF;
+
+    private static final EnsureStats INSTANCE = ENABLED ? register(new EnsureStats()) : null;
+
+    private final LongAdder checks = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final ConcurrentMap<String, LongAdder> failingSites = new ConcurrentHashMap<>();
+
+    EnsureStats() {
+    }
+
+    /**
+     * Returns the statistics, or null if they aren't enabled.
+     */
+    public static EnsureStats getInstance() {
+        return INSTANCE;
+    }
+
+    private static EnsureStats register(EnsureStats stats) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(stats, new ObjectName(OBJECT_NAME));
+        } catch (JMException e) {
+            // e.g. already registered by another class loader, the statistics are still available by getInstance()
+        }
+        return stats;
+    }
+
+    /**
+     * Counts an evaluated check, if the statistics are enabled.
+     */
+    static void recordCheck() {
+        if (ENABLED) {
+            INSTANCE.checks.increment();
+        }
+    }
+
+    /**
+     * Counts a failed check, if the statistics are enabled.
+     *
+     * @param messageFormat The message format identifying the call site, null if the site has to be identified by
+     *                      the calling frame.
+     */
+    static void recordFailure(String messageFormat) {
+        if (ENABLED) {
+            INSTANCE.failed(MODE == Mode.FORMAT && messageFormat != null ? messageFormat : callerSite());
+        }
+    }
+
+    private static String callerSite() {
+        StackTraceElement[] caller = CallerFrames.caller();
+        return caller.length > 0 ? caller[0].toString() : OTHER_SITES;
+    }
+
+    void failed(String site) {
+        failures.increment();
+        LongAdder counter = failingSites.get(site);
+        if (counter == null) {
+            String key = failingSites.size() < MAX_SITES ? site : OTHER_SITES;
+            counter = failingSites.computeIfAbsent(key, k -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    void checked() {
+        checks.increment();
+    }
+
+    @Override
+    public long getChecks() {
+        return checks.sum();
+    }
+
+    @Override
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    @Override
+    public int getFailingSites() {
+        return failingSites.size();
+    }
+
+    @Override
+    public String[] topFailingSites(int count) {
+        List<Map.Entry<String, Long>> sites = new ArrayList<>();
+        for (Map.Entry<String, LongAdder> entry : failingSites.entrySet()) {
+            sites.add(new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), entry.getValue().sum()));
+        }
+        sites.sort((a, b) -> Long.compare(b.getValue(), a.getValue()));
+        String[] top = new String[Math.max(0, Math.min(count, sites.size()))];
+        for (int i = 0; i < top.length; i++) {
+            top[i] = sites.get(i).getValue() + " " + sites.get(i).getKey();
+        }
+        return top;
+    }
+
+    @Override
+    public void reset() {
+        checks.reset();
+        failures.reset();
+        failingSites.clear();
+    }
+}
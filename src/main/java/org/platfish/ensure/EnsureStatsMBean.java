@@ -0,0 +1,49 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+/**
+ * <p>Management interface of {@link EnsureStats}, registered as {@value EnsureStats#OBJECT_NAME}.</p>
+ */
+public interface EnsureStatsMBean {
+
+    /**
+     * Returns the number of evaluated checks of all call sites.
+     */
+    long getChecks();
+
+    /**
+     * Returns the number of failed checks.
+     */
+    long getFailures();
+
+    /**
+     * Returns the number of distinct call sites with failed checks.
+     */
+    int getFailingSites();
+
+    /**
+     * Returns the call sites with the most failures, formatted as {@code "<count> <site>"}.
+     *
+     * @param count The maximum number of sites to return.
+     */
+    String[] topFailingSites(int count);
+
+    /**
+     * Resets all counters.
+     */
+    void reset();
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+/**
+ * <p>Overflow-safe index and sub-range conditions, with the semantics of {@code java.util.Objects.checkIndex},
+ * {@code checkFromToIndex} and {@code checkFromIndexSize}.</p>
+ * <p>The conditions are plain comparisons and never allocate. {@code Objects.checkIndex} isn't used, as a false
+ * result would create an {@link IndexOutOfBoundsException} with its stack trace before the check fails.</p>
+ */
+final class Indexes {
+
+    private Indexes() {
+    }
+
+    static boolean isIndex(int index, int length) {
+        return index >= 0 && index < length;
+    }
+
+    static boolean isFromToIndex(int fromIndex, int toIndex, int length) {
+        return fromIndex >= 0 && fromIndex <= toIndex && toIndex <= length;
+    }
+
+    static boolean isFromIndexSize(int fromIndex, int size, int length) {
+        // all values are non-negative, so length - fromIndex can't overflow
+        return (length | fromIndex | size) >= 0 && size <= length - fromIndex;
+    }
+
+    static boolean isIndex(long index, long length) {
+        return index >= 0 && index < length;
+    }
+
+    static boolean isFromToIndex(long fromIndex, long toIndex, long length) {
+        return fromIndex >= 0 && fromIndex <= toIndex && toIndex <= length;
+    }
+
+    static boolean isFromIndexSize(long fromIndex, long size, long length) {
+        return (length | fromIndex | size) >= 0 && size <= length - fromIndex;
+    }
+}
@@ -0,0 +1,440 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <p>Wraps streams, iterators and spliterators to check their elements while they are consumed.</p>
+ * <p>Nothing is buffered and the spliterators report the characteristics of their source, so parallel streams
+ * are split like the unchecked ones. Elements which are never consumed are never checked. The failure
+ * callbacks are expected to throw.</p>
+ */
+final class LazyChecks {
+
+    private LazyChecks() {
+    }
+
+    static <V> Stream<V> each(Stream<V> stream, Predicate<? super V> condition, Consumer<? super V> failure) {
+        return stream.peek(element -> {
+            if (!condition.test(element)) {
+                failure.accept(element);
+            }
+        });
+    }
+
+    static <V> Iterator<V> each(Iterator<V> iterator, Predicate<? super V> condition, Consumer<? super V> failure) {
+        return new EachIterator<>(iterator, condition, failure);
+    }
+
+    static <V> Spliterator<V> each(Spliterator<V> spliterator, Predicate<? super V> condition, Consumer<? super V> failure) {
+        return new EachSpliterator<>(spliterator, condition, failure);
+    }
+
+    static <V> Stream<V> notEmpty(Stream<V> stream, Runnable failure) {
+        return wrap(stream, notEmpty(stream.spliterator(), failure));
+    }
+
+    static <V> Spliterator<V> notEmpty(Spliterator<V> spliterator, Runnable failure) {
+        // sized streams may not be traversed at all, e.g. by count()
+        if (spliterator.getExactSizeIfKnown() == 0) {
+            failure.run();
+        }
+        return new NotEmptySpliterator<>(spliterator, failure, new AtomicInteger(1));
+    }
+
+    static <V> Stream<V> sorted(Stream<V> stream, Comparator<? super V> comparator, BiConsumer<? super V, ? super V> failure) {
+        return wrap(stream, sorted(stream.spliterator(), comparator, failure));
+    }
+
+    static <V> Iterator<V> sorted(Iterator<V> iterator, Comparator<? super V> comparator, BiConsumer<? super V, ? super V> failure) {
+        return new SortedIterator<>(iterator, comparator, failure);
+    }
+
+    static <V> Spliterator<V> sorted(Spliterator<V> spliterator, Comparator<? super V> comparator, BiConsumer<? super V, ? super V> failure) {
+        return new SortedSpliterator<>(spliterator, new Order<>(comparator, failure), null, null);
+    }
+
+    private static <V> Stream<V> wrap(Stream<V> stream, Spliterator<V> spliterator) {
+        return StreamSupport.stream(spliterator, stream.isParallel()).onClose(stream::close);
+    }
+
+    /**
+     * Base class of the spliterators, forwarding the checked elements to the current action of the consumer.
+     */
+    private abstract static class CheckingSpliterator<V> implements Spliterator<V>, Consumer<V> {
+
+        final Spliterator<V> source;
+
+        private Consumer<? super V> action;
+
+        CheckingSpliterator(Spliterator<V> source) {
+            this.source = source;
+        }
+
+        /**
+         * Checks the next element, before it is passed to the consumer.
+         */
+        abstract void check(V element);
+
+        /**
+         * Called once the source is exhausted.
+         */
+        void finish() {
+        }
+
+        @Override
+        public void accept(V element) {
+            check(element);
+            action.accept(element);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super V> action) {
+            this.action = action;
+            try {
+                if (source.tryAdvance(this)) {
+                    return true;
+                }
+            } finally {
+                this.action = null;
+            }
+            finish();
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super V> action) {
+            this.action = action;
+            try {
+                source.forEachRemaining(this);
+            } finally {
+                this.action = null;
+            }
+            finish();
+        }
+
+        @Override
+        public long estimateSize() {
+            return source.estimateSize();
+        }
+
+        @Override
+        public long getExactSizeIfKnown() {
+            return source.getExactSizeIfKnown();
+        }
+
+        @Override
+        public int characteristics() {
+            return source.characteristics();
+        }
+
+        @Override
+        public Comparator<? super V> getComparator() {
+            return source.getComparator();
+        }
+    }
+
+    private static final class EachSpliterator<V> extends CheckingSpliterator<V> {
+
+        private final Predicate<? super V> condition;
+        private final Consumer<? super V> failure;
+
+        EachSpliterator(Spliterator<V> source, Predicate<? super V> condition, Consumer<? super V> failure) {
+            super(source);
+            this.condition = condition;
+            this.failure = failure;
+        }
+
+        @Override
+        void check(V element) {
+            if (!condition.test(element)) {
+                failure.accept(element);
+            }
+        }
+
+        @Override
+        public Spliterator<V> trySplit() {
+            Spliterator<V> prefix = source.trySplit();
+            return prefix == null ? null : new EachSpliterator<>(prefix, condition, failure);
+        }
+    }
+
+    /**
+     * Fails once all parts of the split source are exhausted without a single element. The parts share the
+     * number of unfinished parts.
+     */
+    private static final class NotEmptySpliterator<V> extends CheckingSpliterator<V> {
+
+        private final Runnable failure;
+        private final AtomicInteger unfinished;
+        private boolean empty = true;
+        private boolean finished;
+
+        NotEmptySpliterator(Spliterator<V> source, Runnable failure, AtomicInteger unfinished) {
+            super(source);
+            this.failure = failure;
+            this.unfinished = unfinished;
+        }
+
+        @Override
+        void check(V element) {
+            if (empty) {
+                empty = false;
+                // no other part has to be checked any more
+                unfinished.set(Integer.MIN_VALUE);
+            }
+        }
+
+        @Override
+        void finish() {
+            if (!finished) {
+                finished = true;
+                if (empty && unfinished.decrementAndGet() == 0) {
+                    failure.run();
+                }
+            }
+        }
+
+        @Override
+        public Spliterator<V> trySplit() {
+            Spliterator<V> prefix = source.trySplit();
+            if (prefix == null) {
+                return null;
+            }
+            unfinished.incrementAndGet();
+            return new NotEmptySpliterator<>(prefix, failure, unfinished);
+        }
+    }
+
+    /**
+     * The comparator of a sorted check and the failure callback for elements out of order.
+     */
+    private static final class Order<V> {
+
+        final Comparator<? super V> comparator;
+        final BiConsumer<? super V, ? super V> failure;
+
+        Order(Comparator<? super V> comparator, BiConsumer<? super V, ? super V> failure) {
+            this.comparator = comparator;
+            this.failure = failure;
+        }
+
+        void check(V previous, V next) {
+            if (comparator.compare(previous, next) > 0) {
+                failure.accept(previous, next);
+            }
+        }
+    }
+
+    /**
+     * <p>Position between two parts of a split source, which are possibly consumed by different threads.</p>
+     * <p>The last element of the preceding part and the first element of the following part are compared as
+     * soon as both are known. If the following part turns out to be empty, the boundary is linked to the
+     * boundary at its end, which then receives the last element instead.</p>
+     */
+    private static final class Boundary<V> {
+
+        private final Order<V> order;
+        private boolean hasLast;
+        private V last;
+        private boolean hasFirst;
+        private V first;
+        private Boundary<V> next;
+
+        Boundary(Order<V> order) {
+            this.order = order;
+        }
+
+        void last(V element) {
+            Boundary<V> target;
+            synchronized (this) {
+                target = next;
+                if (target == null) {
+                    hasLast = true;
+                    last = element;
+                    if (!hasFirst) {
+                        return;
+                    }
+                }
+            }
+            if (target != null) {
+                target.last(element);
+            } else {
+                order.check(element, first);
+            }
+        }
+
+        void first(V element) {
+            synchronized (this) {
+                hasFirst = true;
+                first = element;
+                if (!hasLast) {
+                    return;
+                }
+            }
+            order.check(last, element);
+        }
+
+        void link(Boundary<V> end) {
+            V element;
+            synchronized (this) {
+                next = end;
+                if (!hasLast) {
+                    return;
+                }
+                element = last;
+            }
+            end.last(element);
+        }
+    }
+
+    private static final class SortedSpliterator<V> extends CheckingSpliterator<V> {
+
+        private final Order<V> order;
+        private Boundary<V> start;
+        private final Boundary<V> end;
+        private boolean started;
+        private V previous;
+
+        SortedSpliterator(Spliterator<V> source, Order<V> order, Boundary<V> start, Boundary<V> end) {
+            super(source);
+            this.order = order;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        void check(V element) {
+            if (started) {
+                order.check(previous, element);
+            } else {
+                started = true;
+                if (start != null) {
+                    start.first(element);
+                }
+            }
+            previous = element;
+        }
+
+        @Override
+        void finish() {
+            if (end != null) {
+                if (started) {
+                    end.last(previous);
+                } else if (start != null) {
+                    start.link(end);
+                }
+            }
+            // a repeated finish must not publish again
+            started = false;
+            start = null;
+            previous = null;
+        }
+
+        @Override
+        public Spliterator<V> trySplit() {
+            Spliterator<V> split = source.trySplit();
+            if (split == null) {
+                return null;
+            }
+            Boundary<V> prefixStart = start;
+            if (started) {
+                prefixStart = new Boundary<>(order);
+                prefixStart.last(previous);
+            }
+            Boundary<V> middle = new Boundary<>(order);
+            start = middle;
+            started = false;
+            previous = null;
+            return new SortedSpliterator<>(split, order, prefixStart, middle);
+        }
+    }
+
+    private static final class EachIterator<V> implements Iterator<V> {
+
+        private final Iterator<V> source;
+        private final Predicate<? super V> condition;
+        private final Consumer<? super V> failure;
+
+        EachIterator(Iterator<V> source, Predicate<? super V> condition, Consumer<? super V> failure) {
+            this.source = source;
+            this.condition = condition;
+            this.failure = failure;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return source.hasNext();
+        }
+
+        @Override
+        public V next() {
+            V element = source.next();
+            if (!condition.test(element)) {
+                failure.accept(element);
+            }
+            return element;
+        }
+
+        @Override
+        public void remove() {
+            source.remove();
+        }
+    }
+
+    private static final class SortedIterator<V> implements Iterator<V> {
+
+        private final Iterator<V> source;
+        private final Order<V> order;
+        private boolean started;
+        private V previous;
+
+        SortedIterator(Iterator<V> source, Comparator<? super V> comparator, BiConsumer<? super V, ? super V> failure) {
+            this.source = source;
+            this.order = new Order<>(comparator, failure);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return source.hasNext();
+        }
+
+        @Override
+        public V next() {
+            V element = source.next();
+            if (started) {
+                order.check(previous, element);
+            }
+            started = true;
+            previous = element;
+            return element;
+        }
+
+        @Override
+        public void remove() {
+            source.remove();
+        }
+    }
+}
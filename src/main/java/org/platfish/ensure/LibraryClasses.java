@@ -0,0 +1,72 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * <p>The classes of the ensure library, which are skipped when looking for the caller of a check.</p>
+ * <p>Classes are listed explicitly instead of matching the package, so classes of applications and tests in the
+ * same package are still treated as callers. Nested classes belong to their top-level class.</p>
+ */
+final class LibraryClasses {
+
+    private static final Set<String> NAMES = new HashSet<>(Arrays.asList(
+            "org.platfish.ensure.Buffers",
+            "org.platfish.ensure.BulkChecks",
+            "org.platfish.ensure.CallerFrames",
+            "org.platfish.ensure.Check",
+            "org.platfish.ensure.CollectionCheck",
+            "org.platfish.ensure.Duplicates",
+            "org.platfish.ensure.Ensure",
+            "org.platfish.ensure.EnsureBatch",
+            "org.platfish.ensure.EnsureBatchFailedException",
+            "org.platfish.ensure.EnsureFailedException",
+            "org.platfish.ensure.EnsureStats",
+            "org.platfish.ensure.Indexes",
+            "org.platfish.ensure.IntCheck",
+            "org.platfish.ensure.LazyChecks",
+            "org.platfish.ensure.LibraryClasses",
+            "org.platfish.ensure.LongCheck",
+            "org.platfish.ensure.MapCheck",
+            "org.platfish.ensure.MessageTemplate",
+            "org.platfish.ensure.Messages",
+            "org.platfish.ensure.ObjectCheck",
+            "org.platfish.ensure.PathCache",
+            "org.platfish.ensure.PathCheck",
+            "org.platfish.ensure.Sampler",
+            "org.platfish.ensure.Settings",
+            "org.platfish.ensure.StringCheck",
+            "org.platfish.ensure.TypeSet",
+            "org.platfish.ensure.Violation",
+            "org.platfish.ensure.agent.AgentSupport",
+            "org.platfish.ensure.agent.EnsureAgentStats",
+            "org.platfish.ensure.flow.CheckingProcessor",
+            "org.platfish.ensure.flow.EnsureFlow"));
+
+    private LibraryClasses() {
+    }
+
+    /**
+     * Returns whether the class or its enclosing top-level class belongs to the ensure library.
+     */
+    static boolean contains(String className) {
+        int nested = className.indexOf('$');
+        return NAMES.contains(nested < 0 ? className : className.substring(0, nested));
+    }
+}
@@ -0,0 +1,805 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+import java.util.function.Supplier;
+
+/**
+ * <p>Fluent checks of a {@code long} value, obtained by {@link Ensure#that(long)}. The conditions are checked
+ * immediately and can be chained, e.g. {@code Ensure.that(count).notNegative().atMost(max).get()}.</p>
+ * <p>The class is final and stateless apart from the checked value, so the JIT can scalar replace the
+ * instances of a chain and it doesn't allocate.</p>
+ */
+public final class LongCheck {
+
+    private final long value;
+
+    LongCheck(long value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns the checked value.
+     */
+    public long get() {
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is not greater than zero.
+     */
+    public LongCheck positive() {
+        EnsureStats.recordCheck();
+        if (value <= 0) {
+            Ensure.fail("Given value must be positive but was %s", value);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is not greater than zero.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public LongCheck positive(String messageFormat, Object... messageArgs) {
+        EnsureStats.recordCheck();
+        if (value <= 0) {
+            Ensure.fail(messageFormat, messageArgs);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is not greater than zero.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public LongCheck positive(String messageFormat) {
+        EnsureStats.recordCheck();
+        if (value <= 0) {
+            Ensure.fail(messageFormat);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is not greater than zero.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public LongCheck positive(String messageFormat, Object messageArg) {
+        EnsureStats.recordCheck();
+        if (value <= 0) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is not greater than zero.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public LongCheck positive(String messageFormat, int messageArg) {
+        EnsureStats.recordCheck();
+        if (value <= 0) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is not greater than zero.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public LongCheck positive(String messageFormat, long messageArg) {
+        EnsureStats.recordCheck();
+        if (value <= 0) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is not greater than zero.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public LongCheck positive(String messageFormat, Object messageArg1, Object messageArg2) {
+        EnsureStats.recordCheck();
+        if (value <= 0) {
+            Ensure.fail(messageFormat, messageArg1, messageArg2);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is not greater than zero.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public LongCheck positive(String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        EnsureStats.recordCheck();
+        if (value <= 0) {
+            Ensure.fail(messageFormat, messageArg1, messageArg2, messageArg3);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is not greater than zero.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public LongCheck positive(Supplier<String> messageSupplier) {
+        EnsureStats.recordCheck();
+        if (value <= 0) {
+            Ensure.fail(messageSupplier);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is not greater than zero.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public <A> LongCheck positive(MessageSupplier1<A> messageSupplier, A messageArg) {
+        EnsureStats.recordCheck();
+        if (value <= 0) {
+            Ensure.fail(messageSupplier, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is not greater than zero.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public <A, B> LongCheck positive(MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        EnsureStats.recordCheck();
+        if (value <= 0) {
+            Ensure.fail(messageSupplier, messageArg1, messageArg2);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is less than zero.
+     */
+    public LongCheck notNegative() {
+        EnsureStats.recordCheck();
+        if (value < 0) {
+            Ensure.fail("Given value must not be negative but was %s", value);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is less than zero.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public LongCheck notNegative(String messageFormat, Object... messageArgs) {
+        EnsureStats.recordCheck();
+        if (value < 0) {
+            Ensure.fail(messageFormat, messageArgs);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is less than zero.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public LongCheck notNegative(String messageFormat) {
+        EnsureStats.recordCheck();
+        if (value < 0) {
+            Ensure.fail(messageFormat);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is less than zero.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public LongCheck notNegative(String messageFormat, Object messageArg) {
+        EnsureStats.recordCheck();
+        if (value < 0) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is less than zero.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public LongCheck notNegative(String messageFormat, int messageArg) {
+        EnsureStats.recordCheck();
+        if (value < 0) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is less than zero.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public LongCheck notNegative(String messageFormat, long messageArg) {
+        EnsureStats.recordCheck();
+        if (value < 0) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is less than zero.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public LongCheck notNegative(String messageFormat, Object messageArg1, Object messageArg2) {
+        EnsureStats.recordCheck();
+        if (value < 0) {
+            Ensure.fail(messageFormat, messageArg1, messageArg2);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is less than zero.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public LongCheck notNegative(String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        EnsureStats.recordCheck();
+        if (value < 0) {
+            Ensure.fail(messageFormat, messageArg1, messageArg2, messageArg3);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is less than zero.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public LongCheck notNegative(Supplier<String> messageSupplier) {
+        EnsureStats.recordCheck();
+        if (value < 0) {
+            Ensure.fail(messageSupplier);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is less than zero.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public <A> LongCheck notNegative(MessageSupplier1<A> messageSupplier, A messageArg) {
+        EnsureStats.recordCheck();
+        if (value < 0) {
+            Ensure.fail(messageSupplier, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is less than zero.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public <A, B> LongCheck notNegative(MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        EnsureStats.recordCheck();
+        if (value < 0) {
+            Ensure.fail(messageSupplier, messageArg1, messageArg2);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is less than min.
+     */
+    public LongCheck atLeast(long min) {
+        EnsureStats.recordCheck();
+        if (value < min) {
+            Ensure.fail("Given value must be at least %s but was %s", min, value);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is less than min.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public LongCheck atLeast(long min, String messageFormat, Object... messageArgs) {
+        EnsureStats.recordCheck();
+        if (value < min) {
+            Ensure.fail(messageFormat, messageArgs);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is less than min.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public LongCheck atLeast(long min, String messageFormat) {
+        EnsureStats.recordCheck();
+        if (value < min) {
+            Ensure.fail(messageFormat);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is less than min.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public LongCheck atLeast(long min, String messageFormat, Object messageArg) {
+        EnsureStats.recordCheck();
+        if (value < min) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is less than min.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public LongCheck atLeast(long min, String messageFormat, int messageArg) {
+        EnsureStats.recordCheck();
+        if (value < min) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is less than min.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public LongCheck atLeast(long min, String messageFormat, long messageArg) {
+        EnsureStats.recordCheck();
+        if (value < min) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is less than min.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public LongCheck atLeast(long min, String messageFormat, Object messageArg1, Object messageArg2) {
+        EnsureStats.recordCheck();
+        if (value < min) {
+            Ensure.fail(messageFormat, messageArg1, messageArg2);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is less than min.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public LongCheck atLeast(long min, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        EnsureStats.recordCheck();
+        if (value < min) {
+            Ensure.fail(messageFormat, messageArg1, messageArg2, messageArg3);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is less than min.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public LongCheck atLeast(long min, Supplier<String> messageSupplier) {
+        EnsureStats.recordCheck();
+        if (value < min) {
+            Ensure.fail(messageSupplier);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is less than min.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public <A> LongCheck atLeast(long min, MessageSupplier1<A> messageSupplier, A messageArg) {
+        EnsureStats.recordCheck();
+        if (value < min) {
+            Ensure.fail(messageSupplier, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is less than min.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public <A, B> LongCheck atLeast(long min, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        EnsureStats.recordCheck();
+        if (value < min) {
+            Ensure.fail(messageSupplier, messageArg1, messageArg2);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is greater than max.
+     */
+    public LongCheck atMost(long max) {
+        EnsureStats.recordCheck();
+        if (value > max) {
+            Ensure.fail("Given value must be at most %s but was %s", max, value);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is greater than max.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public LongCheck atMost(long max, String messageFormat, Object... messageArgs) {
+        EnsureStats.recordCheck();
+        if (value > max) {
+            Ensure.fail(messageFormat, messageArgs);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is greater than max.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public LongCheck atMost(long max, String messageFormat) {
+        EnsureStats.recordCheck();
+        if (value > max) {
+            Ensure.fail(messageFormat);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is greater than max.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public LongCheck atMost(long max, String messageFormat, Object messageArg) {
+        EnsureStats.recordCheck();
+        if (value > max) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is greater than max.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public LongCheck atMost(long max, String messageFormat, int messageArg) {
+        EnsureStats.recordCheck();
+        if (value > max) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is greater than max.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public LongCheck atMost(long max, String messageFormat, long messageArg) {
+        EnsureStats.recordCheck();
+        if (value > max) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is greater than max.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public LongCheck atMost(long max, String messageFormat, Object messageArg1, Object messageArg2) {
+        EnsureStats.recordCheck();
+        if (value > max) {
+            Ensure.fail(messageFormat, messageArg1, messageArg2);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is greater than max.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public LongCheck atMost(long max, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        EnsureStats.recordCheck();
+        if (value > max) {
+            Ensure.fail(messageFormat, messageArg1, messageArg2, messageArg3);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is greater than max.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public LongCheck atMost(long max, Supplier<String> messageSupplier) {
+        EnsureStats.recordCheck();
+        if (value > max) {
+            Ensure.fail(messageSupplier);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is greater than max.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public <A> LongCheck atMost(long max, MessageSupplier1<A> messageSupplier, A messageArg) {
+        EnsureStats.recordCheck();
+        if (value > max) {
+            Ensure.fail(messageSupplier, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is greater than max.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public <A, B> LongCheck atMost(long max, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        EnsureStats.recordCheck();
+        if (value > max) {
+            Ensure.fail(messageSupplier, messageArg1, messageArg2);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is not between min and max (both inclusive).
+     */
+    public LongCheck between(long min, long max) {
+        EnsureStats.recordCheck();
+        if (value < min || value > max) {
+            Ensure.fail("Given value must be between %s and %s but was %s", min, max, value);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is not between min and max (both inclusive).
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public LongCheck between(long min, long max, String messageFormat, Object... messageArgs) {
+        EnsureStats.recordCheck();
+        if (value < min || value > max) {
+            Ensure.fail(messageFormat, messageArgs);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is not between min and max (both inclusive).
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public LongCheck between(long min, long max, String messageFormat) {
+        EnsureStats.recordCheck();
+        if (value < min || value > max) {
+            Ensure.fail(messageFormat);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is not between min and max (both inclusive).
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public LongCheck between(long min, long max, String messageFormat, Object messageArg) {
+        EnsureStats.recordCheck();
+        if (value < min || value > max) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is not between min and max (both inclusive).
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public LongCheck between(long min, long max, String messageFormat, int messageArg) {
+        EnsureStats.recordCheck();
+        if (value < min || value > max) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is not between min and max (both inclusive).
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public LongCheck between(long min, long max, String messageFormat, long messageArg) {
+        EnsureStats.recordCheck();
+        if (value < min || value > max) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is not between min and max (both inclusive).
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public LongCheck between(long min, long max, String messageFormat, Object messageArg1, Object messageArg2) {
+        EnsureStats.recordCheck();
+        if (value < min || value > max) {
+            Ensure.fail(messageFormat, messageArg1, messageArg2);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is not between min and max (both inclusive).
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public LongCheck between(long min, long max, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        EnsureStats.recordCheck();
+        if (value < min || value > max) {
+            Ensure.fail(messageFormat, messageArg1, messageArg2, messageArg3);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is not between min and max (both inclusive).
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public LongCheck between(long min, long max, Supplier<String> messageSupplier) {
+        EnsureStats.recordCheck();
+        if (value < min || value > max) {
+            Ensure.fail(messageSupplier);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is not between min and max (both inclusive).
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public <A> LongCheck between(long min, long max, MessageSupplier1<A> messageSupplier, A messageArg) {
+        EnsureStats.recordCheck();
+        if (value < min || value > max) {
+            Ensure.fail(messageSupplier, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is not between min and max (both inclusive).
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public <A, B> LongCheck between(long min, long max, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        EnsureStats.recordCheck();
+        if (value < min || value > max) {
+            Ensure.fail(messageSupplier, messageArg1, messageArg2);
+        }
+        return this;
+    }
+}
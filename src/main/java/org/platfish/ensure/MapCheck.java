@@ -0,0 +1,656 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * <p>Fluent checks of a map, obtained by {@link Ensure#that(Map)}. The conditions are checked
+ * immediately and can be chained, e.g. {@code Ensure.that(map).notEmpty().containsKey("id").get()}.</p>
+ * <p>The class is final and stateless apart from the checked value, so the JIT can scalar replace the
+ * instances of a chain and it doesn't allocate.</p>
+ *
+ * @param <M> Type of the checked map.
+ */
+public final class MapCheck<M extends Map<?, ?>> {
+
+    private final M value;
+
+    MapCheck(M value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns the checked map.
+     */
+    public M get() {
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the map is null.
+     */
+    public MapCheck<M> notNull() {
+        EnsureStats.recordCheck();
+        if (value == null) {
+            Ensure.fail(Messages.NOT_NULL);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the map is null.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public MapCheck<M> notNull(String messageFormat, Object... messageArgs) {
+        EnsureStats.recordCheck();
+        if (value == null) {
+            Ensure.fail(messageFormat, messageArgs);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the map is null.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public MapCheck<M> notNull(String messageFormat) {
+        EnsureStats.recordCheck();
+        if (value == null) {
+            Ensure.fail(messageFormat);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the map is null.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public MapCheck<M> notNull(String messageFormat, Object messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the map is null.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public MapCheck<M> notNull(String messageFormat, int messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the map is null.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public MapCheck<M> notNull(String messageFormat, long messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the map is null.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public MapCheck<M> notNull(String messageFormat, Object messageArg1, Object messageArg2) {
+        EnsureStats.recordCheck();
+        if (value == null) {
+            Ensure.fail(messageFormat, messageArg1, messageArg2);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the map is null.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public MapCheck<M> notNull(String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        EnsureStats.recordCheck();
+        if (value == null) {
+            Ensure.fail(messageFormat, messageArg1, messageArg2, messageArg3);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the map is null.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public MapCheck<M> notNull(Supplier<String> messageSupplier) {
+        EnsureStats.recordCheck();
+        if (value == null) {
+            Ensure.fail(messageSupplier);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the map is null.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public <A> MapCheck<M> notNull(MessageSupplier1<A> messageSupplier, A messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null) {
+            Ensure.fail(messageSupplier, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the map is null.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public <A, B> MapCheck<M> notNull(MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        EnsureStats.recordCheck();
+        if (value == null) {
+            Ensure.fail(messageSupplier, messageArg1, messageArg2);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the map is empty. The null value is also considered to be empty.
+     */
+    public MapCheck<M> notEmpty() {
+        EnsureStats.recordCheck();
+        if (value == null || value.isEmpty()) {
+            Ensure.fail(Messages.MAP_NOT_EMPTY);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the map is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public MapCheck<M> notEmpty(String messageFormat, Object... messageArgs) {
+        EnsureStats.recordCheck();
+        if (value == null || value.isEmpty()) {
+            Ensure.fail(messageFormat, messageArgs);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the map is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public MapCheck<M> notEmpty(String messageFormat) {
+        EnsureStats.recordCheck();
+        if (value == null || value.isEmpty()) {
+            Ensure.fail(messageFormat);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the map is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public MapCheck<M> notEmpty(String messageFormat, Object messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null || value.isEmpty()) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the map is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public MapCheck<M> notEmpty(String messageFormat, int messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null || value.isEmpty()) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the map is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public MapCheck<M> notEmpty(String messageFormat, long messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null || value.isEmpty()) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the map is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public MapCheck<M> notEmpty(String messageFormat, Object messageArg1, Object messageArg2) {
+        EnsureStats.recordCheck();
+        if (value == null || value.isEmpty()) {
+            Ensure.fail(messageFormat, messageArg1, messageArg2);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the map is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public MapCheck<M> notEmpty(String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        EnsureStats.recordCheck();
+        if (value == null || value.isEmpty()) {
+            Ensure.fail(messageFormat, messageArg1, messageArg2, messageArg3);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the map is empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public MapCheck<M> notEmpty(Supplier<String> messageSupplier) {
+        EnsureStats.recordCheck();
+        if (value == null || value.isEmpty()) {
+            Ensure.fail(messageSupplier);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the map is empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public <A> MapCheck<M> notEmpty(MessageSupplier1<A> messageSupplier, A messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null || value.isEmpty()) {
+            Ensure.fail(messageSupplier, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the map is empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public <A, B> MapCheck<M> notEmpty(MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        EnsureStats.recordCheck();
+        if (value == null || value.isEmpty()) {
+            Ensure.fail(messageSupplier, messageArg1, messageArg2);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the map is null or has more than the given number of entries.
+     */
+    public MapCheck<M> sizeAtMost(int size) {
+        Ensure.requireNotNull(value, Messages.NOT_NULL);
+        EnsureStats.recordCheck();
+        if (value.size() > size) {
+            Ensure.fail("Given map must have at most %s entries but has %s", size, value.size());
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the map is null or has more than the given number of entries.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public MapCheck<M> sizeAtMost(int size, String messageFormat, Object... messageArgs) {
+        EnsureStats.recordCheck();
+        if (value == null || value.size() > size) {
+            Ensure.fail(messageFormat, messageArgs);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the map is null or has more than the given number of entries.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public MapCheck<M> sizeAtMost(int size, String messageFormat) {
+        EnsureStats.recordCheck();
+        if (value == null || value.size() > size) {
+            Ensure.fail(messageFormat);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the map is null or has more than the given number of entries.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public MapCheck<M> sizeAtMost(int size, String messageFormat, Object messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null || value.size() > size) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the map is null or has more than the given number of entries.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public MapCheck<M> sizeAtMost(int size, String messageFormat, int messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null || value.size() > size) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the map is null or has more than the given number of entries.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public MapCheck<M> sizeAtMost(int size, String messageFormat, long messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null || value.size() > size) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the map is null or has more than the given number of entries.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public MapCheck<M> sizeAtMost(int size, String messageFormat, Object messageArg1, Object messageArg2) {
+        EnsureStats.recordCheck();
+        if (value == null || value.size() > size) {
+            Ensure.fail(messageFormat, messageArg1, messageArg2);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the map is null or has more than the given number of entries.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public MapCheck<M> sizeAtMost(int size, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        EnsureStats.recordCheck();
+        if (value == null || value.size() > size) {
+            Ensure.fail(messageFormat, messageArg1, messageArg2, messageArg3);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the map is null or has more than the given number of entries.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public MapCheck<M> sizeAtMost(int size, Supplier<String> messageSupplier) {
+        EnsureStats.recordCheck();
+        if (value == null || value.size() > size) {
+            Ensure.fail(messageSupplier);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the map is null or has more than the given number of entries.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public <A> MapCheck<M> sizeAtMost(int size, MessageSupplier1<A> messageSupplier, A messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null || value.size() > size) {
+            Ensure.fail(messageSupplier, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the map is null or has more than the given number of entries.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public <A, B> MapCheck<M> sizeAtMost(int size, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        EnsureStats.recordCheck();
+        if (value == null || value.size() > size) {
+            Ensure.fail(messageSupplier, messageArg1, messageArg2);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the map is null or doesn't contain the given key.
+     */
+    public MapCheck<M> containsKey(Object key) {
+        EnsureStats.recordCheck();
+        if (value == null || !value.containsKey(key)) {
+            Ensure.fail(Messages.MAP_CONTAINS_KEY, key);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the map is null or doesn't contain the given key.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public MapCheck<M> containsKey(Object key, String messageFormat, Object... messageArgs) {
+        EnsureStats.recordCheck();
+        if (value == null || !value.containsKey(key)) {
+            Ensure.fail(messageFormat, messageArgs);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the map is null or doesn't contain the given key.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public MapCheck<M> containsKey(Object key, String messageFormat) {
+        EnsureStats.recordCheck();
+        if (value == null || !value.containsKey(key)) {
+            Ensure.fail(messageFormat);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the map is null or doesn't contain the given key.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public MapCheck<M> containsKey(Object key, String messageFormat, Object messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null || !value.containsKey(key)) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the map is null or doesn't contain the given key.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public MapCheck<M> containsKey(Object key, String messageFormat, int messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null || !value.containsKey(key)) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the map is null or doesn't contain the given key.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public MapCheck<M> containsKey(Object key, String messageFormat, long messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null || !value.containsKey(key)) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the map is null or doesn't contain the given key.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public MapCheck<M> containsKey(Object key, String messageFormat, Object messageArg1, Object messageArg2) {
+        EnsureStats.recordCheck();
+        if (value == null || !value.containsKey(key)) {
+            Ensure.fail(messageFormat, messageArg1, messageArg2);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the map is null or doesn't contain the given key.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public MapCheck<M> containsKey(Object key, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        EnsureStats.recordCheck();
+        if (value == null || !value.containsKey(key)) {
+            Ensure.fail(messageFormat, messageArg1, messageArg2, messageArg3);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the map is null or doesn't contain the given key.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public MapCheck<M> containsKey(Object key, Supplier<String> messageSupplier) {
+        EnsureStats.recordCheck();
+        if (value == null || !value.containsKey(key)) {
+            Ensure.fail(messageSupplier);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the map is null or doesn't contain the given key.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public <A> MapCheck<M> containsKey(Object key, MessageSupplier1<A> messageSupplier, A messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null || !value.containsKey(key)) {
+            Ensure.fail(messageSupplier, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the map is null or doesn't contain the given key.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public <A, B> MapCheck<M> containsKey(Object key, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        EnsureStats.recordCheck();
+        if (value == null || !value.containsKey(key)) {
+            Ensure.fail(messageSupplier, messageArg1, messageArg2);
+        }
+        return this;
+    }
+}
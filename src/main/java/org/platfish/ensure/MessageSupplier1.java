@@ -0,0 +1,35 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+/**
+ * <p>Creates the message of a failed check from one argument.</p>
+ * <p>The arguments are passed to the check method next to the supplier, so the supplier
+ * doesn't need to capture any state. Such a non-capturing lambda is only instantiated
+ * once and doesn't allocate on each evaluation of the check.</p>
+ *
+ * @see MessageSupplier2
+ */
+@FunctionalInterface
+public interface MessageSupplier1<A> {
+
+    /**
+     * Returns the message for the failed check.
+     *
+     * @param arg The argument passed to the check method.
+     */
+    String get(A arg);
+}
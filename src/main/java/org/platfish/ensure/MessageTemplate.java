@@ -0,0 +1,185 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+import java.math.BigInteger;
+import java.text.DecimalFormatSymbols;
+import java.util.Formattable;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <p>Precompiled message format, producing the same output as {@link String#format(String, Object...)}.</p>
+ * <p>Each distinct format string is parsed only once and cached. Only the conversions {@code %s},
+ * {@code %d}, {@code %%} and {@code %n} without flags, width or precision are rendered directly.
+ * Everything else, as well as arguments the direct rendering can't reproduce exactly (e.g.
+ * {@link Formattable} or non-integral arguments for {@code %d}), falls back to
+ * {@link String#format(String, Object...)}, which also raises the same exceptions for invalid
+ * formats.</p>
+ */
+final class MessageTemplate {
+
+    /**
+     * Maximum number of cached templates. The cache is cleared once it grows beyond this size,
+     * so format strings which are created dynamically can't exhaust the memory.
+     */
+    static final int MAX_CACHE_SIZE = 1024;
+
+    private static final ConcurrentMap<String, MessageTemplate> CACHE = new ConcurrentHashMap<>();
+
+    private static final MessageTemplate UNSUPPORTED = new MessageTemplate(null, null);
+
+    private static final int MAX_BUILDER_CAPACITY = 4096;
+
+    private static final ThreadLocal<StringBuilder> BUILDER = new ThreadLocal<>();
+
+    private static final ConcurrentMap<Locale, Boolean> ASCII_ZERO_DIGIT = new ConcurrentHashMap<>();
+
+    /**
+     * Literal text in front of each conversion, plus the trailing text.
+     */
+    private final String[] literals;
+
+    /**
+     * The conversion characters, either {@code 's'} or {@code 'd'}.
+     */
+    private final char[] conversions;
+
+    private MessageTemplate(String[] literals, char[] conversions) {
+        this.literals = literals;
+        this.conversions = conversions;
+    }
+
+    /**
+     * Formats the message like {@link String#format(String, Object...)} does.
+     */
+    static String format(String messageFormat, Object... messageArgs) {
+        if (messageFormat == null) {
+            return String.format(messageFormat, messageArgs);
+        }
+        MessageTemplate template = CACHE.get(messageFormat);
+        if (template == null) {
+            template = parse(messageFormat);
+            if (CACHE.size() >= MAX_CACHE_SIZE) {
+                CACHE.clear();
+            }
+            CACHE.put(messageFormat, template);
+        }
+        String message = template.render(messageArgs);
+        return message != null ? message : String.format(messageFormat, messageArgs);
+    }
+
+    static MessageTemplate parse(String messageFormat) {
+        int conversionCount = 0;
+        for (int i = 0; i < messageFormat.length(); i++) {
+            if (messageFormat.charAt(i) == '%') {
+                if (i + 1 == messageFormat.length()) {
+                    return UNSUPPORTED;
+                }
+                char conversion = messageFormat.charAt(++i);
+                if (conversion == 's' || conversion == 'd') {
+                    conversionCount++;
+                } else if (conversion != '%' && conversion != 'n') {
+                    return UNSUPPORTED;
+                }
+            }
+        }
+
+        String[] literals = new String[conversionCount + 1];
+        char[] conversions = new char[conversionCount];
+        StringBuilder literal = new StringBuilder();
+        int index = 0;
+        for (int i = 0; i < messageFormat.length(); i++) {
+            char c = messageFormat.charAt(i);
+            if (c != '%') {
+                literal.append(c);
+                continue;
+            }
+            char conversion = messageFormat.charAt(++i);
+            if (conversion == '%') {
+                literal.append('%');
+            } else if (conversion == 'n') {
+                literal.append(System.lineSeparator());
+            } else {
+                literals[index] = literal.toString();
+                conversions[index++] = conversion;
+                literal.setLength(0);
+            }
+        }
+        literals[index] = literal.toString();
+        return new MessageTemplate(literals, conversions);
+    }
+
+    /**
+     * Renders the message, returns null if the message has to be created by {@link String#format(String, Object...)}.
+     */
+    private String render(Object[] messageArgs) {
+        if (literals == null || messageArgs == null && conversions.length > 0
+                || messageArgs != null && messageArgs.length < conversions.length) {
+            return null;
+        }
+        StringBuilder builder = BUILDER.get();
+        if (builder == null) {
+            builder = new StringBuilder();
+        } else {
+            // a toString() of an argument might format a message as well
+            BUILDER.set(null);
+            builder.setLength(0);
+        }
+        try {
+            for (int i = 0; i < conversions.length; i++) {
+                builder.append(literals[i]);
+                if (!append(builder, conversions[i], messageArgs[i])) {
+                    return null;
+                }
+            }
+            return builder.append(literals[conversions.length]).toString();
+        } finally {
+            if (builder.capacity() <= MAX_BUILDER_CAPACITY) {
+                BUILDER.set(builder);
+            }
+        }
+    }
+
+    private static boolean append(StringBuilder builder, char conversion, Object arg) {
+        if (arg == null) {
+            builder.append("null");
+            return true;
+        }
+        if (conversion == 's') {
+            if (arg instanceof Formattable) {
+                return false;
+            }
+            builder.append(arg.toString());
+            return true;
+        }
+        if (!(arg instanceof Integer || arg instanceof Long || arg instanceof Short
+                || arg instanceof Byte || arg instanceof BigInteger) || !isAsciiZeroDigit()) {
+            return false;
+        }
+        builder.append(arg.toString());
+        return true;
+    }
+
+    /**
+     * {@code %d} uses the zero digit of the default format locale, the direct rendering only supports '0'.
+     */
+    private static boolean isAsciiZeroDigit() {
+        return ASCII_ZERO_DIGIT.computeIfAbsent(Locale.getDefault(Locale.Category.FORMAT),
+                locale -> DecimalFormatSymbols.getInstance(locale).getZeroDigit() == '0');
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+/**
+ * <p>Default message formats of the checks, shared by {@link Ensure}, {@link EnsureBatch}, the fluent checks
+ * and the {@link Violation} constants of {@link Check}.</p>
+ * <p>The formats are compile-time constants, so referencing them costs nothing at runtime.</p>
+ */
+final class Messages {
+
+    static final String CONDITION_TRUE = "Given condition must be true";
+    static final String CONDITION_FALSE = "Given condition must be false";
+    static final String NOT_NULL = "Given value must not be null";
+    static final String NULL = "Given value must be null";
+    static final String EQUALS = "Given value must match the expected value";
+    static final String NOT_EQUALS = "Given value must differ from expected value";
+    static final String STRING_NOT_EMPTY = "Given string must not be empty";
+    static final String COLLECTION_NOT_EMPTY = "Given collection must not be empty";
+    static final String MAP_NOT_EMPTY = "Given map must not be empty";
+    static final String ARRAY_NOT_EMPTY = "Given array must not be empty";
+    static final String STRING_EMPTY = "Given string must be empty";
+    static final String COLLECTION_EMPTY = "Given collection must be empty";
+    static final String MAP_EMPTY = "Given map must be empty";
+    static final String ARRAY_EMPTY = "Given array must be empty";
+
+    /**
+     * Arguments: the expected type and the type of the value.
+     */
+    static final String INSTANCE_OF = "Given value must be of type \"%s\" but found \"%s\"";
+
+    /**
+     * Arguments: the {@link TypeSet} and the type of the value.
+     */
+    static final String INSTANCE_OF_ANY = "Given value must be of one of the types %s but found \"%s\"";
+
+    /**
+     * Arguments: the key.
+     */
+    static final String MAP_CONTAINS_KEY = "Given map must contain the key \"%s\"";
+
+    /**
+     * Arguments: the key.
+     */
+    static final String MAP_NOT_CONTAINS_KEY = "Given map must not contain the key \"%s\"";
+
+    static final String OPTIONAL_PRESENT = "Optional has no value";
+
+    /**
+     * Arguments: the index and the length.
+     */
+    static final String INDEX = "Index %s out of bounds for length %s";
+
+    /**
+     * Arguments: the duplicate element, its index and the index of the equal earlier element.
+     */
+    static final String DUPLICATE = "Element %s at index %s duplicates the element at index %s";
+
+    /**
+     * Arguments: the element out of order, its index and the previous element.
+     */
+    static final String SORTED = "Elements must be sorted but %s at index %s follows %s";
+
+    /**
+     * Arguments: the element out of order, its index and the previous element.
+     */
+    static final String STRICTLY_INCREASING = "Elements must be strictly increasing but %s at index %s follows %s";
+
+    /**
+     * Arguments: the path.
+     */
+    static final String PATH_EXISTS = "Path \"%s\" doesn't exist";
+
+    /**
+     * Arguments: the path.
+     */
+    static final String PATH_NOT_EXISTS = "Path \"%s\" already exists";
+
+    /**
+     * Arguments: the path.
+     */
+    static final String PATH_DIRECTORY = "Path \"%s\" is not a directory";
+
+    /**
+     * Arguments: the file.
+     */
+    static final String FILE_EXISTS = "File \"%s\" doesn't exist";
+
+    /**
+     * Arguments: the file.
+     */
+    static final String FILE_NOT_EXISTS = "File \"%s\" already exists";
+
+    /**
+     * Arguments: the file.
+     */
+    static final String FILE_DIRECTORY = "File \"%s\" isn't a directory";
+
+    private Messages() {
+    }
+}
@@ -0,0 +1,666 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * <p>Fluent checks of an object, obtained by {@link Ensure#that(Object)}. The conditions are checked
+ * immediately and can be chained, e.g. {@code Ensure.that(value).notNull().instanceOf(Number.class).get()}.</p>
+ * <p>The class is final and stateless apart from the checked value, so the JIT can scalar replace the
+ * instances of a chain and it doesn't allocate.</p>
+ *
+ * @param <T> Type of the checked value.
+ */
+public final class ObjectCheck<T> {
+
+    private final T value;
+
+    ObjectCheck(T value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns the checked value.
+     */
+    public T get() {
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is null.
+     */
+    public ObjectCheck<T> notNull() {
+        EnsureStats.recordCheck();
+        if (value == null) {
+            Ensure.fail(Messages.NOT_NULL);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is null.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public ObjectCheck<T> notNull(String messageFormat, Object... messageArgs) {
+        EnsureStats.recordCheck();
+        if (value == null) {
+            Ensure.fail(messageFormat, messageArgs);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is null.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public ObjectCheck<T> notNull(String messageFormat) {
+        EnsureStats.recordCheck();
+        if (value == null) {
+            Ensure.fail(messageFormat);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is null.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public ObjectCheck<T> notNull(String messageFormat, Object messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is null.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public ObjectCheck<T> notNull(String messageFormat, int messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is null.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public ObjectCheck<T> notNull(String messageFormat, long messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is null.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public ObjectCheck<T> notNull(String messageFormat, Object messageArg1, Object messageArg2) {
+        EnsureStats.recordCheck();
+        if (value == null) {
+            Ensure.fail(messageFormat, messageArg1, messageArg2);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is null.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public ObjectCheck<T> notNull(String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        EnsureStats.recordCheck();
+        if (value == null) {
+            Ensure.fail(messageFormat, messageArg1, messageArg2, messageArg3);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is null.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public ObjectCheck<T> notNull(Supplier<String> messageSupplier) {
+        EnsureStats.recordCheck();
+        if (value == null) {
+            Ensure.fail(messageSupplier);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is null.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public <A> ObjectCheck<T> notNull(MessageSupplier1<A> messageSupplier, A messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null) {
+            Ensure.fail(messageSupplier, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is null.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public <A, B> ObjectCheck<T> notNull(MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        EnsureStats.recordCheck();
+        if (value == null) {
+            Ensure.fail(messageSupplier, messageArg1, messageArg2);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value doesn't equal expected.
+     */
+    public ObjectCheck<T> equalTo(Object expected) {
+        EnsureStats.recordCheck();
+        if (expected == null ? value != null : !expected.equals(value)) {
+            Ensure.fail(Messages.EQUALS);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value doesn't equal expected.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public ObjectCheck<T> equalTo(Object expected, String messageFormat, Object... messageArgs) {
+        EnsureStats.recordCheck();
+        if (expected == null ? value != null : !expected.equals(value)) {
+            Ensure.fail(messageFormat, messageArgs);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value doesn't equal expected.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public ObjectCheck<T> equalTo(Object expected, String messageFormat) {
+        EnsureStats.recordCheck();
+        if (expected == null ? value != null : !expected.equals(value)) {
+            Ensure.fail(messageFormat);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value doesn't equal expected.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public ObjectCheck<T> equalTo(Object expected, String messageFormat, Object messageArg) {
+        EnsureStats.recordCheck();
+        if (expected == null ? value != null : !expected.equals(value)) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value doesn't equal expected.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public ObjectCheck<T> equalTo(Object expected, String messageFormat, int messageArg) {
+        EnsureStats.recordCheck();
+        if (expected == null ? value != null : !expected.equals(value)) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value doesn't equal expected.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public ObjectCheck<T> equalTo(Object expected, String messageFormat, long messageArg) {
+        EnsureStats.recordCheck();
+        if (expected == null ? value != null : !expected.equals(value)) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value doesn't equal expected.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public ObjectCheck<T> equalTo(Object expected, String messageFormat, Object messageArg1, Object messageArg2) {
+        EnsureStats.recordCheck();
+        if (expected == null ? value != null : !expected.equals(value)) {
+            Ensure.fail(messageFormat, messageArg1, messageArg2);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value doesn't equal expected.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public ObjectCheck<T> equalTo(Object expected, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        EnsureStats.recordCheck();
+        if (expected == null ? value != null : !expected.equals(value)) {
+            Ensure.fail(messageFormat, messageArg1, messageArg2, messageArg3);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value doesn't equal expected.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public ObjectCheck<T> equalTo(Object expected, Supplier<String> messageSupplier) {
+        EnsureStats.recordCheck();
+        if (expected == null ? value != null : !expected.equals(value)) {
+            Ensure.fail(messageSupplier);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value doesn't equal expected.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public <A> ObjectCheck<T> equalTo(Object expected, MessageSupplier1<A> messageSupplier, A messageArg) {
+        EnsureStats.recordCheck();
+        if (expected == null ? value != null : !expected.equals(value)) {
+            Ensure.fail(messageSupplier, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value doesn't equal expected.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public <A, B> ObjectCheck<T> equalTo(Object expected, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        EnsureStats.recordCheck();
+        if (expected == null ? value != null : !expected.equals(value)) {
+            Ensure.fail(messageSupplier, messageArg1, messageArg2);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is null or not an instance of the given class.
+     */
+    public ObjectCheck<T> instanceOf(Class<?> clazz) {
+        EnsureStats.recordCheck();
+        if (!clazz.isInstance(value)) {
+            Ensure.fail(Messages.INSTANCE_OF, clazz, value == null ? null : value.getClass());
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is null or not an instance of the given class.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public ObjectCheck<T> instanceOf(Class<?> clazz, String messageFormat, Object... messageArgs) {
+        EnsureStats.recordCheck();
+        if (!clazz.isInstance(value)) {
+            Ensure.fail(messageFormat, messageArgs);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is null or not an instance of the given class.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public ObjectCheck<T> instanceOf(Class<?> clazz, String messageFormat) {
+        EnsureStats.recordCheck();
+        if (!clazz.isInstance(value)) {
+            Ensure.fail(messageFormat);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is null or not an instance of the given class.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public ObjectCheck<T> instanceOf(Class<?> clazz, String messageFormat, Object messageArg) {
+        EnsureStats.recordCheck();
+        if (!clazz.isInstance(value)) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is null or not an instance of the given class.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public ObjectCheck<T> instanceOf(Class<?> clazz, String messageFormat, int messageArg) {
+        EnsureStats.recordCheck();
+        if (!clazz.isInstance(value)) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is null or not an instance of the given class.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public ObjectCheck<T> instanceOf(Class<?> clazz, String messageFormat, long messageArg) {
+        EnsureStats.recordCheck();
+        if (!clazz.isInstance(value)) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is null or not an instance of the given class.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public ObjectCheck<T> instanceOf(Class<?> clazz, String messageFormat, Object messageArg1, Object messageArg2) {
+        EnsureStats.recordCheck();
+        if (!clazz.isInstance(value)) {
+            Ensure.fail(messageFormat, messageArg1, messageArg2);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is null or not an instance of the given class.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public ObjectCheck<T> instanceOf(Class<?> clazz, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        EnsureStats.recordCheck();
+        if (!clazz.isInstance(value)) {
+            Ensure.fail(messageFormat, messageArg1, messageArg2, messageArg3);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is null or not an instance of the given class.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public ObjectCheck<T> instanceOf(Class<?> clazz, Supplier<String> messageSupplier) {
+        EnsureStats.recordCheck();
+        if (!clazz.isInstance(value)) {
+            Ensure.fail(messageSupplier);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is null or not an instance of the given class.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public <A> ObjectCheck<T> instanceOf(Class<?> clazz, MessageSupplier1<A> messageSupplier, A messageArg) {
+        EnsureStats.recordCheck();
+        if (!clazz.isInstance(value)) {
+            Ensure.fail(messageSupplier, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value is null or not an instance of the given class.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public <A, B> ObjectCheck<T> instanceOf(Class<?> clazz, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        EnsureStats.recordCheck();
+        if (!clazz.isInstance(value)) {
+            Ensure.fail(messageSupplier, messageArg1, messageArg2);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value doesn't match the condition. A non-capturing lambda
+     * should be used to avoid allocations.
+     */
+    public ObjectCheck<T> matches(Predicate<? super T> condition) {
+        EnsureStats.recordCheck();
+        if (!condition.test(value)) {
+            Ensure.fail("Given value doesn't match the condition");
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value doesn't match the condition. A non-capturing lambda
+     * should be used to avoid allocations.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public ObjectCheck<T> matches(Predicate<? super T> condition, String messageFormat, Object... messageArgs) {
+        EnsureStats.recordCheck();
+        if (!condition.test(value)) {
+            Ensure.fail(messageFormat, messageArgs);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value doesn't match the condition. A non-capturing lambda
+     * should be used to avoid allocations.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public ObjectCheck<T> matches(Predicate<? super T> condition, String messageFormat) {
+        EnsureStats.recordCheck();
+        if (!condition.test(value)) {
+            Ensure.fail(messageFormat);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value doesn't match the condition. A non-capturing lambda
+     * should be used to avoid allocations.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public ObjectCheck<T> matches(Predicate<? super T> condition, String messageFormat, Object messageArg) {
+        EnsureStats.recordCheck();
+        if (!condition.test(value)) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value doesn't match the condition. A non-capturing lambda
+     * should be used to avoid allocations.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public ObjectCheck<T> matches(Predicate<? super T> condition, String messageFormat, int messageArg) {
+        EnsureStats.recordCheck();
+        if (!condition.test(value)) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value doesn't match the condition. A non-capturing lambda
+     * should be used to avoid allocations.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public ObjectCheck<T> matches(Predicate<? super T> condition, String messageFormat, long messageArg) {
+        EnsureStats.recordCheck();
+        if (!condition.test(value)) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value doesn't match the condition. A non-capturing lambda
+     * should be used to avoid allocations.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public ObjectCheck<T> matches(Predicate<? super T> condition, String messageFormat, Object messageArg1, Object messageArg2) {
+        EnsureStats.recordCheck();
+        if (!condition.test(value)) {
+            Ensure.fail(messageFormat, messageArg1, messageArg2);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value doesn't match the condition. A non-capturing lambda
+     * should be used to avoid allocations.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public ObjectCheck<T> matches(Predicate<? super T> condition, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        EnsureStats.recordCheck();
+        if (!condition.test(value)) {
+            Ensure.fail(messageFormat, messageArg1, messageArg2, messageArg3);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value doesn't match the condition. A non-capturing lambda
+     * should be used to avoid allocations.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public ObjectCheck<T> matches(Predicate<? super T> condition, Supplier<String> messageSupplier) {
+        EnsureStats.recordCheck();
+        if (!condition.test(value)) {
+            Ensure.fail(messageSupplier);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value doesn't match the condition. A non-capturing lambda
+     * should be used to avoid allocations.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public <A> ObjectCheck<T> matches(Predicate<? super T> condition, MessageSupplier1<A> messageSupplier, A messageArg) {
+        EnsureStats.recordCheck();
+        if (!condition.test(value)) {
+            Ensure.fail(messageSupplier, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the value doesn't match the condition. A non-capturing lambda
+     * should be used to avoid allocations.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public <A, B> ObjectCheck<T> matches(Predicate<? super T> condition, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        EnsureStats.recordCheck();
+        if (!condition.test(value)) {
+            Ensure.fail(messageSupplier, messageArg1, messageArg2);
+        }
+        return this;
+    }
+}
@@ -0,0 +1,995 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * <p>File system checks which cache their results, obtained by {@link Ensure#cachedPaths(Duration, int)}.
+ * The checks mirror those of {@link Ensure}, but the file attributes of a path are only read once per
+ * time to live instead of on every call.</p>
+ * <p>The parent directories of the checked paths are watched by a {@link WatchService}, so
+ * entries are invalidated early if a path is created, deleted or modified. File systems without
+ * watch support only rely on the time to live. The number of cached paths is bounded, the cache
+ * evicts expired and then arbitrary entries down to three quarters of its size if it is full. At most as many directories as paths
+ * are watched, directories without cached paths are no longer watched after an eviction. Paths
+ * whose directory can't be watched only rely on the time to live as well, which is reported by
+ * {@link #getUnwatchedReads()}.</p>
+ * <p>Instances are thread-safe and should be long-lived. {@link #close()} stops watching the
+ * directories.</p>
+ */
+public final class PathCache implements Closeable {
+
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final ConcurrentMap<Path, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Path, WatchKey> watchedDirectories = new ConcurrentHashMap<>();
+    private final ConcurrentMap<FileSystem, WatchService> watchServices = new ConcurrentHashMap<>();
+
+    /**
+     * Incremented before entries are invalidated, so attributes read concurrently aren't cached.
+     */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final LongAdder unwatchedReads = new LongAdder();
+    private volatile boolean closed;
+
+    /**
+     * Cached attributes of a path.
+     */
+    private static final class Entry {
+
+        final boolean exists;
+        final boolean directory;
+        final long expiresAt;
+
+        Entry(boolean exists, boolean directory, long expiresAt) {
+            this.exists = exists;
+            this.directory = directory;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    PathCache(Duration ttl, int maxEntries) {
+        Ensure.requireNotNull(ttl, "ttl must not be null");
+        Ensure.requireArgument(!ttl.isNegative(), "ttl must not be negative but was %s", ttl);
+        Ensure.requireArgument(maxEntries > 0, "maxEntries must be positive but was %s", maxEntries);
+        this.ttlNanos = ttl.compareTo(Duration.ofNanos(Long.MAX_VALUE)) < 0 ? ttl.toNanos() : Long.MAX_VALUE;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does not exist.
+     *
+     * @param value The path to be checked.
+     * @return Returns the checked path.
+     */
+    public Path ensureExists(Path value) {
+        return ensureExists(value, Messages.PATH_EXISTS, value);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return Returns the checked path.
+     */
+    public Path ensureExists(Path value, String messageFormat, Object... messageArgs) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureTrue(entry(value).exists, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return Returns the checked path.
+     */
+    public Path ensureExists(Path value, String messageFormat) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureTrue(entry(value).exists, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return Returns the checked path.
+     */
+    public Path ensureExists(Path value, String messageFormat, Object messageArg) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureTrue(entry(value).exists, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return Returns the checked path.
+     */
+    public Path ensureExists(Path value, String messageFormat, int messageArg) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureTrue(entry(value).exists, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return Returns the checked path.
+     */
+    public Path ensureExists(Path value, String messageFormat, long messageArg) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureTrue(entry(value).exists, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return Returns the checked path.
+     */
+    public Path ensureExists(Path value, String messageFormat, Object messageArg1, Object messageArg2) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureTrue(entry(value).exists, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return Returns the checked path.
+     */
+    public Path ensureExists(Path value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureTrue(entry(value).exists, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does not exist.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return Returns the checked path.
+     */
+    public Path ensureExists(Path value, Supplier<String> messageSupplier) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureTrue(entry(value).exists, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does exist.
+     *
+     * @param value The path to be checked.
+     * @return Returns the checked path.
+     */
+    public Path ensureNotExists(Path value) {
+        return ensureNotExists(value, Messages.PATH_NOT_EXISTS, value);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return Returns the checked path.
+     */
+    public Path ensureNotExists(Path value, String messageFormat, Object... messageArgs) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureFalse(entry(value).exists, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return Returns the checked path.
+     */
+    public Path ensureNotExists(Path value, String messageFormat) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureFalse(entry(value).exists, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return Returns the checked path.
+     */
+    public Path ensureNotExists(Path value, String messageFormat, Object messageArg) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureFalse(entry(value).exists, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return Returns the checked path.
+     */
+    public Path ensureNotExists(Path value, String messageFormat, int messageArg) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureFalse(entry(value).exists, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return Returns the checked path.
+     */
+    public Path ensureNotExists(Path value, String messageFormat, long messageArg) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureFalse(entry(value).exists, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return Returns the checked path.
+     */
+    public Path ensureNotExists(Path value, String messageFormat, Object messageArg1, Object messageArg2) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureFalse(entry(value).exists, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return Returns the checked path.
+     */
+    public Path ensureNotExists(Path value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureFalse(entry(value).exists, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path does exist.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return Returns the checked path.
+     */
+    public Path ensureNotExists(Path value, Supplier<String> messageSupplier) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureFalse(entry(value).exists, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path is not a directory.
+     *
+     * @param value The directory to be checked.
+     * @return Returns the checked directory.
+     */
+    public Path ensureDirectory(Path value) {
+        return ensureDirectory(value, Messages.PATH_DIRECTORY, value);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return Returns the checked directory.
+     */
+    public Path ensureDirectory(Path value, String messageFormat, Object... messageArgs) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureTrue(entry(value).directory, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return Returns the checked directory.
+     */
+    public Path ensureDirectory(Path value, String messageFormat) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureTrue(entry(value).directory, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return Returns the checked directory.
+     */
+    public Path ensureDirectory(Path value, String messageFormat, Object messageArg) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureTrue(entry(value).directory, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return Returns the checked directory.
+     */
+    public Path ensureDirectory(Path value, String messageFormat, int messageArg) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureTrue(entry(value).directory, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return Returns the checked directory.
+     */
+    public Path ensureDirectory(Path value, String messageFormat, long messageArg) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureTrue(entry(value).directory, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return Returns the checked directory.
+     */
+    public Path ensureDirectory(Path value, String messageFormat, Object messageArg1, Object messageArg2) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureTrue(entry(value).directory, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return Returns the checked directory.
+     */
+    public Path ensureDirectory(Path value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureTrue(entry(value).directory, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given Path is not a directory.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return Returns the checked directory.
+     */
+    public Path ensureDirectory(Path value, Supplier<String> messageSupplier) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureTrue(entry(value).directory, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given File does not exist.
+     */
+    public File ensureExists(File value) {
+        return ensureExists(value, Messages.FILE_EXISTS, value);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given File does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public File ensureExists(File value, String messageFormat, Object... messageArgs) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureTrue(entry(value.toPath()).exists, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given File does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public File ensureExists(File value, String messageFormat) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureTrue(entry(value.toPath()).exists, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given File does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public File ensureExists(File value, String messageFormat, Object messageArg) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureTrue(entry(value.toPath()).exists, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given File does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public File ensureExists(File value, String messageFormat, int messageArg) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureTrue(entry(value.toPath()).exists, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given File does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public File ensureExists(File value, String messageFormat, long messageArg) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureTrue(entry(value.toPath()).exists, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given File does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public File ensureExists(File value, String messageFormat, Object messageArg1, Object messageArg2) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureTrue(entry(value.toPath()).exists, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given File does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public File ensureExists(File value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureTrue(entry(value.toPath()).exists, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given File does not exist.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public File ensureExists(File value, Supplier<String> messageSupplier) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureTrue(entry(value.toPath()).exists, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given File does exist.
+     */
+    public File ensureNotExists(File value) {
+        return ensureNotExists(value, Messages.FILE_NOT_EXISTS, value);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given File does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public File ensureNotExists(File value, String messageFormat, Object... messageArgs) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureFalse(entry(value.toPath()).exists, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given File does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public File ensureNotExists(File value, String messageFormat) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureFalse(entry(value.toPath()).exists, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given File does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public File ensureNotExists(File value, String messageFormat, Object messageArg) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureFalse(entry(value.toPath()).exists, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given File does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public File ensureNotExists(File value, String messageFormat, int messageArg) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureFalse(entry(value.toPath()).exists, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given File does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public File ensureNotExists(File value, String messageFormat, long messageArg) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureFalse(entry(value.toPath()).exists, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given File does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public File ensureNotExists(File value, String messageFormat, Object messageArg1, Object messageArg2) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureFalse(entry(value.toPath()).exists, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given File does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public File ensureNotExists(File value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureFalse(entry(value.toPath()).exists, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given File does exist.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public File ensureNotExists(File value, Supplier<String> messageSupplier) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureFalse(entry(value.toPath()).exists, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given File is not a directory.
+     */
+    public File ensureDirectory(File value) {
+        return ensureDirectory(value, Messages.FILE_DIRECTORY, value);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given File is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public File ensureDirectory(File value, String messageFormat, Object... messageArgs) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureTrue(entry(value.toPath()).directory, messageFormat, messageArgs);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given File is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public File ensureDirectory(File value, String messageFormat) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureTrue(entry(value.toPath()).directory, messageFormat);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given File is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public File ensureDirectory(File value, String messageFormat, Object messageArg) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureTrue(entry(value.toPath()).directory, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given File is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public File ensureDirectory(File value, String messageFormat, int messageArg) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureTrue(entry(value.toPath()).directory, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given File is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public File ensureDirectory(File value, String messageFormat, long messageArg) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureTrue(entry(value.toPath()).directory, messageFormat, messageArg);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given File is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public File ensureDirectory(File value, String messageFormat, Object messageArg1, Object messageArg2) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureTrue(entry(value.toPath()).directory, messageFormat, messageArg1, messageArg2);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given File is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public File ensureDirectory(File value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureTrue(entry(value.toPath()).directory, messageFormat, messageArg1, messageArg2, messageArg3);
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the given File is not a directory.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public File ensureDirectory(File value, Supplier<String> messageSupplier) {
+        Ensure.requireNotNull(value, "value must not be null");
+        Ensure.ensureTrue(entry(value.toPath()).directory, messageSupplier);
+        return value;
+    }
+
+    /**
+     * Removes the cached attributes of the given path.
+     */
+    public void invalidate(Path path) {
+        entries.remove(path.toAbsolutePath().normalize());
+    }
+
+    /**
+     * Removes all cached attributes.
+     */
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * Returns the number of times the attributes of a path were read, whose parent directory couldn't be watched.
+     * Such entries only expire by the time to live. Watching fails if the file system doesn't support it, the
+     * directory doesn't exist, or as many directories as paths are already watched.
+     */
+    public long getUnwatchedReads() {
+        return unwatchedReads.sum();
+    }
+
+    /**
+     * Returns the number of cached paths.
+     */
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the number of watched directories.
+     */
+    int watchedDirectories() {
+        return watchedDirectories.size();
+    }
+
+    /**
+     * Stops watching the directories and clears the cache. Checks still work afterwards, but only rely on the time
+     * to live.
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        for (WatchService watchService : watchServices.values()) {
+            watchService.close();
+        }
+        watchServices.clear();
+        watchedDirectories.clear();
+        entries.clear();
+    }
+
+    private Entry entry(Path value) {
+        Path path = value.toAbsolutePath().normalize();
+        Entry entry = entries.get(path);
+        long now = System.nanoTime();
+        if (entry != null && now - entry.expiresAt < 0) {
+            return entry;
+        }
+        if (entries.size() >= maxEntries) {
+            evict(now);
+        }
+        // the directory is watched before reading, so no change after the read is missed
+        long invalidation = invalidations.get();
+        if (!watchParent(path)) {
+            unwatchedReads.increment();
+        }
+        entry = read(path, now);
+        entries.put(path, entry);
+        if (invalidations.get() != invalidation) {
+            entries.remove(path, entry);
+        }
+        return entry;
+    }
+
+    private Entry read(Path path, long now) {
+        long expiresAt = now + ttlNanos < now ? Long.MAX_VALUE : now + ttlNanos;
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return new Entry(true, attributes.isDirectory(), expiresAt);
+        } catch (NoSuchFileException e) {
+            return new Entry(false, false, expiresAt);
+        } catch (IOException | SecurityException e) {
+            // same result as Files.exists and Files.isDirectory, but not cached
+            return new Entry(Files.exists(path), Files.isDirectory(path), now);
+        }
+    }
+
+    /**
+     * Removes expired and then arbitrary entries, until the cache is filled to three quarters. Evicting in batches
+     * keeps the scans rare, and only the directories of the removed entries are unwatched.
+     */
+    private void evict(long now) {
+        int target = maxEntries - Math.max(1, maxEntries / 4);
+        Set<Path> directories = new HashSet<>();
+        for (Iterator<Map.Entry<Path, Entry>> iterator = entries.entrySet().iterator(); iterator.hasNext(); ) {
+            Map.Entry<Path, Entry> entry = iterator.next();
+            if (now - entry.getValue().expiresAt >= 0) {
+                directories.add(entry.getKey().getParent());
+                iterator.remove();
+            }
+        }
+        for (Iterator<Path> iterator = entries.keySet().iterator(); entries.size() > target && iterator.hasNext(); ) {
+            directories.add(iterator.next().getParent());
+            iterator.remove();
+        }
+        directories.remove(null);
+        if (directories.isEmpty()) {
+            return;
+        }
+        synchronized (watchedDirectories) {
+            for (Path path : entries.keySet()) {
+                directories.remove(path.getParent());
+            }
+            for (Path directory : directories) {
+                WatchKey key = watchedDirectories.remove(directory);
+                if (key != null) {
+                    key.cancel();
+                }
+            }
+            // entries put concurrently may belong to an unwatched directory
+            invalidations.incrementAndGet();
+        }
+    }
+
+    /**
+     * Cancels the watch keys of the directories without cached paths. Entries put concurrently are invalidated,
+     * as their directory may no longer be watched.
+     */
+    private void unwatchUnused() {
+        invalidations.incrementAndGet();
+        Set<Path> used = new HashSet<>();
+        for (Path path : entries.keySet()) {
+            used.add(path.getParent());
+        }
+        watchedDirectories.entrySet().removeIf(watched -> {
+            if (used.contains(watched.getKey())) {
+                return false;
+            }
+            watched.getValue().cancel();
+            return true;
+        });
+    }
+
+    /**
+     * Returns whether the parent directory of the path is watched.
+     */
+    private boolean watchParent(Path path) {
+        Path directory = path.getParent();
+        if (closed || directory == null) {
+            return false;
+        }
+        if (watchedDirectories.containsKey(directory)) {
+            return true;
+        }
+        synchronized (watchedDirectories) {
+            if (watchedDirectories.containsKey(directory)) {
+                return true;
+            }
+            if (watchedDirectories.size() >= maxEntries) {
+                unwatchUnused();
+                if (watchedDirectories.size() >= maxEntries) {
+                    return false;
+                }
+            }
+            try {
+                WatchService watchService = watchService(directory.getFileSystem());
+                WatchKey key = directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY);
+                watchedDirectories.put(directory, key);
+                return true;
+            } catch (IOException | UnsupportedOperationException | ClosedWatchServiceException e) {
+                // e.g. the directory doesn't exist, the entries of the directory only expire
+                return false;
+            }
+        }
+    }
+
+    private WatchService watchService(FileSystem fileSystem) throws IOException {
+        WatchService watchService = watchServices.get(fileSystem);
+        if (watchService == null) {
+            synchronized (watchServices) {
+                watchService = watchServices.get(fileSystem);
+                if (watchService == null) {
+                    watchService = fileSystem.newWatchService();
+                    watchServices.put(fileSystem, watchService);
+                    Thread thread = new Thread(new Watcher(watchService), "ensure-path-cache-watcher");
+                    thread.setDaemon(true);
+                    thread.start();
+                }
+            }
+        }
+        return watchService;
+    }
+
+    /**
+     * Invalidates the entries affected by the events of a watch service.
+     */
+    private final class Watcher implements Runnable {
+
+        private final WatchService watchService;
+
+        Watcher(WatchService watchService) {
+            this.watchService = watchService;
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (!closed) {
+                    WatchKey key = watchService.take();
+                    Path directory = (Path) key.watchable();
+                    invalidations.incrementAndGet();
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                            invalidateDirectory(directory);
+                        } else {
+                            Path child = directory.resolve((Path) event.context());
+                            entries.remove(child);
+                        }
+                    }
+                    if (!key.reset()) {
+                        // the directory itself is gone
+                        watchedDirectories.remove(directory, key);
+                        invalidateDirectory(directory);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ClosedWatchServiceException e) {
+                // closed by PathCache.close()
+            }
+        }
+
+        private void invalidateDirectory(Path directory) {
+            for (Map.Entry<Path, Entry> entry : entries.entrySet()) {
+                if (directory.equals(entry.getKey().getParent())) {
+                    entries.remove(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,1479 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.nio.file.attribute.PosixFilePermission;
+import java.time.Instant;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * <p>Composite checks of a path, obtained by {@link Ensure#ensurePath(Path, LinkOption...)} or
+ * {@link Ensure#ensurePath(java.io.File)}. The conditions are checked immediately and can be chained, e.g.
+ * {@code ensurePath(p).exists().regularFile().minSize(n).modifiedAfter(t)}.</p>
+ * <p>All conditions are resolved from the attributes read by a single {@code Files.readAttributes} call on
+ * the first check. The POSIX attributes are read if the file system supports them, so permissions can be checked
+ * without further file system access. Later changes of the path are not reflected by the same instance.</p>
+ */
+public final class PathCheck {
+
+    private final Path path;
+    private final LinkOption[] linkOptions;
+    private boolean read;
+    private BasicFileAttributes attributes;
+
+    PathCheck(Path path, LinkOption... linkOptions) {
+        this.path = Ensure.requireNotNull(path, "path must not be null");
+        this.linkOptions = linkOptions;
+    }
+
+    /**
+     * Returns the checked path.
+     */
+    public Path get() {
+        return path;
+    }
+
+    /**
+     * Returns the attributes of the path or null, if the path doesn't exist.
+     */
+    public BasicFileAttributes attributes() {
+        if (!read) {
+            attributes = read();
+            read = true;
+        }
+        return attributes;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path does not exist.
+     */
+    public PathCheck exists() {
+        return exists(Messages.PATH_EXISTS, path);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public PathCheck exists(String messageFormat, Object... messageArgs) {
+        Ensure.ensureTrue(attributes() != null, messageFormat, messageArgs);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public PathCheck exists(String messageFormat) {
+        Ensure.ensureTrue(attributes() != null, messageFormat);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public PathCheck exists(String messageFormat, Object messageArg) {
+        Ensure.ensureTrue(attributes() != null, messageFormat, messageArg);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public PathCheck exists(String messageFormat, int messageArg) {
+        Ensure.ensureTrue(attributes() != null, messageFormat, messageArg);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public PathCheck exists(String messageFormat, long messageArg) {
+        Ensure.ensureTrue(attributes() != null, messageFormat, messageArg);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public PathCheck exists(String messageFormat, Object messageArg1, Object messageArg2) {
+        Ensure.ensureTrue(attributes() != null, messageFormat, messageArg1, messageArg2);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public PathCheck exists(String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        Ensure.ensureTrue(attributes() != null, messageFormat, messageArg1, messageArg2, messageArg3);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path does not exist.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public PathCheck exists(Supplier<String> messageSupplier) {
+        Ensure.ensureTrue(attributes() != null, messageSupplier);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path does not exist.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public <A> PathCheck exists(MessageSupplier1<A> messageSupplier, A messageArg) {
+        Ensure.ensureTrue(attributes() != null, messageSupplier, messageArg);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path does not exist.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public <A, B> PathCheck exists(MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        Ensure.ensureTrue(attributes() != null, messageSupplier, messageArg1, messageArg2);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path does exist.
+     */
+    public PathCheck notExists() {
+        return notExists(Messages.PATH_NOT_EXISTS, path);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public PathCheck notExists(String messageFormat, Object... messageArgs) {
+        Ensure.ensureTrue(attributes() == null, messageFormat, messageArgs);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public PathCheck notExists(String messageFormat) {
+        Ensure.ensureTrue(attributes() == null, messageFormat);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public PathCheck notExists(String messageFormat, Object messageArg) {
+        Ensure.ensureTrue(attributes() == null, messageFormat, messageArg);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public PathCheck notExists(String messageFormat, int messageArg) {
+        Ensure.ensureTrue(attributes() == null, messageFormat, messageArg);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public PathCheck notExists(String messageFormat, long messageArg) {
+        Ensure.ensureTrue(attributes() == null, messageFormat, messageArg);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public PathCheck notExists(String messageFormat, Object messageArg1, Object messageArg2) {
+        Ensure.ensureTrue(attributes() == null, messageFormat, messageArg1, messageArg2);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public PathCheck notExists(String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        Ensure.ensureTrue(attributes() == null, messageFormat, messageArg1, messageArg2, messageArg3);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path does exist.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public PathCheck notExists(Supplier<String> messageSupplier) {
+        Ensure.ensureTrue(attributes() == null, messageSupplier);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path does exist.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public <A> PathCheck notExists(MessageSupplier1<A> messageSupplier, A messageArg) {
+        Ensure.ensureTrue(attributes() == null, messageSupplier, messageArg);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path does exist.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public <A, B> PathCheck notExists(MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        Ensure.ensureTrue(attributes() == null, messageSupplier, messageArg1, messageArg2);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path is not a directory.
+     */
+    public PathCheck directory() {
+        return directory(Messages.PATH_DIRECTORY, path);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public PathCheck directory(String messageFormat, Object... messageArgs) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.isDirectory(), messageFormat, messageArgs);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public PathCheck directory(String messageFormat) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.isDirectory(), messageFormat);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public PathCheck directory(String messageFormat, Object messageArg) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.isDirectory(), messageFormat, messageArg);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public PathCheck directory(String messageFormat, int messageArg) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.isDirectory(), messageFormat, messageArg);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public PathCheck directory(String messageFormat, long messageArg) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.isDirectory(), messageFormat, messageArg);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public PathCheck directory(String messageFormat, Object messageArg1, Object messageArg2) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.isDirectory(), messageFormat, messageArg1, messageArg2);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public PathCheck directory(String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.isDirectory(), messageFormat, messageArg1, messageArg2, messageArg3);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path is not a directory.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public PathCheck directory(Supplier<String> messageSupplier) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.isDirectory(), messageSupplier);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path is not a directory.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public <A> PathCheck directory(MessageSupplier1<A> messageSupplier, A messageArg) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.isDirectory(), messageSupplier, messageArg);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path is not a directory.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public <A, B> PathCheck directory(MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.isDirectory(), messageSupplier, messageArg1, messageArg2);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path is not a regular file.
+     */
+    public PathCheck regularFile() {
+        return regularFile("Path \"%s\" is not a regular file", path);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path is not a regular file.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public PathCheck regularFile(String messageFormat, Object... messageArgs) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.isRegularFile(), messageFormat, messageArgs);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path is not a regular file.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public PathCheck regularFile(String messageFormat) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.isRegularFile(), messageFormat);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path is not a regular file.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public PathCheck regularFile(String messageFormat, Object messageArg) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.isRegularFile(), messageFormat, messageArg);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path is not a regular file.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public PathCheck regularFile(String messageFormat, int messageArg) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.isRegularFile(), messageFormat, messageArg);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path is not a regular file.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public PathCheck regularFile(String messageFormat, long messageArg) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.isRegularFile(), messageFormat, messageArg);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path is not a regular file.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public PathCheck regularFile(String messageFormat, Object messageArg1, Object messageArg2) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.isRegularFile(), messageFormat, messageArg1, messageArg2);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path is not a regular file.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public PathCheck regularFile(String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.isRegularFile(), messageFormat, messageArg1, messageArg2, messageArg3);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path is not a regular file.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public PathCheck regularFile(Supplier<String> messageSupplier) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.isRegularFile(), messageSupplier);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path is not a regular file.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public <A> PathCheck regularFile(MessageSupplier1<A> messageSupplier, A messageArg) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.isRegularFile(), messageSupplier, messageArg);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path is not a regular file.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public <A, B> PathCheck regularFile(MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.isRegularFile(), messageSupplier, messageArg1, messageArg2);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path is not a symbolic link. Only works for paths
+     * checked by {@link Ensure#ensurePath(Path, LinkOption...)} with {@link LinkOption#NOFOLLOW_LINKS}.
+     */
+    public PathCheck symbolicLink() {
+        return symbolicLink("Path \"%s\" is not a symbolic link", path);
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path is not a symbolic link. Only works for paths
+     * checked by {@link Ensure#ensurePath(Path, LinkOption...)} with {@link LinkOption#NOFOLLOW_LINKS}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public PathCheck symbolicLink(String messageFormat, Object... messageArgs) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.isSymbolicLink(), messageFormat, messageArgs);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path is not a symbolic link. Only works for paths
+     * checked by {@link Ensure#ensurePath(Path, LinkOption...)} with {@link LinkOption#NOFOLLOW_LINKS}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public PathCheck symbolicLink(String messageFormat) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.isSymbolicLink(), messageFormat);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path is not a symbolic link. Only works for paths
+     * checked by {@link Ensure#ensurePath(Path, LinkOption...)} with {@link LinkOption#NOFOLLOW_LINKS}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public PathCheck symbolicLink(String messageFormat, Object messageArg) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.isSymbolicLink(), messageFormat, messageArg);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path is not a symbolic link. Only works for paths
+     * checked by {@link Ensure#ensurePath(Path, LinkOption...)} with {@link LinkOption#NOFOLLOW_LINKS}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public PathCheck symbolicLink(String messageFormat, int messageArg) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.isSymbolicLink(), messageFormat, messageArg);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path is not a symbolic link. Only works for paths
+     * checked by {@link Ensure#ensurePath(Path, LinkOption...)} with {@link LinkOption#NOFOLLOW_LINKS}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public PathCheck symbolicLink(String messageFormat, long messageArg) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.isSymbolicLink(), messageFormat, messageArg);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path is not a symbolic link. Only works for paths
+     * checked by {@link Ensure#ensurePath(Path, LinkOption...)} with {@link LinkOption#NOFOLLOW_LINKS}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public PathCheck symbolicLink(String messageFormat, Object messageArg1, Object messageArg2) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.isSymbolicLink(), messageFormat, messageArg1, messageArg2);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path is not a symbolic link. Only works for paths
+     * checked by {@link Ensure#ensurePath(Path, LinkOption...)} with {@link LinkOption#NOFOLLOW_LINKS}.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public PathCheck symbolicLink(String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.isSymbolicLink(), messageFormat, messageArg1, messageArg2, messageArg3);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path is not a symbolic link. Only works for paths
+     * checked by {@link Ensure#ensurePath(Path, LinkOption...)} with {@link LinkOption#NOFOLLOW_LINKS}.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public PathCheck symbolicLink(Supplier<String> messageSupplier) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.isSymbolicLink(), messageSupplier);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path is not a symbolic link. Only works for paths
+     * checked by {@link Ensure#ensurePath(Path, LinkOption...)} with {@link LinkOption#NOFOLLOW_LINKS}.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public <A> PathCheck symbolicLink(MessageSupplier1<A> messageSupplier, A messageArg) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.isSymbolicLink(), messageSupplier, messageArg);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path is not a symbolic link. Only works for paths
+     * checked by {@link Ensure#ensurePath(Path, LinkOption...)} with {@link LinkOption#NOFOLLOW_LINKS}.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public <A, B> PathCheck symbolicLink(MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.isSymbolicLink(), messageSupplier, messageArg1, messageArg2);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or is smaller than the given number of bytes.
+     */
+    public PathCheck minSize(long size) {
+        EnsureStats.recordCheck();
+        BasicFileAttributes attributes = existingAttributes();
+        if (attributes.size() < size) {
+            Ensure.fail("Path \"%s\" must have at least %s bytes but has %s", path, size, attributes.size());
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or is smaller than the given number of bytes.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public PathCheck minSize(long size, String messageFormat, Object... messageArgs) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.size() >= size, messageFormat, messageArgs);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or is smaller than the given number of bytes.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public PathCheck minSize(long size, String messageFormat) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.size() >= size, messageFormat);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or is smaller than the given number of bytes.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public PathCheck minSize(long size, String messageFormat, Object messageArg) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.size() >= size, messageFormat, messageArg);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or is smaller than the given number of bytes.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public PathCheck minSize(long size, String messageFormat, int messageArg) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.size() >= size, messageFormat, messageArg);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or is smaller than the given number of bytes.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public PathCheck minSize(long size, String messageFormat, long messageArg) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.size() >= size, messageFormat, messageArg);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or is smaller than the given number of bytes.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public PathCheck minSize(long size, String messageFormat, Object messageArg1, Object messageArg2) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.size() >= size, messageFormat, messageArg1, messageArg2);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or is smaller than the given number of bytes.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public PathCheck minSize(long size, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.size() >= size, messageFormat, messageArg1, messageArg2, messageArg3);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or is smaller than the given number of bytes.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public PathCheck minSize(long size, Supplier<String> messageSupplier) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.size() >= size, messageSupplier);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or is smaller than the given number of bytes.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public <A> PathCheck minSize(long size, MessageSupplier1<A> messageSupplier, A messageArg) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.size() >= size, messageSupplier, messageArg);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or is smaller than the given number of bytes.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public <A, B> PathCheck minSize(long size, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.size() >= size, messageSupplier, messageArg1, messageArg2);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or is larger than the given number of bytes.
+     */
+    public PathCheck maxSize(long size) {
+        EnsureStats.recordCheck();
+        BasicFileAttributes attributes = existingAttributes();
+        if (attributes.size() > size) {
+            Ensure.fail("Path \"%s\" must have at most %s bytes but has %s", path, size, attributes.size());
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or is larger than the given number of bytes.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public PathCheck maxSize(long size, String messageFormat, Object... messageArgs) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.size() <= size, messageFormat, messageArgs);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or is larger than the given number of bytes.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public PathCheck maxSize(long size, String messageFormat) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.size() <= size, messageFormat);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or is larger than the given number of bytes.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public PathCheck maxSize(long size, String messageFormat, Object messageArg) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.size() <= size, messageFormat, messageArg);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or is larger than the given number of bytes.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public PathCheck maxSize(long size, String messageFormat, int messageArg) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.size() <= size, messageFormat, messageArg);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or is larger than the given number of bytes.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public PathCheck maxSize(long size, String messageFormat, long messageArg) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.size() <= size, messageFormat, messageArg);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or is larger than the given number of bytes.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public PathCheck maxSize(long size, String messageFormat, Object messageArg1, Object messageArg2) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.size() <= size, messageFormat, messageArg1, messageArg2);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or is larger than the given number of bytes.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public PathCheck maxSize(long size, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.size() <= size, messageFormat, messageArg1, messageArg2, messageArg3);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or is larger than the given number of bytes.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public PathCheck maxSize(long size, Supplier<String> messageSupplier) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.size() <= size, messageSupplier);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or is larger than the given number of bytes.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public <A> PathCheck maxSize(long size, MessageSupplier1<A> messageSupplier, A messageArg) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.size() <= size, messageSupplier, messageArg);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or is larger than the given number of bytes.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public <A, B> PathCheck maxSize(long size, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.size() <= size, messageSupplier, messageArg1, messageArg2);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or wasn't modified after the given instant.
+     */
+    public PathCheck modifiedAfter(Instant instant) {
+        Ensure.requireNotNull(instant, "instant must not be null");
+        EnsureStats.recordCheck();
+        FileTime actual = existingAttributes().lastModifiedTime();
+        if (!actual.toInstant().isAfter(instant)) {
+            Ensure.fail("Path \"%s\" must be modified after %s but was modified at %s", path, instant, actual);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or wasn't modified after the given instant.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public PathCheck modifiedAfter(Instant instant, String messageFormat, Object... messageArgs) {
+        Ensure.requireNotNull(instant, "instant must not be null");
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.lastModifiedTime().toInstant().isAfter(instant),
+                messageFormat, messageArgs);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or wasn't modified after the given instant.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public PathCheck modifiedAfter(Instant instant, String messageFormat) {
+        Ensure.requireNotNull(instant, "instant must not be null");
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.lastModifiedTime().toInstant().isAfter(instant),
+                messageFormat);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or wasn't modified after the given instant.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public PathCheck modifiedAfter(Instant instant, String messageFormat, Object messageArg) {
+        Ensure.requireNotNull(instant, "instant must not be null");
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.lastModifiedTime().toInstant().isAfter(instant),
+                messageFormat, messageArg);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or wasn't modified after the given instant.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public PathCheck modifiedAfter(Instant instant, String messageFormat, int messageArg) {
+        Ensure.requireNotNull(instant, "instant must not be null");
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.lastModifiedTime().toInstant().isAfter(instant),
+                messageFormat, messageArg);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or wasn't modified after the given instant.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public PathCheck modifiedAfter(Instant instant, String messageFormat, long messageArg) {
+        Ensure.requireNotNull(instant, "instant must not be null");
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.lastModifiedTime().toInstant().isAfter(instant),
+                messageFormat, messageArg);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or wasn't modified after the given instant.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public PathCheck modifiedAfter(Instant instant, String messageFormat, Object messageArg1, Object messageArg2) {
+        Ensure.requireNotNull(instant, "instant must not be null");
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.lastModifiedTime().toInstant().isAfter(instant),
+                messageFormat, messageArg1, messageArg2);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or wasn't modified after the given instant.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public PathCheck modifiedAfter(Instant instant, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        Ensure.requireNotNull(instant, "instant must not be null");
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.lastModifiedTime().toInstant().isAfter(instant),
+                messageFormat, messageArg1, messageArg2, messageArg3);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or wasn't modified after the given instant.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public PathCheck modifiedAfter(Instant instant, Supplier<String> messageSupplier) {
+        Ensure.requireNotNull(instant, "instant must not be null");
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.lastModifiedTime().toInstant().isAfter(instant),
+                messageSupplier);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or wasn't modified after the given instant.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public <A> PathCheck modifiedAfter(Instant instant, MessageSupplier1<A> messageSupplier, A messageArg) {
+        Ensure.requireNotNull(instant, "instant must not be null");
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.lastModifiedTime().toInstant().isAfter(instant),
+                messageSupplier, messageArg);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or wasn't modified after the given instant.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public <A, B> PathCheck modifiedAfter(Instant instant, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        Ensure.requireNotNull(instant, "instant must not be null");
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.lastModifiedTime().toInstant().isAfter(instant),
+                messageSupplier, messageArg1, messageArg2);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or wasn't modified before the given instant.
+     */
+    public PathCheck modifiedBefore(Instant instant) {
+        Ensure.requireNotNull(instant, "instant must not be null");
+        EnsureStats.recordCheck();
+        FileTime actual = existingAttributes().lastModifiedTime();
+        if (!actual.toInstant().isBefore(instant)) {
+            Ensure.fail("Path \"%s\" must be modified before %s but was modified at %s", path, instant, actual);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or wasn't modified before the given instant.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public PathCheck modifiedBefore(Instant instant, String messageFormat, Object... messageArgs) {
+        Ensure.requireNotNull(instant, "instant must not be null");
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.lastModifiedTime().toInstant().isBefore(instant),
+                messageFormat, messageArgs);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or wasn't modified before the given instant.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public PathCheck modifiedBefore(Instant instant, String messageFormat) {
+        Ensure.requireNotNull(instant, "instant must not be null");
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.lastModifiedTime().toInstant().isBefore(instant),
+                messageFormat);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or wasn't modified before the given instant.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public PathCheck modifiedBefore(Instant instant, String messageFormat, Object messageArg) {
+        Ensure.requireNotNull(instant, "instant must not be null");
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.lastModifiedTime().toInstant().isBefore(instant),
+                messageFormat, messageArg);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or wasn't modified before the given instant.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public PathCheck modifiedBefore(Instant instant, String messageFormat, int messageArg) {
+        Ensure.requireNotNull(instant, "instant must not be null");
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.lastModifiedTime().toInstant().isBefore(instant),
+                messageFormat, messageArg);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or wasn't modified before the given instant.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public PathCheck modifiedBefore(Instant instant, String messageFormat, long messageArg) {
+        Ensure.requireNotNull(instant, "instant must not be null");
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.lastModifiedTime().toInstant().isBefore(instant),
+                messageFormat, messageArg);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or wasn't modified before the given instant.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public PathCheck modifiedBefore(Instant instant, String messageFormat, Object messageArg1, Object messageArg2) {
+        Ensure.requireNotNull(instant, "instant must not be null");
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.lastModifiedTime().toInstant().isBefore(instant),
+                messageFormat, messageArg1, messageArg2);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or wasn't modified before the given instant.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public PathCheck modifiedBefore(Instant instant, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        Ensure.requireNotNull(instant, "instant must not be null");
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.lastModifiedTime().toInstant().isBefore(instant),
+                messageFormat, messageArg1, messageArg2, messageArg3);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or wasn't modified before the given instant.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public PathCheck modifiedBefore(Instant instant, Supplier<String> messageSupplier) {
+        Ensure.requireNotNull(instant, "instant must not be null");
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.lastModifiedTime().toInstant().isBefore(instant),
+                messageSupplier);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or wasn't modified before the given instant.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public <A> PathCheck modifiedBefore(Instant instant, MessageSupplier1<A> messageSupplier, A messageArg) {
+        Ensure.requireNotNull(instant, "instant must not be null");
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.lastModifiedTime().toInstant().isBefore(instant),
+                messageSupplier, messageArg);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or wasn't modified before the given instant.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public <A, B> PathCheck modifiedBefore(Instant instant, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        Ensure.requireNotNull(instant, "instant must not be null");
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes != null && attributes.lastModifiedTime().toInstant().isBefore(instant),
+                messageSupplier, messageArg1, messageArg2);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or doesn't have all the given POSIX
+     * permissions. Paths of file systems without POSIX support always fail.
+     */
+    public PathCheck permissions(PosixFilePermission... permissions) {
+        Ensure.requireNotNull(permissions, "permissions must not be null");
+        EnsureStats.recordCheck();
+        BasicFileAttributes attributes = existingAttributes();
+        if (!(attributes instanceof PosixFileAttributes)) {
+            Ensure.fail("Path \"%s\" doesn't support POSIX permissions", path);
+        }
+        Set<PosixFilePermission> actual = ((PosixFileAttributes) attributes).permissions();
+        for (PosixFilePermission permission : permissions) {
+            if (!actual.contains(permission)) {
+                Ensure.fail("Path \"%s\" must have permission %s but has %s", path, permission, actual);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or doesn't have all the given POSIX
+     * permissions. Paths of file systems without POSIX support always fail.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public PathCheck permissions(Set<PosixFilePermission> permissions, String messageFormat, Object... messageArgs) {
+        Ensure.requireNotNull(permissions, "permissions must not be null");
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes instanceof PosixFileAttributes
+                && ((PosixFileAttributes) attributes).permissions().containsAll(permissions), messageFormat, messageArgs);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or doesn't have all the given POSIX
+     * permissions. Paths of file systems without POSIX support always fail.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public PathCheck permissions(Set<PosixFilePermission> permissions, String messageFormat) {
+        Ensure.requireNotNull(permissions, "permissions must not be null");
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes instanceof PosixFileAttributes
+                && ((PosixFileAttributes) attributes).permissions().containsAll(permissions), messageFormat);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or doesn't have all the given POSIX
+     * permissions. Paths of file systems without POSIX support always fail.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public PathCheck permissions(Set<PosixFilePermission> permissions, String messageFormat, Object messageArg) {
+        Ensure.requireNotNull(permissions, "permissions must not be null");
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes instanceof PosixFileAttributes
+                && ((PosixFileAttributes) attributes).permissions().containsAll(permissions), messageFormat, messageArg);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or doesn't have all the given POSIX
+     * permissions. Paths of file systems without POSIX support always fail.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public PathCheck permissions(Set<PosixFilePermission> permissions, String messageFormat, int messageArg) {
+        Ensure.requireNotNull(permissions, "permissions must not be null");
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes instanceof PosixFileAttributes
+                && ((PosixFileAttributes) attributes).permissions().containsAll(permissions), messageFormat, messageArg);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or doesn't have all the given POSIX
+     * permissions. Paths of file systems without POSIX support always fail.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public PathCheck permissions(Set<PosixFilePermission> permissions, String messageFormat, long messageArg) {
+        Ensure.requireNotNull(permissions, "permissions must not be null");
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes instanceof PosixFileAttributes
+                && ((PosixFileAttributes) attributes).permissions().containsAll(permissions), messageFormat, messageArg);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or doesn't have all the given POSIX
+     * permissions. Paths of file systems without POSIX support always fail.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public PathCheck permissions(Set<PosixFilePermission> permissions, String messageFormat, Object messageArg1, Object messageArg2) {
+        Ensure.requireNotNull(permissions, "permissions must not be null");
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes instanceof PosixFileAttributes
+                && ((PosixFileAttributes) attributes).permissions().containsAll(permissions), messageFormat, messageArg1, messageArg2);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or doesn't have all the given POSIX
+     * permissions. Paths of file systems without POSIX support always fail.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public PathCheck permissions(Set<PosixFilePermission> permissions, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        Ensure.requireNotNull(permissions, "permissions must not be null");
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes instanceof PosixFileAttributes
+                && ((PosixFileAttributes) attributes).permissions().containsAll(permissions), messageFormat, messageArg1, messageArg2, messageArg3);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or doesn't have all the given POSIX
+     * permissions. Paths of file systems without POSIX support always fail.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public PathCheck permissions(Set<PosixFilePermission> permissions, Supplier<String> messageSupplier) {
+        Ensure.requireNotNull(permissions, "permissions must not be null");
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes instanceof PosixFileAttributes
+                && ((PosixFileAttributes) attributes).permissions().containsAll(permissions), messageSupplier);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or doesn't have all the given POSIX
+     * permissions. Paths of file systems without POSIX support always fail.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public <A> PathCheck permissions(Set<PosixFilePermission> permissions, MessageSupplier1<A> messageSupplier, A messageArg) {
+        Ensure.requireNotNull(permissions, "permissions must not be null");
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes instanceof PosixFileAttributes
+                && ((PosixFileAttributes) attributes).permissions().containsAll(permissions), messageSupplier, messageArg);
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the path doesn't exist or doesn't have all the given POSIX
+     * permissions. Paths of file systems without POSIX support always fail.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public <A, B> PathCheck permissions(Set<PosixFilePermission> permissions, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        Ensure.requireNotNull(permissions, "permissions must not be null");
+        BasicFileAttributes attributes = attributes();
+        Ensure.ensureTrue(attributes instanceof PosixFileAttributes
+                && ((PosixFileAttributes) attributes).permissions().containsAll(permissions), messageSupplier, messageArg1, messageArg2);
+        return this;
+    }
+
+    /**
+     * Returns the attributes of the path and fails if it doesn't exist. The calling check records itself.
+     */
+    private BasicFileAttributes existingAttributes() {
+        BasicFileAttributes attributes = attributes();
+        if (attributes == null) {
+            Ensure.fail(Messages.PATH_EXISTS, path);
+        }
+        return attributes;
+    }
+
+    private BasicFileAttributes read() {
+        try {
+            if (path.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+                return Files.readAttributes(path, PosixFileAttributes.class, linkOptions);
+            }
+            return Files.readAttributes(path, BasicFileAttributes.class, linkOptions);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            Ensure.fail("Attributes of path \"%s\" can't be read: %s", path, e);
+            return null;
+        }
+    }
+}
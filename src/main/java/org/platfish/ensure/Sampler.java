@@ -0,0 +1,1086 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * <p>Runs expensive checks only for a random sample of the invocations, roughly once per
+ * {@link #getRate()} calls. Instances are obtained by {@link Ensure#sampled(int)}.</p>
+ * <p>The decision is based on {@link ThreadLocalRandom}, so sampling has no shared state and
+ * doesn't cause contention between threads. Checks whose arguments are cheap can be called
+ * directly, e.g. {@code Ensure.sampled(1024).ensureExists(path)}. Otherwise the check should
+ * be guarded by {@link #sample()} so its arguments are only evaluated for sampled calls:</p>
+ * <pre>
+ * if (SAMPLER.sample()) {
+ *     ensureTrue(isSorted(values), "values must be sorted");
+ * }
+ * </pre>
+ */
+public final class Sampler {
+
+    private static final Sampler[] SAMPLERS = new Sampler[31];
+
+    static {
+        for (int i = 0; i < SAMPLERS.length; i++) {
+            SAMPLERS[i] = new Sampler(1 << i);
+        }
+    }
+
+    private final int mask;
+
+    private Sampler(int rate) {
+        this.mask = rate - 1;
+    }
+
+    /**
+     * Returns the sampler for the given rate, which is rounded up to the next power of two.
+     */
+    static Sampler of(int rate) {
+        Ensure.requireArgument(rate > 0 && rate <= 1 << 30, "rate must be between 1 and 2^30 but was %s", rate);
+        return SAMPLERS[32 - Integer.numberOfLeadingZeros(rate - 1)];
+    }
+
+    /**
+     * Returns the number of invocations per sampled invocation, always a power of two.
+     */
+    public int getRate() {
+        return mask + 1;
+    }
+
+    /**
+     * Returns whether the current invocation is sampled and the check should be run.
+     */
+    public boolean sample() {
+        return mask == 0 || (ThreadLocalRandom.current().nextInt() & mask) == 0;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given condition isn't true.
+     * The condition is only evaluated for sampled invocations.
+     */
+    public void ensureTrue(BooleanSupplier condition) {
+        if (sample()) {
+            Ensure.ensureTrue(condition.getAsBoolean());
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given condition isn't true.
+     * The condition is only evaluated for sampled invocations.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public void ensureTrue(BooleanSupplier condition, String messageFormat, Object... messageArgs) {
+        if (sample()) {
+            Ensure.ensureTrue(condition.getAsBoolean(), messageFormat, messageArgs);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given condition isn't true.
+     * The condition is only evaluated for sampled invocations.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public <A> void ensureTrue(BooleanSupplier condition, MessageSupplier1<A> messageSupplier, A messageArg) {
+        if (sample()) {
+            Ensure.ensureTrue(condition.getAsBoolean(), messageSupplier, messageArg);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given condition isn't true.
+     * The condition is only evaluated for sampled invocations.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public <A, B> void ensureTrue(BooleanSupplier condition, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        if (sample()) {
+            Ensure.ensureTrue(condition.getAsBoolean(), messageSupplier, messageArg1, messageArg2);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given condition isn't true.
+     * The condition is only evaluated for sampled invocations.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public void ensureTrue(BooleanSupplier condition, String messageFormat) {
+        if (sample()) {
+            Ensure.ensureTrue(condition.getAsBoolean(), messageFormat);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given condition isn't true.
+     * The condition is only evaluated for sampled invocations.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public void ensureTrue(BooleanSupplier condition, String messageFormat, Object messageArg) {
+        if (sample()) {
+            Ensure.ensureTrue(condition.getAsBoolean(), messageFormat, messageArg);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given condition isn't true.
+     * The condition is only evaluated for sampled invocations.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public void ensureTrue(BooleanSupplier condition, String messageFormat, int messageArg) {
+        if (sample()) {
+            Ensure.ensureTrue(condition.getAsBoolean(), messageFormat, messageArg);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given condition isn't true.
+     * The condition is only evaluated for sampled invocations.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public void ensureTrue(BooleanSupplier condition, String messageFormat, long messageArg) {
+        if (sample()) {
+            Ensure.ensureTrue(condition.getAsBoolean(), messageFormat, messageArg);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given condition isn't true.
+     * The condition is only evaluated for sampled invocations.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public void ensureTrue(BooleanSupplier condition, String messageFormat, Object messageArg1, Object messageArg2) {
+        if (sample()) {
+            Ensure.ensureTrue(condition.getAsBoolean(), messageFormat, messageArg1, messageArg2);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given condition isn't true.
+     * The condition is only evaluated for sampled invocations.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public void ensureTrue(BooleanSupplier condition, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        if (sample()) {
+            Ensure.ensureTrue(condition.getAsBoolean(), messageFormat, messageArg1, messageArg2, messageArg3);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given condition isn't true.
+     * The condition is only evaluated for sampled invocations.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public void ensureTrue(BooleanSupplier condition, Supplier<String> messageSupplier) {
+        if (sample()) {
+            Ensure.ensureTrue(condition.getAsBoolean(), messageSupplier);
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given value doesn't match the
+     * condition. The condition is only evaluated for sampled invocations. In contrast to a
+     * {@link BooleanSupplier} the condition doesn't need to capture the value, so it isn't allocated per call.
+     *
+     * @return Returns the given value.
+     */
+    public <T> T ensureTrue(T value, Predicate<? super T> condition) {
+        if (sample()) {
+            Ensure.ensureTrue(condition.test(value));
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given value doesn't match the
+     * condition. The condition is only evaluated for sampled invocations. In contrast to a
+     * {@link BooleanSupplier} the condition doesn't need to capture the value, so it isn't allocated per call.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return Returns the given value.
+     */
+    public <T> T ensureTrue(T value, Predicate<? super T> condition, String messageFormat, Object... messageArgs) {
+        if (sample()) {
+            Ensure.ensureTrue(condition.test(value), messageFormat, messageArgs);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given value doesn't match the
+     * condition. The condition is only evaluated for sampled invocations. In contrast to a
+     * {@link BooleanSupplier} the condition doesn't need to capture the value, so it isn't allocated per call.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return Returns the given value.
+     */
+    public <T, A> T ensureTrue(T value, Predicate<? super T> condition, MessageSupplier1<A> messageSupplier, A messageArg) {
+        if (sample()) {
+            Ensure.ensureTrue(condition.test(value), messageSupplier, messageArg);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given value doesn't match the
+     * condition. The condition is only evaluated for sampled invocations. In contrast to a
+     * {@link BooleanSupplier} the condition doesn't need to capture the value, so it isn't allocated per call.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return Returns the given value.
+     */
+    public <T, A, B> T ensureTrue(T value, Predicate<? super T> condition, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        if (sample()) {
+            Ensure.ensureTrue(condition.test(value), messageSupplier, messageArg1, messageArg2);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given value doesn't match the
+     * condition. The condition is only evaluated for sampled invocations. In contrast to a
+     * {@link BooleanSupplier} the condition doesn't need to capture the value, so it isn't allocated per call.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return Returns the given value.
+     */
+    public <T> T ensureTrue(T value, Predicate<? super T> condition, String messageFormat) {
+        if (sample()) {
+            Ensure.ensureTrue(condition.test(value), messageFormat);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given value doesn't match the
+     * condition. The condition is only evaluated for sampled invocations. In contrast to a
+     * {@link BooleanSupplier} the condition doesn't need to capture the value, so it isn't allocated per call.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return Returns the given value.
+     */
+    public <T> T ensureTrue(T value, Predicate<? super T> condition, String messageFormat, Object messageArg) {
+        if (sample()) {
+            Ensure.ensureTrue(condition.test(value), messageFormat, messageArg);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given value doesn't match the
+     * condition. The condition is only evaluated for sampled invocations. In contrast to a
+     * {@link BooleanSupplier} the condition doesn't need to capture the value, so it isn't allocated per call.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return Returns the given value.
+     */
+    public <T> T ensureTrue(T value, Predicate<? super T> condition, String messageFormat, int messageArg) {
+        if (sample()) {
+            Ensure.ensureTrue(condition.test(value), messageFormat, messageArg);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given value doesn't match the
+     * condition. The condition is only evaluated for sampled invocations. In contrast to a
+     * {@link BooleanSupplier} the condition doesn't need to capture the value, so it isn't allocated per call.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return Returns the given value.
+     */
+    public <T> T ensureTrue(T value, Predicate<? super T> condition, String messageFormat, long messageArg) {
+        if (sample()) {
+            Ensure.ensureTrue(condition.test(value), messageFormat, messageArg);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given value doesn't match the
+     * condition. The condition is only evaluated for sampled invocations. In contrast to a
+     * {@link BooleanSupplier} the condition doesn't need to capture the value, so it isn't allocated per call.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return Returns the given value.
+     */
+    public <T> T ensureTrue(T value, Predicate<? super T> condition, String messageFormat, Object messageArg1, Object messageArg2) {
+        if (sample()) {
+            Ensure.ensureTrue(condition.test(value), messageFormat, messageArg1, messageArg2);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given value doesn't match the
+     * condition. The condition is only evaluated for sampled invocations. In contrast to a
+     * {@link BooleanSupplier} the condition doesn't need to capture the value, so it isn't allocated per call.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return Returns the given value.
+     */
+    public <T> T ensureTrue(T value, Predicate<? super T> condition, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        if (sample()) {
+            Ensure.ensureTrue(condition.test(value), messageFormat, messageArg1, messageArg2, messageArg3);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given value doesn't match the
+     * condition. The condition is only evaluated for sampled invocations. In contrast to a
+     * {@link BooleanSupplier} the condition doesn't need to capture the value, so it isn't allocated per call.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return Returns the given value.
+     */
+    public <T> T ensureTrue(T value, Predicate<? super T> condition, Supplier<String> messageSupplier) {
+        if (sample()) {
+            Ensure.ensureTrue(condition.test(value), messageSupplier);
+        }
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given Path does not exist.
+     *
+     * @param value The path to be checked.
+     * @return Returns the checked path.
+     */
+    public Path ensureExists(Path value) {
+        return sample() ? Ensure.ensureExists(value) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given Path does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return Returns the checked path.
+     */
+    public Path ensureExists(Path value, String messageFormat, Object... messageArgs) {
+        return sample() ? Ensure.ensureExists(value, messageFormat, messageArgs) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given Path does not exist.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return Returns the checked path.
+     */
+    public <A> Path ensureExists(Path value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        return sample() ? Ensure.ensureExists(value, messageSupplier, messageArg) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given Path does not exist.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return Returns the checked path.
+     */
+    public <A, B> Path ensureExists(Path value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        return sample() ? Ensure.ensureExists(value, messageSupplier, messageArg1, messageArg2) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given Path does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return Returns the checked path.
+     */
+    public Path ensureExists(Path value, String messageFormat) {
+        return sample() ? Ensure.ensureExists(value, messageFormat) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given Path does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return Returns the checked path.
+     */
+    public Path ensureExists(Path value, String messageFormat, Object messageArg) {
+        return sample() ? Ensure.ensureExists(value, messageFormat, messageArg) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given Path does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return Returns the checked path.
+     */
+    public Path ensureExists(Path value, String messageFormat, int messageArg) {
+        return sample() ? Ensure.ensureExists(value, messageFormat, messageArg) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given Path does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return Returns the checked path.
+     */
+    public Path ensureExists(Path value, String messageFormat, long messageArg) {
+        return sample() ? Ensure.ensureExists(value, messageFormat, messageArg) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given Path does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return Returns the checked path.
+     */
+    public Path ensureExists(Path value, String messageFormat, Object messageArg1, Object messageArg2) {
+        return sample() ? Ensure.ensureExists(value, messageFormat, messageArg1, messageArg2) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given Path does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return Returns the checked path.
+     */
+    public Path ensureExists(Path value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        return sample() ? Ensure.ensureExists(value, messageFormat, messageArg1, messageArg2, messageArg3) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given Path does not exist.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return Returns the checked path.
+     */
+    public Path ensureExists(Path value, Supplier<String> messageSupplier) {
+        return sample() ? Ensure.ensureExists(value, messageSupplier) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given Path does exist.
+     *
+     * @param value The path to be checked.
+     * @return Returns the checked path.
+     */
+    public Path ensureNotExists(Path value) {
+        return sample() ? Ensure.ensureNotExists(value) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given Path does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return Returns the checked path.
+     */
+    public Path ensureNotExists(Path value, String messageFormat, Object... messageArgs) {
+        return sample() ? Ensure.ensureNotExists(value, messageFormat, messageArgs) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given Path does exist.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return Returns the checked path.
+     */
+    public <A> Path ensureNotExists(Path value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        return sample() ? Ensure.ensureNotExists(value, messageSupplier, messageArg) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given Path does exist.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return Returns the checked path.
+     */
+    public <A, B> Path ensureNotExists(Path value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        return sample() ? Ensure.ensureNotExists(value, messageSupplier, messageArg1, messageArg2) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given Path does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return Returns the checked path.
+     */
+    public Path ensureNotExists(Path value, String messageFormat) {
+        return sample() ? Ensure.ensureNotExists(value, messageFormat) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given Path does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return Returns the checked path.
+     */
+    public Path ensureNotExists(Path value, String messageFormat, Object messageArg) {
+        return sample() ? Ensure.ensureNotExists(value, messageFormat, messageArg) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given Path does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return Returns the checked path.
+     */
+    public Path ensureNotExists(Path value, String messageFormat, int messageArg) {
+        return sample() ? Ensure.ensureNotExists(value, messageFormat, messageArg) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given Path does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return Returns the checked path.
+     */
+    public Path ensureNotExists(Path value, String messageFormat, long messageArg) {
+        return sample() ? Ensure.ensureNotExists(value, messageFormat, messageArg) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given Path does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return Returns the checked path.
+     */
+    public Path ensureNotExists(Path value, String messageFormat, Object messageArg1, Object messageArg2) {
+        return sample() ? Ensure.ensureNotExists(value, messageFormat, messageArg1, messageArg2) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given Path does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return Returns the checked path.
+     */
+    public Path ensureNotExists(Path value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        return sample() ? Ensure.ensureNotExists(value, messageFormat, messageArg1, messageArg2, messageArg3) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given Path does exist.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return Returns the checked path.
+     */
+    public Path ensureNotExists(Path value, Supplier<String> messageSupplier) {
+        return sample() ? Ensure.ensureNotExists(value, messageSupplier) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given Path is not a directory.
+     *
+     * @param value The directory to be checked.
+     * @return Returns the checked directory.
+     */
+    public Path ensureDirectory(Path value) {
+        return sample() ? Ensure.ensureDirectory(value) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given Path is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     * @return Returns the checked directory.
+     */
+    public Path ensureDirectory(Path value, String messageFormat, Object... messageArgs) {
+        return sample() ? Ensure.ensureDirectory(value, messageFormat, messageArgs) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given Path is not a directory.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     * @return Returns the checked directory.
+     */
+    public <A> Path ensureDirectory(Path value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        return sample() ? Ensure.ensureDirectory(value, messageSupplier, messageArg) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given Path is not a directory.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     * @return Returns the checked directory.
+     */
+    public <A, B> Path ensureDirectory(Path value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        return sample() ? Ensure.ensureDirectory(value, messageSupplier, messageArg1, messageArg2) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given Path is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @return Returns the checked directory.
+     */
+    public Path ensureDirectory(Path value, String messageFormat) {
+        return sample() ? Ensure.ensureDirectory(value, messageFormat) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given Path is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return Returns the checked directory.
+     */
+    public Path ensureDirectory(Path value, String messageFormat, Object messageArg) {
+        return sample() ? Ensure.ensureDirectory(value, messageFormat, messageArg) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given Path is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return Returns the checked directory.
+     */
+    public Path ensureDirectory(Path value, String messageFormat, int messageArg) {
+        return sample() ? Ensure.ensureDirectory(value, messageFormat, messageArg) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given Path is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     * @return Returns the checked directory.
+     */
+    public Path ensureDirectory(Path value, String messageFormat, long messageArg) {
+        return sample() ? Ensure.ensureDirectory(value, messageFormat, messageArg) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given Path is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @return Returns the checked directory.
+     */
+    public Path ensureDirectory(Path value, String messageFormat, Object messageArg1, Object messageArg2) {
+        return sample() ? Ensure.ensureDirectory(value, messageFormat, messageArg1, messageArg2) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given Path is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     * @return Returns the checked directory.
+     */
+    public Path ensureDirectory(Path value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        return sample() ? Ensure.ensureDirectory(value, messageFormat, messageArg1, messageArg2, messageArg3) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given Path is not a directory.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     * @return Returns the checked directory.
+     */
+    public Path ensureDirectory(Path value, Supplier<String> messageSupplier) {
+        return sample() ? Ensure.ensureDirectory(value, messageSupplier) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given File does not exist.
+     */
+    public File ensureExists(File value) {
+        return sample() ? Ensure.ensureExists(value) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given File does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public File ensureExists(File value, String messageFormat, Object... messageArgs) {
+        return sample() ? Ensure.ensureExists(value, messageFormat, messageArgs) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given File does not exist.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public <A> File ensureExists(File value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        return sample() ? Ensure.ensureExists(value, messageSupplier, messageArg) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given File does not exist.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public <A, B> File ensureExists(File value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        return sample() ? Ensure.ensureExists(value, messageSupplier, messageArg1, messageArg2) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given File does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public File ensureExists(File value, String messageFormat) {
+        return sample() ? Ensure.ensureExists(value, messageFormat) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given File does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public File ensureExists(File value, String messageFormat, Object messageArg) {
+        return sample() ? Ensure.ensureExists(value, messageFormat, messageArg) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given File does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public File ensureExists(File value, String messageFormat, int messageArg) {
+        return sample() ? Ensure.ensureExists(value, messageFormat, messageArg) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given File does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public File ensureExists(File value, String messageFormat, long messageArg) {
+        return sample() ? Ensure.ensureExists(value, messageFormat, messageArg) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given File does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public File ensureExists(File value, String messageFormat, Object messageArg1, Object messageArg2) {
+        return sample() ? Ensure.ensureExists(value, messageFormat, messageArg1, messageArg2) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given File does not exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public File ensureExists(File value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        return sample() ? Ensure.ensureExists(value, messageFormat, messageArg1, messageArg2, messageArg3) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given File does not exist.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public File ensureExists(File value, Supplier<String> messageSupplier) {
+        return sample() ? Ensure.ensureExists(value, messageSupplier) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given File does exist.
+     */
+    public File ensureNotExists(File value) {
+        return sample() ? Ensure.ensureNotExists(value) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given File does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public File ensureNotExists(File value, String messageFormat, Object... messageArgs) {
+        return sample() ? Ensure.ensureNotExists(value, messageFormat, messageArgs) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given File does exist.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public <A> File ensureNotExists(File value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        return sample() ? Ensure.ensureNotExists(value, messageSupplier, messageArg) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given File does exist.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public <A, B> File ensureNotExists(File value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        return sample() ? Ensure.ensureNotExists(value, messageSupplier, messageArg1, messageArg2) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given File does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public File ensureNotExists(File value, String messageFormat) {
+        return sample() ? Ensure.ensureNotExists(value, messageFormat) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given File does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public File ensureNotExists(File value, String messageFormat, Object messageArg) {
+        return sample() ? Ensure.ensureNotExists(value, messageFormat, messageArg) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given File does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public File ensureNotExists(File value, String messageFormat, int messageArg) {
+        return sample() ? Ensure.ensureNotExists(value, messageFormat, messageArg) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given File does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public File ensureNotExists(File value, String messageFormat, long messageArg) {
+        return sample() ? Ensure.ensureNotExists(value, messageFormat, messageArg) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given File does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public File ensureNotExists(File value, String messageFormat, Object messageArg1, Object messageArg2) {
+        return sample() ? Ensure.ensureNotExists(value, messageFormat, messageArg1, messageArg2) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given File does exist.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public File ensureNotExists(File value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        return sample() ? Ensure.ensureNotExists(value, messageFormat, messageArg1, messageArg2, messageArg3) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given File does exist.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public File ensureNotExists(File value, Supplier<String> messageSupplier) {
+        return sample() ? Ensure.ensureNotExists(value, messageSupplier) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given File is not a directory.
+     */
+    public File ensureDirectory(File value) {
+        return sample() ? Ensure.ensureDirectory(value) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given File is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public File ensureDirectory(File value, String messageFormat, Object... messageArgs) {
+        return sample() ? Ensure.ensureDirectory(value, messageFormat, messageArgs) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given File is not a directory.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public <A> File ensureDirectory(File value, MessageSupplier1<A> messageSupplier, A messageArg) {
+        return sample() ? Ensure.ensureDirectory(value, messageSupplier, messageArg) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given File is not a directory.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public <A, B> File ensureDirectory(File value, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        return sample() ? Ensure.ensureDirectory(value, messageSupplier, messageArg1, messageArg2) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given File is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public File ensureDirectory(File value, String messageFormat) {
+        return sample() ? Ensure.ensureDirectory(value, messageFormat) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given File is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public File ensureDirectory(File value, String messageFormat, Object messageArg) {
+        return sample() ? Ensure.ensureDirectory(value, messageFormat, messageArg) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given File is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public File ensureDirectory(File value, String messageFormat, int messageArg) {
+        return sample() ? Ensure.ensureDirectory(value, messageFormat, messageArg) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given File is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public File ensureDirectory(File value, String messageFormat, long messageArg) {
+        return sample() ? Ensure.ensureDirectory(value, messageFormat, messageArg) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given File is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public File ensureDirectory(File value, String messageFormat, Object messageArg1, Object messageArg2) {
+        return sample() ? Ensure.ensureDirectory(value, messageFormat, messageArg1, messageArg2) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given File is not a directory.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public File ensureDirectory(File value, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        return sample() ? Ensure.ensureDirectory(value, messageFormat, messageArg1, messageArg2, messageArg3) : value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the invocation is sampled and the given File is not a directory.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public File ensureDirectory(File value, Supplier<String> messageSupplier) {
+        return sample() ? Ensure.ensureDirectory(value, messageSupplier) : value;
+    }
+}
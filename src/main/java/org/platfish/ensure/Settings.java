@@ -0,0 +1,65 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+/**
+ * <p>Reads the configuration of the library from system properties.</p>
+ */
+final class Settings {
+
+    /**
+     * Common prefix of all system properties.
+     */
+    static final String PREFIX = "org.platfish.ensure.";
+
+    private Settings() {
+    }
+
+    /**
+     * Returns the enum constant named by the given system property, ignoring the case. Returns the default
+     * value if the property isn't set or doesn't name a constant.
+     */
+    static <E extends Enum<E>> E enumProperty(String name, Class<E> type, E defaultValue) {
+        return parseEnum(System.getProperty(name), type, defaultValue);
+    }
+
+    /**
+     * Returns the integer value of the given system property. Returns the default value if the property isn't set
+     * or isn't a valid integer.
+     */
+    static int intProperty(String name, int defaultValue) {
+        String value = System.getProperty(name);
+        if (value != null) {
+            try {
+                return Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                // fall back to the default value
+            }
+        }
+        return defaultValue;
+    }
+
+    static <E extends Enum<E>> E parseEnum(String value, Class<E> type, E defaultValue) {
+        if (value != null) {
+            for (E constant : type.getEnumConstants()) {
+                if (constant.name().equalsIgnoreCase(value.trim())) {
+                    return constant;
+                }
+            }
+        }
+        return defaultValue;
+    }
+}
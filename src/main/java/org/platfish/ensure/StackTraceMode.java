@@ -0,0 +1,52 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+/**
+ * <p>Determines how much of the stack trace is recorded when an {@link EnsureFailedException}
+ * is created. Capturing the full stack trace is by far the most expensive part of a failed
+ * check, which matters if failures are part of a rejection path under load.</p>
+ * <p>The default mode can be set globally with the system property
+ * {@value #SYSTEM_PROPERTY}, e.g. {@code -Dorg.platfish.ensure.stackTrace=NONE}. The property
+ * is read once when the library is initialized, unknown values fall back to {@link #FULL}.
+ * Single call sites can choose their mode by using the ensure methods taking a
+ * {@code StackTraceMode}.</p>
+ */
+public enum StackTraceMode {
+
+    /**
+     * The complete stack trace is captured, like for any other exception.
+     */
+    FULL,
+
+    /**
+     * Neither the stack trace nor suppressed exceptions are recorded.
+     */
+    NONE,
+
+    /**
+     * Only the frame of the code calling the ensure method is recorded. On Java 9 and later
+     * the frame is determined with a {@code StackWalker} which doesn't walk the whole stack.
+     */
+    CALLER;
+
+    /**
+     * Name of the system property defining the default mode.
+     */
+    public static final String SYSTEM_PROPERTY = Settings.PREFIX + "stackTrace";
+
+    static final StackTraceMode DEFAULT = Settings.enumProperty(SYSTEM_PROPERTY, StackTraceMode.class, FULL);
+}
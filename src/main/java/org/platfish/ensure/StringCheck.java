@@ -0,0 +1,654 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+import java.util.function.Supplier;
+
+/**
+ * <p>Fluent checks of a string, obtained by {@link Ensure#that(String)}. The conditions are checked
+ * immediately and can be chained, e.g. {@code Ensure.that(name).notEmpty().lengthAtMost(64).get()}.</p>
+ * <p>The class is final and stateless apart from the checked value, so the JIT can scalar replace the
+ * instances of a chain and it doesn't allocate.</p>
+ */
+public final class StringCheck {
+
+    private final String value;
+
+    StringCheck(String value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns the checked string.
+     */
+    public String get() {
+        return value;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the string is null.
+     */
+    public StringCheck notNull() {
+        EnsureStats.recordCheck();
+        if (value == null) {
+            Ensure.fail(Messages.NOT_NULL);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the string is null.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public StringCheck notNull(String messageFormat, Object... messageArgs) {
+        EnsureStats.recordCheck();
+        if (value == null) {
+            Ensure.fail(messageFormat, messageArgs);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the string is null.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public StringCheck notNull(String messageFormat) {
+        EnsureStats.recordCheck();
+        if (value == null) {
+            Ensure.fail(messageFormat);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the string is null.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public StringCheck notNull(String messageFormat, Object messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the string is null.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public StringCheck notNull(String messageFormat, int messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the string is null.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public StringCheck notNull(String messageFormat, long messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the string is null.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public StringCheck notNull(String messageFormat, Object messageArg1, Object messageArg2) {
+        EnsureStats.recordCheck();
+        if (value == null) {
+            Ensure.fail(messageFormat, messageArg1, messageArg2);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the string is null.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public StringCheck notNull(String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        EnsureStats.recordCheck();
+        if (value == null) {
+            Ensure.fail(messageFormat, messageArg1, messageArg2, messageArg3);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the string is null.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public StringCheck notNull(Supplier<String> messageSupplier) {
+        EnsureStats.recordCheck();
+        if (value == null) {
+            Ensure.fail(messageSupplier);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the string is null.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public <A> StringCheck notNull(MessageSupplier1<A> messageSupplier, A messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null) {
+            Ensure.fail(messageSupplier, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the string is null.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public <A, B> StringCheck notNull(MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        EnsureStats.recordCheck();
+        if (value == null) {
+            Ensure.fail(messageSupplier, messageArg1, messageArg2);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the string is empty. The null value is also considered to be empty.
+     */
+    public StringCheck notEmpty() {
+        EnsureStats.recordCheck();
+        if (value == null || value.isEmpty()) {
+            Ensure.fail(Messages.STRING_NOT_EMPTY);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the string is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public StringCheck notEmpty(String messageFormat, Object... messageArgs) {
+        EnsureStats.recordCheck();
+        if (value == null || value.isEmpty()) {
+            Ensure.fail(messageFormat, messageArgs);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the string is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public StringCheck notEmpty(String messageFormat) {
+        EnsureStats.recordCheck();
+        if (value == null || value.isEmpty()) {
+            Ensure.fail(messageFormat);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the string is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public StringCheck notEmpty(String messageFormat, Object messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null || value.isEmpty()) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the string is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public StringCheck notEmpty(String messageFormat, int messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null || value.isEmpty()) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the string is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public StringCheck notEmpty(String messageFormat, long messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null || value.isEmpty()) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the string is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public StringCheck notEmpty(String messageFormat, Object messageArg1, Object messageArg2) {
+        EnsureStats.recordCheck();
+        if (value == null || value.isEmpty()) {
+            Ensure.fail(messageFormat, messageArg1, messageArg2);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the string is empty. The null value is also considered to be empty.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public StringCheck notEmpty(String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        EnsureStats.recordCheck();
+        if (value == null || value.isEmpty()) {
+            Ensure.fail(messageFormat, messageArg1, messageArg2, messageArg3);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the string is empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public StringCheck notEmpty(Supplier<String> messageSupplier) {
+        EnsureStats.recordCheck();
+        if (value == null || value.isEmpty()) {
+            Ensure.fail(messageSupplier);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the string is empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public <A> StringCheck notEmpty(MessageSupplier1<A> messageSupplier, A messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null || value.isEmpty()) {
+            Ensure.fail(messageSupplier, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the string is empty. The null value is also considered to be empty.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public <A, B> StringCheck notEmpty(MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        EnsureStats.recordCheck();
+        if (value == null || value.isEmpty()) {
+            Ensure.fail(messageSupplier, messageArg1, messageArg2);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the string is null or shorter than the given length.
+     */
+    public StringCheck lengthAtLeast(int length) {
+        Ensure.requireNotNull(value, Messages.NOT_NULL);
+        EnsureStats.recordCheck();
+        if (value.length() < length) {
+            Ensure.fail("Given string must have at least %s characters but has %s", length, value.length());
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the string is null or shorter than the given length.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public StringCheck lengthAtLeast(int length, String messageFormat, Object... messageArgs) {
+        EnsureStats.recordCheck();
+        if (value == null || value.length() < length) {
+            Ensure.fail(messageFormat, messageArgs);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the string is null or shorter than the given length.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public StringCheck lengthAtLeast(int length, String messageFormat) {
+        EnsureStats.recordCheck();
+        if (value == null || value.length() < length) {
+            Ensure.fail(messageFormat);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the string is null or shorter than the given length.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public StringCheck lengthAtLeast(int length, String messageFormat, Object messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null || value.length() < length) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the string is null or shorter than the given length.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public StringCheck lengthAtLeast(int length, String messageFormat, int messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null || value.length() < length) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the string is null or shorter than the given length.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public StringCheck lengthAtLeast(int length, String messageFormat, long messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null || value.length() < length) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the string is null or shorter than the given length.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public StringCheck lengthAtLeast(int length, String messageFormat, Object messageArg1, Object messageArg2) {
+        EnsureStats.recordCheck();
+        if (value == null || value.length() < length) {
+            Ensure.fail(messageFormat, messageArg1, messageArg2);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the string is null or shorter than the given length.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public StringCheck lengthAtLeast(int length, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        EnsureStats.recordCheck();
+        if (value == null || value.length() < length) {
+            Ensure.fail(messageFormat, messageArg1, messageArg2, messageArg3);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the string is null or shorter than the given length.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public StringCheck lengthAtLeast(int length, Supplier<String> messageSupplier) {
+        EnsureStats.recordCheck();
+        if (value == null || value.length() < length) {
+            Ensure.fail(messageSupplier);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the string is null or shorter than the given length.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public <A> StringCheck lengthAtLeast(int length, MessageSupplier1<A> messageSupplier, A messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null || value.length() < length) {
+            Ensure.fail(messageSupplier, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the string is null or shorter than the given length.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public <A, B> StringCheck lengthAtLeast(int length, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        EnsureStats.recordCheck();
+        if (value == null || value.length() < length) {
+            Ensure.fail(messageSupplier, messageArg1, messageArg2);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the string is null or longer than the given length.
+     */
+    public StringCheck lengthAtMost(int length) {
+        Ensure.requireNotNull(value, Messages.NOT_NULL);
+        EnsureStats.recordCheck();
+        if (value.length() > length) {
+            Ensure.fail("Given string must have at most %s characters but has %s", length, value.length());
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the string is null or longer than the given length.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArgs   Arguments for the message format.
+     */
+    public StringCheck lengthAtMost(int length, String messageFormat, Object... messageArgs) {
+        EnsureStats.recordCheck();
+        if (value == null || value.length() > length) {
+            Ensure.fail(messageFormat, messageArgs);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the string is null or longer than the given length.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     */
+    public StringCheck lengthAtMost(int length, String messageFormat) {
+        EnsureStats.recordCheck();
+        if (value == null || value.length() > length) {
+            Ensure.fail(messageFormat);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the string is null or longer than the given length.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public StringCheck lengthAtMost(int length, String messageFormat, Object messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null || value.length() > length) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the string is null or longer than the given length.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public StringCheck lengthAtMost(int length, String messageFormat, int messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null || value.length() > length) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the string is null or longer than the given length.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg    Argument for the message format.
+     */
+    public StringCheck lengthAtMost(int length, String messageFormat, long messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null || value.length() > length) {
+            Ensure.fail(messageFormat, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the string is null or longer than the given length.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     */
+    public StringCheck lengthAtMost(int length, String messageFormat, Object messageArg1, Object messageArg2) {
+        EnsureStats.recordCheck();
+        if (value == null || value.length() > length) {
+            Ensure.fail(messageFormat, messageArg1, messageArg2);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the string is null or longer than the given length.
+     *
+     * @param messageFormat Format for the exception message according to {@link String#format(String, Object...)}.
+     * @param messageArg1   First argument for the message format.
+     * @param messageArg2   Second argument for the message format.
+     * @param messageArg3   Third argument for the message format.
+     */
+    public StringCheck lengthAtMost(int length, String messageFormat, Object messageArg1, Object messageArg2, Object messageArg3) {
+        EnsureStats.recordCheck();
+        if (value == null || value.length() > length) {
+            Ensure.fail(messageFormat, messageArg1, messageArg2, messageArg3);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the string is null or longer than the given length.
+     *
+     * @param messageSupplier Supplier of the exception message, only invoked if the check fails.
+     */
+    public StringCheck lengthAtMost(int length, Supplier<String> messageSupplier) {
+        EnsureStats.recordCheck();
+        if (value == null || value.length() > length) {
+            Ensure.fail(messageSupplier);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the string is null or longer than the given length.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg      Argument passed to the message supplier.
+     */
+    public <A> StringCheck lengthAtMost(int length, MessageSupplier1<A> messageSupplier, A messageArg) {
+        EnsureStats.recordCheck();
+        if (value == null || value.length() > length) {
+            Ensure.fail(messageSupplier, messageArg);
+        }
+        return this;
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} if the string is null or longer than the given length.
+     *
+     * @param messageSupplier Function creating the exception message, only invoked if the check fails.
+     * @param messageArg1     First argument passed to the message supplier.
+     * @param messageArg2     Second argument passed to the message supplier.
+     */
+    public <A, B> StringCheck lengthAtMost(int length, MessageSupplier2<A, B> messageSupplier, A messageArg1, B messageArg2) {
+        EnsureStats.recordCheck();
+        if (value == null || value.length() > length) {
+            Ensure.fail(messageSupplier, messageArg1, messageArg2);
+        }
+        return this;
+    }
+}
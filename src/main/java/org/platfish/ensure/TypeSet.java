@@ -0,0 +1,58 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+import java.util.Arrays;
+
+/**
+ * <p>Immutable set of types for {@link Ensure#ensureInstanceOfAny(TypeSet, Object)}, created by
+ * {@link Ensure#typeSet(Class[])}. Instances should be kept in constants.</p>
+ * <p>Whether a class is assignable to any of the types is computed once per class and cached in a
+ * {@link ClassValue}, so a check costs the same for any number of types and for megamorphic call sites,
+ * where the JIT can't profile the type of the checked value.</p>
+ */
+public final class TypeSet {
+
+    private final Class<?>[] types;
+
+    private final ClassValue<Boolean> assignable = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            for (Class<?> candidate : types) {
+                if (candidate.isAssignableFrom(type)) {
+                    return Boolean.TRUE;
+                }
+            }
+            return Boolean.FALSE;
+        }
+    };
+
+    TypeSet(Class<?>[] types) {
+        this.types = types;
+    }
+
+    /**
+     * Returns true if the given value is an instance of any of the types, false for null.
+     */
+    public boolean contains(Object value) {
+        return value != null && assignable.get(value.getClass());
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(types);
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+import java.util.Arrays;
+
+/**
+ * <p>Result of a {@link Check}. All instances are preallocated constants, so a failed check doesn't
+ * allocate. Each violation carries the same message format as the corresponding {@link Ensure} method, which is
+ * only formatted when the message is requested.</p>
+ * <p>Only {@link #WRONG_TYPE} and {@link #INDEX_OUT_OF_BOUNDS} take message arguments. Arguments which are
+ * missing are rendered as {@code ?}.</p>
+ * <pre>
+ * Violation violation = Check.notEmpty(record.getName());
+ * if (violation.isViolated()) {
+ *     rejected.add(record, violation);
+ * }
+ * </pre>
+ */
+public final class Violation {
+
+    /**
+     * The check was successful.
+     */
+    public static final Violation NONE = new Violation(null);
+
+    public static final Violation NOT_TRUE = new Violation(Messages.CONDITION_TRUE);
+    public static final Violation NOT_FALSE = new Violation(Messages.CONDITION_FALSE);
+    public static final Violation NULL_VALUE = new Violation(Messages.NOT_NULL);
+    public static final Violation NON_NULL_VALUE = new Violation(Messages.NULL);
+    public static final Violation NOT_EQUAL = new Violation(Messages.EQUALS);
+    public static final Violation EQUAL = new Violation(Messages.NOT_EQUALS);
+    public static final Violation EMPTY_STRING = new Violation(Messages.STRING_NOT_EMPTY);
+    public static final Violation EMPTY_COLLECTION = new Violation(Messages.COLLECTION_NOT_EMPTY);
+    public static final Violation EMPTY_MAP = new Violation(Messages.MAP_NOT_EMPTY);
+    public static final Violation EMPTY_ARRAY = new Violation(Messages.ARRAY_NOT_EMPTY);
+    public static final Violation NON_EMPTY_STRING = new Violation(Messages.STRING_EMPTY);
+    public static final Violation NON_EMPTY_COLLECTION = new Violation(Messages.COLLECTION_EMPTY);
+    public static final Violation NON_EMPTY_MAP = new Violation(Messages.MAP_EMPTY);
+    public static final Violation NON_EMPTY_ARRAY = new Violation(Messages.ARRAY_EMPTY);
+
+    /**
+     * The message arguments are the expected type and the type of the value.
+     */
+    public static final Violation WRONG_TYPE = new Violation(Messages.INSTANCE_OF);
+
+    public static final Violation ABSENT = new Violation(Messages.OPTIONAL_PRESENT);
+
+    /**
+     * The message arguments are the index and the length.
+     */
+    public static final Violation INDEX_OUT_OF_BOUNDS = new Violation(Messages.INDEX);
+
+    private static final String MISSING_ARGUMENT = "?";
+
+    private final String messageFormat;
+
+    /**
+     * Number of arguments of the message format, which only contains {@code %s} conversions.
+     */
+    private final int argumentCount;
+
+    private Violation(String messageFormat) {
+        this.messageFormat = messageFormat;
+        int count = 0;
+        if (messageFormat != null) {
+            for (int i = messageFormat.indexOf("%s"); i >= 0; i = messageFormat.indexOf("%s", i + 2)) {
+                count++;
+            }
+        }
+        this.argumentCount = count;
+    }
+
+    /**
+     * Returns whether the check failed, i.e. this isn't {@link #NONE}.
+     */
+    public boolean isViolated() {
+        return this != NONE;
+    }
+
+    /**
+     * Returns the message format according to {@link String#format(String, Object...)}, null for {@link #NONE}.
+     */
+    public String getMessageFormat() {
+        return messageFormat;
+    }
+
+    /**
+     * Returns the formatted message, null for {@link #NONE}.
+     *
+     * @param messageArgs Arguments for the message format, see the documentation of the constant. Missing
+     *                    arguments are rendered as {@code ?}.
+     */
+    public String getMessage(Object... messageArgs) {
+        return messageFormat == null ? null : MessageTemplate.format(messageFormat, complete(messageArgs));
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} with the message of this violation, unless this is {@link #NONE}.
+     * The arguments of {@link #WRONG_TYPE} and {@link #INDEX_OUT_OF_BOUNDS} are rendered as {@code ?}.
+     */
+    public void throwIfViolated() {
+        if (this != NONE) {
+            if (argumentCount == 0) {
+                Ensure.fail(messageFormat);
+            }
+            Ensure.fail(messageFormat, complete(new Object[0]));
+        }
+    }
+
+    /**
+     * Throws {@link EnsureFailedException} with the message of this violation, unless this is {@link #NONE}.
+     *
+     * @param messageArgs Arguments for the message format, see the documentation of the constant. Missing
+     *                    arguments are rendered as {@code ?}.
+     */
+    public void throwIfViolated(Object... messageArgs) {
+        if (this != NONE) {
+            Ensure.fail(messageFormat, complete(messageArgs));
+        }
+    }
+
+    private Object[] complete(Object[] messageArgs) {
+        if (messageArgs.length >= argumentCount) {
+            return messageArgs;
+        }
+        Object[] completed = Arrays.copyOf(messageArgs, argumentCount);
+        Arrays.fill(completed, messageArgs.length, argumentCount, MISSING_ARGUMENT);
+        return completed;
+    }
+
+    @Override
+    public String toString() {
+        return messageFormat == null ? "No violation" : messageFormat;
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <p>Determines the memory alignment of direct buffers, without touching or duplicating the buffer.</p>
+ * <p>Java 9 version based on {@link ByteBuffer#alignmentOffset(int, int)}.</p>
+ */
+final class Buffers {
+
+    private Buffers() {
+    }
+
+    /**
+     * Returns true if the memory address at the position of the given direct buffer is a multiple of the
+     * alignment, which has to be a power of two.
+     */
+    static boolean isAligned(ByteBuffer buffer, int alignment) {
+        return buffer.alignmentOffset(buffer.position(), alignment) == 0;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+import java.util.Optional;
+
+/**
+ * <p>Determines the stack frame of the code calling into the ensure library.</p>
+ * <p>Java 9 version which only walks the stack until the caller has been found.</p>
+ */
+final class CallerFrames {
+
+    private static final StackWalker WALKER = StackWalker.getInstance();
+
+    private CallerFrames() {
+    }
+
+    /**
+     * Returns the first frame outside of the ensure library, or an empty array if there is none.
+     */
+    static StackTraceElement[] caller() {
+        Optional<StackWalker.StackFrame> caller = WALKER.walk(frames -> frames
+                .filter(frame -> !isInternal(frame.getClassName()))
+                .findFirst());
+        return caller
+                .map(frame -> new StackTraceElement[]{frame.toStackTraceElement()})
+                .orElseGet(() -> new StackTraceElement[0]);
+    }
+
+    /**
+     * Returns whether the class belongs to the ensure library, see {@link LibraryClasses}.
+     */
+    static boolean isInternal(String className) {
+        return LibraryClasses.contains(className);
+    }
+}
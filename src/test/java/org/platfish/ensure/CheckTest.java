@@ -0,0 +1,162 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.*;
+
+/**
+ * Tests the non-throwing checks of {@link Check} and the {@link Violation} constants.
+ */
+public class CheckTest extends Assert {
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Test
+    public void passing() {
+        assertSame(Violation.NONE, Check.isTrue(true));
+        assertSame(Violation.NONE, Check.isFalse(false));
+        assertSame(Violation.NONE, Check.notNull(1));
+        assertSame(Violation.NONE, Check.isNull(null));
+        assertSame(Violation.NONE, Check.equal("a", "a"));
+        assertSame(Violation.NONE, Check.equal(1, 1));
+        assertSame(Violation.NONE, Check.equal(1L, 1L));
+        assertSame(Violation.NONE, Check.notEqual("a", "b"));
+        assertSame(Violation.NONE, Check.notEmpty("a"));
+        assertSame(Violation.NONE, Check.notEmpty(Arrays.asList(1)));
+        assertSame(Violation.NONE, Check.notEmpty(Collections.singletonMap(1, 1)));
+        assertSame(Violation.NONE, Check.notEmpty(new Object[1]));
+        assertSame(Violation.NONE, Check.empty((String) null));
+        assertSame(Violation.NONE, Check.empty(Collections.emptyList()));
+        assertSame(Violation.NONE, Check.instanceOf(Number.class, 1));
+        assertSame(Violation.NONE, Check.present(Optional.of(1)));
+        assertSame(Violation.NONE, Check.index(0, 1));
+        assertFalse(Violation.NONE.isViolated());
+        assertNull(Violation.NONE.getMessage());
+        Violation.NONE.throwIfViolated();
+    }
+
+    @Test
+    public void violations() {
+        assertSame(Violation.NOT_TRUE, Check.isTrue(false));
+        assertSame(Violation.NOT_FALSE, Check.isFalse(true));
+        assertSame(Violation.NULL_VALUE, Check.notNull(null));
+        assertSame(Violation.NON_NULL_VALUE, Check.isNull(1));
+        assertSame(Violation.NOT_EQUAL, Check.equal(1L, 2L));
+        assertSame(Violation.EQUAL, Check.notEqual(1, 1));
+        assertSame(Violation.EMPTY_STRING, Check.notEmpty((String) null));
+        assertSame(Violation.EMPTY_COLLECTION, Check.notEmpty(Collections.emptySet()));
+        assertSame(Violation.EMPTY_MAP, Check.notEmpty(Collections.emptyMap()));
+        assertSame(Violation.EMPTY_ARRAY, Check.notEmpty(new Object[0]));
+        assertSame(Violation.NON_EMPTY_STRING, Check.empty("a"));
+        assertSame(Violation.NON_EMPTY_ARRAY, Check.empty(new Object[1]));
+        assertSame(Violation.WRONG_TYPE, Check.instanceOf(Number.class, null));
+        assertSame(Violation.ABSENT, Check.present(Optional.empty()));
+        assertSame(Violation.INDEX_OUT_OF_BOUNDS, Check.index(-1L, 1L));
+        assertTrue(Violation.NULL_VALUE.isViolated());
+    }
+
+    @Test
+    public void messagesMatchEnsure() {
+        try {
+            Ensure.ensureNotEmpty(Collections.emptyList());
+            fail();
+        } catch (EnsureFailedException e) {
+            assertEquals(e.getMessage(), Check.notEmpty(Collections.emptyList()).getMessage());
+        }
+        try {
+            Ensure.ensureInstanceOf(Number.class, "a");
+            fail();
+        } catch (EnsureFailedException e) {
+            assertEquals(e.getMessage(), Check.instanceOf(Number.class, "a").getMessage(Number.class, String.class));
+        }
+        assertEquals("Index 5 out of bounds for length 5", Violation.INDEX_OUT_OF_BOUNDS.getMessage(5, 5));
+        assertEquals("Index %s out of bounds for length %s", Violation.INDEX_OUT_OF_BOUNDS.getMessageFormat());
+    }
+
+    @Test
+    public void missingArguments() {
+        assertEquals("Index ? out of bounds for length ?", Violation.INDEX_OUT_OF_BOUNDS.getMessage());
+        assertEquals("Index 5 out of bounds for length ?", Violation.INDEX_OUT_OF_BOUNDS.getMessage(5));
+        assertEquals("Given value must be of type \"?\" but found \"?\"", Violation.WRONG_TYPE.getMessage());
+        assertEquals("Optional has no value", Violation.ABSENT.getMessage());
+    }
+
+    @Test
+    public void throwIfViolatedWithoutArguments() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("Given value must be of type \"?\" but found \"?\"");
+        Check.instanceOf(Number.class, "a").throwIfViolated();
+    }
+
+    @Test
+    public void throwIfViolated() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("Index 3 out of bounds for length 2");
+        Check.index(3, 2).throwIfViolated(3, 2);
+    }
+
+    @Test
+    public void noAllocation() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+        long thread = Thread.currentThread().getId();
+        List<Object> records = Arrays.asList("a", null, "", 1, Collections.emptyList());
+
+        int iterations = 100_000;
+        long allocated = Long.MAX_VALUE;
+        for (int round = 0; round < 50 && allocated >= iterations; round++) {
+            long start = threads.getThreadAllocatedBytes(thread);
+            int violations = 0;
+            for (int i = 0; i < iterations; i++) {
+                violations += violations(records.get(i % records.size()));
+            }
+            allocated = threads.getThreadAllocatedBytes(thread) - start;
+            assertEquals(iterations / 5 * 13, violations);
+        }
+        assertTrue("Allocated " + allocated + " bytes for " + iterations + " records", allocated < iterations);
+    }
+
+    private static int violations(Object record) {
+        int violations = 0;
+        if (Check.notNull(record).isViolated()) {
+            violations++;
+        }
+        if (Check.instanceOf(String.class, record).isViolated()) {
+            violations++;
+        }
+        if (record instanceof String && Check.notEmpty((String) record).isViolated()) {
+            violations++;
+        }
+        if (Check.isTrue(record instanceof Collection).isViolated()) {
+            violations++;
+        }
+        if (Check.index(record instanceof String ? ((String) record).length() : -1, 1).isViolated()) {
+            violations++;
+        }
+        return violations;
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+public class DuplicatesTest extends Assert {
+
+    @Test
+    public void capacity() {
+        assertEquals(16, Duplicates.capacity(1));
+        assertEquals(16, Duplicates.capacity(8));
+        assertEquals(32, Duplicates.capacity(9));
+        assertEquals(1 << 21, Duplicates.capacity(1 << 20));
+        assertEquals(1 << 30, Duplicates.capacity((1 << 29) + 1));
+    }
+
+    @Test
+    public void firstDuplicate() {
+        Random random = new Random(7);
+        for (int round = 0; round < 200; round++) {
+            int size = random.nextInt(2000);
+            int[] ints = new int[size];
+            long[] longs = new long[size];
+            Integer[] boxed = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                ints[i] = random.nextInt(size * 20 + 1) - size * 10;
+                longs[i] = (long) ints[i] << 33;
+                boxed[i] = ints[i];
+            }
+            long expected = expected(ints);
+            assertEquals(expected, Duplicates.first(ints));
+            assertEquals(expected, Duplicates.first(longs));
+            assertEquals(expected, Duplicates.first((Object[]) boxed));
+        }
+    }
+
+    private static long expected(int[] values) {
+        Map<Integer, Integer> seen = new HashMap<>();
+        for (int i = 0; i < values.length; i++) {
+            Integer earlier = seen.putIfAbsent(values[i], i);
+            if (earlier != null) {
+                return Duplicates.pack(earlier, i);
+            }
+        }
+        return -1;
+    }
+
+    @Test
+    public void collidingHashCodes() {
+        Object[] values = new Object[100];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = new Key(i);
+        }
+        assertEquals(-1, Duplicates.first(values));
+        values[99] = new Key(42);
+        long duplicate = Duplicates.first(values);
+        assertEquals(42, Duplicates.earlier(duplicate));
+        assertEquals(99, Duplicates.later(duplicate));
+    }
+
+    @Test
+    public void nestedCheck() {
+        // the equals of the elements checks for duplicates itself, which must not use the same table
+        Object[] values = new Object[50];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = new Key(i) {
+                @Override
+                public boolean equals(Object obj) {
+                    Ensure.ensureNoDuplicates(new int[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10});
+                    return super.equals(obj);
+                }
+            };
+        }
+        assertEquals(-1, Duplicates.first(values));
+    }
+
+    @Test
+    public void memoryUse() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+        long thread = Thread.currentThread().getId();
+
+        int[] batch = new int[100_000];
+        for (int i = 0; i < batch.length; i++) {
+            batch[i] = i * 31;
+        }
+        Ensure.ensureNoDuplicates(batch);
+        long start = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < 10; i++) {
+            Ensure.ensureNoDuplicates(batch);
+        }
+        long pooled = threads.getThreadAllocatedBytes(thread) - start;
+        assertTrue("Allocated " + pooled + " bytes for pooled checks", pooled < 10_000);
+
+        int[] large = new int[3_000_000];
+        for (int i = 0; i < large.length; i++) {
+            large[i] = i * 31;
+        }
+        start = threads.getThreadAllocatedBytes(thread);
+        Ensure.ensureNoDuplicates(large);
+        long allocated = threads.getThreadAllocatedBytes(thread) - start;
+        assertTrue("Allocated " + allocated + " bytes for " + large.length + " elements",
+                allocated <= 16L * large.length);
+    }
+
+    private static class Key {
+
+        private final int id;
+
+        Key(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Key && ((Key) obj).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return id % 3;
+        }
+    }
+}
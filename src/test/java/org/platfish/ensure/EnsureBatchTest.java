@@ -0,0 +1,152 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.*;
+
+/**
+ * Tests the {@link EnsureBatch} class.
+ */
+public class EnsureBatchTest extends Assert {
+
+    @Test
+    public void noFailures() {
+        try (EnsureBatch batch = Ensure.batch()) {
+            assertEquals("hello", batch.ensureNotEmpty("hello"));
+            assertTrue(batch.ensureTrue(1 == 1, "failed %s", 1));
+            assertEquals(Arrays.asList(1), batch.ensureNotEmpty(Arrays.asList(1)));
+            assertEquals("hello", batch.ensureInstanceOf(String.class, "hello"));
+            assertFalse(batch.hasFailures());
+        }
+    }
+
+    @Test
+    public void collectFailures() {
+        EnsureBatch batch = Ensure.batch();
+        assertNull(batch.ensureNotNull(null, "value %s must not be null", 1));
+        assertFalse(batch.ensureTrue(1 == 2));
+        batch.ensureEmpty(Collections.singletonMap("a", "b"));
+        assertNull(batch.ensureInstanceOf(Integer.class, "hello"));
+        batch.ensureEquals(1, 1);
+        assertTrue(batch.hasFailures());
+        assertEquals(4, batch.getFailureCount());
+        try {
+            batch.throwIfFailed();
+            fail("exception expected");
+        } catch (EnsureBatchFailedException e) {
+            assertEquals(4, e.getFailureCount());
+            assertEquals(Arrays.asList(
+                    "value 1 must not be null",
+                    "Given condition must be true",
+                    "Given map must be empty",
+                    "Given value must be of type \"class java.lang.Integer\" but found \"class java.lang.String\""),
+                    e.getFailureMessages());
+            assertTrue(e.getMessage().startsWith("4 checks failed"));
+            assertTrue(e.getMessage().contains("  - value 1 must not be null"));
+        }
+    }
+
+    @Test
+    public void limitRecordedFailures() {
+        EnsureBatch batch = Ensure.batch(20);
+        for (int i = 0; i < 50; i++) {
+            batch.ensureFalse(true, "failed %s", i);
+        }
+        try {
+            batch.close();
+            fail("exception expected");
+        } catch (EnsureBatchFailedException e) {
+            assertEquals(50, e.getFailureCount());
+            assertEquals(20, e.getFailureMessages().size());
+            assertEquals("failed 19", e.getFailureMessages().get(19));
+            assertTrue(e.getMessage().endsWith("... 30 more"));
+        }
+    }
+
+    @Test
+    public void messagesAreFormattedLazily() {
+        EnsureBatch batch = Ensure.batch();
+        Object arg = new Object() {
+            @Override
+            public String toString() {
+                throw new AssertionError("must not be formatted");
+            }
+        };
+        batch.fail("failed %s", arg);
+        assertEquals(1, batch.getFailureCount());
+    }
+
+    @Test
+    public void serializeFailures() throws Exception {
+        EnsureBatch batch = Ensure.batch();
+        batch.fail("failed %s", new Object());
+        EnsureBatchFailedException exception = null;
+        try {
+            batch.throwIfFailed();
+        } catch (EnsureBatchFailedException e) {
+            exception = e;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(exception);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            EnsureBatchFailedException copy = (EnsureBatchFailedException) in.readObject();
+            assertEquals(exception.getMessage(), copy.getMessage());
+        }
+    }
+
+    @Test
+    public void argumentsAreCopied() {
+        EnsureBatch batch = Ensure.batch();
+        Object[] args = {1, 2};
+        batch.fail("failed %s and %s", args);
+        args[0] = 3;
+        batch.ensureTrue(false, "failed %s", 4);
+        try {
+            batch.throwIfFailed();
+            fail("exception expected");
+        } catch (EnsureBatchFailedException e) {
+            assertEquals("failed 1 and 2", e.getFailureMessages().get(0));
+            assertEquals("failed 4", e.getFailureMessages().get(1));
+        }
+    }
+
+    @Test
+    public void invalidFormat() {
+        EnsureBatch batch = Ensure.batch();
+        batch.fail("failed %d", "not a number");
+        try {
+            batch.throwIfFailed();
+            fail("exception expected");
+        } catch (EnsureBatchFailedException e) {
+            assertEquals("failed %d", e.getFailureMessages().get(0));
+            assertSame(e.getMessage(), e.getMessage());
+        }
+    }
+
+    @Test(expected = EnsureFailedException.class)
+    public void negativeMaxRecordedFailures() {
+        Ensure.batch(-1);
+    }
+}
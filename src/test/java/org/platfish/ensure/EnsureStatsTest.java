@@ -0,0 +1,98 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the {@link EnsureStats} class.
+ */
+public class EnsureStatsTest extends Assert {
+
+    @Test
+    public void disabledByDefault() {
+        assertFalse(EnsureStats.ENABLED);
+        assertNull(EnsureStats.getInstance());
+        EnsureStats.recordCheck();
+        EnsureStats.recordFailure("failed %s");
+    }
+
+    @Test
+    public void countChecksAndFailures() {
+        EnsureStats stats = new EnsureStats();
+        stats.checked();
+        stats.checked();
+        stats.checked();
+        stats.failed("failed %s");
+        assertEquals(3, stats.getChecks());
+        assertEquals(1, stats.getFailures());
+        assertEquals(1, stats.getFailingSites());
+    }
+
+    @Test
+    public void topFailingSites() {
+        EnsureStats stats = new EnsureStats();
+        stats.failed("a");
+        stats.failed("b");
+        stats.failed("b");
+        stats.failed("c");
+        stats.failed("c");
+        stats.failed("c");
+        assertArrayEquals(new String[]{"3 c", "2 b"}, stats.topFailingSites(2));
+        assertEquals(3, stats.topFailingSites(10).length);
+        assertEquals(0, stats.topFailingSites(-1).length);
+    }
+
+    @Test
+    public void limitFailingSites() {
+        EnsureStats stats = new EnsureStats();
+        for (int i = 0; i <= EnsureStats.MAX_SITES; i++) {
+            stats.failed("site " + i);
+        }
+        assertEquals(EnsureStats.MAX_SITES + 1, stats.getFailingSites());
+        stats.failed("another site");
+        assertEquals(EnsureStats.MAX_SITES + 1, stats.getFailingSites());
+        assertEquals("2 " + EnsureStats.OTHER_SITES, stats.topFailingSites(1)[0]);
+    }
+
+    @Test
+    public void internalFrames() {
+        assertTrue(CallerFrames.isInternal(Ensure.class.getName()));
+        assertTrue(CallerFrames.isInternal(IntCheck.class.getName()));
+        assertTrue(CallerFrames.isInternal(PathCache.class.getName() + "$Watcher"));
+        assertTrue(CallerFrames.isInternal(EnsureFailedException.class.getName() + "$CallerFrameOnly"));
+        assertTrue(CallerFrames.isInternal("org.platfish.ensure.flow.CheckingProcessor"));
+        assertFalse(CallerFrames.isInternal(EnsureStatsTest.class.getName()));
+        assertFalse(CallerFrames.isInternal(EnsureStatsTest.class.getName() + "$1"));
+        assertFalse(CallerFrames.isInternal("com.example.Check"));
+        assertFalse(CallerFrames.isInternal("com.example.orders.OrderCheck"));
+        assertFalse(CallerFrames.isInternal("org.platfish.ensurex.Ensure"));
+        assertFalse(CallerFrames.isInternal("org.platfish.ensure.OrderValidator"));
+        assertFalse(CallerFrames.isInternal("org.platfish.ensure.orders.OrderCheck"));
+    }
+
+    @Test
+    public void reset() {
+        EnsureStats stats = new EnsureStats();
+        stats.checked();
+        stats.failed("a");
+        stats.reset();
+        assertEquals(0, stats.getChecks());
+        assertEquals(0, stats.getFailures());
+        assertEquals(0, stats.getFailingSites());
+    }
+}
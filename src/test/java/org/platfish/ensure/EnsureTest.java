@@ -20,7 +20,13 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Tests the {@link Ensure} class.
@@ -406,6 +412,54 @@ public class EnsureTest extends Assert {
         Ensure.ensureInstanceOf(String.class, value, "failed %s", 1);
     }
 
+    @Test
+    public void ensureInstanceOfNullFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("Given value must be of type \"class java.lang.String\" but found \"null\"");
+        Ensure.ensureInstanceOf(String.class, null);
+    }
+
+    @Test
+    public void ensureInstanceOfNullClassFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("clazz must not be null");
+        Ensure.ensureInstanceOf(null, "hello world", "failed %s", 1);
+    }
+
+    @Test
+    public void ensureInstanceOfAny() {
+        TypeSet types = Ensure.typeSet(CharSequence.class, Number.class);
+        assertEquals("hello world", Ensure.ensureInstanceOfAny(types, "hello world"));
+        Object number = 1L;
+        assertSame(number, Ensure.ensureInstanceOfAny(types, number, "failed %s", 1));
+        assertSame(number, Ensure.ensureInstanceOfAny(types, number));
+        assertEquals(1, Ensure.ensureInstanceOfAny(1, List.class, Integer.class));
+        assertTrue(types.contains(new StringBuilder()));
+        assertFalse(types.contains(null));
+        assertFalse(types.contains(new Object()));
+    }
+
+    @Test
+    public void ensureInstanceOfAnyFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("Given value must be of one of the types [interface java.lang.CharSequence, class java.lang.Number] but found \"class java.lang.Object\"");
+        Ensure.ensureInstanceOfAny(Ensure.typeSet(CharSequence.class, Number.class), new Object());
+    }
+
+    @Test
+    public void ensureInstanceOfAnyClassesFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("Given value must be of one of the types [interface java.util.List] but found \"null\"");
+        Ensure.ensureInstanceOfAny((Object) null, List.class);
+    }
+
+    @Test
+    public void typeSetNullFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("types must not contain null");
+        Ensure.typeSet(String.class, null);
+    }
+
 
     @Test
     public void ensureOptional() {
@@ -488,4 +542,727 @@ public class EnsureTest extends Assert {
         exception.expectMessage("must be empty");
         Ensure.ensureEmpty(new Object[]{""});
     }
+
+    @Test
+    public void ensureTrueWithoutArgumentsFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("failed 100%");
+        Ensure.ensureTrue(1 == 2, "failed 100%%");
+    }
+
+    @Test
+    public void ensureTrueLongArgumentFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("failed 10000000000");
+        Ensure.ensureTrue(1 == 2, "failed %s", 10000000000L);
+    }
+
+    @Test
+    public void ensureNotNullTwoArgumentsFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("failed 1 of 2");
+        Ensure.ensureNotNull(null, "failed %s of %s", 1, 2);
+    }
+
+    @Test
+    public void ensureNotEmptyThreeArgumentsFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("failed a, b, c");
+        Ensure.ensureNotEmpty("", "failed %s, %s, %s", "a", "b", "c");
+    }
+
+    @Test
+    public void ensureFalseArrayArgumentsFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("failed 1 of 2");
+        Object[] args = {1, 2};
+        Ensure.ensureFalse(1 == 1, "failed %s of %s", args);
+    }
+
+    @Test
+    public void ensureNotEmptyWithSupplier() {
+        Ensure.ensureNotEmpty("hello", () -> {
+            throw new AssertionError("supplier must not be invoked");
+        });
+    }
+
+    @Test
+    public void ensureNotEmptyWithSupplierFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("failed 100%");
+        Ensure.ensureNotEmpty("", () -> "failed 100%");
+    }
+
+    @Test
+    public void ensureNotEmptyWithMessageSupplierFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("topics for HELLO must not be empty");
+        Ensure.ensureNotEmpty(new ArrayList<String>(), m -> "topics for " + m.toUpperCase() + " must not be empty", "hello");
+    }
+
+    @Test
+    public void ensureEqualsWithMessageSupplierFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("expected 1 but found 2");
+        Ensure.ensureEquals(1, 2, (e, v) -> "expected " + e + " but found " + v, 1, 2);
+    }
+
+    @Test
+    public void ensureEqualsInt() {
+        assertEquals(4711, Ensure.ensureEqualsInt(4711, 4711));
+        assertEquals(4711L, Ensure.ensureEqualsLong(4711L, 4711L, "failed %s", 1));
+        assertEquals(Double.NaN, Ensure.ensureEqualsDouble(Double.NaN, Double.NaN), 0.0);
+    }
+
+    @Test
+    public void ensureEqualsIntFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("failed 1");
+        Ensure.ensureEqualsInt(1, 2, "failed %s", 1);
+    }
+
+    @Test
+    public void ensureEqualsDoubleWithoutMessageFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("must match");
+        Ensure.ensureEqualsDouble(0.0, -0.0);
+    }
+
+    @Test
+    public void ensureNotEqualsLongFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("must differ");
+        Ensure.ensureNotEqualsLong(1L, 1L);
+    }
+
+    @Test
+    public void ensureNotEmptyPrimitiveArray() {
+        assertEquals(1, Ensure.ensureNotEmpty(new byte[]{1}).length);
+        assertEquals(1, Ensure.ensureNotEmpty(new int[]{1}, "failed %s", 1).length);
+        assertEquals(0, Ensure.ensureEmpty(new long[0]).length);
+        assertNull(Ensure.ensureEmpty((double[]) null));
+    }
+
+    @Test
+    public void ensureNotEmptyPrimitiveArrayFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("array must not be empty");
+        Ensure.ensureNotEmpty((long[]) null);
+    }
+
+    @Test
+    public void ensureEmptyPrimitiveArrayFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("failed 1");
+        Ensure.ensureEmpty(new char[]{'a'}, "failed %s", 1);
+    }
+
+    @Test
+    public void ensureOptionalInt() {
+        assertEquals(4711, Ensure.ensureOptional(OptionalInt.of(4711)));
+        assertEquals(4711L, Ensure.ensureOptional(OptionalLong.of(4711L), "failed %s", 1));
+    }
+
+    @Test
+    public void ensureOptionalDoubleFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("Optional");
+        Ensure.ensureOptional(OptionalDouble.empty());
+    }
+
+    @Test
+    public void ensureTrueWithoutStackTrace() {
+        try {
+            Ensure.ensureTrue(1 == 2, StackTraceMode.NONE, "failed %s", 1);
+            fail("exception expected");
+        } catch (EnsureFailedException e) {
+            assertEquals("failed 1", e.getMessage());
+            assertEquals(0, e.getStackTrace().length);
+        }
+    }
+
+    @Test
+    public void ensureFalseWithCallerFrame() {
+        try {
+            Ensure.ensureFalse(1 == 1, StackTraceMode.CALLER, "failed %s", 1);
+            fail("exception expected");
+        } catch (EnsureFailedException e) {
+            assertEquals("failed 1", e.getMessage());
+            assertEquals(1, e.getStackTrace().length);
+            assertEquals(EnsureTest.class.getName(), e.getStackTrace()[0].getClassName());
+            assertEquals("ensureFalseWithCallerFrame", e.getStackTrace()[0].getMethodName());
+        }
+    }
+
+    @Test
+    public void failWithFullStackTrace() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("failed 1");
+        Ensure.fail(StackTraceMode.FULL, () -> "failed 1");
+    }
+
+    @Test
+    public void isEnabled() {
+        assertTrue(Ensure.isEnabled(CheckLevel.ALWAYS));
+        assertTrue(Ensure.isEnabled(CheckLevel.STANDARD));
+        assertFalse(Ensure.isEnabled(CheckLevel.PARANOID));
+        assertTrue(Ensure.STANDARD_CHECKS);
+        assertFalse(Ensure.PARANOID_CHECKS);
+    }
+
+    @Test
+    public void isEnabledForPackage() {
+        System.setProperty(CheckLevel.SYSTEM_PROPERTY + ".org.platfish", "paranoid");
+        System.setProperty(CheckLevel.SYSTEM_PROPERTY + ".org.platfish.ensure", "ALWAYS");
+        try {
+            assertTrue(Ensure.isEnabled(CheckLevel.ALWAYS, EnsureTest.class));
+            assertFalse(Ensure.isEnabled(CheckLevel.STANDARD, EnsureTest.class));
+            assertFalse(Ensure.isEnabled(CheckLevel.PARANOID, String.class));
+            System.clearProperty(CheckLevel.SYSTEM_PROPERTY + ".org.platfish.ensure");
+            assertTrue(Ensure.isEnabled(CheckLevel.PARANOID, EnsureTest.class));
+        } finally {
+            System.clearProperty(CheckLevel.SYSTEM_PROPERTY + ".org.platfish");
+            System.clearProperty(CheckLevel.SYSTEM_PROPERTY + ".org.platfish.ensure");
+        }
+    }
+
+    @Test
+    public void sampled() {
+        assertEquals(1, Ensure.sampled(1).getRate());
+        assertEquals(1024, Ensure.sampled(1000).getRate());
+        assertSame(Ensure.sampled(1000), Ensure.sampled(1024));
+        int sampled = 0;
+        for (int i = 0; i < 100000; i++) {
+            if (Ensure.sampled(1024).sample()) {
+                sampled++;
+            }
+        }
+        assertTrue("sampled " + sampled, sampled > 30 && sampled < 300);
+    }
+
+    @Test
+    public void sampledWithInvalidRate() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("rate must be between");
+        Ensure.sampled(0);
+    }
+
+    @Test
+    public void sampledEnsureTrue() {
+        Ensure.sampled(1).ensureTrue(() -> 1 == 1, "failed %s", 1);
+        Ensure.sampled(1 << 30).ensureTrue(Collections.emptyList(), list -> !list.isEmpty());
+    }
+
+    @Test
+    public void sampledEnsureTrueFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("failed 1");
+        Ensure.sampled(1).ensureTrue(Collections.emptyList(), list -> !list.isEmpty(), "failed %s", 1);
+    }
+
+    @Test
+    public void sampledEnsureExistsFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("doesn't exist");
+        Ensure.sampled(1).ensureExists(Paths.get("does", "not", "exist"));
+    }
+
+    @Test
+    public void sampledEnsureTrueWithSupplier() {
+        Ensure.sampled(1 << 30).ensureTrue(() -> false, () -> "never created");
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("failed 2");
+        Ensure.sampled(1).ensureTrue(() -> false, count -> "failed " + count, 2);
+    }
+
+    @Test
+    public void ensureAllNotNull() {
+        Ensure.ensureAllNotNull(Arrays.asList(1, 2));
+        Ensure.ensureAllNotNull(new HashSet<>(Arrays.asList(1, 2)), "failed %s", 1);
+        Ensure.ensureAllNotNull(new Integer[0]);
+    }
+
+    @Test
+    public void ensureAllNotNullFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("index 2 must not be null");
+        Ensure.ensureAllNotNull(new LinkedList<>(Arrays.asList(1, 2, null, 4, null)));
+    }
+
+    @Test
+    public void ensureAllNotNullLargeArrayFail() {
+        Object[] values = new Object[BulkChecks.PARALLEL_THRESHOLD * 3];
+        Arrays.fill(values, "");
+        values[values.length - 1] = null;
+        values[BulkChecks.PARALLEL_THRESHOLD + 7] = null;
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("index " + (BulkChecks.PARALLEL_THRESHOLD + 7) + " must not be null");
+        Ensure.ensureAllNotNull(values);
+    }
+
+    @Test
+    public void ensureAll() {
+        Ensure.ensureAll(Arrays.asList(1, 2), value -> value > 0);
+        Ensure.ensureAll(new String[]{"a"}, value -> !value.isEmpty(), "failed %s", 1);
+    }
+
+    @Test
+    public void ensureAllFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("failed 1");
+        Ensure.ensureAll(Arrays.asList(1, -2), value -> value > 0, "failed %s", 1);
+    }
+
+    @Test
+    public void ensureAllLargeListFail() {
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < BulkChecks.PARALLEL_THRESHOLD * 4; i++) {
+            values.add(i % 1000 == 999 && i > BulkChecks.PARALLEL_THRESHOLD * 2 ? -i : i);
+        }
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("index " + (BulkChecks.PARALLEL_THRESHOLD * 2 / 1000 * 1000 + 999) + " doesn't match");
+        Ensure.ensureAll(values, value -> value >= 0);
+    }
+
+    @Test
+    public void ensureAllInRange() {
+        Ensure.ensureAllInRange(new int[]{0, 5, 10}, 0, 10);
+        Ensure.ensureAllInRange(new long[BulkChecks.PARALLEL_THRESHOLD * 2], 0L, 0L, "failed %s", 1);
+        Ensure.ensureAllInRange(new double[]{0.5}, 0.0, 1.0);
+    }
+
+    @Test
+    public void ensureAllInRangeFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("Element 11 at index 2 must be between 0 and 10");
+        Ensure.ensureAllInRange(new int[]{0, 5, 11, -1}, 0, 10);
+    }
+
+    @Test
+    public void ensureAllInRangeNaNFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("Element NaN at index 1");
+        Ensure.ensureAllInRange(new double[]{0.0, Double.NaN}, 0.0, 1.0);
+    }
+
+    @Test
+    public void ensureExistsFileMessage() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("File \"" + new File("does/not/exist") + "\" doesn't exist");
+        Ensure.ensureExists(new File("does/not/exist"));
+    }
+
+    @Test
+    public void ensureIndex() {
+        assertEquals(0, Ensure.ensureIndex(0, 1));
+        assertEquals(9, Ensure.ensureIndex(9, 10, "failed %s", 1));
+        assertEquals(Long.MAX_VALUE - 1, Ensure.ensureIndex(Long.MAX_VALUE - 1, Long.MAX_VALUE));
+    }
+
+    @Test
+    public void ensureIndexFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("Index 10 out of bounds for length 10");
+        Ensure.ensureIndex(10, 10);
+    }
+
+    @Test
+    public void ensureIndexNegativeFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("Index -1 out of bounds for length 10");
+        Ensure.ensureIndex(-1L, 10L);
+    }
+
+    @Test
+    public void ensureFromToIndex() {
+        assertEquals(0, Ensure.ensureFromToIndex(0, 0, 0));
+        assertEquals(2, Ensure.ensureFromToIndex(2, 10, 10));
+        assertEquals(2L, Ensure.ensureFromToIndex(2L, 2L, 2L));
+    }
+
+    @Test
+    public void ensureFromToIndexFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("Range [5, 4) out of bounds for length 10");
+        Ensure.ensureFromToIndex(5, 4, 10);
+    }
+
+    @Test
+    public void ensureFromIndexSize() {
+        assertEquals(0, Ensure.ensureFromIndexSize(0, 0, 0));
+        assertEquals(4, Ensure.ensureFromIndexSize(4, 6, 10));
+        assertEquals(4L, Ensure.ensureFromIndexSize(4L, Long.MAX_VALUE - 4, Long.MAX_VALUE));
+    }
+
+    @Test
+    public void ensureFromIndexSizeOverflowFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("Range [1, 1 + 2147483647) out of bounds for length 2147483647");
+        Ensure.ensureFromIndexSize(1, Integer.MAX_VALUE, Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void ensureFromIndexSizeLongOverflowFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("failed 2");
+        Ensure.ensureFromIndexSize(Long.MAX_VALUE, 1L, Long.MAX_VALUE, "failed %s", 2);
+    }
+
+    @Test
+    public void indexConditions() {
+        int[] values = {Integer.MIN_VALUE, -1, 0, 1, 2, Integer.MAX_VALUE - 1, Integer.MAX_VALUE};
+        for (int a : values) {
+            for (int b : values) {
+                assertEquals(a >= 0 && a < b, Indexes.isIndex(a, b));
+                assertEquals(a >= 0 && (long) a < b, Indexes.isIndex((long) a, (long) b));
+                for (int c : values) {
+                    boolean fromTo = a >= 0 && a <= b && b <= c;
+                    boolean fromSize = a >= 0 && b >= 0 && (long) a + b <= c;
+                    assertEquals(fromTo, Indexes.isFromToIndex(a, b, c));
+                    assertEquals(fromTo, Indexes.isFromToIndex((long) a, (long) b, (long) c));
+                    assertEquals(fromSize, Indexes.isFromIndexSize(a, b, c));
+                    assertEquals(fromSize, Indexes.isFromIndexSize((long) a, (long) b, (long) c));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void ensureRemaining() {
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        buffer.position(4);
+        assertSame(buffer, Ensure.ensureRemaining(buffer, 12));
+        assertEquals(4, buffer.position());
+        IntBuffer ints = IntBuffer.allocate(2);
+        assertSame(ints, Ensure.ensureRemaining(ints, 2, "failed %s", 1));
+    }
+
+    @Test
+    public void ensureRemainingFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("Buffer must have at least 13 elements remaining but has 12");
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        buffer.position(4);
+        Ensure.ensureRemaining(buffer, 13);
+    }
+
+    @Test
+    public void ensureDirect() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(16);
+        assertSame(buffer, Ensure.ensureDirect(buffer));
+    }
+
+    @Test
+    public void ensureDirectFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("Buffer must be direct");
+        Ensure.ensureDirect(ByteBuffer.allocate(16));
+    }
+
+    @Test
+    public void ensureAligned() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(128);
+        int aligned = 0;
+        for (int position = 0; position < 64; position++) {
+            buffer.position(position);
+            try {
+                assertSame(buffer, Ensure.ensureAligned(buffer, 64));
+                aligned++;
+                assertSame(buffer, Ensure.ensureAligned(buffer, 8));
+                // Buffer.position(int) returns Buffer on Java 8
+                buffer.position(position + 8);
+                assertSame(buffer, Ensure.ensureAligned(buffer, 8));
+                assertEquals(position + 8, buffer.position());
+            } catch (EnsureFailedException e) {
+                assertEquals(position, buffer.position());
+            }
+        }
+        assertEquals(1, aligned);
+    }
+
+    @Test
+    public void ensureAlignedHeapFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("Buffer must be direct and aligned to 1 bytes at position 0");
+        Ensure.ensureAligned(ByteBuffer.allocate(16), 1);
+    }
+
+    @Test
+    public void ensureAlignedPowerOfTwoFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("alignment must be a power of two but was 12");
+        Ensure.ensureAligned(ByteBuffer.allocateDirect(16), 12);
+    }
+
+    @Test
+    public void ensureOrder() {
+        ByteBuffer buffer = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN);
+        assertSame(buffer, Ensure.ensureOrder(buffer, ByteOrder.LITTLE_ENDIAN));
+    }
+
+    @Test
+    public void ensureOrderFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("Buffer must have byte order LITTLE_ENDIAN but has BIG_ENDIAN");
+        Ensure.ensureOrder(ByteBuffer.allocate(16), ByteOrder.LITTLE_ENDIAN);
+    }
+
+    @Test
+    public void ensureNotReadOnly() {
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        assertSame(buffer, Ensure.ensureNotReadOnly(buffer));
+    }
+
+    @Test
+    public void ensureNotReadOnlyFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("failed 1");
+        Ensure.ensureNotReadOnly(ByteBuffer.allocate(16).asReadOnlyBuffer(), "failed %s", 1);
+    }
+
+    /**
+     * Counts the lookups of the map.
+     */
+    private static final class CountingMap<K, V> extends HashMap<K, V> {
+
+        int lookups;
+
+        @Override
+        public V get(Object key) {
+            lookups++;
+            return super.get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            lookups++;
+            return super.containsKey(key);
+        }
+    }
+
+    @Test
+    public void ensureGet() {
+        CountingMap<String, Integer> map = new CountingMap<>();
+        map.put("one", 1);
+        map.put("none", null);
+        assertEquals(1, (int) Ensure.ensureGet(map, "one"));
+        assertEquals(1, map.lookups);
+        assertNull(Ensure.ensureGet(map, "none", "failed %s", 1));
+        assertEquals(3, map.lookups);
+    }
+
+    @Test
+    public void ensureGetFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("Given map must contain the key \"two\"");
+        Ensure.ensureGet(Collections.singletonMap("one", 1), "two");
+    }
+
+    @Test
+    public void ensureContainsKey() {
+        Map<String, Integer> map = Collections.singletonMap("one", null);
+        assertSame(map, Ensure.ensureContainsKey(map, "one"));
+        assertSame(map, Ensure.ensureNotContainsKey(map, "two", "failed %s", 1));
+    }
+
+    @Test
+    public void ensureNotContainsKeyFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("Given map must not contain the key \"one\"");
+        Ensure.ensureNotContainsKey(Collections.singletonMap("one", 1), "one");
+    }
+
+    @Test
+    public void ensurePutAbsent() {
+        Map<String, Integer> map = new ConcurrentHashMap<>();
+        assertSame(map, Ensure.ensurePutAbsent(map, "one", 1));
+        assertEquals(Collections.singletonMap("one", 1), map);
+        Integer two = 2;
+        try {
+            Ensure.ensurePutAbsent(map, "one", two, "failed %s", 1);
+            fail();
+        } catch (EnsureFailedException e) {
+            assertEquals("failed 1", e.getMessage());
+        }
+        assertEquals(1, (int) map.get("one"));
+    }
+
+    @Test
+    public void ensureKeys() {
+        CountingMap<String, Integer> map = new CountingMap<>();
+        map.put("one", 1);
+        map.put("two", 2);
+        assertSame(map, Ensure.ensureKeys(map, "one", "two"));
+        assertEquals(2, map.lookups);
+    }
+
+    @Test
+    public void ensureKeysFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("Given map must contain the key \"three\"");
+        Ensure.ensureKeys(Collections.singletonMap("one", 1), "one", "three", "four");
+    }
+
+    @Test
+    public void ensureNoDuplicates() {
+        int[] ints = {3, 1, 4, 5, 9, 2, 6};
+        assertSame(ints, Ensure.ensureNoDuplicates(ints));
+        long[] longs = {Long.MIN_VALUE, 0, 1L << 32, 1, Long.MAX_VALUE};
+        assertSame(longs, Ensure.ensureNoDuplicates(longs, "failed %s", 1));
+        List<String> list = Arrays.asList("a", null, "b");
+        assertSame(list, Ensure.ensureNoDuplicates(list));
+        Collection<String> collection = new ArrayDeque<>(Arrays.asList("a", "b"));
+        assertSame(collection, Ensure.ensureNoDuplicates(collection, () -> "failed"));
+        assertSame(Collections.emptyList(), Ensure.ensureNoDuplicates(Collections.emptyList()));
+        Ensure.ensureNoDuplicates(new int[0]);
+    }
+
+    @Test
+    public void ensureNoDuplicatesIntFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("Element 1 at index 3 duplicates the element at index 1");
+        Ensure.ensureNoDuplicates(new int[]{3, 1, 4, 1, 5, 3});
+    }
+
+    @Test
+    public void ensureNoDuplicatesLongFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("Element 4294967296 at index 2 duplicates the element at index 0");
+        Ensure.ensureNoDuplicates(new long[]{1L << 32, 0, 1L << 32});
+    }
+
+    @Test
+    public void ensureNoDuplicatesCollectionFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("Element null at index 2 duplicates the element at index 0");
+        Ensure.ensureNoDuplicates((Collection<String>) Arrays.asList(null, "a", null));
+    }
+
+    @Test
+    public void ensureNoDuplicatesListMessage() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("failed a");
+        Ensure.ensureNoDuplicates(Arrays.asList("a", new String("a")), "failed %s", "a");
+    }
+
+    @Test
+    public void ensureSorted() {
+        int[] ints = {Integer.MIN_VALUE, -1, -1, 0, Integer.MAX_VALUE};
+        assertSame(ints, Ensure.ensureSorted(ints));
+        long[] longs = {Long.MIN_VALUE, 0, 0, Long.MAX_VALUE};
+        assertSame(longs, Ensure.ensureSorted(longs, "failed %s", 1));
+        double[] doubles = {Double.NEGATIVE_INFINITY, -0.0, 0.0, 1.5, Double.POSITIVE_INFINITY};
+        assertSame(doubles, Ensure.ensureSorted(doubles));
+        String[] strings = {"a", "b", "b", "c"};
+        assertSame(strings, Ensure.ensureSorted(strings));
+        assertSame(strings, Ensure.ensureSorted(strings, Comparator.<String>naturalOrder(), () -> "failed"));
+        List<String> list = Arrays.asList("c", "b", "a");
+        assertSame(list, Ensure.ensureSorted(list, Comparator.reverseOrder()));
+        List<String> linked = new LinkedList<>(Arrays.asList(strings));
+        assertSame(linked, Ensure.ensureSorted(linked));
+        Ensure.ensureSorted(new int[0]);
+        Ensure.ensureSorted(new long[1]);
+    }
+
+    @Test
+    public void ensureSortedIntFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("Elements must be sorted but 2 at index 3 follows 5");
+        Ensure.ensureSorted(new int[]{1, 3, 5, 2, 1});
+    }
+
+    @Test
+    public void ensureSortedDoubleFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("Elements must be sorted but NaN at index 1 follows 0.0");
+        Ensure.ensureSorted(new double[]{0.0, Double.NaN, 1.0});
+    }
+
+    @Test
+    public void ensureSortedListFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("Elements must be sorted but a at index 2 follows b");
+        Ensure.ensureSorted(new LinkedList<>(Arrays.asList("a", "b", "a")));
+    }
+
+    @Test
+    public void ensureStrictlyIncreasing() {
+        int[] ints = {Integer.MIN_VALUE, -1, 0, Integer.MAX_VALUE};
+        assertSame(ints, Ensure.ensureStrictlyIncreasing(ints));
+        assertSame(ints, Ensure.ensureStrictlyIncreasing(Ensure.ensureStrictlyIncreasing(ints, "failed %s", "a")));
+        Integer[] boxed = {1, 2, 3};
+        assertSame(boxed, Ensure.ensureStrictlyIncreasing(boxed, Comparator.naturalOrder()));
+        List<Integer> list = Arrays.asList(boxed);
+        assertSame(list, Ensure.ensureStrictlyIncreasing(list));
+    }
+
+    @Test
+    public void ensureStrictlyIncreasingLongFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("Elements must be strictly increasing but 7 at index 2 follows 7");
+        Ensure.ensureStrictlyIncreasing(new long[]{1, 7, 7});
+    }
+
+    @Test
+    public void ensureStrictlyIncreasingArrayFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("failed 1");
+        Ensure.ensureStrictlyIncreasing(new String[]{"a", "b", "b"}, "failed %s", "1");
+    }
+
+    @Test
+    public void firstUnsorted() {
+        // a single violation at every position
+        for (int length = 0; length < 200; length++) {
+            for (int position = 0; position <= length; position++) {
+                int[] ints = new int[length];
+                long[] longs = new long[length];
+                double[] doubles = new double[length];
+                for (int i = 0; i < length; i++) {
+                    ints[i] = i == position ? i - 2 : i;
+                    longs[i] = ints[i];
+                    doubles[i] = ints[i];
+                }
+                int expected = position > 0 && position < length ? position : -1;
+                assertEquals(expected, BulkChecks.firstUnsorted(ints, false));
+                assertEquals(expected, BulkChecks.firstUnsorted(longs, false));
+                assertEquals(expected, BulkChecks.firstUnsorted(doubles, false));
+                if (position < length) {
+                    ints[position] = position == 0 ? 0 : position - 1;
+                    longs[position] = ints[position];
+                    doubles[position] = ints[position];
+                }
+                assertEquals(-1, BulkChecks.firstUnsorted(ints, false));
+                assertEquals(expected, BulkChecks.firstUnsorted(ints, true));
+                assertEquals(expected, BulkChecks.firstUnsorted(longs, true));
+                assertEquals(expected, BulkChecks.firstUnsorted(doubles, true));
+            }
+        }
+    }
+
+    @Test
+    public void firstUnsortedParallel() {
+        int length = BulkChecks.PARALLEL_THRESHOLD * 3;
+        int[] ints = new int[length];
+        Integer[] boxed = new Integer[length];
+        for (int i = 0; i < length; i++) {
+            ints[i] = i;
+            boxed[i] = i;
+        }
+        assertEquals(-1, BulkChecks.firstUnsorted(ints, true));
+        assertEquals(-1, BulkChecks.firstUnsorted(Arrays.asList(boxed), Comparator.naturalOrder(), true));
+        int half = BulkChecks.PARALLEL_THRESHOLD / 2;
+        for (int position : new int[]{half - 1, half, half + 1, length / 2, length - 1}) {
+            ints[position - 1] = position + 1;
+            boxed[position - 1] = position + 1;
+            assertEquals(position, BulkChecks.firstUnsorted(ints, false));
+            assertEquals(position, BulkChecks.firstUnsorted(boxed, Comparator.naturalOrder(), false));
+            // a later violation doesn't hide the first one
+            ints[length - 1] = -1;
+            assertEquals(position, BulkChecks.firstUnsorted(ints, false));
+            ints[length - 1] = length - 1;
+            ints[position - 1] = position - 1;
+            boxed[position - 1] = position - 1;
+        }
+    }
 }
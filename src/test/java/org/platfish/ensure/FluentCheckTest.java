@@ -0,0 +1,150 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.*;
+
+/**
+ * Tests the fluent checks returned by {@link Ensure#that(Object)} and its overloads.
+ */
+public class FluentCheckTest extends Assert {
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    private static final List<Integer> LIST = Arrays.asList(1, 2, 3);
+
+    @Test
+    public void passingChains() {
+        assertSame(LIST, Ensure.that(LIST).notNull().notEmpty().sizeAtLeast(3).sizeAtMost(3).contains(2).allNotNull().get());
+        assertEquals("hello", Ensure.that("hello").notNull().notEmpty().lengthAtLeast(5).lengthAtMost(5).get());
+        Map<String, Integer> map = Collections.singletonMap("a", 1);
+        assertSame(map, Ensure.that(map).notEmpty().sizeAtMost(1).containsKey("a").get());
+        assertEquals(5, Ensure.that(5).positive().notNegative().atLeast(5).atMost(5).between(0, 10).get());
+        assertEquals(5L, Ensure.that(5L).positive().between(5L, 5L).get());
+        Object value = 1;
+        assertSame(value, Ensure.that(value).notNull().equalTo(1).instanceOf(Number.class).matches(v -> v != null).get());
+    }
+
+    @Test
+    public void sizeAtMostFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("Given collection must have at most 2 elements but has 3");
+        Ensure.that(LIST).notEmpty().sizeAtMost(2);
+    }
+
+    @Test
+    public void notEmptyNullFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("failed 1");
+        Ensure.that((List<?>) null).notEmpty("failed %s", 1);
+    }
+
+    @Test
+    public void lengthAtMostFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("Given string must have at most 2 characters but has 5");
+        Ensure.that("hello").lengthAtMost(2);
+    }
+
+    @Test
+    public void containsKeyFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("Given map must contain the key \"b\"");
+        Ensure.that(Collections.singletonMap("a", 1)).containsKey("b");
+    }
+
+    @Test
+    public void betweenFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("Given value must be between 0 and 10 but was 11");
+        Ensure.that(11).between(0, 10);
+    }
+
+    @Test
+    public void instanceOfFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("Given value must be of type \"class java.lang.String\" but found \"class java.lang.Integer\"");
+        Ensure.that((Object) 1).instanceOf(String.class);
+    }
+
+    @Test
+    public void allNotNullFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("Element at index 1 must not be null");
+        Ensure.that(Arrays.asList(1, null)).allNotNull();
+    }
+
+    @Test
+    public void customMessageOverloads() {
+        assertSame(LIST, Ensure.that(LIST).notNull("failed").notEmpty("failed %s", 1).sizeAtLeast(3, "failed %s", 1L)
+                .sizeAtMost(3, "failed %s", "a").contains(2, "failed %s %s", 1, 2).contains(3, "failed %s %s %s", 1, 2, 3)
+                .notEmpty(() -> "failed").notEmpty(size -> "failed " + size, 3).notEmpty((a, b) -> a + b, "fail", "ed")
+                .get());
+        assertEquals(5, Ensure.that(5).positive("failed").between(0, 10, "failed %s", 5).atMost(5, () -> "failed").get());
+        assertEquals("hello", Ensure.that("hello").notEmpty("failed %s", 1).lengthAtMost(5, v -> "failed " + v, 5).get());
+    }
+
+    @Test
+    public void fixedArityMessageFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("failed 11 10");
+        Ensure.that(11).atMost(10, "failed %s %s", 11, 10);
+    }
+
+    @Test
+    public void supplierMessageFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("failed b");
+        Ensure.that(Collections.singletonMap("a", 1)).containsKey("b", key -> "failed " + key, "b");
+    }
+
+    @Test
+    public void noAllocation() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        Assume.assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+        long thread = Thread.currentThread().getId();
+
+        // the chain is only scalar replaced after C2 compiled it, so measure a few rounds
+        int iterations = 100_000;
+        long allocated = Long.MAX_VALUE;
+        for (int round = 0; round < 50 && allocated >= iterations; round++) {
+            long start = threads.getThreadAllocatedBytes(thread);
+            int sum = 0;
+            for (int i = 0; i < iterations; i++) {
+                sum += chain(LIST, i);
+            }
+            allocated = threads.getThreadAllocatedBytes(thread) - start;
+            assertEquals(iterations * 3, sum);
+        }
+        assertTrue("Allocated " + allocated + " bytes for " + iterations + " chains", allocated < iterations);
+    }
+
+    private static int chain(List<Integer> list, int index) {
+        Ensure.that(index).notNegative();
+        return Ensure.that(list).notNull().notEmpty().sizeAtMost(100).get().size();
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Tests the checks of streams, iterators and spliterators by {@link Ensure#ensureEach(Stream, java.util.function.Predicate)},
+ * {@link Ensure#ensureNotEmpty(Stream)}, {@link Ensure#ensureSorted(Stream, Comparator)} and their overloads.
+ */
+public class LazyChecksTest extends Assert {
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    private static final int SIZE = 100_000;
+
+    private static List<Integer> sequence() {
+        return IntStream.range(0, SIZE).boxed().collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    @Test
+    public void each() {
+        List<Integer> values = sequence();
+        assertEquals(SIZE, Ensure.ensureEach(values.parallelStream(), v -> v >= 0).mapToInt(v -> v).count());
+        assertEquals(Arrays.asList(1, 2), Ensure.ensureEach(Stream.of(1, 2, -1), v -> v > 0).limit(2).collect(Collectors.toList()));
+        Iterator<Integer> iterator = Ensure.ensureEach(values.iterator(), v -> v < 2, "failed %s", 1);
+        assertEquals(0, (int) iterator.next());
+        assertEquals(1, (int) iterator.next());
+    }
+
+    @Test
+    public void eachStreamFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("Element 3 doesn't match the condition");
+        Ensure.ensureEach(Stream.of(1, 2, 3), v -> v < 3).forEach(v -> {
+        });
+    }
+
+    @Test
+    public void eachIteratorFail() {
+        Iterator<Integer> iterator = Ensure.ensureEach(Arrays.asList(1, 2, 3).iterator(), v -> v < 3);
+        iterator.next();
+        iterator.next();
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("Element 3 doesn't match the condition");
+        iterator.next();
+    }
+
+    @Test
+    public void eachSpliteratorFail() {
+        Spliterator<Integer> spliterator = Ensure.ensureEach(sequence().spliterator(), v -> v != 5000, "failed %s", 2);
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        spliterator.forEachRemaining(v -> {
+        });
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("failed 2");
+        prefix.forEachRemaining(v -> {
+        });
+    }
+
+    @Test
+    public void characteristicsAreKept() {
+        Spliterator<Integer> source = sequence().spliterator();
+        int characteristics = source.characteristics();
+        assertTrue(source.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+        assertEquals(characteristics, Ensure.ensureEach(source, v -> true).characteristics());
+        assertEquals(characteristics, Ensure.ensureSorted(source, Comparator.naturalOrder()).characteristics());
+        assertEquals(characteristics, Ensure.ensureNotEmpty(source).characteristics());
+        assertEquals(SIZE, Ensure.ensureNotEmpty(source).getExactSizeIfKnown());
+        assertTrue(Ensure.ensureEach(sequence().stream(), v -> true).spliterator().hasCharacteristics(Spliterator.SIZED));
+    }
+
+    @Test
+    public void notEmpty() {
+        assertEquals(1, Ensure.ensureNotEmpty(sequence().parallelStream().filter(v -> v == 77_777)).count());
+        Iterator<Integer> iterator = sequence().iterator();
+        assertSame(iterator, Ensure.ensureNotEmpty(iterator));
+        assertEquals(0, (int) iterator.next());
+    }
+
+    @Test
+    public void notEmptyIteratorFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("Given iterator must not be empty");
+        Ensure.ensureNotEmpty(Collections.emptyIterator());
+    }
+
+    @Test
+    public void notEmptySizedStreamFail() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("Given stream must not be empty");
+        Ensure.ensureNotEmpty(Stream.empty());
+    }
+
+    @Test
+    public void notEmptyParallelStreamFail() {
+        Stream<Integer> stream = Ensure.ensureNotEmpty(sequence().parallelStream().filter(v -> v < 0), "failed %s", 3);
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("failed 3");
+        stream.forEach(v -> {
+        });
+    }
+
+    @Test
+    public void sorted() {
+        List<Integer> values = sequence();
+        values.set(10, 9);
+        assertEquals(SIZE, Ensure.ensureSorted(values.parallelStream(), Comparator.naturalOrder()).count());
+        assertEquals(SIZE, Ensure.ensureSorted(values.parallelStream(), Comparator.naturalOrder())
+                .collect(Collectors.toList()).size());
+        assertEquals(2, Ensure.ensureSorted(values.parallelStream().filter(v -> v % 50_000 == 1), Comparator.naturalOrder())
+                .count());
+        Iterator<Integer> iterator = Ensure.ensureSorted(values.iterator(), Comparator.naturalOrder());
+        while (iterator.hasNext()) {
+            iterator.next();
+        }
+    }
+
+    @Test
+    public void sortedSplitBoundaryFail() {
+        // both halves are sorted, only the last element of the prefix is greater than the first of the suffix
+        List<Integer> values = sequence();
+        values.set(SIZE / 2 - 1, SIZE / 2);
+        values.set(SIZE / 2, SIZE / 2 - 1);
+        Spliterator<Integer> spliterator = Ensure.ensureSorted(values.spliterator(), Comparator.naturalOrder());
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        spliterator.forEachRemaining(v -> {
+        });
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("Elements must be sorted but 50000 is followed by 49999");
+        prefix.forEachRemaining(v -> {
+        });
+    }
+
+    @Test
+    public void sortedSplitAfterAdvanceFail() {
+        Spliterator<Integer> spliterator = Ensure.ensureSorted(Arrays.asList(5, 1, 2, 3).spliterator(), Comparator.naturalOrder(),
+                "failed %s", 4);
+        assertTrue(spliterator.tryAdvance(v -> {
+        }));
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        spliterator.forEachRemaining(v -> {
+        });
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("failed 4");
+        prefix.forEachRemaining(v -> {
+        });
+    }
+
+    @Test
+    public void sortedEmptyPartsFail() {
+        // all parts between the two remaining elements are empty after filtering
+        List<Integer> values = sequence();
+        values.set(0, SIZE);
+        values.set(SIZE - 1, -1);
+        Stream<Integer> stream = Ensure.ensureSorted(values.parallelStream().filter(v -> v >= SIZE || v < 0), Comparator.naturalOrder());
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("Elements must be sorted but 100000 is followed by -1");
+        stream.forEach(v -> {
+        });
+    }
+
+    @Test
+    public void sortedIteratorFail() {
+        Iterator<Integer> iterator = Ensure.ensureSorted(Arrays.asList(1, 1, 0).iterator(), Comparator.naturalOrder());
+        iterator.next();
+        iterator.next();
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("Elements must be sorted but 1 is followed by 0");
+        iterator.next();
+    }
+}
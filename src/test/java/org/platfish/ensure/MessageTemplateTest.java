@@ -0,0 +1,110 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.*;
+
+/**
+ * Tests the {@link MessageTemplate} class.
+ */
+public class MessageTemplateTest extends Assert {
+
+    private static void assertFormat(String messageFormat, Object... messageArgs) {
+        assertEquals(String.format(messageFormat, messageArgs), MessageTemplate.format(messageFormat, messageArgs));
+        // second call is served from the cache
+        assertEquals(String.format(messageFormat, messageArgs), MessageTemplate.format(messageFormat, messageArgs));
+    }
+
+    @Test
+    public void formatWithoutConversions() {
+        assertFormat("Given value must not be null");
+        assertFormat("");
+        assertFormat("100%% sure%n");
+    }
+
+    @Test
+    public void formatStrings() {
+        assertFormat("Path \"%s\" doesn't exist", "/tmp/foo");
+        assertFormat("%s%s", "a", "b");
+        assertFormat("failed %s", (Object) null);
+        assertFormat("failed %s", Arrays.asList(1, 2));
+        assertFormat("failed %s and %s", 1, "two", "ignored");
+    }
+
+    @Test
+    public void formatIntegers() {
+        assertFormat("failed %d", 1);
+        assertFormat("failed %d", Long.MIN_VALUE);
+        assertFormat("failed %d", (short) -3);
+        assertFormat("failed %d", (byte) 7);
+        assertFormat("failed %d", new BigInteger("-123456789012345678901234567890"));
+        assertFormat("failed %d", (Object) null);
+    }
+
+    @Test
+    public void formatUnsupportedConversions() {
+        assertFormat("failed %5s|%-5s|%.2f", "a", "b", 1.2345);
+        assertFormat("failed %2$s %1$s", "a", "b");
+        assertFormat("failed %x %S", 255, "upper");
+        assertFormat("failed %s", (Object) null);
+    }
+
+    @Test
+    public void formatWithLocalizedDigits() {
+        Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+        try {
+            Locale.setDefault(Locale.Category.FORMAT, Locale.forLanguageTag("ar-SA-u-nu-arab"));
+            assertFormat("failed %d", 4711);
+        } finally {
+            Locale.setDefault(Locale.Category.FORMAT, locale);
+        }
+    }
+
+    @Test
+    public void formatNullArguments() {
+        assertFormat("failed %s", (Object[]) null);
+    }
+
+    @Test(expected = MissingFormatArgumentException.class)
+    public void formatMissingArgument() {
+        MessageTemplate.format("failed %s and %s", 1);
+    }
+
+    @Test(expected = IllegalFormatConversionException.class)
+    public void formatIllegalConversion() {
+        MessageTemplate.format("failed %d", "one");
+    }
+
+    @Test(expected = UnknownFormatConversionException.class)
+    public void formatTrailingPercent() {
+        MessageTemplate.format("failed 100%");
+    }
+
+    @Test
+    public void formatNestedMessages() {
+        Object nested = new Object() {
+            @Override
+            public String toString() {
+                return MessageTemplate.format("nested %s", 1);
+            }
+        };
+        assertEquals("outer nested 1 done", MessageTemplate.format("outer %s %s", nested, "done"));
+    }
+}
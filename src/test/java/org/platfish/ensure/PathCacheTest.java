@@ -0,0 +1,176 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Tests the {@link PathCache} class.
+ */
+public class PathCacheTest extends Assert {
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private PathCache cache;
+
+    @Before
+    public void setUp() {
+        cache = Ensure.cachedPaths(Duration.ofHours(1), 100);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        cache.close();
+    }
+
+    @Test
+    public void ensureExists() throws IOException {
+        Path file = folder.newFile("a").toPath();
+        assertSame(file, cache.ensureExists(file));
+        File directory = file.toFile().getParentFile();
+        assertSame(directory, cache.ensureDirectory(directory));
+
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("is not a directory");
+        cache.ensureDirectory(file);
+    }
+
+    @Test
+    public void ensureNotExists() {
+        File file = new File(folder.getRoot(), "missing");
+        assertSame(file, cache.ensureNotExists(file));
+
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("File \"" + file + "\" doesn't exist");
+        cache.ensureExists(file);
+    }
+
+    @Test
+    public void cachedUntilInvalidated() throws IOException {
+        // the parent directory doesn't exist yet and can't be watched
+        Path file = folder.getRoot().toPath().resolve("b").resolve("c");
+        cache.ensureNotExists(file);
+        Files.createDirectory(file.getParent());
+        Files.createFile(file);
+        cache.ensureNotExists(file);
+
+        cache.invalidate(file);
+        cache.ensureExists(file);
+    }
+
+    @Test
+    public void invalidatedByWatchService() throws Exception {
+        Path file = folder.getRoot().toPath().resolve("c");
+        cache.ensureNotExists(file);
+        Files.createFile(file);
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (true) {
+            try {
+                cache.ensureExists(file);
+                return;
+            } catch (EnsureFailedException e) {
+                if (System.nanoTime() - deadline > 0) {
+                    throw e;
+                }
+                Thread.sleep(10);
+            }
+        }
+    }
+
+    @Test
+    public void zeroTtl() throws IOException {
+        PathCache uncached = Ensure.cachedPaths(Duration.ZERO, 100);
+        Path file = folder.getRoot().toPath().resolve("d");
+        uncached.ensureNotExists(file);
+        Files.createFile(file);
+        uncached.ensureExists(file);
+        uncached.close();
+    }
+
+    @Test
+    public void bounded() throws IOException {
+        PathCache small = Ensure.cachedPaths(Duration.ofHours(1), 2);
+        for (int i = 0; i < 10; i++) {
+            small.ensureNotExists(folder.getRoot().toPath().resolve("e" + i));
+            assertTrue(small.size() <= 2);
+        }
+        small.close();
+    }
+
+    @Test
+    public void evictInBatches() throws IOException {
+        PathCache small = Ensure.cachedPaths(Duration.ofHours(1), 8);
+        for (int i = 0; i < 8; i++) {
+            small.ensureNotExists(folder.getRoot().toPath().resolve("e" + i));
+        }
+        assertEquals(8, small.size());
+        small.ensureNotExists(folder.getRoot().toPath().resolve("e8"));
+        assertEquals(7, small.size());
+        assertEquals(1, small.watchedDirectories());
+        small.close();
+    }
+
+    @Test
+    public void unwatchedAfterEviction() throws IOException {
+        PathCache small = Ensure.cachedPaths(Duration.ofHours(1), 2);
+        for (int i = 0; i < 10; i++) {
+            Path directory = folder.newFolder("d" + i).toPath();
+            small.ensureNotExists(directory.resolve("f"));
+            assertTrue(small.watchedDirectories() <= 2);
+        }
+        assertEquals(0, small.getUnwatchedReads());
+        small.close();
+    }
+
+    @Test
+    public void unwatchedReads() {
+        // the parent directory doesn't exist and can't be watched
+        cache.ensureNotExists(folder.getRoot().toPath().resolve("g").resolve("h"));
+        assertEquals(1, cache.getUnwatchedReads());
+        cache.ensureNotExists(folder.getRoot().toPath().resolve("i"));
+        assertEquals(1, cache.getUnwatchedReads());
+    }
+
+    @Test
+    public void defaultMessage() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("Path \"" + folder.getRoot().toPath().resolve("j") + "\" doesn't exist");
+        cache.ensureExists(folder.getRoot().toPath().resolve("j"));
+    }
+
+    @Test
+    public void invalidTtl() {
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("ttl must not be negative");
+        Ensure.cachedPaths(Duration.ofSeconds(-1), 1);
+    }
+}
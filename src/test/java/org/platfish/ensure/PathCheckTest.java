@@ -0,0 +1,150 @@
+/*
+ * Copyright 2017 Marc Ewert
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.platfish.ensure;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermission;
+import java.time.Instant;
+import java.util.EnumSet;
+
+/**
+ * Tests the {@link PathCheck} class.
+ */
+public class PathCheckTest extends Assert {
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void regularFile() throws IOException {
+        Path file = folder.newFile("a").toPath();
+        Files.write(file, new byte[10]);
+        Files.setLastModifiedTime(file, FileTime.from(Instant.parse("2017-06-01T00:00:00Z")));
+
+        PathCheck check = Ensure.ensurePath(file)
+                .exists()
+                .regularFile()
+                .minSize(10)
+                .maxSize(10)
+                .modifiedAfter(Instant.parse("2017-01-01T00:00:00Z"))
+                .modifiedBefore(Instant.parse("2018-01-01T00:00:00Z"), "failed %s", 1);
+        assertSame(file, check.get());
+        assertEquals(10, check.attributes().size());
+    }
+
+    @Test
+    public void directory() throws IOException {
+        File directory = folder.newFolder("b");
+        Ensure.ensurePath(directory).exists().directory();
+
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("is not a regular file");
+        Ensure.ensurePath(directory).regularFile();
+    }
+
+    @Test
+    public void notExists() {
+        Path missing = folder.getRoot().toPath().resolve("missing");
+        assertNull(Ensure.ensurePath(missing).notExists().attributes());
+
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("Path \"" + missing + "\" doesn't exist");
+        Ensure.ensurePath(missing).minSize(0);
+    }
+
+    @Test
+    public void minSizeFail() throws IOException {
+        Path file = folder.newFile("c").toPath();
+
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("must have at least 1 bytes but has 0");
+        Ensure.ensurePath(file).minSize(1);
+    }
+
+    @Test
+    public void modifiedAfterFail() throws IOException {
+        Path file = folder.newFile("d").toPath();
+        Files.setLastModifiedTime(file, FileTime.from(Instant.parse("2017-06-01T00:00:00Z")));
+
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("failed 1");
+        Ensure.ensurePath(file).modifiedAfter(Instant.parse("2018-01-01T00:00:00Z"), "failed %s", 1);
+    }
+
+    @Test
+    public void customMessageOverloads() throws IOException {
+        Path file = folder.newFile("h").toPath();
+        Ensure.ensurePath(file)
+                .exists("failed")
+                .regularFile("failed %s", file)
+                .minSize(0, "failed %s", 0L)
+                .maxSize(0, "failed %s %s", file, 0)
+                .modifiedBefore(Instant.MAX, () -> "failed")
+                .modifiedAfter(Instant.EPOCH, path -> "failed " + path, file);
+
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("failed 1 0");
+        Ensure.ensurePath(file).minSize(1, (size, actual) -> "failed " + size + " " + actual, 1, 0);
+    }
+
+    @Test
+    public void readsAttributesOnce() throws IOException {
+        Path file = folder.newFile("e").toPath();
+        PathCheck check = Ensure.ensurePath(file).exists();
+        Files.delete(file);
+        check.regularFile();
+    }
+
+    @Test
+    public void symbolicLink() throws IOException {
+        Path target = folder.newFile("f").toPath();
+        Path link = folder.getRoot().toPath().resolve("link");
+        try {
+            Files.createSymbolicLink(link, target);
+        } catch (UnsupportedOperationException | IOException e) {
+            Assume.assumeNoException(e);
+        }
+        Ensure.ensurePath(link).regularFile();
+        Ensure.ensurePath(link, LinkOption.NOFOLLOW_LINKS).symbolicLink();
+    }
+
+    @Test
+    public void permissions() throws IOException {
+        Path file = folder.newFile("g").toPath();
+        Assume.assumeTrue(file.getFileSystem().supportedFileAttributeViews().contains("posix"));
+        Ensure.ensurePath(file).permissions(PosixFilePermission.OWNER_READ);
+
+        exception.expect(EnsureFailedException.class);
+        exception.expectMessage("failed 1");
+        Files.setPosixFilePermissions(file, EnumSet.of(PosixFilePermission.OWNER_READ));
+        Ensure.ensurePath(file).permissions(EnumSet.of(PosixFilePermission.OWNER_WRITE), "failed %s", 1);
+    }
+}